@@ -0,0 +1,58 @@
+package ru.aqstream.common.api.exception;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Исключение для временной перегрузки сервиса.
+ * Преобразуется в HTTP 503 Service Unavailable с заголовком Retry-After.
+ *
+ * <p>Используется когда:</p>
+ * <ul>
+ *     <li>Исчерпан ограниченный ресурс (очередь, пул) и запрос отклоняется сразу</li>
+ *     <li>Клиенту следует повторить запрос позже</li>
+ * </ul>
+ */
+public class ServiceUnavailableException extends AqStreamException {
+
+    private static final String DEFAULT_CODE = "service_unavailable";
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Создаёт исключение с сообщением.
+     *
+     * @param message    описание ошибки (на русском)
+     * @param retryAfter через сколько повторить запрос
+     */
+    public ServiceUnavailableException(String message, Duration retryAfter) {
+        this(DEFAULT_CODE, message, retryAfter);
+    }
+
+    /**
+     * Создаёт исключение с кодом и сообщением.
+     *
+     * @param code       специфичный код ошибки
+     * @param message    описание ошибки
+     * @param retryAfter через сколько повторить запрос
+     */
+    public ServiceUnavailableException(String code, String message, Duration retryAfter) {
+        super(code, message, Map.of("retryAfter", toSeconds(retryAfter)));
+        this.retryAfterSeconds = toSeconds(retryAfter);
+    }
+
+    /**
+     * Через сколько секунд клиенту следует повторить запрос (значение Retry-After).
+     *
+     * @return количество секунд, не меньше 1
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private static long toSeconds(Duration retryAfter) {
+        // Retry-After передаётся в целых секундах, округляем вверх
+        long millis = retryAfter != null ? retryAfter.toMillis() : 0;
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
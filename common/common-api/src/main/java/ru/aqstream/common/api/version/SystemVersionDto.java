@@ -10,7 +10,7 @@ import java.util.Map;
  *
  * @param platform       имя платформы ("AqStream")
  * @param environment    окружение (development, staging, production)
- * @param timestamp      время запроса
+ * @param timestamp      время сбора информации (Gateway отдаёт снимок, обновляемый в фоне)
  * @param frontend       версия фронтенда (если передана)
  * @param gateway        версия Gateway
  * @param services       версии всех микросервисов
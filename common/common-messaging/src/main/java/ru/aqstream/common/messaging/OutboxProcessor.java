@@ -81,10 +81,16 @@ public class OutboxProcessor {
             try {
                 // Отправляем сообщение в RabbitMQ
                 // routing key = event type (например, "event.created")
+                // message_id = id записи outbox: стабилен при повторной отправке,
+                // потребители могут дедуплицировать по нему
                 rabbitTemplate.convertAndSend(
                     exchangeName,
                     message.getEventType(),
-                    message.getPayload()
+                    message.getPayload(),
+                    amqpMessage -> {
+                        amqpMessage.getMessageProperties().setMessageId(message.getId().toString());
+                        return amqpMessage;
+                    }
                 );
 
                 message.markProcessed();
@@ -53,11 +53,30 @@ public class RabbitMQConfig {
     public static final String NOTIFICATIONS_EXCHANGE = "aqstream.notifications";
 
     /**
-     * Очередь для Notification Service.
-     * Получает события: notification.#, registration.#, event.#
+     * Общая очередь для Notification Service.
+     * Получает события: notification.#, organization.#
      */
     public static final String NOTIFICATION_QUEUE = "notification.queue";
 
+    /**
+     * Очередь Notification Service для писем аутентификации.
+     * Получает события: user.# (верификация email, сброс пароля, приветствие).
+     * Критична по задержке — обрабатывается отдельным пулом consumers.
+     */
+    public static final String NOTIFICATION_AUTH_QUEUE = "notification.auth.queue";
+
+    /**
+     * Очередь Notification Service для регистраций.
+     * Получает события: registration.#
+     */
+    public static final String NOTIFICATION_REGISTRATION_QUEUE = "notification.registration.queue";
+
+    /**
+     * Очередь Notification Service для массовых рассылок по событиям.
+     * Получает события: event.#
+     */
+    public static final String NOTIFICATION_BROADCAST_QUEUE = "notification.broadcast.queue";
+
     /**
      * Очередь для Analytics Service.
      * Получает все события (#).
@@ -66,10 +85,16 @@ public class RabbitMQConfig {
 
     /**
      * Очередь для Event Service.
-     * Получает события: payment.#
+     * Получает события: payment.#, organization.deleted
      */
     public static final String EVENT_SERVICE_QUEUE = "event-service.queue";
 
+    /**
+     * Очередь Event Service для локальной копии членства в организациях и группах.
+     * Получает события: organization.member.#, group.member.#, group.deleted
+     */
+    public static final String EVENT_SERVICE_MEMBERSHIP_QUEUE = "event-service.membership.queue";
+
     /**
      * Очередь для Dead Letter messages.
      */
@@ -97,6 +122,30 @@ public class RabbitMQConfig {
             .build();
     }
 
+    @Bean
+    public Queue notificationAuthQueue() {
+        return QueueBuilder.durable(NOTIFICATION_AUTH_QUEUE)
+            .withArgument("x-dead-letter-exchange", DLX_EXCHANGE)
+            .withArgument("x-dead-letter-routing-key", "notification.auth.dlx")
+            .build();
+    }
+
+    @Bean
+    public Queue notificationRegistrationQueue() {
+        return QueueBuilder.durable(NOTIFICATION_REGISTRATION_QUEUE)
+            .withArgument("x-dead-letter-exchange", DLX_EXCHANGE)
+            .withArgument("x-dead-letter-routing-key", "notification.registration.dlx")
+            .build();
+    }
+
+    @Bean
+    public Queue notificationBroadcastQueue() {
+        return QueueBuilder.durable(NOTIFICATION_BROADCAST_QUEUE)
+            .withArgument("x-dead-letter-exchange", DLX_EXCHANGE)
+            .withArgument("x-dead-letter-routing-key", "notification.broadcast.dlx")
+            .build();
+    }
+
     @Bean
     public Queue analyticsQueue() {
         return QueueBuilder.durable(ANALYTICS_QUEUE)
@@ -113,6 +162,14 @@ public class RabbitMQConfig {
             .build();
     }
 
+    @Bean
+    public Queue eventServiceMembershipQueue() {
+        return QueueBuilder.durable(EVENT_SERVICE_MEMBERSHIP_QUEUE)
+            .withArgument("x-dead-letter-exchange", DLX_EXCHANGE)
+            .withArgument("x-dead-letter-routing-key", "event-service.membership.dlx")
+            .build();
+    }
+
     @Bean
     public Queue dlxQueue() {
         return QueueBuilder.durable(DLX_QUEUE).build();
@@ -126,13 +183,24 @@ public class RabbitMQConfig {
     }
 
     @Bean
-    public Binding notificationBindingRegistration(Queue notificationQueue, TopicExchange eventsExchange) {
-        return BindingBuilder.bind(notificationQueue).to(eventsExchange).with("registration.#");
+    public Binding notificationBindingOrganization(Queue notificationQueue, TopicExchange eventsExchange) {
+        return BindingBuilder.bind(notificationQueue).to(eventsExchange).with("organization.#");
+    }
+
+    @Bean
+    public Binding notificationAuthBindingUser(Queue notificationAuthQueue, TopicExchange eventsExchange) {
+        return BindingBuilder.bind(notificationAuthQueue).to(eventsExchange).with("user.#");
     }
 
     @Bean
-    public Binding notificationBindingEvent(Queue notificationQueue, TopicExchange eventsExchange) {
-        return BindingBuilder.bind(notificationQueue).to(eventsExchange).with("event.#");
+    public Binding notificationRegistrationBinding(Queue notificationRegistrationQueue,
+                                                   TopicExchange eventsExchange) {
+        return BindingBuilder.bind(notificationRegistrationQueue).to(eventsExchange).with("registration.#");
+    }
+
+    @Bean
+    public Binding notificationBroadcastBinding(Queue notificationBroadcastQueue, TopicExchange eventsExchange) {
+        return BindingBuilder.bind(notificationBroadcastQueue).to(eventsExchange).with("event.#");
     }
 
     @Bean
@@ -149,8 +217,26 @@ public class RabbitMQConfig {
 
     @Bean
     public Binding eventServiceBindingOrganization(Queue eventServiceQueue, TopicExchange eventsExchange) {
-        // Event Service слушает события организаций (для архивирования при удалении)
-        return BindingBuilder.bind(eventServiceQueue).to(eventsExchange).with("organization.#");
+        // Event Service слушает удаление организаций (для архивирования событий)
+        return BindingBuilder.bind(eventServiceQueue).to(eventsExchange).with("organization.deleted");
+    }
+
+    @Bean
+    public Binding eventServiceMembershipBindingOrganization(Queue eventServiceMembershipQueue,
+                                                             TopicExchange eventsExchange) {
+        return BindingBuilder.bind(eventServiceMembershipQueue).to(eventsExchange).with("organization.member.#");
+    }
+
+    @Bean
+    public Binding eventServiceMembershipBindingGroupMember(Queue eventServiceMembershipQueue,
+                                                            TopicExchange eventsExchange) {
+        return BindingBuilder.bind(eventServiceMembershipQueue).to(eventsExchange).with("group.member.#");
+    }
+
+    @Bean
+    public Binding eventServiceMembershipBindingGroupDeleted(Queue eventServiceMembershipQueue,
+                                                             TopicExchange eventsExchange) {
+        return BindingBuilder.bind(eventServiceMembershipQueue).to(eventsExchange).with("group.deleted");
     }
 
     @Bean
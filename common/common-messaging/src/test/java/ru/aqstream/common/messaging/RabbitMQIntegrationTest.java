@@ -62,8 +62,8 @@ class RabbitMQIntegrationTest {
     private TestMessageListener testMessageListener;
 
     @Test
-    @DisplayName("Сообщение успешно отправляется и получается через notification.queue")
-    void sendAndReceive_NotificationQueue_Success() throws Exception {
+    @DisplayName("Сообщения event.* маршрутизируются в notification.broadcast.queue")
+    void sendAndReceive_NotificationBroadcastQueue_Success() throws Exception {
         // Given
         String eventType = "event.created";
         String testTitle = FAKER.book().title();
@@ -78,6 +78,24 @@ class RabbitMQIntegrationTest {
         assertThat(testMessageListener.getLastMessage()).contains(testTitle);
     }
 
+    @Test
+    @DisplayName("Сообщения user.* маршрутизируются в notification.auth.queue")
+    void sendAndReceive_NotificationAuthQueue_ReceivesUserEvents() throws Exception {
+        // Given
+        String eventType = "user.password.reset.requested";
+        String payload = "{\"userId\":\"" + UUID.randomUUID() + "\"}";
+
+        // When
+        rabbitTemplate.convertAndSend(RabbitMQConfig.EVENTS_EXCHANGE, eventType, payload);
+
+        // Then
+        await()
+            .atMost(Duration.ofSeconds(5))
+            .untilAsserted(() -> {
+                assertThat(testMessageListener.getAuthMessageCount()).isGreaterThan(0);
+            });
+    }
+
     @Test
     @DisplayName("Сообщения маршрутизируются в analytics.queue по wildcard #")
     void sendAndReceive_AnalyticsQueue_ReceivesAllEvents() throws Exception {
@@ -149,13 +167,19 @@ class RabbitMQIntegrationTest {
         private final AtomicReference<String> lastMessage = new AtomicReference<>();
         private final AtomicInteger analyticsMessageCount = new AtomicInteger(0);
         private final AtomicInteger eventServiceMessageCount = new AtomicInteger(0);
+        private final AtomicInteger authMessageCount = new AtomicInteger(0);
 
-        @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE)
+        @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_BROADCAST_QUEUE)
         public void handleNotification(Message message) {
             lastMessage.set(new String(message.getBody()));
             latch.countDown();
         }
 
+        @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_AUTH_QUEUE)
+        public void handleAuth(Message message) {
+            authMessageCount.incrementAndGet();
+        }
+
         @RabbitListener(queues = RabbitMQConfig.ANALYTICS_QUEUE)
         public void handleAnalytics(Message message) {
             analyticsMessageCount.incrementAndGet();
@@ -174,6 +198,10 @@ class RabbitMQIntegrationTest {
             return lastMessage.get();
         }
 
+        public int getAuthMessageCount() {
+            return authMessageCount.get();
+        }
+
         public int getAnalyticsMessageCount() {
             return analyticsMessageCount.get();
         }
@@ -50,6 +50,7 @@ public final class AllureFeatures {
         public static final String EVENT_CRUD = "CRUD операции";
         public static final String EVENT_LIFECYCLE = "Жизненный цикл события";
         public static final String EVENT_PERMISSIONS = "Права доступа";
+        public static final String LIVE_DASHBOARD = "Живой dashboard";
 
         // Registrations
         public static final String REGISTRATION_FLOW = "Регистрация участников";
@@ -73,6 +74,15 @@ public final class AllureFeatures {
         public static final String TELEGRAM_NOTIFICATIONS = "Telegram уведомления";
         public static final String NOTIFICATION_PREFERENCES = "Настройки уведомлений";
 
+        // Analytics
+        public static final String EVENT_INGESTION = "Приём событий";
+        public static final String TIME_SERIES = "Временные ряды";
+        public static final String PAGE_VIEWS = "Просмотры и воронка";
+
+        // Media
+        public static final String MEDIA_UPLOAD = "Загрузка файлов";
+        public static final String IMAGE_VARIANTS = "Варианты изображений";
+
         private Stories() {
             // Утилитный класс
         }
@@ -5,6 +5,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -24,6 +25,7 @@ import ru.aqstream.common.api.exception.ConflictException;
 import ru.aqstream.common.api.exception.EntityNotFoundException;
 import ru.aqstream.common.api.exception.ForbiddenException;
 import ru.aqstream.common.api.exception.InternalServerException;
+import ru.aqstream.common.api.exception.ServiceUnavailableException;
 import ru.aqstream.common.api.exception.TooManyRequestsException;
 import ru.aqstream.common.api.exception.UnauthorizedException;
 import ru.aqstream.common.api.exception.ValidationException;
@@ -87,6 +89,15 @@ public class GlobalExceptionHandler {
             .body(new ErrorResponse(ex.getCode(), ex.getMessage(), ex.getDetails()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        log.debug("Сервис перегружен: code={}, message={}", ex.getCode(), ex.getMessage());
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(new ErrorResponse(ex.getCode(), ex.getMessage(), ex.getDetails()));
+    }
+
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<ErrorResponse> handleInternalServer(InternalServerException ex) {
         log.error("Внутренняя ошибка сервера: code={}, message={}", ex.getCode(), ex.getMessage(), ex);
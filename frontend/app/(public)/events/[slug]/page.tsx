@@ -6,6 +6,7 @@ import {
   EventHero,
   EventInfo,
   EventStateMessage,
+  EventViewTracker,
   ParticipantsPlaceholder,
   RegistrationForm,
   RegistrationTicketCard,
@@ -153,6 +154,9 @@ export default async function EventPage({ params }: EventPageProps) {
         dangerouslySetInnerHTML={{ __html: JSON.stringify(jsonLd) }}
       />
 
+      {/* Учёт просмотра в аналитике */}
+      <EventViewTracker slug={event.slug} />
+
       <div className="min-h-screen bg-background">
         {/* Hero Section */}
         <div className="container pt-8">
@@ -0,0 +1,22 @@
+'use client';
+
+import { useEffect } from 'react';
+import { eventsApi } from '@/lib/api/events';
+
+interface EventViewTrackerProps {
+  slug: string;
+}
+
+/**
+ * Учитывает просмотр страницы события в аналитике.
+ * Страница рендерится на сервере, а её данные отдаются из кэша Gateway,
+ * поэтому просмотр отправляет браузер после загрузки страницы.
+ */
+export function EventViewTracker({ slug }: EventViewTrackerProps) {
+  useEffect(() => {
+    // Ошибка учёта просмотра не должна влиять на страницу
+    eventsApi.trackView(slug).catch(() => {});
+  }, [slug]);
+
+  return null;
+}
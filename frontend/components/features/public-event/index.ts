@@ -5,6 +5,7 @@ export { EventGrid } from './event-grid';
 export { EventHero } from './event-hero';
 export { EventInfo } from './event-info';
 export { EventStateMessage } from './event-state-message';
+export { EventViewTracker } from './event-view-tracker';
 export { ParticipantsPlaceholder } from './participants-placeholder';
 export { RegistrationForm } from './registration-form';
 export { RegistrationTicketCard } from './registration-ticket-card';
@@ -105,6 +105,14 @@ export const eventsApi = {
     return response.data;
   },
 
+  /**
+   * Учесть просмотр публичной страницы события.
+   * GET события кэшируется в Gateway, поэтому просмотр отправляется отдельным запросом.
+   */
+  trackView: async (slug: string): Promise<void> => {
+    await apiClient.post(`/api/v1/public/events/${slug}/views`);
+  },
+
   /**
    * Получить список предстоящих публичных событий.
    * Не требует авторизации.
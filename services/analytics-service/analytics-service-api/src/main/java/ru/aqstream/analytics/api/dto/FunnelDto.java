@@ -0,0 +1,34 @@
+package ru.aqstream.analytics.api.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Воронка события: просмотры → регистрации → check-in.
+ *
+ * <p>Просмотры приблизительны: при перегрузке они отбрасываются. Уникальные
+ * посетители оцениваются HyperLogLog с погрешностью около 1%. Регистрации
+ * и check-in точные.</p>
+ *
+ * @param eventId                   идентификатор события
+ * @param from                      первый день периода (UTC)
+ * @param to                        последний день периода (UTC, включительно)
+ * @param views                     просмотры страницы
+ * @param uniqueVisitors            уникальные посетители за весь период
+ * @param registrations             созданные регистрации
+ * @param checkIns                  check-in участников
+ * @param viewToRegistrationRate    регистрации / уникальные посетители
+ * @param registrationToCheckinRate check-in / регистрации
+ */
+public record FunnelDto(
+    UUID eventId,
+    LocalDate from,
+    LocalDate to,
+    long views,
+    long uniqueVisitors,
+    long registrations,
+    long checkIns,
+    double viewToRegistrationRate,
+    double registrationToCheckinRate
+) {
+}
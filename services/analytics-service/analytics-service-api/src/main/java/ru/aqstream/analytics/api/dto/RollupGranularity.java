@@ -0,0 +1,39 @@
+package ru.aqstream.analytics.api.dto;
+
+import java.time.Duration;
+
+/**
+ * Размер корзины временного ряда. Границы корзин считаются в UTC.
+ */
+public enum RollupGranularity {
+
+    /**
+     * Минута — кривая прихода участников в день события.
+     */
+    MINUTE(Duration.ofMinutes(1)),
+
+    /**
+     * Час — динамика регистраций за несколько недель.
+     */
+    HOUR(Duration.ofHours(1)),
+
+    /**
+     * Сутки — длинные периоды.
+     */
+    DAY(Duration.ofDays(1));
+
+    private final Duration size;
+
+    RollupGranularity(Duration size) {
+        this.size = size;
+    }
+
+    /**
+     * Длительность одной корзины.
+     *
+     * @return длительность
+     */
+    public Duration getSize() {
+        return size;
+    }
+}
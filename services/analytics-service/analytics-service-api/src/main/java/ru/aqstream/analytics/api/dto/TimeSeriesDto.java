@@ -0,0 +1,23 @@
+package ru.aqstream.analytics.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Временной ряд регистраций, отмен и check-in.
+ *
+ * <p>Содержит точку на каждую корзину диапазона, пустые корзины — с нулями.
+ * Диапазон выровнен по границам корзин.</p>
+ *
+ * @param granularity размер корзины
+ * @param from        начало диапазона (включительно)
+ * @param to          конец диапазона (не включительно)
+ * @param points      точки ряда по возрастанию времени
+ */
+public record TimeSeriesDto(
+    RollupGranularity granularity,
+    Instant from,
+    Instant to,
+    List<TimeSeriesPointDto> points
+) {
+}
@@ -0,0 +1,19 @@
+package ru.aqstream.analytics.api.dto;
+
+import java.time.Instant;
+
+/**
+ * Точка временного ряда регистраций.
+ *
+ * @param bucketStart   начало корзины (UTC)
+ * @param registrations созданные регистрации
+ * @param cancellations отменённые регистрации
+ * @param checkIns      check-in участников
+ */
+public record TimeSeriesPointDto(
+    Instant bucketStart,
+    long registrations,
+    long cancellations,
+    long checkIns
+) {
+}
@@ -0,0 +1,88 @@
+package ru.aqstream.analytics.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+
+/**
+ * Счётчики регистраций, отмен и check-in за одну корзину времени.
+ *
+ * <p>Строки с {@link #ALL} в {@code ticketTypeId} содержат сумму по всем типам билетов
+ * события, строки с {@link #ALL} в {@code eventId} — сумму по всем событиям организации.
+ * Поэтому чтение ряда любого уровня занимает не больше одной строки на корзину.
+ * Изменяется только через
+ * {@link ru.aqstream.analytics.db.repository.RegistrationRollupRepository#rollUp}.</p>
+ */
+@Entity
+@Table(name = "registration_rollups", schema = "analytics_service")
+@IdClass(RegistrationRollup.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RegistrationRollup {
+
+    /**
+     * Значение eventId/ticketTypeId для сумм по всем событиям / типам билетов.
+     */
+    public static final UUID ALL = new UUID(0L, 0L);
+
+    @Id
+    @Column(name = "tenant_id", nullable = false, updatable = false)
+    private UUID tenantId;
+
+    @Id
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Id
+    @Column(name = "ticket_type_id", nullable = false, updatable = false)
+    private UUID ticketTypeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, updatable = false, length = 10)
+    private RollupGranularity granularity;
+
+    /**
+     * Начало корзины (UTC).
+     */
+    @Id
+    @Column(name = "bucket_start", nullable = false, updatable = false)
+    private Instant bucketStart;
+
+    @Column(name = "registrations", nullable = false)
+    private long registrations;
+
+    @Column(name = "cancellations", nullable = false)
+    private long cancellations;
+
+    @Column(name = "check_ins", nullable = false)
+    private long checkIns;
+
+    /**
+     * Составной ключ.
+     *
+     * @param tenantId     идентификатор организации
+     * @param eventId      идентификатор события или {@link #ALL}
+     * @param ticketTypeId идентификатор типа билета или {@link #ALL}
+     * @param granularity  размер корзины
+     * @param bucketStart  начало корзины
+     */
+    public record Key(
+        UUID tenantId,
+        UUID eventId,
+        UUID ticketTypeId,
+        RollupGranularity granularity,
+        Instant bucketStart
+    ) implements Serializable { }
+}
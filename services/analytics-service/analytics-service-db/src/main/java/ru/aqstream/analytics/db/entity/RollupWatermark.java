@@ -0,0 +1,50 @@
+package ru.aqstream.analytics.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Граница времени приёма events_raw, до которой строки уже учтены в агрегатах.
+ */
+@Entity
+@Table(name = "rollup_watermarks", schema = "analytics_service")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RollupWatermark {
+
+    @Id
+    @Column(name = "name", nullable = false, updatable = false, length = 50)
+    private String name;
+
+    @Column(name = "processed_until", nullable = false)
+    private Instant processedUntil;
+
+    /**
+     * Создаёт границу обработки.
+     *
+     * @param name           имя агрегата
+     * @param processedUntil начальная граница
+     * @return граница
+     */
+    public static RollupWatermark create(String name, Instant processedUntil) {
+        RollupWatermark watermark = new RollupWatermark();
+        watermark.name = name;
+        watermark.processedUntil = processedUntil;
+        return watermark;
+    }
+
+    /**
+     * Сдвигает границу после обработки окна.
+     *
+     * @param until новая граница
+     */
+    public void advanceTo(Instant until) {
+        this.processedUntil = until;
+    }
+}
@@ -0,0 +1,132 @@
+package ru.aqstream.analytics.db.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.db.entity.RegistrationRollup;
+
+/**
+ * Репозиторий счётчиков регистраций по корзинам времени.
+ */
+@Repository
+public interface RegistrationRollupRepository extends JpaRepository<RegistrationRollup, RegistrationRollup.Key> {
+
+    /**
+     * Добавляет в счётчики факты из строк events_raw, принятых в окне [from, to).
+     *
+     * <p>Каждый факт (создание, отмена, check-in регистрации) учитывается один раз:
+     * он регистрируется в rollup_applied, и только впервые зарегистрированные факты
+     * попадают в счётчики. Поэтому окна можно перекрывать, а повторная доставка
+     * события не меняет результат. Корзина выбирается по времени события, так что
+     * опоздавшее событие исправляет уже посчитанную корзину. Одна строка факта
+     * обновляет корзины MINUTE/HOUR/DAY на уровнях типа билета, события и организации.</p>
+     *
+     * @param from начало окна по времени приёма (включительно)
+     * @param to   конец окна по времени приёма (не включительно)
+     * @return количество вставленных или обновлённых строк счётчиков
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        WITH candidate AS (
+            SELECT DISTINCT ON (fact.event_type, fact.registration_id) fact.*
+            FROM (
+                SELECT raw.event_type,
+                       analytics_service.try_uuid(raw.payload ->> 'registrationId') AS registration_id,
+                       raw.tenant_id,
+                       analytics_service.try_uuid(raw.payload ->> 'eventId') AS event_id,
+                       analytics_service.try_uuid(raw.payload ->> 'ticketTypeId') AS ticket_type_id,
+                       raw.occurred_at
+                FROM analytics_service.events_raw raw
+                WHERE raw.received_at >= :fromTime AND raw.received_at < :toTime
+                  AND raw.event_type IN ('registration.created', 'registration.cancelled', 'checkin.completed')
+            ) fact
+            WHERE fact.registration_id IS NOT NULL
+              AND fact.tenant_id IS NOT NULL
+              AND fact.event_id IS NOT NULL
+            ORDER BY fact.event_type, fact.registration_id, fact.occurred_at
+        ),
+        fresh AS (
+            INSERT INTO analytics_service.rollup_applied (event_type, registration_id)
+            SELECT event_type, registration_id FROM candidate
+            ON CONFLICT DO NOTHING
+            RETURNING event_type, registration_id
+        ),
+        bucketed AS (
+            SELECT candidate.*, g.granularity,
+                   date_trunc(g.unit, candidate.occurred_at AT TIME ZONE 'UTC') AT TIME ZONE 'UTC' AS bucket_start
+            FROM candidate
+            JOIN fresh ON fresh.event_type = candidate.event_type
+                AND fresh.registration_id = candidate.registration_id
+            CROSS JOIN (VALUES ('MINUTE', 'minute'), ('HOUR', 'hour'), ('DAY', 'day')) AS g(granularity, unit)
+        )
+        INSERT INTO analytics_service.registration_rollups
+            (tenant_id, event_id, ticket_type_id, granularity, bucket_start,
+             registrations, cancellations, check_ins)
+        SELECT tenant_id,
+               CASE WHEN GROUPING(event_id) = 1
+                   THEN CAST('00000000-0000-0000-0000-000000000000' AS uuid) ELSE event_id END,
+               CASE WHEN GROUPING(ticket_type_id) = 1
+                   THEN CAST('00000000-0000-0000-0000-000000000000' AS uuid) ELSE ticket_type_id END,
+               granularity,
+               bucket_start,
+               COUNT(*) FILTER (WHERE event_type = 'registration.created'),
+               COUNT(*) FILTER (WHERE event_type = 'registration.cancelled'),
+               COUNT(*) FILTER (WHERE event_type = 'checkin.completed')
+        FROM bucketed
+        GROUP BY tenant_id, granularity, bucket_start,
+            GROUPING SETS ((event_id, ticket_type_id), (event_id), ())
+        HAVING GROUPING(ticket_type_id) = 1 OR ticket_type_id IS NOT NULL
+        ON CONFLICT (tenant_id, event_id, ticket_type_id, granularity, bucket_start) DO UPDATE
+        SET registrations = registration_rollups.registrations + EXCLUDED.registrations,
+            cancellations = registration_rollups.cancellations + EXCLUDED.cancellations,
+            check_ins = registration_rollups.check_ins + EXCLUDED.check_ins
+        """, nativeQuery = true)
+    int rollUp(@Param("fromTime") Instant from, @Param("toTime") Instant to);
+
+    /**
+     * Читает непустые корзины ряда.
+     *
+     * @param tenantId     идентификатор организации
+     * @param eventId      идентификатор события или {@link RegistrationRollup#ALL}
+     * @param ticketTypeId идентификатор типа билета или {@link RegistrationRollup#ALL}
+     * @param granularity  размер корзины
+     * @param from         начало диапазона (включительно)
+     * @param to           конец диапазона (не включительно)
+     * @return корзины по возрастанию времени
+     */
+    @Query("SELECT r FROM RegistrationRollup r "
+        + "WHERE r.tenantId = :tenantId AND r.eventId = :eventId AND r.ticketTypeId = :ticketTypeId "
+        + "AND r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to "
+        + "ORDER BY r.bucketStart")
+    List<RegistrationRollup> findSeries(
+        @Param("tenantId") UUID tenantId,
+        @Param("eventId") UUID eventId,
+        @Param("ticketTypeId") UUID ticketTypeId,
+        @Param("granularity") RollupGranularity granularity,
+        @Param("from") Instant from,
+        @Param("to") Instant to
+    );
+
+    /**
+     * Удаляет корзины указанного размера, начавшиеся раньше заданного момента.
+     *
+     * @param granularity размер корзины
+     * @param before     граница
+     * @return количество удалённых строк
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RegistrationRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteByGranularityBefore(
+        @Param("granularity") RollupGranularity granularity,
+        @Param("before") Instant before
+    );
+}
@@ -0,0 +1,27 @@
+package ru.aqstream.analytics.db.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.aqstream.analytics.db.entity.RollupWatermark;
+
+/**
+ * Репозиторий границ обработки events_raw.
+ */
+@Repository
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+
+    /**
+     * Находит границу с блокировкой: окно обрабатывает только один экземпляр сервиса.
+     *
+     * @param name имя агрегата
+     * @return граница или empty
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM RollupWatermark w WHERE w.name = :name")
+    Optional<RollupWatermark> findByNameForUpdate(@Param("name") String name);
+}
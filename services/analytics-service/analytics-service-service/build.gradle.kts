@@ -15,6 +15,16 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-amqp")
+
+    // Redis: счётчики просмотров и HyperLogLog посетителей
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
+
+    // Security
+    implementation("org.springframework.boot:spring-boot-starter-security")
+
+    // COPY API драйвера для записи сырых событий
+    implementation("org.postgresql:postgresql")
 
     // OpenAPI / Swagger
     val openApiVersion: String by project
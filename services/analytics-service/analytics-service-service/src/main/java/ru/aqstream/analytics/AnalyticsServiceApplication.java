@@ -2,11 +2,24 @@ package ru.aqstream.analytics;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import ru.aqstream.analytics.config.IngestProperties;
+import ru.aqstream.analytics.config.PageViewProperties;
+import ru.aqstream.analytics.config.RollupProperties;
 
 /**
  * Точка входа для Analytics Service.
  */
 @SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties({IngestProperties.class, RollupProperties.class, PageViewProperties.class})
+@ComponentScan(basePackages = {
+    "ru.aqstream.analytics",
+    "ru.aqstream.common.security",
+    "ru.aqstream.common.web"
+})
 public class AnalyticsServiceApplication {
 
     public static void main(String[] args) {
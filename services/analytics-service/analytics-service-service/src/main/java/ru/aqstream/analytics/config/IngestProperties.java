@@ -0,0 +1,74 @@
+package ru.aqstream.analytics.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Настройки приёма доменных событий из analytics.queue.
+ *
+ * <p>Каждый consumer набирает пачку до {@code batchSize} сообщений или до истечения
+ * {@code batchTimeout} и записывает её одним COPY. Prefetch должен быть не меньше
+ * размера пачки, иначе пачка никогда не наберётся.</p>
+ */
+@ConfigurationProperties(prefix = "analytics.ingest")
+@Validated
+@Getter
+@Setter
+public class IngestProperties {
+
+    /**
+     * Количество consumers. Каждый занимает соединение пула на время записи пачки.
+     */
+    @Min(1)
+    private int concurrency = 2;
+
+    /**
+     * Количество неподтверждённых сообщений на consumer.
+     */
+    @Min(1)
+    private int prefetch = 5000;
+
+    /**
+     * Максимальный размер пачки.
+     */
+    @Min(1)
+    private int batchSize = 2000;
+
+    /**
+     * Максимальное время набора пачки при слабом потоке событий.
+     */
+    @NotNull
+    private Duration batchTimeout = Duration.ofMillis(500);
+
+    /**
+     * Секции таблицы events_raw.
+     */
+    @Valid
+    private Partitions partitions = new Partitions();
+
+    /**
+     * Настройки дневных секций events_raw.
+     */
+    @Getter
+    @Setter
+    public static class Partitions {
+
+        /**
+         * На сколько дней вперёд создавать секции.
+         */
+        @Min(1)
+        private int daysAhead = 3;
+
+        /**
+         * Срок хранения сырых событий: более старые секции удаляются целиком.
+         */
+        @NotNull
+        private Duration retention = Duration.ofDays(365);
+    }
+}
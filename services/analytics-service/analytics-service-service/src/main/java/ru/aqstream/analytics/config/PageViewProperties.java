@@ -0,0 +1,32 @@
+package ru.aqstream.analytics.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Настройки счётчиков просмотров публичных страниц событий.
+ */
+@ConfigurationProperties(prefix = "analytics.page-views")
+@Validated
+@Getter
+@Setter
+public class PageViewProperties {
+
+    /**
+     * Срок хранения дневных счётчиков и HyperLogLog в Redis.
+     */
+    @NotNull
+    private Duration retention = Duration.ofDays(400);
+
+    /**
+     * Максимальная длина периода воронки в днях: объединение HyperLogLog
+     * читает по одному ключу на день.
+     */
+    @Min(1)
+    private int maxFunnelDays = 366;
+}
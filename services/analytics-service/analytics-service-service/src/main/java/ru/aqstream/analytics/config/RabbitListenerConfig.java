@@ -0,0 +1,49 @@
+package ru.aqstream.analytics.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Фабрика RabbitMQ listener контейнеров для приёма событий пачками.
+ *
+ * <p>Контейнер набирает пачку сообщений (consumer batch) и передаёт её listener
+ * целиком. Подтверждение ручное: listener подтверждает пачку только после
+ * коммита записи в БД.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RabbitListenerConfig {
+
+    /**
+     * Фабрика для analytics.queue.
+     */
+    public static final String INGEST_CONTAINER_FACTORY = "ingestListenerContainerFactory";
+
+    private final IngestProperties ingestProperties;
+
+    @Bean(INGEST_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory ingestListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setConcurrentConsumers(ingestProperties.getConcurrency());
+        factory.setMaxConcurrentConsumers(ingestProperties.getConcurrency());
+        factory.setPrefetchCount(Math.max(ingestProperties.getPrefetch(), ingestProperties.getBatchSize()));
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(ingestProperties.getBatchSize());
+        factory.setBatchReceiveTimeout(ingestProperties.getBatchTimeout().toMillis());
+
+        return factory;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.aqstream.analytics.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Настройки счётчиков регистраций по корзинам времени.
+ *
+ * <p>Период запуска задаётся {@code analytics.rollup.interval} и читается
+ * в {@code @Scheduled} через placeholder.</p>
+ */
+@ConfigurationProperties(prefix = "analytics.rollup")
+@Validated
+@Getter
+@Setter
+public class RollupProperties {
+
+    /**
+     * Насколько окно захватывает уже обработанный интервал приёма.
+     * Покрывает строки, закоммиченные с задержкой после сдвига границы.
+     */
+    @NotNull
+    private Duration overlap = Duration.ofMinutes(2);
+
+    /**
+     * Максимальная длина окна приёма за одну транзакцию (догон после простоя).
+     */
+    @NotNull
+    private Duration maxWindow = Duration.ofHours(1);
+
+    /**
+     * Срок хранения минутных корзин. Часовые и дневные хранятся бессрочно.
+     */
+    @NotNull
+    private Duration minuteRetention = Duration.ofDays(30);
+
+    /**
+     * Максимальное количество точек в ответе временного ряда.
+     */
+    @Min(1)
+    private int maxPoints = 1500;
+}
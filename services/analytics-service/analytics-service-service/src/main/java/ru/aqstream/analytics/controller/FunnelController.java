@@ -0,0 +1,72 @@
+package ru.aqstream.analytics.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.aqstream.analytics.api.dto.FunnelDto;
+import ru.aqstream.analytics.service.FunnelService;
+import ru.aqstream.common.api.exception.ForbiddenException;
+import ru.aqstream.common.api.exception.UnauthorizedException;
+import ru.aqstream.common.security.UserPrincipal;
+
+/**
+ * Контроллер воронки события: просмотры → регистрации → check-in.
+ * Доступно организаторам, данные ограничены текущей организацией.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Аналитика регистраций")
+public class FunnelController {
+
+    private final FunnelService funnelService;
+
+    @Operation(
+        summary = "Воронка события",
+        description = "Возвращает просмотры страницы, уникальных посетителей, регистрации, check-in "
+            + "и конверсии между ними за период (дни в UTC). По умолчанию — последние 30 дней."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Воронка"),
+        @ApiResponse(responseCode = "400", description = "Некорректный период"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Требуется роль организатора")
+    })
+    @GetMapping("/events/{eventId}/funnel")
+    public ResponseEntity<FunnelDto> getEventFunnel(
+        @Parameter(description = "ID события")
+        @PathVariable UUID eventId,
+        @Parameter(description = "Первый день периода, ISO 8601 (yyyy-MM-dd)")
+        @RequestParam(required = false) LocalDate from,
+        @Parameter(description = "Последний день периода включительно, ISO 8601 (yyyy-MM-dd)")
+        @RequestParam(required = false) LocalDate to,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireOrganizer(principal);
+        return ResponseEntity.ok(funnelService.getEventFunnel(eventId, from, to));
+    }
+
+    /**
+     * Проверяет, что пользователь является организатором.
+     */
+    private void requireOrganizer(UserPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("unauthorized", "Требуется аутентификация");
+        }
+        if (!principal.isOrganizer()) {
+            throw new ForbiddenException("organizer_required", "Требуется роль организатора");
+        }
+    }
+}
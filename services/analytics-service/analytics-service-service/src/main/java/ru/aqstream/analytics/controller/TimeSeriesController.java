@@ -0,0 +1,101 @@
+package ru.aqstream.analytics.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.api.dto.TimeSeriesDto;
+import ru.aqstream.analytics.service.TimeSeriesService;
+import ru.aqstream.common.api.exception.ForbiddenException;
+import ru.aqstream.common.api.exception.UnauthorizedException;
+import ru.aqstream.common.security.UserPrincipal;
+
+/**
+ * Контроллер временных рядов регистраций, отмен и check-in.
+ * Доступно организаторам, данные ограничены текущей организацией.
+ */
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Аналитика регистраций")
+public class TimeSeriesController {
+
+    private final TimeSeriesService timeSeriesService;
+
+    @Operation(
+        summary = "Временной ряд события",
+        description = "Возвращает регистрации, отмены и check-in события по корзинам времени (UTC). "
+            + "Без granularity выбирается самая мелкая корзина, при которой точек не больше лимита."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Временной ряд"),
+        @ApiResponse(responseCode = "400", description = "Некорректный диапазон или слишком много точек"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Требуется роль организатора")
+    })
+    @GetMapping("/events/{eventId}/timeseries")
+    public ResponseEntity<TimeSeriesDto> getEventSeries(
+        @Parameter(description = "ID события")
+        @PathVariable UUID eventId,
+        @Parameter(description = "Начало диапазона, ISO 8601")
+        @RequestParam Instant from,
+        @Parameter(description = "Конец диапазона, ISO 8601")
+        @RequestParam Instant to,
+        @Parameter(description = "Размер корзины: MINUTE, HOUR, DAY")
+        @RequestParam(required = false) RollupGranularity granularity,
+        @Parameter(description = "Фильтр по типу билета")
+        @RequestParam(required = false) UUID ticketTypeId,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireOrganizer(principal);
+        return ResponseEntity.ok(timeSeriesService.getEventSeries(eventId, ticketTypeId, from, to, granularity));
+    }
+
+    @Operation(
+        summary = "Временной ряд организации",
+        description = "Возвращает регистрации, отмены и check-in по всем событиям организации."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Временной ряд"),
+        @ApiResponse(responseCode = "400", description = "Некорректный диапазон или слишком много точек"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Требуется роль организатора")
+    })
+    @GetMapping("/timeseries")
+    public ResponseEntity<TimeSeriesDto> getTenantSeries(
+        @Parameter(description = "Начало диапазона, ISO 8601")
+        @RequestParam Instant from,
+        @Parameter(description = "Конец диапазона, ISO 8601")
+        @RequestParam Instant to,
+        @Parameter(description = "Размер корзины: MINUTE, HOUR, DAY")
+        @RequestParam(required = false) RollupGranularity granularity,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireOrganizer(principal);
+        return ResponseEntity.ok(timeSeriesService.getTenantSeries(from, to, granularity));
+    }
+
+    /**
+     * Проверяет, что пользователь является организатором.
+     */
+    private void requireOrganizer(UserPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("unauthorized", "Требуется аутентификация");
+        }
+        if (!principal.isOrganizer()) {
+            throw new ForbiddenException("organizer_required", "Требуется роль организатора");
+        }
+    }
+}
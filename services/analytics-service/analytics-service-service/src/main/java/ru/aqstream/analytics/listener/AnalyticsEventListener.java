@@ -0,0 +1,88 @@
+package ru.aqstream.analytics.listener;
+
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import ru.aqstream.analytics.config.RabbitListenerConfig;
+import ru.aqstream.analytics.service.PageViewCounter;
+import ru.aqstream.analytics.service.RawEvent;
+import ru.aqstream.analytics.service.RawEventDecoder;
+import ru.aqstream.analytics.service.RawEventWriter;
+import ru.aqstream.common.messaging.config.RabbitMQConfig;
+
+/**
+ * Приём всех доменных событий из analytics.queue в events_raw.
+ *
+ * <p>Контейнер передаёт пачку сообщений (см. {@link RabbitListenerConfig}), пачка
+ * записывается одним COPY и подтверждается одним ack после коммита. При сбое записи
+ * пачка возвращается в очередь, поэтому доставка — at-least-once: строки могут
+ * повториться, дубликаты отсеиваются по message_id. Сообщения, которые нельзя
+ * разобрать, отклоняются в DLX и не блокируют остальную пачку.</p>
+ *
+ * <p>После подтверждения просмотры страниц из пачки учитываются в {@link PageViewCounter}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsEventListener {
+
+    private final RawEventDecoder decoder;
+    private final RawEventWriter writer;
+    private final PageViewCounter pageViewCounter;
+
+    /**
+     * Записывает пачку событий и подтверждает её.
+     *
+     * @param messages пачка сообщений одного consumer
+     * @param channel  канал consumer для ручного подтверждения
+     * @throws IOException если не удалось отправить ack/nack
+     */
+    @RabbitListener(
+        queues = RabbitMQConfig.ANALYTICS_QUEUE,
+        id = "analytics-ingest",
+        containerFactory = RabbitListenerConfig.INGEST_CONTAINER_FACTORY
+    )
+    public void ingest(List<Message> messages, Channel channel) throws IOException {
+        List<RawEvent> events = new ArrayList<>(messages.size());
+        // ack с multiple=true по тегу отклонённого сообщения закрыл бы канал,
+        // поэтому подтверждаем до последнего разобранного
+        long lastDecodedTag = -1;
+
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            try {
+                events.add(decoder.decode(message));
+                lastDecodedTag = Math.max(lastDecodedTag, deliveryTag);
+            } catch (IllegalArgumentException e) {
+                log.warn("Сообщение отклонено: routingKey={}, messageId={}, ошибка={}",
+                    message.getMessageProperties().getReceivedRoutingKey(),
+                    message.getMessageProperties().getMessageId(), e.getMessage());
+                channel.basicReject(deliveryTag, false);
+            }
+        }
+
+        if (events.isEmpty()) {
+            return;
+        }
+
+        try {
+            long written = writer.write(events);
+            channel.basicAck(lastDecodedTag, true);
+            log.debug("Записана пачка событий: {}", written);
+        } catch (SQLException e) {
+            log.error("Ошибка записи пачки событий, пачка возвращена в очередь: size={}, ошибка={}",
+                events.size(), e.getMessage(), e);
+            channel.basicNack(lastDecodedTag, true, true);
+            return;
+        }
+
+        pageViewCounter.record(events);
+    }
+}
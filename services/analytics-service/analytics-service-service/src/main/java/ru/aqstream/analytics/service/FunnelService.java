@@ -0,0 +1,108 @@
+package ru.aqstream.analytics.service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import ru.aqstream.analytics.api.dto.FunnelDto;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.config.PageViewProperties;
+import ru.aqstream.analytics.db.entity.RegistrationRollup;
+import ru.aqstream.analytics.db.repository.RegistrationRollupRepository;
+import ru.aqstream.common.api.exception.ValidationException;
+import ru.aqstream.common.security.TenantContext;
+
+/**
+ * Воронка события: просмотры → регистрации → check-in.
+ *
+ * <p>Все показатели читаются из готовых дневных агрегатов: HyperLogLog и счётчиков
+ * просмотров в Redis и дневных корзин регистраций. Память и количество чтений зависят
+ * только от длины периода, но не от количества посетителей и регистраций.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class FunnelService {
+
+    private static final int DEFAULT_DAYS = 30;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RegistrationRollupRepository rollupRepository;
+    private final PageViewProperties pageViewProperties;
+
+    /**
+     * Возвращает воронку события текущей организации.
+     *
+     * @param eventId идентификатор события
+     * @param from    первый день (UTC) или null — 30 дней до {@code to}
+     * @param to      последний день (UTC, включительно) или null — сегодня
+     * @return воронка
+     */
+    public FunnelDto getEventFunnel(UUID eventId, LocalDate from, LocalDate to) {
+        LocalDate lastDay = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(DEFAULT_DAYS - 1);
+        if (firstDay.isAfter(lastDay)) {
+            throw new ValidationException("Начало периода должно быть не позже конца");
+        }
+        long days = ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+        if (days > pageViewProperties.getMaxFunnelDays()) {
+            throw new ValidationException("Период воронки не может быть длиннее "
+                + pageViewProperties.getMaxFunnelDays() + " дней");
+        }
+
+        UUID tenantId = TenantContext.getTenantId();
+        List<String> visitorKeys = new ArrayList<>((int) days);
+        List<String> viewKeys = new ArrayList<>((int) days);
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            visitorKeys.add(PageViewCounter.visitorsKey(tenantId, eventId, day));
+            viewKeys.add(PageViewCounter.viewsKey(tenantId, eventId, day));
+        }
+
+        // PFCOUNT по нескольким ключам считает объединение: посетитель нескольких дней учитывается один раз
+        long uniqueVisitors = redisTemplate.opsForHyperLogLog().size(visitorKeys.toArray(String[]::new));
+        long views = sum(redisTemplate.opsForValue().multiGet(viewKeys));
+
+        long registrations = 0;
+        long checkIns = 0;
+        List<RegistrationRollup> rows = rollupRepository.findSeries(
+            tenantId, eventId, RegistrationRollup.ALL, RollupGranularity.DAY,
+            firstDay.atStartOfDay(ZoneOffset.UTC).toInstant(),
+            lastDay.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        for (RegistrationRollup row : rows) {
+            registrations += row.getRegistrations();
+            checkIns += row.getCheckIns();
+        }
+
+        return new FunnelDto(
+            eventId,
+            firstDay,
+            lastDay,
+            views,
+            uniqueVisitors,
+            registrations,
+            checkIns,
+            rate(registrations, uniqueVisitors),
+            rate(checkIns, registrations)
+        );
+    }
+
+    private static long sum(List<String> values) {
+        long total = 0;
+        if (values != null) {
+            for (String value : values) {
+                if (value != null) {
+                    total += Long.parseLong(value);
+                }
+            }
+        }
+        return total;
+    }
+
+    private static double rate(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+}
@@ -0,0 +1,131 @@
+package ru.aqstream.analytics.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import ru.aqstream.analytics.config.PageViewProperties;
+
+/**
+ * Счётчики просмотров публичных страниц событий в Redis.
+ *
+ * <p>На каждое событие и день (UTC) хранятся два ключа: счётчик просмотров и HyperLogLog
+ * посетителей. HyperLogLog занимает не больше 12 КБ независимо от количества посетителей,
+ * а PFCOUNT по нескольким дням даёт уникальных посетителей за период без двойного учёта.
+ * Повторно доставленный просмотр не меняет HyperLogLog, но увеличивает счётчик просмотров.</p>
+ *
+ * <p>Ошибки Redis не прерывают приём событий: сырые просмотры уже записаны в events_raw.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PageViewCounter {
+
+    static final String EVENT_TYPE = "page.viewed";
+
+    private static final int MAX_VISITOR_ID_LENGTH = 100;
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final PageViewProperties pageViewProperties;
+
+    /**
+     * Учитывает просмотры из пачки событий. Остальные типы событий пропускаются.
+     *
+     * @param events записанная пачка событий
+     */
+    public void record(List<RawEvent> events) {
+        Map<DayBucket, List<String>> visitorsByBucket = new HashMap<>();
+        for (RawEvent event : events) {
+            if (!EVENT_TYPE.equals(event.eventType()) || event.tenantId() == null) {
+                continue;
+            }
+            JsonNode payload = readPayload(event);
+            UUID eventId = parseUuid(payload.path("eventId").asText(null));
+            String visitorId = payload.path("visitorId").asText("");
+            if (eventId == null || visitorId.isBlank() || visitorId.length() > MAX_VISITOR_ID_LENGTH) {
+                continue;
+            }
+            LocalDate day = LocalDate.ofInstant(event.occurredAt(), ZoneOffset.UTC);
+            visitorsByBucket
+                .computeIfAbsent(new DayBucket(event.tenantId(), eventId, day), bucket -> new ArrayList<>())
+                .add(visitorId);
+        }
+
+        if (visitorsByBucket.isEmpty()) {
+            return;
+        }
+
+        Duration retention = pageViewProperties.getRetention();
+        try {
+            for (Map.Entry<DayBucket, List<String>> entry : visitorsByBucket.entrySet()) {
+                DayBucket bucket = entry.getKey();
+                List<String> visitors = entry.getValue();
+                String visitorsKey = visitorsKey(bucket.tenantId(), bucket.eventId(), bucket.day());
+                String viewsKey = viewsKey(bucket.tenantId(), bucket.eventId(), bucket.day());
+
+                redisTemplate.opsForHyperLogLog().add(visitorsKey, visitors.toArray(String[]::new));
+                redisTemplate.opsForValue().increment(viewsKey, visitors.size());
+                redisTemplate.expire(visitorsKey, retention);
+                redisTemplate.expire(viewsKey, retention);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Не удалось обновить счётчики просмотров: buckets={}, ошибка={}",
+                visitorsByBucket.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Ключ HyperLogLog посетителей события за день.
+     */
+    static String visitorsKey(UUID tenantId, UUID eventId, LocalDate day) {
+        return "analytics:pv:visitors:" + tenantId + ":" + eventId + ":" + DAY_FORMAT.format(day);
+    }
+
+    /**
+     * Ключ счётчика просмотров события за день.
+     */
+    static String viewsKey(UUID tenantId, UUID eventId, LocalDate day) {
+        return "analytics:pv:views:" + tenantId + ":" + eventId + ":" + DAY_FORMAT.format(day);
+    }
+
+    private JsonNode readPayload(RawEvent event) {
+        try {
+            return objectMapper.readTree(event.payload());
+        } catch (JsonProcessingException e) {
+            // Decoder уже проверил JSON, сюда попадать не должны
+            return objectMapper.missingNode();
+        }
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Событие и день, к которым относятся просмотры.
+     */
+    private record DayBucket(UUID tenantId, UUID eventId, LocalDate day) {
+    }
+}
@@ -0,0 +1,22 @@
+package ru.aqstream.analytics.service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Доменное событие, подготовленное к записи в events_raw.
+ *
+ * @param messageId  идентификатор сообщения outbox (null, если не передан)
+ * @param eventType  тип события (routing key)
+ * @param tenantId   организация, если событие её содержит
+ * @param occurredAt время возникновения события
+ * @param payload    исходный JSON события
+ */
+public record RawEvent(
+    UUID messageId,
+    String eventType,
+    UUID tenantId,
+    Instant occurredAt,
+    String payload
+) {
+}
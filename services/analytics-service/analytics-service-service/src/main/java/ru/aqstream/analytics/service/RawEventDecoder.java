@@ -0,0 +1,133 @@
+package ru.aqstream.analytics.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Разбирает AMQP сообщение с доменным событием в {@link RawEvent}.
+ *
+ * <p>Outbox публикует payload строкой JSON, которую конвертер сообщений сериализует
+ * ещё раз, поэтому тело может быть как объектом, так и строкой с объектом внутри.
+ * Тип события берётся из routing key: в JSON он не сериализуется.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RawEventDecoder {
+
+    static final int MAX_EVENT_TYPE_LENGTH = 100;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Разбирает сообщение.
+     *
+     * @param message AMQP сообщение
+     * @return событие для записи
+     * @throws IllegalArgumentException если сообщение не является доменным событием
+     */
+    public RawEvent decode(Message message) {
+        MessageProperties properties = message.getMessageProperties();
+        String eventType = properties.getReceivedRoutingKey();
+        if (eventType == null || eventType.isBlank() || eventType.length() > MAX_EVENT_TYPE_LENGTH) {
+            throw new IllegalArgumentException("Некорректный routing key: " + eventType);
+        }
+
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        JsonNode node = readTree(payload);
+        if (node.isTextual()) {
+            payload = node.textValue();
+            node = readTree(payload);
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Тело сообщения не является JSON объектом");
+        }
+        // PostgreSQL jsonb не принимает \u0000 — такая строка сорвала бы COPY всей пачки
+        if (containsNul(node)) {
+            throw new IllegalArgumentException("Тело сообщения содержит символ \\u0000");
+        }
+
+        return new RawEvent(
+            parseUuid(properties.getMessageId()),
+            eventType,
+            parseUuid(node.path("tenantId").textValue()),
+            occurredAt(node.path("occurredAt"), properties),
+            payload
+        );
+    }
+
+    /**
+     * Ищет U+0000 в разобранных строках и именах полей. Поиск по исходному JSON ошибается:
+     * {@code \\u0000} — экранированный обратный слеш и текст u0000, а не нулевой символ.
+     */
+    private static boolean containsNul(JsonNode node) {
+        if (node.isTextual()) {
+            return node.textValue().indexOf('\0') >= 0;
+        }
+        if (node.isObject()) {
+            for (Map.Entry<String, JsonNode> field : node.properties()) {
+                if (field.getKey().indexOf('\0') >= 0 || containsNul(field.getValue())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                if (containsNul(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Тело сообщения не является JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Время события из envelope: ISO-строка или секунды с дробной частью
+     * (если даты сериализуются числами). Без него — время публикации сообщения.
+     */
+    private static Instant occurredAt(JsonNode value, MessageProperties properties) {
+        if (value.isNumber()) {
+            BigDecimal seconds = value.decimalValue();
+            return Instant.ofEpochSecond(seconds.longValue(),
+                seconds.remainder(BigDecimal.ONE).movePointRight(9).longValue());
+        }
+        if (value.isTextual()) {
+            try {
+                return Instant.parse(value.textValue());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Некорректное время события: " + value.textValue(), e);
+            }
+        }
+        return properties.getTimestamp() != null ? properties.getTimestamp().toInstant() : Instant.now();
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
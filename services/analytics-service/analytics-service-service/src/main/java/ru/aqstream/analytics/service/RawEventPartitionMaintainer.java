@@ -0,0 +1,110 @@
+package ru.aqstream.analytics.service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.aqstream.analytics.config.IngestProperties;
+
+/**
+ * Обслуживает дневные секции events_raw.
+ *
+ * <p>Создаёт секции на несколько дней вперёд, чтобы COPY не попадал в default-секцию
+ * (при непустой default-секции создать секцию на её диапазон уже нельзя), и удаляет
+ * секции старше срока хранения — DROP секции вместо DELETE не оставляет мёртвых строк.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RawEventPartitionMaintainer {
+
+    static final String PARTITION_PREFIX = "events_raw_p";
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String CREATE_PARTITION_SQL =
+        "CREATE TABLE IF NOT EXISTS analytics_service.%s PARTITION OF analytics_service.events_raw "
+            + "FOR VALUES FROM ('%s 00:00:00+00') TO ('%s 00:00:00+00')";
+
+    private static final String LIST_PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        JOIN pg_class p ON p.oid = i.inhparent
+        JOIN pg_namespace n ON n.oid = p.relnamespace
+        WHERE n.nspname = 'analytics_service' AND p.relname = 'events_raw'
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IngestProperties ingestProperties;
+
+    /**
+     * Создаёт недостающие и удаляет устаревшие секции. Запускается при старте и раз в час.
+     */
+    @Scheduled(fixedDelayString = "${analytics.ingest.partitions.check-interval:PT1H}")
+    public void maintain() {
+        maintain(LocalDate.now(ZoneOffset.UTC));
+    }
+
+    void maintain(LocalDate today) {
+        IngestProperties.Partitions settings = ingestProperties.getPartitions();
+
+        for (int day = 0; day <= settings.getDaysAhead(); day++) {
+            createPartition(today.plusDays(day));
+        }
+
+        LocalDate oldestKept = today.minusDays(settings.getRetention().toDays());
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+        for (String partition : partitions) {
+            LocalDate day = partitionDay(partition);
+            if (day != null && day.isBefore(oldestKept)) {
+                dropPartition(partition);
+            }
+        }
+    }
+
+    private void createPartition(LocalDate day) {
+        String sql = CREATE_PARTITION_SQL.formatted(partitionName(day), day, day.plusDays(1));
+        try {
+            jdbcTemplate.execute(sql);
+        } catch (DataAccessException e) {
+            // Обычно означает строки этого дня в default-секции: их нужно перенести вручную
+            log.warn("Не удалось создать секцию events_raw: day={}, ошибка={}", day, e.getMessage());
+        }
+    }
+
+    private void dropPartition(String partition) {
+        try {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS analytics_service." + partition);
+            log.info("Удалена устаревшая секция events_raw: {}", partition);
+        } catch (DataAccessException e) {
+            log.warn("Не удалось удалить секцию events_raw: partition={}, ошибка={}",
+                partition, e.getMessage());
+        }
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + SUFFIX_FORMAT.format(day);
+    }
+
+    /**
+     * День секции по имени или null для секций, созданных не этим классом (default).
+     */
+    static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package ru.aqstream.analytics.service;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.stereotype.Component;
+
+/**
+ * Записывает пачку событий в events_raw одним COPY.
+ *
+ * <p>COPY в текстовом формате на порядок быстрее пакетного INSERT: строки передаются
+ * потоком без разбора SQL на каждую строку. Пачка пишется в отдельной транзакции,
+ * метод возвращает управление только после коммита.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RawEventWriter {
+
+    static final String COPY_SQL = "COPY analytics_service.events_raw "
+        + "(message_id, event_type, tenant_id, occurred_at, payload) FROM STDIN";
+
+    private static final String NULL = "\\N";
+
+    private final DataSource dataSource;
+
+    /**
+     * Записывает события и фиксирует транзакцию.
+     *
+     * @param events события
+     * @return количество записанных строк
+     * @throws SQLException если запись или коммит не удались (транзакция откатывается)
+     */
+    public long write(List<RawEvent> events) throws SQLException {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        String rows = encode(events);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                long copied = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(rows));
+                connection.commit();
+                return copied;
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e instanceof SQLException sqlException
+                    ? sqlException
+                    : new SQLException("Ошибка COPY в events_raw", e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Кодирует события в текстовый формат COPY: колонки через табуляцию,
+     * строки через перевод строки, NULL как {@code \N}.
+     */
+    static String encode(List<RawEvent> events) {
+        StringBuilder rows = new StringBuilder(events.size() * 512);
+        for (RawEvent event : events) {
+            appendValue(rows, event.messageId() != null ? event.messageId().toString() : null).append('\t');
+            appendValue(rows, event.eventType()).append('\t');
+            appendValue(rows, event.tenantId() != null ? event.tenantId().toString() : null).append('\t');
+            appendValue(rows, event.occurredAt().toString()).append('\t');
+            appendValue(rows, event.payload()).append('\n');
+        }
+        return rows.toString();
+    }
+
+    private static StringBuilder appendValue(StringBuilder rows, String value) {
+        if (value == null) {
+            return rows.append(NULL);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\t' -> rows.append("\\t");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,92 @@
+package ru.aqstream.analytics.service;
+
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.config.RollupProperties;
+import ru.aqstream.analytics.db.entity.RollupWatermark;
+import ru.aqstream.analytics.db.repository.RegistrationRollupRepository;
+import ru.aqstream.analytics.db.repository.RollupWatermarkRepository;
+
+/**
+ * Переносит новые строки events_raw в счётчики регистраций.
+ *
+ * <p>Обрабатывает events_raw окнами по времени приёма, начиная с сохранённой границы.
+ * Окно захватывает {@code overlap} уже обработанного интервала: строка, закоммиченная
+ * позже сдвига границы, всё равно будет прочитана, а повторно прочитанные факты
+ * отсекаются дедупликацией в {@link RegistrationRollupRepository#rollUp}.
+ * Окно и сдвиг границы выполняются в одной транзакции.</p>
+ */
+@Component
+@Slf4j
+public class RegistrationRollupJob {
+
+    static final String WATERMARK = "registrations";
+
+    private final RegistrationRollupRepository rollupRepository;
+    private final RollupWatermarkRepository watermarkRepository;
+    private final RollupProperties rollupProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public RegistrationRollupJob(
+            RegistrationRollupRepository rollupRepository,
+            RollupWatermarkRepository watermarkRepository,
+            RollupProperties rollupProperties,
+            PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.rollupProperties = rollupProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Догоняет events_raw до текущего момента и удаляет устаревшие минутные корзины.
+     */
+    @Scheduled(fixedDelayString = "${analytics.rollup.interval:PT10S}")
+    public void run() {
+        run(Instant.now());
+    }
+
+    void run(Instant now) {
+        Instant processedUntil;
+        do {
+            processedUntil = transactionTemplate.execute(status -> rollUpWindow(now));
+        } while (processedUntil.isBefore(now));
+
+        Instant minuteCutoff = now.minus(rollupProperties.getMinuteRetention());
+        int purged = rollupRepository.deleteByGranularityBefore(RollupGranularity.MINUTE, minuteCutoff);
+        if (purged > 0) {
+            log.debug("Удалены устаревшие минутные корзины: count={}", purged);
+        }
+    }
+
+    /**
+     * Обрабатывает одно окно и возвращает новую границу.
+     */
+    private Instant rollUpWindow(Instant now) {
+        RollupWatermark watermark = watermarkRepository.findByNameForUpdate(WATERMARK)
+            .orElseGet(() -> watermarkRepository.save(RollupWatermark.create(WATERMARK, now)));
+
+        Instant processedUntil = watermark.getProcessedUntil();
+        if (!processedUntil.isBefore(now)) {
+            return processedUntil;
+        }
+
+        Instant from = processedUntil.minus(rollupProperties.getOverlap());
+        Instant windowEnd = processedUntil.plus(rollupProperties.getMaxWindow());
+        Instant to = windowEnd.isBefore(now) ? windowEnd : now;
+
+        int updated = rollupRepository.rollUp(from, to);
+        watermark.advanceTo(to);
+        watermarkRepository.save(watermark);
+
+        if (updated > 0) {
+            log.debug("Обновлены счётчики регистраций: from={}, to={}, rows={}", from, to, updated);
+        }
+        return to;
+    }
+}
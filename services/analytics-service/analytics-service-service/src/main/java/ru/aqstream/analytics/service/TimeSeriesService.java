@@ -0,0 +1,125 @@
+package ru.aqstream.analytics.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.api.dto.TimeSeriesDto;
+import ru.aqstream.analytics.api.dto.TimeSeriesPointDto;
+import ru.aqstream.analytics.config.RollupProperties;
+import ru.aqstream.analytics.db.entity.RegistrationRollup;
+import ru.aqstream.analytics.db.repository.RegistrationRollupRepository;
+import ru.aqstream.common.api.exception.ValidationException;
+import ru.aqstream.common.security.TenantContext;
+
+/**
+ * Временные ряды регистраций, отмен и check-in.
+ *
+ * <p>Ряд любого уровня читается из заранее просуммированных корзин: не больше одной
+ * строки на корзину, а количество корзин ограничено {@code maxPoints}. Поэтому стоимость
+ * запроса не зависит ни от длины диапазона, ни от количества регистраций.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeSeriesService {
+
+    private final RegistrationRollupRepository rollupRepository;
+    private final RollupProperties rollupProperties;
+
+    /**
+     * Возвращает ряд события текущей организации.
+     *
+     * @param eventId      идентификатор события
+     * @param ticketTypeId тип билета или null — все типы
+     * @param from         начало диапазона
+     * @param to           конец диапазона
+     * @param granularity  размер корзины или null — самый мелкий, укладывающийся в лимит точек
+     * @return ряд с точкой на каждую корзину
+     */
+    public TimeSeriesDto getEventSeries(
+            UUID eventId,
+            UUID ticketTypeId,
+            Instant from,
+            Instant to,
+            RollupGranularity granularity) {
+        UUID ticketType = ticketTypeId != null ? ticketTypeId : RegistrationRollup.ALL;
+        return getSeries(eventId, ticketType, from, to, granularity);
+    }
+
+    /**
+     * Возвращает ряд по всем событиям текущей организации.
+     *
+     * @param from        начало диапазона
+     * @param to          конец диапазона
+     * @param granularity размер корзины или null — самый мелкий, укладывающийся в лимит точек
+     * @return ряд с точкой на каждую корзину
+     */
+    public TimeSeriesDto getTenantSeries(Instant from, Instant to, RollupGranularity granularity) {
+        return getSeries(RegistrationRollup.ALL, RegistrationRollup.ALL, from, to, granularity);
+    }
+
+    private TimeSeriesDto getSeries(
+            UUID eventId,
+            UUID ticketTypeId,
+            Instant from,
+            Instant to,
+            RollupGranularity requested) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ValidationException("Начало диапазона должно быть раньше конца");
+        }
+
+        RollupGranularity granularity = requested != null ? requested : chooseGranularity(from, to);
+        Instant alignedFrom = floor(from, granularity);
+        Instant alignedTo = ceil(to, granularity);
+        long buckets = Duration.between(alignedFrom, alignedTo).dividedBy(granularity.getSize());
+        if (buckets > rollupProperties.getMaxPoints()) {
+            throw new ValidationException("Слишком много точек для " + granularity
+                + ": " + buckets + ", максимум " + rollupProperties.getMaxPoints()
+                + ". Уменьшите диапазон или укрупните корзину");
+        }
+
+        UUID tenantId = TenantContext.getTenantId();
+        Map<Instant, RegistrationRollup> rows = rollupRepository
+            .findSeries(tenantId, eventId, ticketTypeId, granularity, alignedFrom, alignedTo)
+            .stream()
+            .collect(Collectors.toMap(RegistrationRollup::getBucketStart, Function.identity()));
+
+        List<TimeSeriesPointDto> points = new ArrayList<>((int) buckets);
+        for (Instant bucket = alignedFrom; bucket.isBefore(alignedTo); bucket = bucket.plus(granularity.getSize())) {
+            RegistrationRollup row = rows.get(bucket);
+            points.add(row == null
+                ? new TimeSeriesPointDto(bucket, 0, 0, 0)
+                : new TimeSeriesPointDto(bucket, row.getRegistrations(), row.getCancellations(), row.getCheckIns()));
+        }
+        return new TimeSeriesDto(granularity, alignedFrom, alignedTo, points);
+    }
+
+    private RollupGranularity chooseGranularity(Instant from, Instant to) {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            long buckets = Duration.between(floor(from, granularity), ceil(to, granularity))
+                .dividedBy(granularity.getSize());
+            if (buckets <= rollupProperties.getMaxPoints()) {
+                return granularity;
+            }
+        }
+        throw new ValidationException("Диапазон слишком велик: максимум "
+            + rollupProperties.getMaxPoints() + " дней");
+    }
+
+    private static Instant floor(Instant instant, RollupGranularity granularity) {
+        long size = granularity.getSize().getSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(instant.getEpochSecond(), size) * size);
+    }
+
+    private static Instant ceil(Instant instant, RollupGranularity granularity) {
+        Instant floor = floor(instant, granularity);
+        return floor.equals(instant) ? floor : floor.plus(granularity.getSize());
+    }
+}
@@ -0,0 +1,147 @@
+package ru.aqstream.analytics.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbitmq.client.Channel;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import ru.aqstream.analytics.service.PageViewCounter;
+import ru.aqstream.analytics.service.RawEvent;
+import ru.aqstream.analytics.service.RawEventDecoder;
+import ru.aqstream.analytics.service.RawEventWriter;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.EVENT_INGESTION)
+@DisplayName("AnalyticsEventListener")
+class AnalyticsEventListenerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Mock
+    private RawEventWriter writer;
+
+    @Mock
+    private PageViewCounter pageViewCounter;
+
+    @Mock
+    private Channel channel;
+
+    private AnalyticsEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new AnalyticsEventListener(new RawEventDecoder(OBJECT_MAPPER), writer, pageViewCounter);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("подтверждает пачку одним ack после записи")
+    void ingest_ValidBatch_AcksAfterWrite() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        Instant occurredAt = Instant.parse("2026-05-01T10:00:00Z");
+        String json = String.format("{\"eventId\":\"%s\",\"occurredAt\":\"%s\",\"tenantId\":\"%s\"}",
+            UUID.randomUUID(), occurredAt, tenantId);
+        List<Message> messages = List.of(
+            message(1, "registration.created", messageId, OBJECT_MAPPER.writeValueAsString(json)),
+            message(2, "checkin.completed", UUID.randomUUID(), json));
+        when(writer.write(anyList())).thenReturn(2L);
+
+        // when
+        listener.ingest(messages, channel);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RawEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(writer).write(events.capture());
+        assertThat(events.getValue()).hasSize(2);
+        RawEvent first = events.getValue().getFirst();
+        assertThat(first.messageId()).isEqualTo(messageId);
+        assertThat(first.eventType()).isEqualTo("registration.created");
+        assertThat(first.tenantId()).isEqualTo(tenantId);
+        assertThat(first.occurredAt()).isEqualTo(occurredAt);
+        assertThat(first.payload()).isEqualTo(json);
+        verify(channel).basicAck(2, true);
+        verify(pageViewCounter).record(events.getValue());
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("при ошибке записи возвращает пачку в очередь")
+    void ingest_WriteFails_NacksWithRequeue() throws Exception {
+        // given
+        when(writer.write(anyList())).thenThrow(new SQLException("connection refused"));
+
+        // when
+        listener.ingest(List.of(message(7, "event.published", null, "{}")), channel);
+
+        // then
+        verify(channel).basicNack(7, true, true);
+        verify(channel, never()).basicAck(anyLong(), eq(true));
+        verifyNoInteractions(pageViewCounter);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("отклоняет неразборчивое сообщение в DLX и подтверждает остальные")
+    void ingest_MalformedMessage_RejectsOnlyIt() throws Exception {
+        // given
+        when(writer.write(anyList())).thenReturn(1L);
+
+        // when
+        listener.ingest(List.of(
+            message(3, "event.published", null, "{}"),
+            message(4, "event.published", null, "not json")), channel);
+
+        // then
+        verify(channel).basicReject(4, false);
+        verify(channel).basicAck(3, true);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("не пишет пачку, если ни одно сообщение не разобрано")
+    void ingest_AllMalformed_SkipsWrite() throws Exception {
+        // when
+        listener.ingest(List.of(message(5, "event.published", null, "[1, 2]")), channel);
+
+        // then
+        verify(channel).basicReject(5, false);
+        verifyNoInteractions(writer);
+    }
+
+    private static Message message(long deliveryTag, String routingKey, UUID messageId, String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        properties.setReceivedRoutingKey(routingKey);
+        properties.setMessageId(messageId != null ? messageId.toString() : null);
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,146 @@
+package ru.aqstream.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import ru.aqstream.analytics.api.dto.FunnelDto;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.config.PageViewProperties;
+import ru.aqstream.analytics.db.entity.RegistrationRollup;
+import ru.aqstream.analytics.db.repository.RegistrationRollupRepository;
+import ru.aqstream.common.api.exception.ValidationException;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.PAGE_VIEWS)
+@DisplayName("FunnelService")
+class FunnelServiceTest {
+
+    private static final LocalDate FROM = LocalDate.parse("2026-05-01");
+    private static final LocalDate TO = LocalDate.parse("2026-05-02");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLog;
+
+    @Mock
+    private ValueOperations<String, String> values;
+
+    @Mock
+    private RegistrationRollupRepository rollupRepository;
+
+    private FunnelService service;
+    private UUID tenantId;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        service = new FunnelService(redisTemplate, rollupRepository, new PageViewProperties());
+        tenantId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("объединяет HyperLogLog дней периода и считает конверсии")
+    void getEventFunnel_TwoDays_ComputesRates() {
+        // given
+        String[] visitorKeys = {
+            PageViewCounter.visitorsKey(tenantId, eventId, FROM),
+            PageViewCounter.visitorsKey(tenantId, eventId, TO)
+        };
+        List<String> viewKeys = List.of(
+            PageViewCounter.viewsKey(tenantId, eventId, FROM),
+            PageViewCounter.viewsKey(tenantId, eventId, TO));
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLog);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(hyperLogLog.size(visitorKeys)).thenReturn(200L);
+        when(values.multiGet(viewKeys)).thenReturn(Arrays.asList("350", null));
+        when(rollupRepository.findSeries(tenantId, eventId, RegistrationRollup.ALL, RollupGranularity.DAY,
+            Instant.parse("2026-05-01T00:00:00Z"), Instant.parse("2026-05-03T00:00:00Z")))
+            .thenReturn(List.of(rollup(30, 10), rollup(20, 15)));
+
+        // when
+        FunnelDto funnel = service.getEventFunnel(eventId, FROM, TO);
+
+        // then
+        assertThat(funnel.views()).isEqualTo(350);
+        assertThat(funnel.uniqueVisitors()).isEqualTo(200);
+        assertThat(funnel.registrations()).isEqualTo(50);
+        assertThat(funnel.checkIns()).isEqualTo(25);
+        assertThat(funnel.viewToRegistrationRate()).isCloseTo(0.25, within(1e-9));
+        assertThat(funnel.registrationToCheckinRate()).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("без просмотров конверсии равны нулю")
+    void getEventFunnel_NoViews_ZeroRates() {
+        // given
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLog);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(hyperLogLog.size(PageViewCounter.visitorsKey(tenantId, eventId, FROM))).thenReturn(0L);
+        when(values.multiGet(List.of(PageViewCounter.viewsKey(tenantId, eventId, FROM))))
+            .thenReturn(Arrays.asList((String) null));
+        when(rollupRepository.findSeries(tenantId, eventId, RegistrationRollup.ALL, RollupGranularity.DAY,
+            Instant.parse("2026-05-01T00:00:00Z"), Instant.parse("2026-05-02T00:00:00Z")))
+            .thenReturn(List.of());
+
+        // when
+        FunnelDto funnel = service.getEventFunnel(eventId, FROM, FROM);
+
+        // then
+        assertThat(funnel.viewToRegistrationRate()).isZero();
+        assertThat(funnel.registrationToCheckinRate()).isZero();
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("отклоняет период длиннее лимита")
+    void getEventFunnel_TooLongPeriod_ThrowsValidation() {
+        // when / then
+        assertThatThrownBy(() -> service.getEventFunnel(eventId, FROM.minusYears(2), TO))
+            .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(redisTemplate, rollupRepository);
+    }
+
+    private static RegistrationRollup rollup(long registrations, long checkIns) {
+        RegistrationRollup row = mock(RegistrationRollup.class);
+        when(row.getRegistrations()).thenReturn(registrations);
+        when(row.getCheckIns()).thenReturn(checkIns);
+        return row;
+    }
+}
@@ -0,0 +1,125 @@
+package ru.aqstream.analytics.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HyperLogLogOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import ru.aqstream.analytics.config.PageViewProperties;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.PAGE_VIEWS)
+@DisplayName("PageViewCounter")
+class PageViewCounterTest {
+
+    private static final Instant VIEWED_AT = Instant.parse("2026-05-01T10:00:00Z");
+    private static final LocalDate DAY = LocalDate.parse("2026-05-01");
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HyperLogLogOperations<String, String> hyperLogLog;
+
+    @Mock
+    private ValueOperations<String, String> values;
+
+    private PageViewCounter counter;
+    private UUID tenantId;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        counter = new PageViewCounter(redisTemplate, new ObjectMapper(), new PageViewProperties());
+        tenantId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("добавляет посетителей дня в HyperLogLog и увеличивает счётчик просмотров")
+    void record_PageViews_UpdatesSketchAndCounter() {
+        // given
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLog);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        List<RawEvent> events = List.of(
+            view("u:1"),
+            view("u:1"),
+            view("a:2"),
+            new RawEvent(null, "registration.created", tenantId, VIEWED_AT, "{}"));
+
+        // when
+        counter.record(events);
+
+        // then
+        String visitorsKey = PageViewCounter.visitorsKey(tenantId, eventId, DAY);
+        String viewsKey = PageViewCounter.viewsKey(tenantId, eventId, DAY);
+        verify(hyperLogLog).add(visitorsKey, "u:1", "u:1", "a:2");
+        verify(values).increment(viewsKey, 3L);
+        verify(redisTemplate).expire(visitorsKey, Duration.ofDays(400));
+        verify(redisTemplate).expire(viewsKey, Duration.ofDays(400));
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("пачка без просмотров не обращается к Redis")
+    void record_NoPageViews_SkipsRedis() {
+        // given
+        List<RawEvent> events = List.of(
+            new RawEvent(null, "registration.created", tenantId, VIEWED_AT, "{}"),
+            new RawEvent(null, PageViewCounter.EVENT_TYPE, tenantId, VIEWED_AT, "{\"eventId\":\"bad\"}"));
+
+        // when
+        counter.record(events);
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("недоступность Redis не прерывает приём событий")
+    void record_RedisDown_DoesNotThrow() {
+        // given
+        when(redisTemplate.opsForHyperLogLog()).thenReturn(hyperLogLog);
+        when(hyperLogLog.add(anyString(), any(String[].class)))
+            .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        counter.record(List.of(view("u:1")));
+
+        // then
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+        verifyNoInteractions(values);
+    }
+
+    private RawEvent view(String visitorId) {
+        String payload = String.format("{\"eventId\":\"%s\",\"tenantId\":\"%s\",\"visitorId\":\"%s\"}",
+            eventId, tenantId, visitorId);
+        return new RawEvent(null, PageViewCounter.EVENT_TYPE, tenantId, VIEWED_AT, payload);
+    }
+}
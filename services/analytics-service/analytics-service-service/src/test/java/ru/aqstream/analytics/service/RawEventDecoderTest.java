@@ -0,0 +1,99 @@
+package ru.aqstream.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.EVENT_INGESTION)
+@DisplayName("RawEventDecoder")
+class RawEventDecoderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final RawEventDecoder decoder = new RawEventDecoder(OBJECT_MAPPER);
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("экранированный обратный слеш перед u0000 не считается нулевым символом")
+    void decode_EscapedBackslashBeforeU0000_Accepted() {
+        // given
+        // JSON: {"path":"C:\\u0000"} — обратный слеш и текст u0000, без нулевого символа
+        String json = "{\"path\":\"C:\\\\u0000\"}";
+
+        // when
+        RawEvent event = decoder.decode(message(json));
+
+        // then
+        assertThat(event.payload()).isEqualTo(json);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("нулевой символ в значении отклоняется")
+    void decode_NulInValue_ThrowsException() {
+        // given
+        String json = "{\"name\":\"a\\u0000b\"}";
+
+        // when/then
+        assertThatThrownBy(() -> decoder.decode(message(json)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("u0000");
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("нулевой символ во вложенном массиве отклоняется")
+    void decode_NulInNestedArray_ThrowsException() {
+        // given
+        String json = "{\"answers\":[{\"value\":\"ok\"},{\"value\":\"\\u0000\"}]}";
+
+        // when/then
+        assertThatThrownBy(() -> decoder.decode(message(json)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("нулевой символ в имени поля отклоняется")
+    void decode_NulInFieldName_ThrowsException() {
+        // given
+        String json = "{\"a\\u0000\":1}";
+
+        // when/then
+        assertThatThrownBy(() -> decoder.decode(message(json)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("нулевой символ в payload, сериализованном строкой, отклоняется")
+    void decode_NulInDoubleEncodedPayload_ThrowsException() throws Exception {
+        // given
+        String body = OBJECT_MAPPER.writeValueAsString("{\"name\":\"a\\u0000b\"}");
+
+        // when/then
+        assertThatThrownBy(() -> decoder.decode(message(body)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Message message(String body) {
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey("event.published");
+        return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
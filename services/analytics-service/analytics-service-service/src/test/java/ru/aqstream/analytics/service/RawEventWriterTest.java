@@ -0,0 +1,74 @@
+package ru.aqstream.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.EVENT_INGESTION)
+@DisplayName("RawEventWriter")
+class RawEventWriterTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("кодирует строку COPY с табуляцией между колонками и \\N для NULL")
+    void encode_Event_WritesTabSeparatedRow() {
+        // given
+        UUID messageId = UUID.randomUUID();
+        Instant occurredAt = Instant.parse("2026-05-01T10:00:00Z");
+        RawEvent event = new RawEvent(messageId, "event.published", null, occurredAt, "{\"a\":1}");
+
+        // when
+        String rows = RawEventWriter.encode(List.of(event));
+
+        // then
+        assertThat(rows).isEqualTo(messageId + "\tevent.published\t\\N\t2026-05-01T10:00:00Z\t{\"a\":1}\n");
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("экранирует обратную косую черту, табуляцию и переводы строк в payload")
+    void encode_SpecialCharacters_AreEscaped() {
+        // given
+        String payload = "{\"text\":\"a\\\"b\",\n\t\"path\":\"c:\\\\d\"}\r";
+        RawEvent event = new RawEvent(null, "event.updated", null, Instant.EPOCH, payload);
+
+        // when
+        String rows = RawEventWriter.encode(List.of(event));
+
+        // then
+        String encodedPayload = rows.substring(rows.lastIndexOf('\t') + 1);
+        assertThat(encodedPayload)
+            .isEqualTo("{\"text\":\"a\\\\\"b\",\\n\\t\"path\":\"c:\\\\\\\\d\"}\\r\n");
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("пустая пачка не берёт соединение")
+    void write_EmptyBatch_SkipsConnection() throws Exception {
+        // when
+        long written = new RawEventWriter(dataSource).write(List.of());
+
+        // then
+        assertThat(written).isZero();
+        verifyNoInteractions(dataSource);
+    }
+}
@@ -0,0 +1,102 @@
+package ru.aqstream.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.config.RollupProperties;
+import ru.aqstream.analytics.db.entity.RollupWatermark;
+import ru.aqstream.analytics.db.repository.RegistrationRollupRepository;
+import ru.aqstream.analytics.db.repository.RollupWatermarkRepository;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.TIME_SERIES)
+@DisplayName("RegistrationRollupJob")
+class RegistrationRollupJobTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-01T12:00:00Z");
+
+    @Mock
+    private RegistrationRollupRepository rollupRepository;
+
+    @Mock
+    private RollupWatermarkRepository watermarkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistrationRollupJob job;
+
+    @BeforeEach
+    void setUp() {
+        RollupProperties properties = new RollupProperties();
+        properties.setOverlap(Duration.ofMinutes(2));
+        properties.setMaxWindow(Duration.ofHours(1));
+        properties.setMinuteRetention(Duration.ofDays(30));
+        job = new RegistrationRollupJob(rollupRepository, watermarkRepository, properties, transactionManager);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("догоняет отставание окнами с перекрытием и сдвигает границу до текущего момента")
+    void run_Backlog_ProcessesOverlappingWindows() {
+        // given
+        RollupWatermark watermark = RollupWatermark.create(RegistrationRollupJob.WATERMARK,
+            NOW.minus(Duration.ofMinutes(150)));
+        when(watermarkRepository.findByNameForUpdate(RegistrationRollupJob.WATERMARK))
+            .thenReturn(Optional.of(watermark));
+
+        // when
+        job.run(NOW);
+
+        // then
+        InOrder order = inOrder(rollupRepository);
+        order.verify(rollupRepository).rollUp(
+            Instant.parse("2026-05-01T09:28:00Z"), Instant.parse("2026-05-01T10:30:00Z"));
+        order.verify(rollupRepository).rollUp(
+            Instant.parse("2026-05-01T10:28:00Z"), Instant.parse("2026-05-01T11:30:00Z"));
+        order.verify(rollupRepository).rollUp(
+            Instant.parse("2026-05-01T11:28:00Z"), NOW);
+        assertThat(watermark.getProcessedUntil()).isEqualTo(NOW);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("удаляет минутные корзины старше срока хранения")
+    void run_PurgesExpiredMinuteBuckets() {
+        // given
+        RollupWatermark watermark = RollupWatermark.create(RegistrationRollupJob.WATERMARK, NOW);
+        when(watermarkRepository.findByNameForUpdate(RegistrationRollupJob.WATERMARK))
+            .thenReturn(Optional.of(watermark));
+
+        // when
+        job.run(NOW);
+
+        // then
+        verify(rollupRepository, never()).rollUp(any(), any());
+        verify(rollupRepository).deleteByGranularityBefore(
+            eq(RollupGranularity.MINUTE), eq(NOW.minus(Duration.ofDays(30))));
+    }
+}
@@ -0,0 +1,194 @@
+package ru.aqstream.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import ru.aqstream.analytics.api.dto.RollupGranularity;
+import ru.aqstream.analytics.api.dto.TimeSeriesDto;
+import ru.aqstream.analytics.api.dto.TimeSeriesPointDto;
+import ru.aqstream.analytics.config.RollupProperties;
+import ru.aqstream.analytics.db.entity.RegistrationRollup;
+import ru.aqstream.analytics.db.repository.RegistrationRollupRepository;
+import ru.aqstream.common.api.exception.ValidationException;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.TIME_SERIES)
+@DisplayName("TimeSeriesService")
+class TimeSeriesServiceTest {
+
+    @Mock
+    private RegistrationRollupRepository rollupRepository;
+
+    private TimeSeriesService service;
+    private UUID tenantId;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        RollupProperties properties = new RollupProperties();
+        properties.setMaxPoints(100);
+        service = new TimeSeriesService(rollupRepository, properties);
+        tenantId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Nested
+    @DisplayName("getEventSeries")
+    class GetEventSeries {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("заполняет пустые корзины нулями")
+        void getEventSeries_SparseRows_ReturnsDensePoints() {
+            // given
+            Instant from = Instant.parse("2026-05-01T10:00:00Z");
+            Instant to = Instant.parse("2026-05-01T14:00:00Z");
+            RegistrationRollup row = rollup(Instant.parse("2026-05-01T12:00:00Z"), 5, 1, 3);
+            when(rollupRepository.findSeries(
+                tenantId, eventId, RegistrationRollup.ALL, RollupGranularity.HOUR, from, to))
+                .thenReturn(List.of(row));
+
+            // when
+            TimeSeriesDto series = service.getEventSeries(eventId, null, from, to, RollupGranularity.HOUR);
+
+            // then
+            assertThat(series.points()).containsExactly(
+                new TimeSeriesPointDto(Instant.parse("2026-05-01T10:00:00Z"), 0, 0, 0),
+                new TimeSeriesPointDto(Instant.parse("2026-05-01T11:00:00Z"), 0, 0, 0),
+                new TimeSeriesPointDto(Instant.parse("2026-05-01T12:00:00Z"), 5, 1, 3),
+                new TimeSeriesPointDto(Instant.parse("2026-05-01T13:00:00Z"), 0, 0, 0));
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("выравнивает диапазон по границам корзин")
+        void getEventSeries_UnalignedRange_AlignsToBuckets() {
+            // given
+            Instant from = Instant.parse("2026-05-01T10:15:30Z");
+            Instant to = Instant.parse("2026-05-01T11:05:00Z");
+            Instant alignedFrom = Instant.parse("2026-05-01T10:00:00Z");
+            Instant alignedTo = Instant.parse("2026-05-01T12:00:00Z");
+            UUID ticketTypeId = UUID.randomUUID();
+            when(rollupRepository.findSeries(
+                tenantId, eventId, ticketTypeId, RollupGranularity.HOUR, alignedFrom, alignedTo))
+                .thenReturn(List.of());
+
+            // when
+            TimeSeriesDto series = service.getEventSeries(eventId, ticketTypeId, from, to, RollupGranularity.HOUR);
+
+            // then
+            assertThat(series.from()).isEqualTo(alignedFrom);
+            assertThat(series.to()).isEqualTo(alignedTo);
+            assertThat(series.points()).hasSize(2);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("без granularity выбирает самую мелкую корзину в пределах лимита точек")
+        void getEventSeries_NoGranularity_ChoosesSmallestWithinLimit() {
+            // given
+            Instant from = Instant.parse("2026-05-01T00:00:00Z");
+            Instant to = Instant.parse("2026-05-03T00:00:00Z");
+            when(rollupRepository.findSeries(
+                tenantId, eventId, RegistrationRollup.ALL, RollupGranularity.HOUR, from, to))
+                .thenReturn(List.of());
+
+            // when
+            TimeSeriesDto series = service.getEventSeries(eventId, null, from, to, null);
+
+            // then
+            assertThat(series.granularity()).isEqualTo(RollupGranularity.HOUR);
+            assertThat(series.points()).hasSize(48);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("отклоняет явную корзину, дающую больше точек, чем лимит")
+        void getEventSeries_TooManyPoints_ThrowsValidation() {
+            // given
+            Instant from = Instant.parse("2026-05-01T00:00:00Z");
+            Instant to = Instant.parse("2026-05-02T00:00:00Z");
+
+            // when / then
+            assertThatThrownBy(() -> service.getEventSeries(eventId, null, from, to, RollupGranularity.MINUTE))
+                .isInstanceOf(ValidationException.class);
+            verifyNoInteractions(rollupRepository);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("отклоняет пустой диапазон")
+        void getEventSeries_FromNotBeforeTo_ThrowsValidation() {
+            // given
+            Instant at = Instant.parse("2026-05-01T00:00:00Z");
+
+            // when / then
+            assertThatThrownBy(() -> service.getEventSeries(eventId, null, at, at, null))
+                .isInstanceOf(ValidationException.class);
+            verifyNoInteractions(rollupRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("getTenantSeries")
+    class GetTenantSeries {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("читает суммы по всем событиям текущей организации")
+        void getTenantSeries_ReadsTenantTotals() {
+            // given
+            Instant from = Instant.parse("2026-05-01T00:00:00Z");
+            Instant to = Instant.parse("2026-05-02T00:00:00Z");
+            when(rollupRepository.findSeries(
+                tenantId, RegistrationRollup.ALL, RegistrationRollup.ALL, RollupGranularity.DAY, from, to))
+                .thenReturn(List.of());
+
+            // when
+            TimeSeriesDto series = service.getTenantSeries(from, to, RollupGranularity.DAY);
+
+            // then
+            assertThat(series.points()).containsExactly(new TimeSeriesPointDto(from, 0, 0, 0));
+            verify(rollupRepository).findSeries(
+                tenantId, RegistrationRollup.ALL, RegistrationRollup.ALL, RollupGranularity.DAY, from, to);
+        }
+    }
+
+    private static RegistrationRollup rollup(Instant bucketStart, long registrations, long cancellations,
+                                             long checkIns) {
+        RegistrationRollup row = mock(RegistrationRollup.class);
+        when(row.getBucketStart()).thenReturn(bucketStart);
+        when(row.getRegistrations()).thenReturn(registrations);
+        when(row.getCancellations()).thenReturn(cancellations);
+        when(row.getCheckIns()).thenReturn(checkIns);
+        return row;
+    }
+}
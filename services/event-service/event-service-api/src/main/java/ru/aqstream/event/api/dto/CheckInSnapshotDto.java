@@ -0,0 +1,24 @@
+package ru.aqstream.event.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Снимок кодов подтверждения события для офлайн-сканера.
+ *
+ * <p>Полный снимок содержит все регистрации события, дельта — только изменённые
+ * с переданной версии. Сканер заменяет записи по {@code confirmationCode}
+ * и при следующей синхронизации передаёт полученную {@code version}.</p>
+ *
+ * @param eventId идентификатор события
+ * @param version версия снимка для запроса следующей дельты
+ * @param delta   true если снимок содержит только изменения
+ * @param entries регистрации
+ */
+public record CheckInSnapshotDto(
+    UUID eventId,
+    long version,
+    boolean delta,
+    List<CheckInSnapshotEntryDto> entries
+) {
+}
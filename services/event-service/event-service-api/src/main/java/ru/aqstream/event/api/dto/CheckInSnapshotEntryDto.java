@@ -0,0 +1,26 @@
+package ru.aqstream.event.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Регистрация в снимке офлайн-сканера.
+ *
+ * @param confirmationCode код подтверждения
+ * @param registrationId   идентификатор регистрации
+ * @param status           статус регистрации
+ * @param checkedInAt      время check-in (null если не выполнен)
+ * @param firstName        имя участника
+ * @param lastName         фамилия участника
+ * @param ticketTypeName   название типа билета
+ */
+public record CheckInSnapshotEntryDto(
+    String confirmationCode,
+    UUID registrationId,
+    RegistrationStatus status,
+    Instant checkedInAt,
+    String firstName,
+    String lastName,
+    String ticketTypeName
+) {
+}
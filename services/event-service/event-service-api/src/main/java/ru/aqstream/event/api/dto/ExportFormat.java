@@ -0,0 +1,43 @@
+package ru.aqstream.event.api.dto;
+
+/**
+ * Формат выгрузки списка участников.
+ */
+public enum ExportFormat {
+
+    /**
+     * CSV (RFC 4180) в UTF-8 с BOM, чтобы Excel распознал кодировку.
+     */
+    CSV("text/csv; charset=UTF-8", "csv"),
+
+    /**
+     * Книга Excel (Office Open XML).
+     */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * Возвращает Content-Type ответа.
+     *
+     * @return MIME-тип
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Возвращает расширение файла без точки.
+     *
+     * @return расширение
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
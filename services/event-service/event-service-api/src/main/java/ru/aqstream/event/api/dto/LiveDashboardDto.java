@@ -0,0 +1,59 @@
+package ru.aqstream.event.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Живые счётчики dashboard организатора, отправляемые через SSE.
+ *
+ * <p>Содержит опубликованные незавершённые события организации с остатками билетов.</p>
+ *
+ * @param generatedAt время формирования снимка
+ * @param events      события по возрастанию даты начала
+ */
+public record LiveDashboardDto(
+    Instant generatedAt,
+    List<EventStats> events
+) {
+
+    /**
+     * Счётчики одного события.
+     *
+     * @param eventId       идентификатор события
+     * @param title         название события
+     * @param registrations подтверждённые регистрации
+     * @param reserved      забронированные, но не оплаченные билеты
+     * @param checkIns      выполненные check-in
+     * @param ticketTypes   остатки по типам билетов
+     */
+    public record EventStats(
+        UUID eventId,
+        String title,
+        long registrations,
+        long reserved,
+        long checkIns,
+        List<TicketTypeStats> ticketTypes
+    ) {
+    }
+
+    /**
+     * Остаток по типу билета.
+     *
+     * @param ticketTypeId идентификатор типа билета
+     * @param name         название типа билета
+     * @param quantity     общее количество (null — без ограничения)
+     * @param sold         продано
+     * @param reserved     забронировано
+     * @param remaining    осталось (null — без ограничения)
+     */
+    public record TicketTypeStats(
+        UUID ticketTypeId,
+        String name,
+        Integer quantity,
+        int sold,
+        int reserved,
+        Integer remaining
+    ) {
+    }
+}
@@ -0,0 +1,27 @@
+package ru.aqstream.event.api.dto;
+
+/**
+ * Результат применения офлайн-скана.
+ */
+public enum OfflineCheckInOutcome {
+
+    /**
+     * Check-in выполнен этим сканом (в том числе при повторной отправке пачки).
+     */
+    CHECKED_IN,
+
+    /**
+     * Участник уже прошёл check-in раньше — другим сканом или на другом устройстве.
+     */
+    ALREADY_CHECKED_IN,
+
+    /**
+     * Регистрация не подтверждена (например, отменена после загрузки снимка).
+     */
+    NOT_ALLOWED,
+
+    /**
+     * Код не найден среди регистраций события.
+     */
+    NOT_FOUND
+}
@@ -0,0 +1,38 @@
+package ru.aqstream.event.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Пачка check-in, выполненных сканером без связи.
+ *
+ * <p>Повторная отправка той же пачки безопасна: уже применённые сканы
+ * возвращаются с результатом {@link OfflineCheckInOutcome#CHECKED_IN}.</p>
+ *
+ * @param scans сканы в порядке выполнения
+ */
+public record OfflineCheckInRequest(
+    @NotEmpty(message = "Пачка должна содержать хотя бы один скан")
+    @Size(max = 1000, message = "Пачка не должна превышать 1000 сканов")
+    List<@Valid Scan> scans
+) {
+
+    /**
+     * Скан кода.
+     *
+     * @param confirmationCode код подтверждения
+     * @param scannedAt        время скана на устройстве
+     */
+    public record Scan(
+        @NotBlank(message = "Код подтверждения обязателен")
+        String confirmationCode,
+        @NotNull(message = "Время скана обязательно")
+        Instant scannedAt
+    ) {
+    }
+}
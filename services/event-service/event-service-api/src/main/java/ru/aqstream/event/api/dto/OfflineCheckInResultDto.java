@@ -0,0 +1,35 @@
+package ru.aqstream.event.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Результат загрузки пачки офлайн check-in.
+ *
+ * @param appliedCount количество регистраций, отмеченных этим запросом
+ * @param results      результаты по каждому скану в порядке запроса
+ */
+public record OfflineCheckInResultDto(
+    int appliedCount,
+    List<ScanResult> results
+) {
+
+    /**
+     * Результат скана. Для конфликтов содержит фактическое состояние регистрации.
+     *
+     * @param confirmationCode код подтверждения
+     * @param outcome          результат
+     * @param registrationId   идентификатор регистрации (null если код не найден)
+     * @param status           статус регистрации (null если код не найден)
+     * @param checkedInAt      фактическое время check-in (null если не выполнен)
+     */
+    public record ScanResult(
+        String confirmationCode,
+        OfflineCheckInOutcome outcome,
+        UUID registrationId,
+        RegistrationStatus status,
+        Instant checkedInAt
+    ) {
+    }
+}
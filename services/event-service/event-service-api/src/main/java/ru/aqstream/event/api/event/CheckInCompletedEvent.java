@@ -0,0 +1,81 @@
+package ru.aqstream.event.api.event;
+
+import java.time.Instant;
+import java.util.UUID;
+import ru.aqstream.common.api.event.DomainEvent;
+
+/**
+ * Событие check-in участника.
+ * Используется аналитикой для кривой прихода участников.
+ */
+public class CheckInCompletedEvent extends DomainEvent {
+
+    private final UUID registrationId;
+    private final UUID eventId;
+    private final UUID tenantId;
+    private final UUID ticketTypeId;
+    private final Instant checkedInAt;
+
+    /**
+     * Создаёт событие check-in.
+     *
+     * @param registrationId идентификатор регистрации
+     * @param eventId        идентификатор события
+     * @param tenantId       идентификатор организации
+     * @param ticketTypeId   идентификатор типа билета
+     * @param checkedInAt    время check-in (для офлайн-сканера — время скана)
+     */
+    public CheckInCompletedEvent(
+            UUID registrationId,
+            UUID eventId,
+            UUID tenantId,
+            UUID ticketTypeId,
+            Instant checkedInAt
+    ) {
+        super();
+        this.registrationId = registrationId;
+        this.eventId = eventId;
+        this.tenantId = tenantId;
+        this.ticketTypeId = ticketTypeId;
+        this.checkedInAt = checkedInAt;
+    }
+
+    public UUID getRegistrationId() {
+        return registrationId;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public UUID getTicketTypeId() {
+        return ticketTypeId;
+    }
+
+    public Instant getCheckedInAt() {
+        return checkedInAt;
+    }
+
+    /**
+     * Время события — фактическое время check-in, а не время публикации:
+     * офлайн-сканы загружаются с задержкой, но должны попасть в свою минуту.
+     */
+    @Override
+    public Instant getOccurredAt() {
+        return checkedInAt;
+    }
+
+    @Override
+    public String getEventType() {
+        return "checkin.completed";
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return registrationId;
+    }
+}
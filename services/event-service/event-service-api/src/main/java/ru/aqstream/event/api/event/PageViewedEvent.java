@@ -0,0 +1,53 @@
+package ru.aqstream.event.api.event;
+
+import java.util.UUID;
+import ru.aqstream.common.api.event.DomainEvent;
+
+/**
+ * Событие просмотра публичной страницы мероприятия.
+ *
+ * <p>Отправляется в RabbitMQ напрямую, без outbox: потеря отдельного просмотра
+ * допустима, а запись в БД на каждый просмотр — нет.</p>
+ */
+public class PageViewedEvent extends DomainEvent {
+
+    private final UUID eventId;
+    private final UUID tenantId;
+    private final String visitorId;
+
+    /**
+     * Создаёт событие просмотра.
+     *
+     * @param eventId   идентификатор мероприятия
+     * @param tenantId  идентификатор организации
+     * @param visitorId псевдонимный идентификатор посетителя
+     */
+    public PageViewedEvent(UUID eventId, UUID tenantId, String visitorId) {
+        super();
+        this.eventId = eventId;
+        this.tenantId = tenantId;
+        this.visitorId = visitorId;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    public String getVisitorId() {
+        return visitorId;
+    }
+
+    @Override
+    public String getEventType() {
+        return "page.viewed";
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return eventId;
+    }
+}
@@ -17,6 +17,7 @@ public class RegistrationCancelledEvent extends DomainEvent {
     private final String eventTitle;
     private final String eventSlug;
     private final Instant eventStartsAt;
+    private final UUID ticketTypeId;
     private final String ticketTypeName;
     private final String firstName;
     private final String lastName;
@@ -34,6 +35,7 @@ public class RegistrationCancelledEvent extends DomainEvent {
      * @param eventTitle          название события
      * @param eventSlug           slug события
      * @param eventStartsAt       дата начала события
+     * @param ticketTypeId        идентификатор типа билета
      * @param ticketTypeName      название типа билета
      * @param firstName           имя участника
      * @param lastName            фамилия участника
@@ -49,6 +51,7 @@ public class RegistrationCancelledEvent extends DomainEvent {
             String eventTitle,
             String eventSlug,
             Instant eventStartsAt,
+            UUID ticketTypeId,
             String ticketTypeName,
             String firstName,
             String lastName,
@@ -64,6 +67,7 @@ public class RegistrationCancelledEvent extends DomainEvent {
         this.eventTitle = eventTitle;
         this.eventSlug = eventSlug;
         this.eventStartsAt = eventStartsAt;
+        this.ticketTypeId = ticketTypeId;
         this.ticketTypeName = ticketTypeName;
         this.firstName = firstName;
         this.lastName = lastName;
@@ -100,6 +104,10 @@ public class RegistrationCancelledEvent extends DomainEvent {
         return eventStartsAt;
     }
 
+    public UUID getTicketTypeId() {
+        return ticketTypeId;
+    }
+
     public String getTicketTypeName() {
         return ticketTypeName;
     }
@@ -17,6 +17,7 @@ public class RegistrationCreatedEvent extends DomainEvent {
     private final String eventTitle;
     private final String eventSlug;
     private final Instant eventStartsAt;
+    private final UUID ticketTypeId;
     private final String ticketTypeName;
     private final String confirmationCode;
     private final String firstName;
@@ -33,6 +34,7 @@ public class RegistrationCreatedEvent extends DomainEvent {
      * @param eventTitle       название события
      * @param eventSlug        slug события
      * @param eventStartsAt    дата начала события
+     * @param ticketTypeId     идентификатор типа билета
      * @param ticketTypeName   название типа билета
      * @param confirmationCode код подтверждения
      * @param firstName        имя участника
@@ -47,6 +49,7 @@ public class RegistrationCreatedEvent extends DomainEvent {
             String eventTitle,
             String eventSlug,
             Instant eventStartsAt,
+            UUID ticketTypeId,
             String ticketTypeName,
             String confirmationCode,
             String firstName,
@@ -61,6 +64,7 @@ public class RegistrationCreatedEvent extends DomainEvent {
         this.eventTitle = eventTitle;
         this.eventSlug = eventSlug;
         this.eventStartsAt = eventStartsAt;
+        this.ticketTypeId = ticketTypeId;
         this.ticketTypeName = ticketTypeName;
         this.confirmationCode = confirmationCode;
         this.firstName = firstName;
@@ -96,6 +100,10 @@ public class RegistrationCreatedEvent extends DomainEvent {
         return eventStartsAt;
     }
 
+    public UUID getTicketTypeId() {
+        return ticketTypeId;
+    }
+
     public String getTicketTypeName() {
         return ticketTypeName;
     }
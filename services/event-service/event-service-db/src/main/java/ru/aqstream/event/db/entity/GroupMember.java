@@ -0,0 +1,54 @@
+package ru.aqstream.event.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Членство пользователя в группе — локальная копия из user-service.
+ *
+ * <p>Заполняется событиями group.member.* и ответами user-service при промахе.
+ * Запись с {@code member = false} фиксирует выход из группы, чтобы запоздавшее
+ * событие добавления не восстановило членство. Изменяется только через
+ * {@link ru.aqstream.event.db.repository.GroupMemberRepository#upsert}.</p>
+ */
+@Entity
+@Table(name = "group_members", schema = "event_service")
+@IdClass(GroupMember.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupMember {
+
+    @Id
+    @Column(name = "group_id", nullable = false, updatable = false)
+    private UUID groupId;
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "member", nullable = false)
+    private boolean member;
+
+    /**
+     * Момент изменения в user-service.
+     */
+    @Column(name = "version", nullable = false)
+    private Instant version;
+
+    /**
+     * Составной ключ.
+     *
+     * @param groupId идентификатор группы
+     * @param userId  идентификатор пользователя
+     */
+    public record Key(UUID groupId, UUID userId) implements Serializable { }
+}
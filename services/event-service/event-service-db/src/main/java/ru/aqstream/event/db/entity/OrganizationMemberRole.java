@@ -0,0 +1,57 @@
+package ru.aqstream.event.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Роль пользователя в организации — локальная копия из user-service.
+ *
+ * <p>Заполняется событиями organization.member.* и ответами user-service
+ * при промахе. Запись с {@code role = null} означает, что пользователь
+ * не является членом организации. Изменяется только через
+ * {@link ru.aqstream.event.db.repository.OrganizationMemberRoleRepository#upsert}.</p>
+ */
+@Entity
+@Table(name = "organization_member_roles", schema = "event_service")
+@IdClass(OrganizationMemberRole.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrganizationMemberRole {
+
+    @Id
+    @Column(name = "organization_id", nullable = false, updatable = false)
+    private UUID organizationId;
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    /**
+     * Роль (OWNER, MODERATOR) или null, если пользователь не член организации.
+     */
+    @Column(name = "role", length = 20)
+    private String role;
+
+    /**
+     * Момент изменения в user-service.
+     */
+    @Column(name = "version", nullable = false)
+    private Instant version;
+
+    /**
+     * Составной ключ.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор пользователя
+     */
+    public record Key(UUID organizationId, UUID userId) implements Serializable { }
+}
@@ -130,6 +130,28 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
         @Param("statuses") Set<EventStatus> statuses
     );
 
+    /**
+     * Находит идентификаторы публичного события по slug без загрузки сущности.
+     * Используется для учёта просмотров страницы события.
+     *
+     * @param slug URL-slug события
+     * @return идентификаторы события или empty
+     */
+    default Optional<PublicEventRef> findPublicRefBySlug(String slug) {
+        return findPublicRefBySlugAndStatuses(slug, PUBLIC_VISIBLE_STATUSES);
+    }
+
+    /**
+     * Находит идентификаторы публичного события по slug с указанными статусами.
+     */
+    @Query("SELECT e.id AS id, e.tenantId AS tenantId FROM Event e WHERE e.slug = :slug "
+        + "AND e.isPublic = true "
+        + "AND e.status IN :statuses")
+    Optional<PublicEventRef> findPublicRefBySlugAndStatuses(
+        @Param("slug") String slug,
+        @Param("statuses") Set<EventStatus> statuses
+    );
+
     /**
      * Возвращает публичные опубликованные события.
      *
@@ -267,4 +289,14 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
         @Param("from") Instant from,
         @Param("to") Instant to
     );
+
+    /**
+     * Идентификаторы публичного события.
+     */
+    interface PublicEventRef {
+
+        UUID getId();
+
+        UUID getTenantId();
+    }
 }
@@ -0,0 +1,54 @@
+package ru.aqstream.event.db.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.event.db.entity.GroupMember;
+
+/**
+ * Репозиторий локальной копии членства в группах.
+ */
+@Repository
+public interface GroupMemberRepository extends JpaRepository<GroupMember, GroupMember.Key> {
+
+    /**
+     * Сохраняет членство, если version новее сохранённой.
+     *
+     * @param groupId идентификатор группы
+     * @param userId  идентификатор пользователя
+     * @param member  true если пользователь член группы
+     * @param version момент изменения
+     * @return 1 если запись изменена, 0 если сохранённая версия новее
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO event_service.group_members (group_id, user_id, member, version)
+        VALUES (:groupId, :userId, :member, :version)
+        ON CONFLICT (group_id, user_id) DO UPDATE
+        SET member = EXCLUDED.member, version = EXCLUDED.version
+        WHERE group_members.version < EXCLUDED.version
+        """, nativeQuery = true)
+    int upsert(
+        @Param("groupId") UUID groupId,
+        @Param("userId") UUID userId,
+        @Param("member") boolean member,
+        @Param("version") Instant version
+    );
+
+    /**
+     * Удаляет всё членство группы (при удалении группы).
+     *
+     * @param groupId идентификатор группы
+     * @return количество удалённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM GroupMember m WHERE m.groupId = :groupId")
+    int deleteByGroupId(@Param("groupId") UUID groupId);
+}
@@ -0,0 +1,56 @@
+package ru.aqstream.event.db.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.event.db.entity.OrganizationMemberRole;
+
+/**
+ * Репозиторий локальной копии ролей в организациях.
+ */
+@Repository
+public interface OrganizationMemberRoleRepository
+    extends JpaRepository<OrganizationMemberRole, OrganizationMemberRole.Key> {
+
+    /**
+     * Сохраняет роль, если version новее сохранённой.
+     * События могут прийти не по порядку — более старое изменение игнорируется.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор пользователя
+     * @param role           роль или null, если пользователь не член организации
+     * @param version        момент изменения
+     * @return 1 если запись изменена, 0 если сохранённая версия новее
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO event_service.organization_member_roles (organization_id, user_id, role, version)
+        VALUES (:organizationId, :userId, :role, :version)
+        ON CONFLICT (organization_id, user_id) DO UPDATE
+        SET role = EXCLUDED.role, version = EXCLUDED.version
+        WHERE organization_member_roles.version < EXCLUDED.version
+        """, nativeQuery = true)
+    int upsert(
+        @Param("organizationId") UUID organizationId,
+        @Param("userId") UUID userId,
+        @Param("role") String role,
+        @Param("version") Instant version
+    );
+
+    /**
+     * Удаляет все роли организации (при удалении организации).
+     *
+     * @param organizationId идентификатор организации
+     * @return количество удалённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OrganizationMemberRole r WHERE r.organizationId = :organizationId")
+    int deleteByOrganizationId(@Param("organizationId") UUID organizationId);
+}
@@ -1,5 +1,7 @@
 package ru.aqstream.event.db.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,9 +9,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.event.api.dto.CheckInInfoDto;
 import ru.aqstream.event.api.dto.RegistrationStatus;
 import ru.aqstream.event.db.entity.Registration;
 
@@ -20,6 +25,11 @@ import ru.aqstream.event.db.entity.Registration;
 @Repository
 public interface RegistrationRepository extends JpaRepository<Registration, UUID> {
 
+    String CHECK_IN_ENTRY_SELECT = "SELECT r.id AS registrationId, r.confirmationCode AS confirmationCode, "
+        + "r.status AS status, r.checkedInAt AS checkedInAt, r.firstName AS firstName, r.lastName AS lastName, "
+        + "t.name AS ticketTypeName, e.title AS eventTitle "
+        + "FROM Registration r JOIN r.ticketType t JOIN r.event e ";
+
     // === Поиск по ID ===
 
     /**
@@ -54,6 +64,31 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
     @EntityGraph(attributePaths = {"event", "ticketType"})
     Optional<Registration> findByConfirmationCode(String confirmationCode);
 
+    /**
+     * Находит регистрацию по ID вместе с событием и типом билета (cross-tenant).
+     * Используется внутренним API, где регистрация сразу преобразуется в DTO.
+     *
+     * @param id идентификатор регистрации
+     * @return регистрация или empty
+     */
+    @EntityGraph(attributePaths = {"event", "ticketType"})
+    @Query("SELECT r FROM Registration r WHERE r.id = :id")
+    Optional<Registration> findWithDetailsById(@Param("id") UUID id);
+
+    /**
+     * Возвращает данные для экрана check-in одним запросом без загрузки сущностей.
+     *
+     * @param confirmationCode код подтверждения
+     * @return данные регистрации или empty
+     */
+    @Query("SELECT new ru.aqstream.event.api.dto.CheckInInfoDto("
+        + "r.id, r.confirmationCode, e.id, e.title, e.startsAt, t.name, "
+        + "r.firstName, r.lastName, r.email, r.status, "
+        + "CASE WHEN r.checkedInAt IS NOT NULL THEN true ELSE false END, r.checkedInAt) "
+        + "FROM Registration r JOIN r.event e JOIN r.ticketType t "
+        + "WHERE r.confirmationCode = :confirmationCode")
+    Optional<CheckInInfoDto> findCheckInInfoByConfirmationCode(@Param("confirmationCode") String confirmationCode);
+
     /**
      * Проверяет существование confirmation code.
      *
@@ -133,7 +168,7 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
      * @param pageable параметры пагинации
      * @return страница регистраций
      */
-    @EntityGraph(attributePaths = {"ticketType"})
+    @EntityGraph(attributePaths = {"event", "ticketType"})
     @Query("SELECT r FROM Registration r "
         + "WHERE r.event.id = :eventId "
         + "AND r.tenantId = :tenantId")
@@ -152,7 +187,7 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
      * @param pageable параметры пагинации
      * @return страница регистраций
      */
-    @EntityGraph(attributePaths = {"ticketType"})
+    @EntityGraph(attributePaths = {"event", "ticketType"})
     @Query("SELECT r FROM Registration r "
         + "WHERE r.event.id = :eventId "
         + "AND r.tenantId = :tenantId "
@@ -173,7 +208,7 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
      * @param pageable     параметры пагинации
      * @return страница регистраций
      */
-    @EntityGraph(attributePaths = {"ticketType"})
+    @EntityGraph(attributePaths = {"event", "ticketType"})
     @Query("SELECT r FROM Registration r "
         + "WHERE r.event.id = :eventId "
         + "AND r.tenantId = :tenantId "
@@ -194,7 +229,7 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
      * @param pageable параметры пагинации
      * @return страница регистраций
      */
-    @EntityGraph(attributePaths = {"ticketType"})
+    @EntityGraph(attributePaths = {"event", "ticketType"})
     @Query("SELECT r FROM Registration r "
         + "WHERE r.event.id = :eventId "
         + "AND r.tenantId = :tenantId "
@@ -289,8 +324,171 @@ public interface RegistrationRepository extends JpaRepository<Registration, UUID
      * @param eventId идентификатор события
      * @return список регистраций
      */
+    @EntityGraph(attributePaths = {"event", "ticketType"})
     @Query("SELECT r FROM Registration r "
         + "WHERE r.event.id = :eventId "
         + "AND r.status != 'CANCELLED'")
     List<Registration> findActiveByEventId(@Param("eventId") UUID eventId);
+
+    // === Check-in ===
+
+    /**
+     * Загружает данные для check-in всех регистраций указанных событий одним запросом.
+     *
+     * @param eventIds идентификаторы событий
+     * @return данные регистраций
+     */
+    @Query(CHECK_IN_ENTRY_SELECT + "WHERE e.id IN :eventIds")
+    List<CheckInEntry> findCheckInEntriesByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * Читает актуальное состояние регистрации для check-in в обход persistence context.
+     *
+     * @param id идентификатор регистрации
+     * @return данные регистрации или empty
+     */
+    @Query(CHECK_IN_ENTRY_SELECT + "WHERE r.id = :id")
+    Optional<CheckInEntry> findCheckInEntryById(@Param("id") UUID id);
+
+    /**
+     * Отмечает check-in, только если регистрация подтверждена и check-in ещё не выполнен.
+     * Условие в WHERE исключает двойной проход по одному коду с разных устройств и инстансов.
+     *
+     * @param id          идентификатор регистрации
+     * @param checkedInAt время check-in
+     * @return 1 если check-in выполнен, 0 если регистрация уже отмечена или не подтверждена
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Registration r SET r.checkedInAt = :checkedInAt, r.updatedAt = :checkedInAt "
+        + "WHERE r.id = :id AND r.checkedInAt IS NULL AND r.status = 'CONFIRMED'")
+    int markCheckedInIfConfirmed(@Param("id") UUID id, @Param("checkedInAt") Instant checkedInAt);
+
+    /**
+     * Загружает данные для check-in регистраций события, изменённых начиная с указанного момента.
+     * Используется для дельты снимка офлайн-сканера.
+     *
+     * @param eventId идентификатор события
+     * @param since   момент, начиная с которого нужны изменения
+     * @return данные изменённых регистраций
+     */
+    @Query(CHECK_IN_ENTRY_SELECT + "WHERE e.id = :eventId AND r.updatedAt >= :since")
+    List<CheckInEntry> findCheckInEntriesByEventIdUpdatedSince(
+        @Param("eventId") UUID eventId,
+        @Param("since") Instant since
+    );
+
+    /**
+     * Загружает данные для check-in регистраций события по набору кодов.
+     *
+     * @param eventId           идентификатор события
+     * @param confirmationCodes коды подтверждения
+     * @return данные найденных регистраций
+     */
+    @Query(CHECK_IN_ENTRY_SELECT + "WHERE e.id = :eventId AND r.confirmationCode IN :codes")
+    List<CheckInEntry> findCheckInEntriesByEventIdAndCodes(
+        @Param("eventId") UUID eventId,
+        @Param("codes") Collection<String> confirmationCodes
+    );
+
+    /**
+     * Применяет пачку офлайн check-in одним UPDATE.
+     * Отмечаются только подтверждённые регистрации события без check-in,
+     * временем check-in становится время скана.
+     *
+     * @param eventId   идентификатор события
+     * @param tenantId  идентификатор организации
+     * @param scans     JSON массив {@code [{"code": ..., "scanned_at": ...}]}
+     * @param updatedAt время изменения
+     * @return количество отмеченных регистраций
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE event_service.registrations r
+        SET checked_in_at = s.scanned_at, updated_at = :updatedAt
+        FROM jsonb_to_recordset(CAST(:scans AS jsonb)) AS s(code text, scanned_at timestamptz)
+        WHERE r.event_id = :eventId
+          AND r.tenant_id = :tenantId
+          AND r.confirmation_code = s.code
+          AND r.checked_in_at IS NULL
+          AND r.status = 'CONFIRMED'
+        """, nativeQuery = true)
+    int applyOfflineCheckIns(
+        @Param("eventId") UUID eventId,
+        @Param("tenantId") UUID tenantId,
+        @Param("scans") String scans,
+        @Param("updatedAt") Instant updatedAt
+    );
+
+    /**
+     * Загружает данные для публикации событий check-in.
+     *
+     * @param ids идентификаторы регистраций
+     * @return данные регистраций
+     */
+    @Query("SELECT r.id AS registrationId, r.event.id AS eventId, r.tenantId AS tenantId, "
+        + "r.ticketType.id AS ticketTypeId, r.checkedInAt AS checkedInAt "
+        + "FROM Registration r WHERE r.id IN :ids")
+    List<CheckInFact> findCheckInFactsByIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Подсчитывает выполненные check-in по событиям.
+     * События без check-in в результат не попадают.
+     *
+     * @param eventIds идентификаторы событий
+     * @return количество check-in по событиям
+     */
+    @Query("SELECT r.event.id AS eventId, COUNT(r) AS checkedIn FROM Registration r "
+        + "WHERE r.event.id IN :eventIds AND r.checkedInAt IS NOT NULL "
+        + "GROUP BY r.event.id")
+    List<EventCheckInCount> countCheckedInByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * Данные регистрации, необходимые для проверки кода на входе.
+     */
+    interface CheckInEntry {
+
+        UUID getRegistrationId();
+
+        String getConfirmationCode();
+
+        RegistrationStatus getStatus();
+
+        Instant getCheckedInAt();
+
+        String getFirstName();
+
+        String getLastName();
+
+        String getTicketTypeName();
+
+        String getEventTitle();
+    }
+
+    /**
+     * Данные выполненного check-in для события checkin.completed.
+     */
+    interface CheckInFact {
+
+        UUID getRegistrationId();
+
+        UUID getEventId();
+
+        UUID getTenantId();
+
+        UUID getTicketTypeId();
+
+        Instant getCheckedInAt();
+    }
+
+    /**
+     * Количество check-in события.
+     */
+    interface EventCheckInCount {
+
+        UUID getEventId();
+
+        long getCheckedIn();
+    }
 }
@@ -1,6 +1,7 @@
 package ru.aqstream.event.db.repository;
 
 import jakarta.persistence.LockModeType;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.aqstream.event.api.dto.EventStatus;
 import ru.aqstream.event.db.entity.TicketType;
 
 /**
@@ -125,4 +127,49 @@ public interface TicketTypeRepository extends JpaRepository<TicketType, UUID> {
      */
     @Query("SELECT MAX(t.sortOrder) FROM TicketType t WHERE t.event.id = :eventId")
     Integer findMaxSortOrderByEventId(@Param("eventId") UUID eventId);
+
+    // === Живой dashboard ===
+
+    /**
+     * Загружает счётчики активных типов билетов незавершённых событий организации.
+     * Событие без даты окончания считается незавершённым, если началось позже {@code startedAfter}.
+     *
+     * @param tenantId     идентификатор организации
+     * @param status       статус событий
+     * @param now          текущее время
+     * @param startedAfter граница начала для событий без даты окончания
+     * @return счётчики по возрастанию даты начала события и sortOrder
+     */
+    @Query("SELECT e.id AS eventId, e.title AS eventTitle, t.id AS ticketTypeId, t.name AS name, "
+        + "t.quantity AS quantity, t.soldCount AS soldCount, t.reservedCount AS reservedCount "
+        + "FROM TicketType t JOIN t.event e "
+        + "WHERE e.tenantId = :tenantId AND e.status = :status AND t.active = true "
+        + "AND (e.endsAt > :now OR (e.endsAt IS NULL AND e.startsAt > :startedAfter)) "
+        + "ORDER BY e.startsAt, e.id, t.sortOrder")
+    List<TicketTypeStock> findLiveStockByTenantId(
+        @Param("tenantId") UUID tenantId,
+        @Param("status") EventStatus status,
+        @Param("now") Instant now,
+        @Param("startedAfter") Instant startedAfter
+    );
+
+    /**
+     * Счётчики типа билета для живого dashboard.
+     */
+    interface TicketTypeStock {
+
+        UUID getEventId();
+
+        String getEventTitle();
+
+        UUID getTicketTypeId();
+
+        String getName();
+
+        Integer getQuantity();
+
+        int getSoldCount();
+
+        int getReservedCount();
+    }
 }
@@ -10,6 +10,7 @@ val lombokVersion: String by project
 val lombokMapstructBindingVersion: String by project
 val openApiVersion: String by project
 val zxingVersion: String by project
+val poiVersion: String by project
 
 dependencyManagement {
     imports {
@@ -59,6 +60,9 @@ dependencies {
     implementation("com.google.zxing:core:$zxingVersion")
     implementation("com.google.zxing:javase:$zxingVersion")
 
+    // Потоковая выгрузка XLSX
+    implementation("org.apache.poi:poi-ooxml:$poiVersion")
+
     testImplementation(project(":common:common-test"))
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 }
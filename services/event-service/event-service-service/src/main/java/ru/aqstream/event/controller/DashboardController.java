@@ -5,12 +5,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.aqstream.common.security.TenantContext;
 import ru.aqstream.event.api.dto.DashboardStatsDto;
 import ru.aqstream.event.service.DashboardService;
+import ru.aqstream.event.service.LiveDashboardHub;
 
 /**
  * Контроллер статистики для dashboard организатора.
@@ -22,6 +26,7 @@ import ru.aqstream.event.service.DashboardService;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final LiveDashboardHub liveDashboardHub;
 
     @Operation(
         summary = "Получить статистику dashboard",
@@ -38,4 +43,20 @@ public class DashboardController {
         DashboardStatsDto stats = dashboardService.getStats();
         return ResponseEntity.ok(stats);
     }
+
+    @Operation(
+        summary = "Подписаться на живые счётчики",
+        description = "Открывает SSE-поток событий `stats` со счётчиками опубликованных незавершённых "
+            + "событий организации: регистрации, брони, check-in и остатки по типам билетов. "
+            + "Снимок приходит после изменений, не чаще раза в секунду, и периодически без изменений."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Поток открыт"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "503", description = "Слишком много открытых подписок")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        return liveDashboardHub.subscribe(TenantContext.getTenantId());
+    }
 }
@@ -170,7 +170,7 @@ public class InternalEventController {
     ) {
         log.debug("Internal: запрос регистрации: registrationId={}", registrationId);
 
-        return registrationRepository.findById(registrationId)
+        return registrationRepository.findWithDetailsById(registrationId)
             .map(registrationMapper::toDto)
             .map(ResponseEntity::ok)
             .orElseGet(() -> ResponseEntity.notFound().build());
@@ -191,7 +191,7 @@ public class InternalEventController {
     public ResponseEntity<byte[]> getTicketImage(@PathVariable UUID registrationId) {
         log.debug("Internal: запрос изображения билета: registrationId={}", registrationId);
 
-        return registrationRepository.findById(registrationId)
+        return registrationRepository.findWithDetailsById(registrationId)
             .map(registration -> {
                 byte[] ticketImage = ticketImageService.generateTicketImage(registration);
                 log.info("Internal: билет сгенерирован: registrationId={}, bytes={}",
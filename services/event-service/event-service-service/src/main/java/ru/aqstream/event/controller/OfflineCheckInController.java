@@ -0,0 +1,99 @@
+package ru.aqstream.event.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.aqstream.common.api.exception.ForbiddenException;
+import ru.aqstream.common.api.exception.UnauthorizedException;
+import ru.aqstream.common.security.UserPrincipal;
+import ru.aqstream.event.api.dto.CheckInSnapshotDto;
+import ru.aqstream.event.api.dto.OfflineCheckInRequest;
+import ru.aqstream.event.api.dto.OfflineCheckInResultDto;
+import ru.aqstream.event.service.OfflineCheckInService;
+
+/**
+ * Контроллер синхронизации офлайн-сканеров check-in.
+ *
+ * <p>Сканер на входе работает без связи: проверяет коды по скачанному снимку,
+ * а выполненные check-in загружает пачкой при появлении сети. Доступно организаторам.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/events/{eventId}/check-in")
+@RequiredArgsConstructor
+@Tag(name = "Check-In", description = "Регистрация участников на входе")
+public class OfflineCheckInController {
+
+    private final OfflineCheckInService offlineCheckInService;
+
+    @Operation(
+        summary = "Скачать снимок кодов события",
+        description = "Возвращает коды подтверждения события со статусами. "
+            + "С параметром since — только изменения с указанной версии снимка."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Снимок кодов"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Требуется роль организатора"),
+        @ApiResponse(responseCode = "404", description = "Событие не найдено")
+    })
+    @GetMapping("/snapshot")
+    public ResponseEntity<CheckInSnapshotDto> getSnapshot(
+        @Parameter(description = "ID события")
+        @PathVariable UUID eventId,
+        @Parameter(description = "Версия предыдущего снимка")
+        @RequestParam(required = false) Long since,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireOrganizer(principal);
+        return ResponseEntity.ok(offlineCheckInService.getSnapshot(eventId, since));
+    }
+
+    @Operation(
+        summary = "Загрузить офлайн check-in",
+        description = "Применяет пачку сканов, выполненных без связи. "
+            + "Повторная отправка безопасна, конфликты возвращаются по каждому скану."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Результаты по каждому скану"),
+        @ApiResponse(responseCode = "400", description = "Ошибка валидации"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Требуется роль организатора"),
+        @ApiResponse(responseCode = "404", description = "Событие не найдено")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<OfflineCheckInResultDto> upload(
+        @Parameter(description = "ID события")
+        @PathVariable UUID eventId,
+        @Valid @RequestBody OfflineCheckInRequest request,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireOrganizer(principal);
+        return ResponseEntity.ok(offlineCheckInService.upload(eventId, request));
+    }
+
+    /**
+     * Проверяет, что пользователь является организатором.
+     */
+    private void requireOrganizer(UserPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("unauthorized", "Требуется аутентификация");
+        }
+        if (!principal.isOrganizer()) {
+            throw new ForbiddenException("organizer_required", "Требуется роль организатора");
+        }
+    }
+}
@@ -5,11 +5,13 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -23,12 +25,15 @@ import org.springframework.web.bind.annotation.RestController;
 import ru.aqstream.common.api.PageResponse;
 import ru.aqstream.common.api.exception.UnauthorizedException;
 import ru.aqstream.common.security.UserPrincipal;
+import ru.aqstream.common.web.ClientIpResolver;
 import ru.aqstream.event.api.dto.CreateRegistrationRequest;
 import ru.aqstream.event.api.dto.EventDto;
 import ru.aqstream.event.api.dto.PublicEventSummaryDto;
 import ru.aqstream.event.api.dto.RegistrationDto;
 import ru.aqstream.event.api.dto.TicketTypeDto;
+import ru.aqstream.event.db.repository.EventRepository;
 import ru.aqstream.event.service.EventService;
+import ru.aqstream.event.service.PageViewTracker;
 import ru.aqstream.event.service.RegistrationService;
 import ru.aqstream.event.service.TicketTypeService;
 
@@ -47,6 +52,7 @@ public class PublicEventController {
     private final EventService eventService;
     private final TicketTypeService ticketTypeService;
     private final RegistrationService registrationService;
+    private final PageViewTracker pageViewTracker;
 
     @Operation(
         summary = "Получить список предстоящих публичных событий",
@@ -91,6 +97,29 @@ public class PublicEventController {
         return ResponseEntity.ok(event);
     }
 
+    @Operation(
+        summary = "Учесть просмотр страницы события",
+        description = "Вызывается страницей события из браузера. GET события кэшируется в Gateway "
+            + "и при попадании в кэш не доходит до сервиса, поэтому просмотры учитываются отдельным "
+            + "POST, который не кэшируется. Не требует авторизации."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "202", description = "Просмотр принят"),
+        @ApiResponse(responseCode = "404", description = "Событие не найдено или не публичное")
+    })
+    @PostMapping("/{slug}/views")
+    public ResponseEntity<Void> trackView(
+        @Parameter(description = "URL-slug события")
+        @PathVariable String slug,
+        @AuthenticationPrincipal UserPrincipal principal,
+        HttpServletRequest request
+    ) {
+        EventRepository.PublicEventRef event = eventService.getPublicRefBySlug(slug);
+        pageViewTracker.track(event.getId(), event.getTenantId(), principal,
+            ClientIpResolver.resolve(request), request.getHeader(HttpHeaders.USER_AGENT));
+        return ResponseEntity.accepted().build();
+    }
+
     @Operation(
         summary = "Получить типы билетов публичного события",
         description = "Возвращает активные типы билетов в период продаж. Не требует авторизации."
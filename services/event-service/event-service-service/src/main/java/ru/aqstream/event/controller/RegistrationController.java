@@ -5,11 +5,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -27,8 +31,10 @@ import ru.aqstream.common.api.exception.UnauthorizedException;
 import ru.aqstream.common.security.UserPrincipal;
 import ru.aqstream.event.api.dto.CancelRegistrationRequest;
 import ru.aqstream.event.api.dto.CreateRegistrationRequest;
+import ru.aqstream.event.api.dto.ExportFormat;
 import ru.aqstream.event.api.dto.RegistrationDto;
 import ru.aqstream.event.api.dto.RegistrationStatus;
+import ru.aqstream.event.service.RegistrationExportService;
 import ru.aqstream.event.service.RegistrationService;
 
 /**
@@ -42,6 +48,7 @@ import ru.aqstream.event.service.RegistrationService;
 public class RegistrationController {
 
     private final RegistrationService registrationService;
+    private final RegistrationExportService registrationExportService;
 
     // ==================== Для участников ====================
 
@@ -193,6 +200,40 @@ public class RegistrationController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Выгрузить участников события",
+        description = "Возвращает файл со всеми регистрациями события, включая кастомные поля формы. "
+            + "Строки читаются из БД курсором и сразу пишутся в ответ."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Файл выгрузки"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Требуется роль организатора"),
+        @ApiResponse(responseCode = "404", description = "Событие не найдено")
+    })
+    @GetMapping("/events/{eventId}/registrations/export")
+    public void exportEventRegistrations(
+        @Parameter(description = "ID события")
+        @PathVariable UUID eventId,
+        @Parameter(description = "Формат файла")
+        @RequestParam(defaultValue = "CSV") ExportFormat format,
+        @Parameter(description = "Фильтр по статусу")
+        @RequestParam(required = false) RegistrationStatus status,
+        @AuthenticationPrincipal UserPrincipal principal,
+        HttpServletResponse response
+    ) throws IOException {
+        requireOrganizer(principal);
+
+        registrationExportService.export(eventId, status, format, () -> {
+            String filename = "registrations-" + eventId + "." + format.getExtension();
+            response.setContentType(format.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            return response.getOutputStream();
+        });
+    }
+
     @Operation(
         summary = "Отменить регистрацию организатором",
         description = "Отменяет регистрацию с указанием причины. Доступно только организаторам."
@@ -0,0 +1,71 @@
+package ru.aqstream.event.listener;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import ru.aqstream.common.messaging.config.RabbitMQConfig;
+import ru.aqstream.event.service.LiveDashboardHub;
+
+/**
+ * Слушатель изменений для живого dashboard.
+ *
+ * <p>Каждый экземпляр сервиса получает собственную временную очередь: SSE-соединения
+ * открыты на разных экземплярах, и изменение должно дойти до всех. Сообщение только
+ * помечает организацию изменённой, снимок пересчитывает {@link LiveDashboardHub}.
+ * Потерянное сообщение не критично — снимок периодически обновляется и без событий.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LiveDashboardListener {
+
+    private final LiveDashboardHub liveDashboardHub;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Помечает организацию из сообщения изменённой.
+     *
+     * @param message сообщение о регистрации, отмене или check-in
+     */
+    @RabbitListener(
+        id = "live-dashboard",
+        bindings = @QueueBinding(
+            value = @Queue(durable = "false", exclusive = "true", autoDelete = "true"),
+            exchange = @Exchange(value = RabbitMQConfig.EVENTS_EXCHANGE, type = ExchangeTypes.TOPIC),
+            key = {"registration.created", "registration.cancelled", "checkin.completed"}
+        )
+    )
+    public void handle(Message message) {
+        UUID tenantId = tenantId(message);
+        if (tenantId != null) {
+            liveDashboardHub.markChanged(tenantId);
+        }
+    }
+
+    private UUID tenantId(Message message) {
+        try {
+            JsonNode node = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            // Outbox отправляет payload строкой, конвертер оборачивает её в JSON-строку
+            if (node.isTextual()) {
+                node = objectMapper.readTree(node.textValue());
+            }
+            String value = node.path("tenantId").textValue();
+            return value != null ? UUID.fromString(value) : null;
+        } catch (IOException | IllegalArgumentException e) {
+            log.debug("Сообщение без tenantId пропущено: routingKey={}, error={}",
+                message.getMessageProperties().getReceivedRoutingKey(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package ru.aqstream.event.listener;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import ru.aqstream.common.messaging.config.RabbitMQConfig;
+import ru.aqstream.event.service.MembershipService;
+import ru.aqstream.user.api.dto.OrganizationRole;
+
+/**
+ * Слушатель событий членства из user-service.
+ *
+ * <p>Обновляет локальную копию ролей в организациях и членства в группах,
+ * по которой {@link MembershipService} проверяет права без обращения к user-service.
+ * Все события приходят в одну очередь и распределяются по routing key.</p>
+ *
+ * <p>Outbox отправляет payload строкой, и конвертер сообщений оборачивает её в JSON-строку
+ * с {@code __TypeId__=java.lang.String}, поэтому тело разбирается вручную, а не по типу.
+ * Некорректное сообщение уходит в DLQ: пропущенный отзыв роли оставил бы права навсегда.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MembershipEventListener {
+
+    static final String ORGANIZATION_MEMBER_ADDED = "organization.member.added";
+    static final String ORGANIZATION_MEMBER_ROLE_CHANGED = "organization.member.role.changed";
+    static final String ORGANIZATION_MEMBER_REMOVED = "organization.member.removed";
+    static final String GROUP_MEMBER_ADDED = "group.member.added";
+    static final String GROUP_MEMBER_REMOVED = "group.member.removed";
+    static final String GROUP_DELETED = "group.deleted";
+
+    private final MembershipService membershipService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Применяет событие членства к локальной копии.
+     *
+     * @param message сообщение из очереди членства
+     */
+    @RabbitListener(queues = RabbitMQConfig.EVENT_SERVICE_MEMBERSHIP_QUEUE, id = "membership-read-model")
+    public void handle(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        if (routingKey == null) {
+            throw new AmqpRejectAndDontRequeueException("Сообщение членства без routing key");
+        }
+
+        switch (routingKey) {
+            case ORGANIZATION_MEMBER_ADDED, ORGANIZATION_MEMBER_ROLE_CHANGED -> {
+                JsonNode event = read(message);
+                UUID organizationId = uuid(event, "organizationId");
+                UUID userId = uuid(event, "userId");
+                OrganizationRole role = role(event);
+                log.debug("Получено {}: organizationId={}, userId={}, role={}",
+                    routingKey, organizationId, userId, role);
+                membershipService.applyOrganizationRole(organizationId, userId, role, version(event));
+            }
+            case ORGANIZATION_MEMBER_REMOVED -> {
+                JsonNode event = read(message);
+                UUID organizationId = uuid(event, "organizationId");
+                UUID userId = uuid(event, "userId");
+                log.debug("Получено {}: organizationId={}, userId={}", routingKey, organizationId, userId);
+                membershipService.applyOrganizationRole(organizationId, userId, null, version(event));
+            }
+            case GROUP_MEMBER_ADDED, GROUP_MEMBER_REMOVED -> {
+                JsonNode event = read(message);
+                UUID groupId = uuid(event, "groupId");
+                UUID userId = uuid(event, "userId");
+                log.debug("Получено {}: groupId={}, userId={}", routingKey, groupId, userId);
+                membershipService.applyGroupMembership(
+                    groupId, userId, GROUP_MEMBER_ADDED.equals(routingKey), version(event));
+            }
+            case GROUP_DELETED -> {
+                UUID groupId = uuid(read(message), "groupId");
+                log.debug("Получено {}: groupId={}", routingKey, groupId);
+                membershipService.removeGroup(groupId);
+            }
+            default -> log.debug("Сообщение членства пропущено: routingKey={}", routingKey);
+        }
+    }
+
+    private JsonNode read(Message message) {
+        // Время в секундах с наносекундами не помещается в double без потери точности
+        ObjectReader reader = objectMapper.reader().with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        try {
+            JsonNode node = reader.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            // Outbox отправляет payload строкой, конвертер оборачивает её в JSON-строку
+            if (node.isTextual()) {
+                node = reader.readTree(node.textValue());
+            }
+            if (!node.isObject()) {
+                throw new AmqpRejectAndDontRequeueException("Тело сообщения членства не является JSON объектом");
+            }
+            return node;
+        } catch (IOException e) {
+            throw new AmqpRejectAndDontRequeueException("Тело сообщения членства не является JSON", e);
+        }
+    }
+
+    private static UUID uuid(JsonNode event, String field) {
+        String value = event.path(field).textValue();
+        if (value == null) {
+            throw new AmqpRejectAndDontRequeueException("В сообщении членства нет поля " + field);
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new AmqpRejectAndDontRequeueException("Некорректный " + field + ": " + value, e);
+        }
+    }
+
+    private static OrganizationRole role(JsonNode event) {
+        String value = event.path("role").textValue();
+        try {
+            return OrganizationRole.valueOf(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new AmqpRejectAndDontRequeueException("Некорректная роль: " + value, e);
+        }
+    }
+
+    /**
+     * Версия изменения — время события в user-service: ISO-строка или секунды с дробной частью.
+     */
+    private static Instant version(JsonNode event) {
+        JsonNode value = event.path("occurredAt");
+        if (value.isNumber()) {
+            return Instant.ofEpochSecond(0).plusNanos(value.decimalValue().movePointRight(9).longValue());
+        }
+        if (value.isTextual()) {
+            try {
+                return Instant.parse(value.textValue());
+            } catch (DateTimeParseException e) {
+                throw new AmqpRejectAndDontRequeueException("Некорректное время события: " + value.textValue(), e);
+            }
+        }
+        return Instant.now();
+    }
+}
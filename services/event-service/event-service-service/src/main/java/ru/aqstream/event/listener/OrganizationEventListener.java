@@ -10,6 +10,7 @@ import ru.aqstream.common.messaging.config.RabbitMQConfig;
 import ru.aqstream.common.security.TenantContext;
 import ru.aqstream.event.db.entity.Event;
 import ru.aqstream.event.db.repository.EventRepository;
+import ru.aqstream.event.service.MembershipService;
 import ru.aqstream.user.api.event.OrganizationDeletedEvent;
 
 /**
@@ -24,10 +25,11 @@ import ru.aqstream.user.api.event.OrganizationDeletedEvent;
 public class OrganizationEventListener {
 
     private final EventRepository eventRepository;
+    private final MembershipService membershipService;
 
     /**
      * Обрабатывает удаление организации.
-     * Архивирует (soft delete) все активные события организации.
+     * Архивирует (soft delete) все активные события организации и очищает локальные роли.
      *
      * @param event событие удаления организации
      */
@@ -41,6 +43,8 @@ public class OrganizationEventListener {
             // Устанавливаем TenantContext для корректной работы RLS
             TenantContext.setTenantId(event.getOrganizationId());
 
+            membershipService.removeOrganization(event.getOrganizationId());
+
             // Находим все активные события организации
             List<Event> activeEvents = eventRepository.findActiveByTenantId(event.getOrganizationId());
 
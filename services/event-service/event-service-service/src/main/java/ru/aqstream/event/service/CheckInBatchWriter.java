@@ -0,0 +1,187 @@
+package ru.aqstream.event.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.aqstream.common.api.exception.ServiceUnavailableException;
+import ru.aqstream.event.db.repository.RegistrationRepository;
+
+/**
+ * Групповая запись check-in в БД.
+ *
+ * <p>Сканы на входе ставятся в очередь. Воркер забирает всё, что накопилось,
+ * и выполняет условные UPDATE одной транзакцией: пока идёт запись одной пачки,
+ * собирается следующая. Вызывающий поток ждёт фиксации своей записи,
+ * поэтому ответ «проходите» отдаётся только после коммита.</p>
+ *
+ * <p>В той же транзакции для выполненных check-in публикуется {@code checkin.completed}.</p>
+ *
+ * <p>Если очередь заполнена или запись не зафиксирована за {@link #WRITE_TIMEOUT},
+ * скан отклоняется с 503, сканер повторяет запрос.</p>
+ */
+@Component
+@Slf4j
+public class CheckInBatchWriter {
+
+    static final Duration WRITE_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final int MAX_BATCH_SIZE = 200;
+    private static final int QUEUE_CAPACITY = 5_000;
+    private static final long POLL_INTERVAL_MS = 1000;
+
+    private final RegistrationRepository registrationRepository;
+    private final RegistrationEventPublisher registrationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingCheckIn> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public CheckInBatchWriter(
+            RegistrationRepository registrationRepository,
+            RegistrationEventPublisher registrationEventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.registrationRepository = registrationRepository;
+        this.registrationEventPublisher = registrationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Запускает воркер записи.
+     */
+    @PostConstruct
+    public void init() {
+        running = true;
+        worker = Thread.ofPlatform()
+            .name("check-in-writer")
+            .daemon(true)
+            .start(this::runWorker);
+    }
+
+    /**
+     * Останавливает воркер, дописывая уже поставленные в очередь check-in.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(WRITE_TIMEOUT.toMillis() + POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Записывает check-in и ждёт фиксации транзакции.
+     *
+     * @param registrationId идентификатор регистрации
+     * @param checkedInAt    время check-in
+     * @return true если check-in записан, false если регистрация уже отмечена или не подтверждена
+     * @throws ServiceUnavailableException если запись не выполнена вовремя
+     */
+    public boolean checkIn(UUID registrationId, Instant checkedInAt) {
+        PendingCheckIn pending = new PendingCheckIn(registrationId, checkedInAt, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            log.warn("Очередь записи check-in переполнена: registrationId={}, queueSize={}",
+                registrationId, queue.size());
+            throw unavailable();
+        }
+
+        try {
+            return pending.result().get(WRITE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Check-in не записан за {}: registrationId={}", WRITE_TIMEOUT, registrationId);
+            throw unavailable();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Цикл воркера: забирает накопившиеся check-in и пишет их одной транзакцией.
+     */
+    private void runWorker() {
+        List<PendingCheckIn> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingCheckIn first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                writeBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch.forEach(pending -> pending.result().completeExceptionally(unavailable()));
+        }
+    }
+
+    /**
+     * Выполняет условные UPDATE пачки и публикует события check-in в одной транзакции.
+     */
+    void writeBatch(List<PendingCheckIn> batch) {
+        try {
+            List<Boolean> applied = transactionTemplate.execute(status -> {
+                List<Boolean> results = new ArrayList<>(batch.size());
+                List<UUID> checkedIn = new ArrayList<>(batch.size());
+                for (PendingCheckIn pending : batch) {
+                    boolean marked = registrationRepository.markCheckedInIfConfirmed(
+                        pending.registrationId(), pending.checkedInAt()) == 1;
+                    results.add(marked);
+                    if (marked) {
+                        checkedIn.add(pending.registrationId());
+                    }
+                }
+                if (!checkedIn.isEmpty()) {
+                    registrationRepository.findCheckInFactsByIds(checkedIn)
+                        .forEach(registrationEventPublisher::publishCheckedIn);
+                }
+                return results;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(applied.get(i));
+            }
+            log.debug("Записана пачка check-in: size={}", batch.size());
+        } catch (RuntimeException e) {
+            log.error("Ошибка записи пачки check-in: size={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private static ServiceUnavailableException unavailable() {
+        return new ServiceUnavailableException("Check-in временно недоступен, повторите сканирование",
+            Duration.ofSeconds(1));
+    }
+
+    /**
+     * Check-in, ожидающий записи.
+     */
+    record PendingCheckIn(UUID registrationId, Instant checkedInAt, CompletableFuture<Boolean> result) {
+    }
+}
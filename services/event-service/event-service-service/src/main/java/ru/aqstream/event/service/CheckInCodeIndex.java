@@ -0,0 +1,234 @@
+package ru.aqstream.event.service;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import ru.aqstream.event.api.dto.RegistrationStatus;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInEntry;
+
+/**
+ * Индекс confirmation code → регистрация для проверки билетов на входе без запросов к БД.
+ *
+ * <p>Открытая адресация с линейным пробированием по параллельным массивам. Код из 8 символов
+ * алфавита {@link RegistrationService#CONFIRMATION_CODE_CHARS} упаковывается в long,
+ * поэтому ключи не требуют отдельных объектов. Названия событий и типов билетов
+ * хранятся один раз в таблицах, слоты ссылаются на них по номеру.</p>
+ *
+ * <p>Состав индекса неизменен. Меняется только отметка check-in: слот захватывается
+ * CAS'ом ({@link #tryClaim}), поэтому из параллельных сканов одного кода
+ * в БД уходит только первый.</p>
+ */
+final class CheckInCodeIndex {
+
+    static final CheckInCodeIndex EMPTY = build(List.of());
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long EMPTY_KEY = 0L;
+    private static final long NOT_CHECKED_IN = 0L;
+    private static final long CHECK_IN_PENDING = -1L;
+    private static final RegistrationStatus[] STATUSES = RegistrationStatus.values();
+
+    private final int mask;
+    private final int size;
+    private final long[] keys;
+    private final long[] idHigh;
+    private final long[] idLow;
+    private final byte[] statuses;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    private final int[] ticketTypeRefs;
+    private final int[] eventRefs;
+    private final String[] ticketTypeNames;
+    private final String[] eventTitles;
+
+    /**
+     * Время check-in в миллисекундах; {@link #NOT_CHECKED_IN} или {@link #CHECK_IN_PENDING}.
+     */
+    private final AtomicLongArray checkedInAt;
+
+    private CheckInCodeIndex(int capacity, int size, String[] ticketTypeNames, String[] eventTitles) {
+        this.mask = capacity - 1;
+        this.size = size;
+        this.keys = new long[capacity];
+        this.idHigh = new long[capacity];
+        this.idLow = new long[capacity];
+        this.statuses = new byte[capacity];
+        this.firstNames = new String[capacity];
+        this.lastNames = new String[capacity];
+        this.ticketTypeRefs = new int[capacity];
+        this.eventRefs = new int[capacity];
+        this.checkedInAt = new AtomicLongArray(capacity);
+        this.ticketTypeNames = ticketTypeNames;
+        this.eventTitles = eventTitles;
+    }
+
+    /**
+     * Строит индекс по данным регистраций. Регистрации с кодом вне алфавита пропускаются:
+     * их check-in выполняется через БД.
+     *
+     * @param entries данные регистраций
+     * @return индекс
+     */
+    static CheckInCodeIndex build(List<CheckInEntry> entries) {
+        Map<String, Integer> ticketTypeRefs = new HashMap<>();
+        Map<String, Integer> eventRefs = new HashMap<>();
+        for (CheckInEntry entry : entries) {
+            ticketTypeRefs.putIfAbsent(entry.getTicketTypeName(), ticketTypeRefs.size());
+            eventRefs.putIfAbsent(entry.getEventTitle(), eventRefs.size());
+        }
+
+        // Заполнение не больше половины: короткие цепочки пробирования
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, entries.size())) << 2);
+        CheckInCodeIndex index = new CheckInCodeIndex(capacity, entries.size(),
+            toTable(ticketTypeRefs), toTable(eventRefs));
+        for (CheckInEntry entry : entries) {
+            long key = pack(entry.getConfirmationCode());
+            if (key != EMPTY_KEY) {
+                index.put(key, entry, ticketTypeRefs.get(entry.getTicketTypeName()),
+                    eventRefs.get(entry.getEventTitle()));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Ищет слот регистрации по коду.
+     *
+     * @param confirmationCode код подтверждения
+     * @return номер слота или -1, если кода нет в индексе
+     */
+    int find(String confirmationCode) {
+        long key = pack(confirmationCode);
+        if (key == EMPTY_KEY) {
+            return -1;
+        }
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    UUID registrationId(int slot) {
+        return new UUID(idHigh[slot], idLow[slot]);
+    }
+
+    RegistrationStatus status(int slot) {
+        return STATUSES[statuses[slot]];
+    }
+
+    String firstName(int slot) {
+        return firstNames[slot];
+    }
+
+    String lastName(int slot) {
+        return lastNames[slot];
+    }
+
+    String ticketTypeName(int slot) {
+        return ticketTypeNames[ticketTypeRefs[slot]];
+    }
+
+    String eventTitle(int slot) {
+        return eventTitles[eventRefs[slot]];
+    }
+
+    /**
+     * Возвращает время check-in.
+     *
+     * @param slot номер слота
+     * @return время check-in или null, если check-in не выполнен или ещё записывается
+     */
+    Instant checkedInAt(int slot) {
+        long millis = checkedInAt.get(slot);
+        return millis > 0 ? Instant.ofEpochMilli(millis) : null;
+    }
+
+    /**
+     * Захватывает слот для записи check-in.
+     *
+     * @param slot номер слота
+     * @return false, если check-in уже выполнен или выполняется параллельным сканом
+     */
+    boolean tryClaim(int slot) {
+        return checkedInAt.compareAndSet(slot, NOT_CHECKED_IN, CHECK_IN_PENDING);
+    }
+
+    /**
+     * Отмечает выполненный check-in.
+     */
+    void markCheckedIn(int slot, Instant at) {
+        checkedInAt.set(slot, Math.max(1, at.toEpochMilli()));
+    }
+
+    /**
+     * Освобождает слот, если запись check-in не удалась.
+     */
+    void release(int slot) {
+        checkedInAt.compareAndSet(slot, CHECK_IN_PENDING, NOT_CHECKED_IN);
+    }
+
+    /**
+     * Упаковывает код в число по основанию размера алфавита.
+     *
+     * @return ключ или {@link #EMPTY_KEY}, если код не может быть выдан системой
+     */
+    static long pack(String confirmationCode) {
+        if (confirmationCode == null
+            || confirmationCode.length() != RegistrationService.CONFIRMATION_CODE_LENGTH) {
+            return EMPTY_KEY;
+        }
+        int radix = RegistrationService.CONFIRMATION_CODE_CHARS.length();
+        long key = 0;
+        for (int i = 0; i < confirmationCode.length(); i++) {
+            int digit = RegistrationService.CONFIRMATION_CODE_CHARS.indexOf(confirmationCode.charAt(i));
+            if (digit < 0) {
+                return EMPTY_KEY;
+            }
+            key = key * radix + digit;
+        }
+        // Сдвиг на 1: ноль зарезервирован за пустым слотом
+        return key + 1;
+    }
+
+    private void put(long key, CheckInEntry entry, int ticketTypeRef, int eventRef) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            slot = (slot + 1) & mask;
+        }
+        UUID registrationId = entry.getRegistrationId();
+        keys[slot] = key;
+        idHigh[slot] = registrationId.getMostSignificantBits();
+        idLow[slot] = registrationId.getLeastSignificantBits();
+        statuses[slot] = (byte) entry.getStatus().ordinal();
+        firstNames[slot] = entry.getFirstName();
+        lastNames[slot] = entry.getLastName();
+        ticketTypeRefs[slot] = ticketTypeRef;
+        eventRefs[slot] = eventRef;
+        if (entry.getCheckedInAt() != null) {
+            markCheckedIn(slot, entry.getCheckedInAt());
+        }
+    }
+
+    private static int hash(long key) {
+        // Перемешивание битов: соседние коды не должны попадать в соседние слоты
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static String[] toTable(Map<String, Integer> refs) {
+        String[] table = new String[refs.size()];
+        refs.forEach((value, ref) -> table[ref] = value);
+        return table;
+    }
+}
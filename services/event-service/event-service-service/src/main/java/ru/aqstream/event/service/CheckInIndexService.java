@@ -0,0 +1,85 @@
+package ru.aqstream.event.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import ru.aqstream.event.db.entity.Event;
+import ru.aqstream.event.db.repository.EventRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository;
+
+/**
+ * Держит в памяти индекс кодов подтверждения событий, на которые сейчас идёт вход.
+ *
+ * <p>В индекс попадают опубликованные события, начинающиеся в ближайшие
+ * {@code aqstream.check-in.index.lead-time} и ещё не закончившиеся. Индекс целиком
+ * перестраивается раз в {@code aqstream.check-in.index.refresh-interval}: так в него попадают
+ * новые регистрации, отмены и check-in с других инстансов. Коды, которых нет в индексе,
+ * проверяются через БД.</p>
+ */
+@Service
+@Slf4j
+public class CheckInIndexService {
+
+    /**
+     * Событие без даты окончания считается идущим столько времени после начала.
+     */
+    private static final Duration DEFAULT_EVENT_DURATION = Duration.ofHours(12);
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final Duration leadTime;
+
+    private volatile CheckInCodeIndex index = CheckInCodeIndex.EMPTY;
+
+    public CheckInIndexService(
+            EventRepository eventRepository,
+            RegistrationRepository registrationRepository,
+            @Value("${aqstream.check-in.index.lead-time:2h}") Duration leadTime) {
+        this.eventRepository = eventRepository;
+        this.registrationRepository = registrationRepository;
+        this.leadTime = leadTime;
+    }
+
+    /**
+     * Возвращает текущий индекс.
+     *
+     * @return индекс (пустой до первой загрузки)
+     */
+    CheckInCodeIndex current() {
+        return index;
+    }
+
+    /**
+     * Перестраивает индекс по актуальным данным БД.
+     * При ошибке БД продолжает работать предыдущий индекс.
+     */
+    @Scheduled(fixedDelayString = "${aqstream.check-in.index.refresh-interval:PT1M}")
+    public void refresh() {
+        Instant now = Instant.now();
+        try {
+            List<UUID> eventIds = eventRepository
+                .findPublishedByStartsAtBetween(now.minus(DEFAULT_EVENT_DURATION), now.plus(leadTime))
+                .stream()
+                .filter(event -> isNotFinished(event, now))
+                .map(Event::getId)
+                .toList();
+
+            index = eventIds.isEmpty()
+                ? CheckInCodeIndex.EMPTY
+                : CheckInCodeIndex.build(registrationRepository.findCheckInEntriesByEventIds(eventIds));
+            log.debug("Индекс check-in обновлён: events={}, registrations={}", eventIds.size(), index.size());
+        } catch (DataAccessException e) {
+            log.warn("Не удалось обновить индекс check-in: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isNotFinished(Event event, Instant now) {
+        return event.getEndsAt() == null || event.getEndsAt().isAfter(now);
+    }
+}
@@ -1,21 +1,26 @@
 package ru.aqstream.event.service;
 
+import java.time.Instant;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.aqstream.event.api.dto.CheckInInfoDto;
 import ru.aqstream.event.api.dto.CheckInResultDto;
+import ru.aqstream.event.api.dto.RegistrationStatus;
 import ru.aqstream.event.api.exception.AlreadyCheckedInException;
 import ru.aqstream.event.api.exception.CheckInNotAllowedException;
 import ru.aqstream.event.api.exception.RegistrationNotFoundByCodeException;
 import ru.aqstream.event.db.entity.Registration;
 import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInEntry;
 
 /**
  * Сервис check-in участников на событие.
  *
- * <p>Обрабатывает проверку регистрации по QR-коду и выполнение check-in.</p>
+ * <p>Обрабатывает проверку регистрации по QR-коду и выполнение check-in.
+ * Коды ближайших событий проверяются по индексу {@link CheckInIndexService}.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -23,6 +28,8 @@ import ru.aqstream.event.db.repository.RegistrationRepository;
 public class CheckInService {
 
     private final RegistrationRepository registrationRepository;
+    private final CheckInIndexService checkInIndexService;
+    private final CheckInBatchWriter checkInBatchWriter;
 
     /**
      * Получает информацию о регистрации по confirmation code.
@@ -36,24 +43,88 @@ public class CheckInService {
     public CheckInInfoDto getCheckInInfo(String confirmationCode) {
         log.debug("Запрос информации о check-in: confirmationCode={}", confirmationCode);
 
-        Registration registration = findByConfirmationCode(confirmationCode);
-
-        return mapToCheckInInfo(registration);
+        return findCheckInInfo(confirmationCode);
     }
 
     /**
      * Выполняет check-in участника по confirmation code.
      *
+     * <p>Коды событий, на которые сейчас идёт вход, проверяются по индексу в памяти:
+     * повторный скан и скан отменённого билета отклоняются без обращения к БД.
+     * Сама отметка записывается условным UPDATE через {@link CheckInBatchWriter},
+     * поэтому двойной проход с разных устройств и инстансов невозможен.</p>
+     *
      * @param confirmationCode код подтверждения
      * @return результат check-in
      * @throws RegistrationNotFoundByCodeException если регистрация не найдена
      * @throws AlreadyCheckedInException           если участник уже прошёл check-in
      * @throws CheckInNotAllowedException          если check-in невозможен
      */
-    @Transactional
     public CheckInResultDto checkIn(String confirmationCode) {
         log.info("Выполнение check-in: confirmationCode={}", confirmationCode);
 
+        CheckInCodeIndex index = checkInIndexService.current();
+        int slot = index.find(confirmationCode);
+        if (slot < 0) {
+            return checkInFromDatabase(confirmationCode);
+        }
+        return checkInFromIndex(index, slot, confirmationCode);
+    }
+
+    /**
+     * Check-in по данным индекса.
+     */
+    private CheckInResultDto checkInFromIndex(CheckInCodeIndex index, int slot, String confirmationCode) {
+        UUID registrationId = index.registrationId(slot);
+
+        Instant checkedInAt = index.checkedInAt(slot);
+        if (checkedInAt != null) {
+            log.warn("Повторный check-in: confirmationCode={}, checkedInAt={}", confirmationCode, checkedInAt);
+            throw new AlreadyCheckedInException(registrationId, confirmationCode, checkedInAt);
+        }
+        if (index.status(slot) != RegistrationStatus.CONFIRMED) {
+            log.warn("Check-in для неподтверждённой регистрации: confirmationCode={}, status={}",
+                confirmationCode, index.status(slot));
+            throw new CheckInNotAllowedException(registrationId, confirmationCode, index.status(slot));
+        }
+        if (!index.tryClaim(slot)) {
+            // Тот же код прямо сейчас записывается параллельным сканом
+            log.warn("Повторный check-in во время записи: confirmationCode={}", confirmationCode);
+            throw new AlreadyCheckedInException(registrationId, confirmationCode, Instant.now());
+        }
+
+        Instant now = Instant.now();
+        boolean applied;
+        try {
+            applied = checkInBatchWriter.checkIn(registrationId, now);
+        } catch (RuntimeException e) {
+            index.release(slot);
+            throw e;
+        }
+        if (!applied) {
+            // Индекс отстал от БД: check-in на другом инстансе или отмена после загрузки индекса
+            index.release(slot);
+            throw rejectByActualState(registrationId, confirmationCode, index, slot);
+        }
+        index.markCheckedIn(slot, now);
+
+        log.info("Check-in выполнен: registrationId={}, confirmationCode={}", registrationId, confirmationCode);
+
+        return CheckInResultDto.success(
+            registrationId,
+            confirmationCode,
+            index.eventTitle(slot),
+            index.ticketTypeName(slot),
+            index.firstName(slot),
+            index.lastName(slot),
+            now
+        );
+    }
+
+    /**
+     * Check-in кода, которого нет в индексе (событие вне окна индекса или регистрация новее индекса).
+     */
+    private CheckInResultDto checkInFromDatabase(String confirmationCode) {
         Registration registration = findByConfirmationCode(confirmationCode);
 
         // Проверяем, не прошёл ли участник check-in ранее
@@ -79,8 +150,10 @@ public class CheckInService {
         }
 
         // Выполняем check-in
-        registration.checkIn();
-        registrationRepository.save(registration);
+        Instant now = Instant.now();
+        if (!checkInBatchWriter.checkIn(registration.getId(), now)) {
+            throw rejectByActualState(registration.getId(), confirmationCode, null, -1);
+        }
 
         log.info("Check-in выполнен: registrationId={}, confirmationCode={}, eventId={}",
             registration.getId(), confirmationCode, registration.getEvent().getId());
@@ -92,10 +165,32 @@ public class CheckInService {
             registration.getTicketType().getName(),
             registration.getFirstName(),
             registration.getLastName(),
-            registration.getCheckedInAt()
+            now
         );
     }
 
+    /**
+     * Формирует отказ по актуальному состоянию регистрации в БД после неудачного условного UPDATE.
+     * Если регистрация есть в индексе, отметка check-in переносится в него.
+     */
+    private RuntimeException rejectByActualState(
+            UUID registrationId, String confirmationCode, CheckInCodeIndex index, int slot) {
+        CheckInEntry actual = registrationRepository.findCheckInEntryById(registrationId)
+            .orElseThrow(() -> new RegistrationNotFoundByCodeException(confirmationCode));
+
+        if (actual.getCheckedInAt() != null) {
+            if (index != null) {
+                index.markCheckedIn(slot, actual.getCheckedInAt());
+            }
+            log.warn("Повторный check-in: confirmationCode={}, checkedInAt={}",
+                confirmationCode, actual.getCheckedInAt());
+            return new AlreadyCheckedInException(registrationId, confirmationCode, actual.getCheckedInAt());
+        }
+        log.warn("Check-in для неподтверждённой регистрации: confirmationCode={}, status={}",
+            confirmationCode, actual.getStatus());
+        return new CheckInNotAllowedException(registrationId, confirmationCode, actual.getStatus());
+    }
+
     /**
      * Проверяет, прошёл ли участник check-in.
      *
@@ -105,8 +200,7 @@ public class CheckInService {
      */
     @Transactional(readOnly = true)
     public boolean isCheckedIn(String confirmationCode) {
-        Registration registration = findByConfirmationCode(confirmationCode);
-        return registration.isCheckedIn();
+        return findCheckInInfo(confirmationCode).isCheckedIn();
     }
 
     /**
@@ -125,22 +219,17 @@ public class CheckInService {
     }
 
     /**
-     * Преобразует регистрацию в DTO для check-in.
+     * Находит данные для check-in по confirmation code одним запросом.
+     *
+     * @param confirmationCode код подтверждения
+     * @return данные регистрации
+     * @throws RegistrationNotFoundByCodeException если регистрация не найдена
      */
-    private CheckInInfoDto mapToCheckInInfo(Registration registration) {
-        return new CheckInInfoDto(
-            registration.getId(),
-            registration.getConfirmationCode(),
-            registration.getEvent().getId(),
-            registration.getEvent().getTitle(),
-            registration.getEvent().getStartsAt(),
-            registration.getTicketType().getName(),
-            registration.getFirstName(),
-            registration.getLastName(),
-            registration.getEmail(),
-            registration.getStatus(),
-            registration.isCheckedIn(),
-            registration.getCheckedInAt()
-        );
+    private CheckInInfoDto findCheckInInfo(String confirmationCode) {
+        return registrationRepository.findCheckInInfoByConfirmationCode(confirmationCode)
+            .orElseThrow(() -> {
+                log.debug("Регистрация не найдена: confirmationCode={}", confirmationCode);
+                return new RegistrationNotFoundByCodeException(confirmationCode);
+            });
     }
 }
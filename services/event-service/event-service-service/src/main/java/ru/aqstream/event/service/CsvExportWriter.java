@@ -0,0 +1,81 @@
+package ru.aqstream.event.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Запись выгрузки в CSV (RFC 4180).
+ *
+ * <p>Файл начинается с BOM, иначе Excel открывает UTF-8 как Windows-1251.
+ * Значения, которые Excel выполнил бы как формулу ({@code =}, {@code +}, {@code -}, {@code @}),
+ * экранируются апострофом — данные участников вводятся самими участниками.
+ * Телефоны и числа вида {@code +7 (999) 123-45-67} не экранируются.</p>
+ */
+final class CsvExportWriter implements ExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BOM = '\uFEFF';
+    private static final char SEPARATOR = ',';
+    private static final String LINE_END = "\r\n";
+    private static final Pattern NUMBER_LIKE = Pattern.compile("^[+-]?[0-9 ().-]+$");
+
+    private final Writer writer;
+
+    CsvExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(BOM);
+    }
+
+    @Override
+    public void writeRow(String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeValue(values[i]);
+        }
+        writer.write(LINE_END);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Поток ответа закрывает контейнер, здесь закрывать нечего.
+     */
+    @Override
+    public void close() {
+    }
+
+    private void writeValue(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String safe = neutralize(value);
+        if (safe.indexOf(SEPARATOR) < 0 && safe.indexOf('"') < 0
+            && safe.indexOf('\n') < 0 && safe.indexOf('\r') < 0) {
+            writer.write(safe);
+            return;
+        }
+        writer.write('"');
+        writer.write(safe.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    static String neutralize(String value) {
+        char first = value.charAt(0);
+        boolean formulaStart = first == '=' || first == '+' || first == '-' || first == '@'
+            || first == '\t' || first == '\r';
+        if (!formulaStart || NUMBER_LIKE.matcher(value).matches()) {
+            return value;
+        }
+        return "'" + value;
+    }
+}
@@ -36,6 +36,7 @@ public class EventLifecycleService {
     private final RecurrenceRuleMapper recurrenceRuleMapper;
     private final EventPublisher eventPublisher;
     private final EventAuditService eventAuditService;
+    private final PublicEventCacheInvalidator publicEventCacheInvalidator;
 
     /**
      * Публикует событие (DRAFT → PUBLISHED).
@@ -73,6 +74,8 @@ public class EventLifecycleService {
         // Записываем в audit log
         eventAuditService.logPublished(event);
 
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
+
         return mapToDto(event);
     }
 
@@ -95,6 +98,8 @@ public class EventLifecycleService {
         // Записываем в audit log
         eventAuditService.logUnpublished(event);
 
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
+
         return mapToDto(event);
     }
 
@@ -140,6 +145,8 @@ public class EventLifecycleService {
         // Записываем в audit log
         eventAuditService.logCancelled(event, reason);
 
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
+
         return mapToDto(event);
     }
 
@@ -170,6 +177,8 @@ public class EventLifecycleService {
         // Записываем в audit log
         eventAuditService.logCompleted(event);
 
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
+
         return mapToDto(event);
     }
 
@@ -7,18 +7,18 @@ import org.springframework.stereotype.Service;
 import ru.aqstream.common.api.exception.ForbiddenException;
 import ru.aqstream.user.api.dto.OrganizationMembershipDto;
 import ru.aqstream.user.api.dto.OrganizationRole;
-import ru.aqstream.user.client.UserClient;
 
 /**
  * Сервис проверки прав на создание и управление событиями.
- * Проверяет членство пользователя в организации через user-service.
+ * Проверяет членство пользователя в организации по локальной копии
+ * ({@link MembershipService}), при промахе — через user-service.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EventPermissionService {
 
-    private final UserClient userClient;
+    private final MembershipService membershipService;
 
     /**
      * Проверяет право пользователя на создание события в организации.
@@ -105,7 +105,7 @@ public class EventPermissionService {
         // Для обычных пользователей проверяем членство в организации
         OrganizationMembershipDto membership;
         try {
-            membership = userClient.getMembershipRole(organizationId, userId);
+            membership = membershipService.getOrganizationMembership(organizationId, userId);
         } catch (Exception e) {
             log.error("Ошибка проверки членства в организации: userId={}, organizationId={}, ошибка={}",
                 userId, organizationId, e.getMessage());
@@ -56,6 +56,7 @@ public class EventService {
     private final EventAuditService eventAuditService;
     private final EventLifecycleService eventLifecycleService;
     private final OrganizationNameResolver organizationNameResolver;
+    private final PublicEventCacheInvalidator publicEventCacheInvalidator;
 
     // ==================== CRUD ====================
 
@@ -225,6 +226,7 @@ public class EventService {
 
         // Записываем в audit log
         eventAuditService.logUpdated(eventId, oldSnapshot, event);
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
 
         return mapToDto(event);
     }
@@ -246,6 +248,7 @@ public class EventService {
 
         // Записываем в audit log
         eventAuditService.logDeleted(event);
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
     }
 
     // ==================== Lifecycle ====================
@@ -474,6 +477,19 @@ public class EventService {
         return eventMapper.toDto(event, organizerName, ruleDto);
     }
 
+    /**
+     * Возвращает идентификаторы публичного события по slug.
+     * Не загружает сущность и не обращается к user-service.
+     *
+     * @param slug URL-slug события
+     * @return идентификаторы события и организации
+     */
+    @Transactional(readOnly = true)
+    public EventRepository.PublicEventRef getPublicRefBySlug(String slug) {
+        return eventRepository.findPublicRefBySlug(slug)
+            .orElseThrow(() -> new EventNotFoundException(slug));
+    }
+
     // ==================== Вспомогательные ====================
 
     /**
@@ -0,0 +1,26 @@
+package ru.aqstream.event.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Построчная запись таблицы выгрузки в поток ответа.
+ * Строки не накапливаются в памяти: каждая уходит в поток (или во временный файл) сразу.
+ */
+interface ExportWriter extends Closeable {
+
+    /**
+     * Записывает строку таблицы.
+     *
+     * @param values значения ячеек (null — пустая ячейка)
+     * @throws IOException при ошибке записи
+     */
+    void writeRow(String[] values) throws IOException;
+
+    /**
+     * Дописывает хвост файла и сбрасывает буферы в поток.
+     *
+     * @throws IOException при ошибке записи
+     */
+    void finish() throws IOException;
+}
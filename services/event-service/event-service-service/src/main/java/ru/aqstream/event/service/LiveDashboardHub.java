@@ -0,0 +1,305 @@
+package ru.aqstream.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.aqstream.common.api.exception.ServiceUnavailableException;
+import ru.aqstream.common.security.TenantContext;
+
+/**
+ * Рассылка живых счётчиков dashboard организаторам через SSE.
+ *
+ * <p>События регистраций и check-in только помечают организацию изменённой.
+ * Раз в {@link #TICK} поток «live-dashboard» пересчитывает снимок для каждой изменённой
+ * организации — один раз, сколько бы изменений ни накопилось и сколько бы dashboard
+ * ни было открыто, — сериализует его в JSON и раздаёт всем подписчикам организации.
+ * Без изменений снимок обновляется раз в {@code refresh-interval}: так видны истёкшие
+ * брони, а соединение не закрывается прокси по простою.</p>
+ *
+ * <p>Отправка идёт на виртуальных потоках. Подписчик получает не больше одного снимка
+ * за тик: пока предыдущая отправка не завершилась, новые снимки заменяют
+ * неотправленный, и медленный клиент получает только последний.</p>
+ */
+@Component
+@Slf4j
+public class LiveDashboardHub {
+
+    static final String EVENT_NAME = "stats";
+    static final Duration TICK = Duration.ofSeconds(1);
+
+    private static final int MAX_CONCURRENT_REFRESHES = 4;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(30);
+
+    private final LiveDashboardService liveDashboardService;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final Duration refreshInterval;
+    private final Duration emitterTimeout;
+    private final int maxSubscribers;
+    private final ConcurrentMap<UUID, TenantChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Semaphore refreshPermits = new Semaphore(MAX_CONCURRENT_REFRESHES);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    @Autowired
+    public LiveDashboardHub(
+            LiveDashboardService liveDashboardService,
+            ObjectMapper objectMapper,
+            @Value("${aqstream.dashboard.live.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${aqstream.dashboard.live.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${aqstream.dashboard.live.max-subscribers:5000}") int maxSubscribers) {
+        this(liveDashboardService, objectMapper, Executors.newVirtualThreadPerTaskExecutor(),
+            refreshInterval, emitterTimeout, maxSubscribers);
+    }
+
+    LiveDashboardHub(
+            LiveDashboardService liveDashboardService,
+            ObjectMapper objectMapper,
+            Executor executor,
+            Duration refreshInterval,
+            Duration emitterTimeout,
+            int maxSubscribers) {
+        this.liveDashboardService = liveDashboardService;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.refreshInterval = refreshInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Запускает поток рассылки.
+     */
+    @PostConstruct
+    public void init() {
+        running = true;
+        worker = Thread.ofPlatform()
+            .name("live-dashboard")
+            .daemon(true)
+            .start(this::runWorker);
+    }
+
+    /**
+     * Останавливает рассылку и закрывает открытые соединения.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Открывает SSE-подписку на счётчики организации.
+     * Первый снимок отправляется на ближайшем тике.
+     *
+     * @param tenantId идентификатор организации
+     * @return SSE emitter
+     * @throws ServiceUnavailableException если открыто слишком много подписок
+     */
+    public SseEmitter subscribe(UUID tenantId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        register(tenantId, emitter);
+        return emitter;
+    }
+
+    /**
+     * Помечает счётчики организации изменёнными.
+     * Если у организации нет открытых dashboard, ничего не делает.
+     *
+     * @param tenantId идентификатор организации
+     */
+    public void markChanged(UUID tenantId) {
+        TenantChannel channel = channels.get(tenantId);
+        if (channel != null) {
+            channel.dirty.set(true);
+        }
+    }
+
+    /**
+     * Количество открытых подписок.
+     *
+     * @return количество подписок
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    void register(UUID tenantId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("Достигнут лимит подписок живого dashboard: maxSubscribers={}", maxSubscribers);
+            throw new ServiceUnavailableException("Слишком много открытых dashboard, повторите позже", RETRY_AFTER);
+        }
+
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(tenantId, subscriber));
+        emitter.onTimeout(() -> unsubscribe(tenantId, subscriber));
+        emitter.onError(e -> unsubscribe(tenantId, subscriber));
+
+        TenantChannel channel = channels.compute(tenantId, (id, existing) -> {
+            TenantChannel result = existing != null ? existing : new TenantChannel(id);
+            result.subscribers.add(subscriber);
+            return result;
+        });
+        channel.dirty.set(true);
+        log.debug("Подписка на живой dashboard: tenantId={}, subscribers={}", tenantId, subscriberCount.get());
+    }
+
+    /**
+     * Один тик рассылки: пересчитывает изменённые и устаревшие снимки
+     * и дорассылает снимки, которые не успели уйти на прошлом тике.
+     *
+     * @param now время тика
+     */
+    void flushOnce(Instant now) {
+        for (TenantChannel channel : channels.values()) {
+            boolean changed = channel.dirty.getAndSet(false);
+            boolean stale = !now.isBefore(channel.refreshedAt.plus(refreshInterval));
+            if (!changed && !stale) {
+                channel.subscribers.forEach(this::dispatch);
+                continue;
+            }
+            if (channel.refreshing.compareAndSet(false, true)) {
+                executor.execute(() -> refresh(channel, now));
+            } else if (changed) {
+                // Пересчёт ещё идёт: изменение учтём на следующем тике
+                channel.dirty.set(true);
+            }
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                Thread.sleep(TICK);
+                flushOnce(Instant.now());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Ошибка рассылки живого dashboard: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Пересчитывает снимок организации и раздаёт его подписчикам.
+     */
+    private void refresh(TenantChannel channel, Instant now) {
+        boolean acquired = false;
+        try {
+            refreshPermits.acquire();
+            acquired = true;
+            // RLS: соединение получает app.tenant_id из TenantContext
+            TenantContext.setTenantId(channel.tenantId);
+            String json = objectMapper.writeValueAsString(liveDashboardService.getStats(channel.tenantId, now));
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.pending.set(json);
+                dispatch(subscriber);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Повтор — при следующем изменении или по refresh-interval
+            log.warn("Не удалось обновить живой dashboard: tenantId={}, error={}", channel.tenantId, e.getMessage());
+        } finally {
+            channel.refreshedAt = now;
+            TenantContext.clear();
+            if (acquired) {
+                refreshPermits.release();
+            }
+            channel.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Запускает отправку неотправленного снимка, если подписчик не занят предыдущей.
+     */
+    private void dispatch(Subscriber subscriber) {
+        if (subscriber.pending.get() != null && subscriber.sending.compareAndSet(false, true)) {
+            executor.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            String json = subscriber.pending.getAndSet(null);
+            if (json != null) {
+                subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Клиент отключился: onError/onCompletion уберут подписчика
+            log.debug("Не удалось отправить снимок живого dashboard: {}", e.getMessage());
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sending.set(false);
+        }
+    }
+
+    private void unsubscribe(UUID tenantId, Subscriber subscriber) {
+        TenantChannel channel = channels.get(tenantId);
+        if (channel != null && channel.subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            channels.computeIfPresent(tenantId, (id, existing) -> existing.subscribers.isEmpty() ? null : existing);
+        }
+    }
+
+    /**
+     * Подписчики одной организации и состояние её снимка.
+     */
+    private static final class TenantChannel {
+
+        private final UUID tenantId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Instant refreshedAt = Instant.EPOCH;
+
+        private TenantChannel(UUID tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    /**
+     * Открытое SSE-соединение.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<String> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package ru.aqstream.event.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.event.api.dto.EventStatus;
+import ru.aqstream.event.api.dto.LiveDashboardDto;
+import ru.aqstream.event.api.dto.LiveDashboardDto.EventStats;
+import ru.aqstream.event.api.dto.LiveDashboardDto.TicketTypeStats;
+import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository.EventCheckInCount;
+import ru.aqstream.event.db.repository.TicketTypeRepository;
+import ru.aqstream.event.db.repository.TicketTypeRepository.TicketTypeStock;
+
+/**
+ * Снимок живых счётчиков dashboard организатора.
+ *
+ * <p>Регистрации и остатки берутся из счётчиков типов билетов, check-in — одним
+ * GROUP BY по событиям. Снимок строится двумя запросами независимо от количества
+ * регистраций и подписчиков.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class LiveDashboardService {
+
+    /**
+     * Длительность события без даты окончания, как в {@link CheckInIndexService}.
+     */
+    private static final Duration DEFAULT_EVENT_DURATION = Duration.ofHours(12);
+
+    private final TicketTypeRepository ticketTypeRepository;
+    private final RegistrationRepository registrationRepository;
+
+    /**
+     * Формирует снимок по опубликованным незавершённым событиям организации.
+     *
+     * @param tenantId идентификатор организации
+     * @param now      текущее время
+     * @return снимок счётчиков
+     */
+    @Transactional(readOnly = true)
+    public LiveDashboardDto getStats(UUID tenantId, Instant now) {
+        List<TicketTypeStock> stock = ticketTypeRepository.findLiveStockByTenantId(
+            tenantId, EventStatus.PUBLISHED, now, now.minus(DEFAULT_EVENT_DURATION));
+        if (stock.isEmpty()) {
+            return new LiveDashboardDto(now, List.of());
+        }
+
+        Map<UUID, List<TicketTypeStock>> byEvent = new LinkedHashMap<>();
+        for (TicketTypeStock row : stock) {
+            byEvent.computeIfAbsent(row.getEventId(), id -> new ArrayList<>()).add(row);
+        }
+
+        Map<UUID, Long> checkIns = new HashMap<>();
+        for (EventCheckInCount count : registrationRepository.countCheckedInByEventIds(byEvent.keySet())) {
+            checkIns.put(count.getEventId(), count.getCheckedIn());
+        }
+
+        List<EventStats> events = new ArrayList<>(byEvent.size());
+        for (Map.Entry<UUID, List<TicketTypeStock>> entry : byEvent.entrySet()) {
+            List<TicketTypeStock> rows = entry.getValue();
+            long registrations = 0;
+            long reserved = 0;
+            List<TicketTypeStats> ticketTypes = new ArrayList<>(rows.size());
+            for (TicketTypeStock row : rows) {
+                registrations += row.getSoldCount();
+                reserved += row.getReservedCount();
+                ticketTypes.add(toStats(row));
+            }
+            events.add(new EventStats(
+                entry.getKey(),
+                rows.getFirst().getEventTitle(),
+                registrations,
+                reserved,
+                checkIns.getOrDefault(entry.getKey(), 0L),
+                ticketTypes
+            ));
+        }
+        return new LiveDashboardDto(now, events);
+    }
+
+    private static TicketTypeStats toStats(TicketTypeStock row) {
+        Integer quantity = row.getQuantity();
+        Integer remaining = quantity == null
+            ? null
+            : Math.max(0, quantity - row.getSoldCount() - row.getReservedCount());
+        return new TicketTypeStats(
+            row.getTicketTypeId(),
+            row.getName(),
+            quantity,
+            row.getSoldCount(),
+            row.getReservedCount(),
+            remaining
+        );
+    }
+}
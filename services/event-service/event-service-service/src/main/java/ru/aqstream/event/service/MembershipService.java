@@ -0,0 +1,149 @@
+package ru.aqstream.event.service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import ru.aqstream.event.db.entity.GroupMember;
+import ru.aqstream.event.db.entity.OrganizationMemberRole;
+import ru.aqstream.event.db.repository.GroupMemberRepository;
+import ru.aqstream.event.db.repository.OrganizationMemberRoleRepository;
+import ru.aqstream.user.api.dto.OrganizationMembershipDto;
+import ru.aqstream.user.api.dto.OrganizationRole;
+import ru.aqstream.user.client.UserClient;
+
+/**
+ * Локальная копия членства в организациях и группах (read model).
+ *
+ * <p>Проверки прав выполняются по таблицам event-service, которые обновляются
+ * событиями из user-service (см. {@link ru.aqstream.event.listener.MembershipEventListener}).
+ * Если записи нет (холодный старт, пользователь ещё не проверялся), ответ берётся
+ * из user-service через Feign и сохраняется локально.</p>
+ *
+ * <p>Каждая запись хранит версию — момент изменения в user-service. Более старое
+ * изменение не перезаписывает новое. Ответ user-service сохраняется с моментом
+ * <b>до</b> запроса, поэтому событие, произошедшее во время запроса, не теряется.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MembershipService {
+
+    private final OrganizationMemberRoleRepository organizationMemberRoleRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final UserClient userClient;
+
+    /**
+     * Возвращает роль пользователя в организации.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор пользователя
+     * @return членство с ролью или isMember=false
+     */
+    public OrganizationMembershipDto getOrganizationMembership(UUID organizationId, UUID userId) {
+        Optional<OrganizationMemberRole> local =
+            organizationMemberRoleRepository.findById(new OrganizationMemberRole.Key(organizationId, userId));
+        if (local.isPresent()) {
+            String role = local.get().getRole();
+            return role != null
+                ? OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.valueOf(role))
+                : OrganizationMembershipDto.notMember(organizationId, userId);
+        }
+
+        log.debug("Роль не найдена локально, запрос в user-service: organizationId={}, userId={}",
+            organizationId, userId);
+        Instant requestedAt = Instant.now();
+        OrganizationMembershipDto membership = userClient.getMembershipRole(organizationId, userId);
+        try {
+            applyOrganizationRole(organizationId, userId, membership.isMember() ? membership.role() : null,
+                requestedAt);
+        } catch (DataAccessException e) {
+            // Не сохранили — следующая проверка снова обратится в user-service
+            log.warn("Не удалось сохранить роль в организации: organizationId={}, userId={}, error={}",
+                organizationId, userId, e.getMessage());
+        }
+        return membership;
+    }
+
+    /**
+     * Проверяет членство пользователя в группе.
+     *
+     * @param groupId идентификатор группы
+     * @param userId  идентификатор пользователя
+     * @return true если пользователь член группы
+     */
+    public boolean isGroupMember(UUID groupId, UUID userId) {
+        Optional<GroupMember> local = groupMemberRepository.findById(new GroupMember.Key(groupId, userId));
+        if (local.isPresent()) {
+            return local.get().isMember();
+        }
+
+        log.debug("Членство в группе не найдено локально, запрос в user-service: groupId={}, userId={}",
+            groupId, userId);
+        Instant requestedAt = Instant.now();
+        boolean member = Boolean.TRUE.equals(userClient.isGroupMember(groupId, userId));
+        try {
+            applyGroupMembership(groupId, userId, member, requestedAt);
+        } catch (DataAccessException e) {
+            log.warn("Не удалось сохранить членство в группе: groupId={}, userId={}, error={}",
+                groupId, userId, e.getMessage());
+        }
+        return member;
+    }
+
+    /**
+     * Применяет изменение роли в организации.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор пользователя
+     * @param role           роль или null, если пользователь больше не член организации
+     * @param version        момент изменения в user-service
+     */
+    public void applyOrganizationRole(UUID organizationId, UUID userId, OrganizationRole role, Instant version) {
+        int updated = organizationMemberRoleRepository.upsert(
+            organizationId, userId, role != null ? role.name() : null, version);
+        if (updated == 0) {
+            log.debug("Устаревшее изменение роли пропущено: organizationId={}, userId={}, version={}",
+                organizationId, userId, version);
+        }
+    }
+
+    /**
+     * Применяет изменение членства в группе.
+     *
+     * @param groupId идентификатор группы
+     * @param userId  идентификатор пользователя
+     * @param member  true если пользователь член группы
+     * @param version момент изменения в user-service
+     */
+    public void applyGroupMembership(UUID groupId, UUID userId, boolean member, Instant version) {
+        int updated = groupMemberRepository.upsert(groupId, userId, member, version);
+        if (updated == 0) {
+            log.debug("Устаревшее изменение членства пропущено: groupId={}, userId={}, version={}",
+                groupId, userId, version);
+        }
+    }
+
+    /**
+     * Удаляет роли удалённой организации.
+     *
+     * @param organizationId идентификатор организации
+     */
+    public void removeOrganization(UUID organizationId) {
+        int deleted = organizationMemberRoleRepository.deleteByOrganizationId(organizationId);
+        log.debug("Роли удалённой организации очищены: organizationId={}, count={}", organizationId, deleted);
+    }
+
+    /**
+     * Удаляет членство удалённой группы.
+     *
+     * @param groupId идентификатор группы
+     */
+    public void removeGroup(UUID groupId) {
+        int deleted = groupMemberRepository.deleteByGroupId(groupId);
+        log.debug("Членство удалённой группы очищено: groupId={}, count={}", groupId, deleted);
+    }
+}
@@ -0,0 +1,213 @@
+package ru.aqstream.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.event.api.dto.CheckInSnapshotDto;
+import ru.aqstream.event.api.dto.CheckInSnapshotEntryDto;
+import ru.aqstream.event.api.dto.OfflineCheckInOutcome;
+import ru.aqstream.event.api.dto.OfflineCheckInRequest;
+import ru.aqstream.event.api.dto.OfflineCheckInResultDto;
+import ru.aqstream.event.api.dto.OfflineCheckInResultDto.ScanResult;
+import ru.aqstream.event.api.exception.EventNotFoundException;
+import ru.aqstream.event.db.repository.EventRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInEntry;
+
+/**
+ * Синхронизация офлайн-сканеров check-in.
+ *
+ * <p>Сканер скачивает снимок кодов события и дальше проверяет коды локально.
+ * Накопленные сканы загружаются пачкой и применяются одним UPDATE,
+ * конфликты (check-in на другом устройстве, отмена) возвращаются в ответе.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OfflineCheckInService {
+
+    /**
+     * Перекрытие окна дельты: изменения транзакций, зафиксированных позже момента
+     * выдачи версии, но с более ранним updated_at, попадут в следующую дельту.
+     * Сканер заменяет записи по коду, поэтому повторы безвредны.
+     */
+    static final Duration DELTA_OVERLAP = Duration.ofMinutes(1);
+
+    /**
+     * Допустимое опережение часов сканера. Скан позже {@code now + MAX_CLOCK_SKEW}
+     * записывается этим временем: check-in из будущего не попадает в окна аналитики.
+     */
+    static final Duration MAX_CLOCK_SKEW = Duration.ofSeconds(30);
+
+    private final EventRepository eventRepository;
+    private final RegistrationRepository registrationRepository;
+    private final RegistrationEventPublisher registrationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Возвращает снимок кодов события: полный или изменения с указанной версии.
+     *
+     * @param eventId      идентификатор события
+     * @param sinceVersion версия предыдущего снимка (null — полный снимок)
+     * @return снимок
+     * @throws EventNotFoundException если событие не найдено в организации
+     */
+    @Transactional(readOnly = true)
+    public CheckInSnapshotDto getSnapshot(UUID eventId, Long sinceVersion) {
+        verifyEventAccess(eventId);
+        Instant version = Instant.now();
+
+        List<CheckInEntry> entries = sinceVersion == null
+            ? registrationRepository.findCheckInEntriesByEventIds(List.of(eventId))
+            : registrationRepository.findCheckInEntriesByEventIdUpdatedSince(
+                eventId, Instant.ofEpochMilli(sinceVersion).minus(DELTA_OVERLAP));
+
+        log.debug("Снимок для офлайн check-in: eventId={}, since={}, entries={}",
+            eventId, sinceVersion, entries.size());
+
+        return new CheckInSnapshotDto(
+            eventId,
+            version.toEpochMilli(),
+            sinceVersion != null,
+            entries.stream().map(OfflineCheckInService::toSnapshotEntry).toList()
+        );
+    }
+
+    /**
+     * Применяет пачку офлайн-сканов.
+     *
+     * <p>Для каждого кода учитывается самый ранний скан. Отметка ставится одним
+     * UPDATE только подтверждённым регистрациям без check-in. Результат каждого скана
+     * определяется по состоянию после UPDATE: совпадение времени check-in со временем
+     * скана означает, что отметка поставлена этим сканом — в том числе при повторной
+     * отправке той же пачки.</p>
+     *
+     * <p>Время скана берётся с устройства, но не позже {@code now + MAX_CLOCK_SKEW}.
+     * Для сканов, ограниченных этим пределом, повторная отправка пачки вернёт
+     * {@code ALREADY_CHECKED_IN}: предел сдвигается вместе с текущим временем.</p>
+     *
+     * <p>Если пачка отметила хотя бы одну регистрацию, для сканов с результатом
+     * {@code CHECKED_IN} публикуется {@code checkin.completed}. При частичном повторе
+     * пачки часть событий повторится — аналитика учитывает check-in регистрации один раз.</p>
+     *
+     * @param eventId идентификатор события
+     * @param request пачка сканов
+     * @return результаты по каждому скану
+     * @throws EventNotFoundException если событие не найдено в организации
+     */
+    @Transactional
+    public OfflineCheckInResultDto upload(UUID eventId, OfflineCheckInRequest request) {
+        UUID tenantId = verifyEventAccess(eventId);
+
+        Instant latestAllowed = Instant.now().plus(MAX_CLOCK_SKEW).truncatedTo(ChronoUnit.MICROS);
+        Map<String, Instant> firstScans = new LinkedHashMap<>();
+        for (OfflineCheckInRequest.Scan scan : request.scans()) {
+            firstScans.merge(scan.confirmationCode(), checkInTime(scan, latestAllowed),
+                (a, b) -> a.isBefore(b) ? a : b);
+        }
+
+        int applied = registrationRepository.applyOfflineCheckIns(
+            eventId, tenantId, toScansJson(firstScans), Instant.now());
+
+        Map<String, CheckInEntry> actual = registrationRepository
+            .findCheckInEntriesByEventIdAndCodes(eventId, firstScans.keySet())
+            .stream()
+            .collect(Collectors.toMap(CheckInEntry::getConfirmationCode, Function.identity()));
+
+        List<ScanResult> results = request.scans().stream()
+            .map(scan -> toScanResult(scan, checkInTime(scan, latestAllowed), actual.get(scan.confirmationCode())))
+            .toList();
+
+        if (applied > 0) {
+            publishCheckedIn(results);
+        }
+
+        log.info("Применена пачка офлайн check-in: eventId={}, scans={}, applied={}",
+            eventId, request.scans().size(), applied);
+
+        return new OfflineCheckInResultDto(applied, results);
+    }
+
+    private UUID verifyEventAccess(UUID eventId) {
+        UUID tenantId = TenantContext.getTenantId();
+        if (eventRepository.findByIdAndTenantId(eventId, tenantId).isEmpty()) {
+            throw new EventNotFoundException(eventId, tenantId);
+        }
+        return tenantId;
+    }
+
+    private void publishCheckedIn(List<ScanResult> results) {
+        Set<UUID> checkedIn = results.stream()
+            .filter(result -> result.outcome() == OfflineCheckInOutcome.CHECKED_IN)
+            .map(ScanResult::registrationId)
+            .collect(Collectors.toSet());
+        if (checkedIn.isEmpty()) {
+            return;
+        }
+        registrationRepository.findCheckInFactsByIds(checkedIn)
+            .forEach(registrationEventPublisher::publishCheckedIn);
+    }
+
+    private String toScansJson(Map<String, Instant> firstScans) {
+        List<Map<String, String>> rows = firstScans.entrySet().stream()
+            .map(scan -> Map.of("code", scan.getKey(), "scanned_at", scan.getValue().toString()))
+            .toList();
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Не удалось сериализовать пачку сканов", e);
+        }
+    }
+
+    /**
+     * Время check-in для скана: время устройства, не позже допустимого предела.
+     * Точность timestamptz — микросекунды: сравнение после UPDATE должно быть точным.
+     */
+    private static Instant checkInTime(OfflineCheckInRequest.Scan scan, Instant latestAllowed) {
+        Instant scannedAt = scan.scannedAt().truncatedTo(ChronoUnit.MICROS);
+        return scannedAt.isAfter(latestAllowed) ? latestAllowed : scannedAt;
+    }
+
+    private static ScanResult toScanResult(OfflineCheckInRequest.Scan scan, Instant checkInTime, CheckInEntry entry) {
+        if (entry == null) {
+            return new ScanResult(scan.confirmationCode(), OfflineCheckInOutcome.NOT_FOUND, null, null, null);
+        }
+
+        OfflineCheckInOutcome outcome;
+        if (entry.getCheckedInAt() == null) {
+            outcome = OfflineCheckInOutcome.NOT_ALLOWED;
+        } else if (entry.getCheckedInAt().equals(checkInTime)) {
+            outcome = OfflineCheckInOutcome.CHECKED_IN;
+        } else {
+            outcome = OfflineCheckInOutcome.ALREADY_CHECKED_IN;
+        }
+        return new ScanResult(scan.confirmationCode(), outcome, entry.getRegistrationId(),
+            entry.getStatus(), entry.getCheckedInAt());
+    }
+
+    private static CheckInSnapshotEntryDto toSnapshotEntry(CheckInEntry entry) {
+        return new CheckInSnapshotEntryDto(
+            entry.getConfirmationCode(),
+            entry.getRegistrationId(),
+            entry.getStatus(),
+            entry.getCheckedInAt(),
+            entry.getFirstName(),
+            entry.getLastName(),
+            entry.getTicketTypeName()
+        );
+    }
+}
@@ -0,0 +1,148 @@
+package ru.aqstream.event.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import ru.aqstream.common.security.TokenHasher;
+import ru.aqstream.common.security.UserPrincipal;
+import ru.aqstream.event.api.event.PageViewedEvent;
+
+/**
+ * Учёт просмотров публичных страниц событий для аналитики.
+ *
+ * <p>Просмотр ставится в очередь и сразу возвращает управление: запрос страницы
+ * не ждёт ни БД, ни брокера. Фоновый поток отправляет накопившиеся просмотры
+ * в RabbitMQ напрямую, без outbox. Если очередь заполнена или брокер недоступен,
+ * просмотры отбрасываются — аналитика просмотров приблизительная.</p>
+ *
+ * <p>Посетитель идентифицируется по userId, анонимный — по хешу IP и User-Agent,
+ * сам IP из сервиса не уходит.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PageViewTracker {
+
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long POLL_INTERVAL_MS = 1000;
+    private static final int ANONYMOUS_ID_LENGTH = 32;
+
+    private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<PageViewedEvent> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    /**
+     * Запускает поток отправки.
+     */
+    @PostConstruct
+    public void init() {
+        running = true;
+        worker = Thread.ofPlatform()
+            .name("page-view-publisher")
+            .daemon(true)
+            .start(this::runWorker);
+    }
+
+    /**
+     * Останавливает поток отправки, отправляя уже накопленные просмотры.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join(POLL_INTERVAL_MS * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Учитывает просмотр страницы события. Не блокирует вызывающий поток.
+     *
+     * @param eventId   идентификатор события
+     * @param tenantId  идентификатор организации
+     * @param principal авторизованный пользователь (может быть null)
+     * @param clientIp  IP клиента
+     * @param userAgent User-Agent клиента
+     */
+    public void track(UUID eventId, UUID tenantId, UserPrincipal principal, String clientIp, String userAgent) {
+        PageViewedEvent view = new PageViewedEvent(eventId, tenantId, visitorId(principal, clientIp, userAgent));
+        if (!queue.offer(view)) {
+            long total = dropped.incrementAndGet();
+            // Логируем редко: при переполнении очереди warn на каждый просмотр только добавит нагрузки
+            if (total % QUEUE_CAPACITY == 1) {
+                log.warn("Очередь просмотров переполнена, просмотры отбрасываются: dropped={}", total);
+            }
+        }
+    }
+
+    /**
+     * Псевдонимный идентификатор посетителя.
+     *
+     * @param principal авторизованный пользователь (может быть null)
+     * @param clientIp  IP клиента
+     * @param userAgent User-Agent клиента
+     * @return идентификатор посетителя
+     */
+    static String visitorId(UserPrincipal principal, String clientIp, String userAgent) {
+        if (principal != null) {
+            return "u:" + principal.userId();
+        }
+        String fingerprint = (clientIp != null ? clientIp : "") + "|" + (userAgent != null ? userAgent : "");
+        return "a:" + TokenHasher.hash(fingerprint).substring(0, ANONYMOUS_ID_LENGTH);
+    }
+
+    /**
+     * Цикл отправки: забирает накопившиеся просмотры и отправляет их.
+     */
+    private void runWorker() {
+        List<PageViewedEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (running || !queue.isEmpty()) {
+                PageViewedEvent first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                publishBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Отправляет пачку просмотров. При ошибке брокера остаток пачки отбрасывается.
+     */
+    void publishBatch(List<PageViewedEvent> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PageViewedEvent view = batch.get(i);
+            try {
+                rabbitTemplate.convertAndSend(view.getEventType(), view);
+            } catch (AmqpException e) {
+                log.warn("Не удалось отправить просмотры, отброшено: {}, ошибка={}",
+                    batch.size() - i, e.getMessage());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package ru.aqstream.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Инвалидация кэша публичных страниц событий в Gateway.
+ *
+ * <p>Gateway кэширует анонимные ответы {@code /api/v1/public/events/**}. После коммита
+ * изменений сервис публикует в Redis канал префикс пути, и Gateway удаляет ответы.
+ * Если Redis недоступен, ответы устареют по TTL маршрута.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublicEventCacheInvalidator {
+
+    /**
+     * Redis pub/sub канал инвалидации кэша Gateway.
+     */
+    public static final String CHANNEL = "gateway:response-cache:purge";
+
+    static final String PUBLIC_EVENTS_PATH = "/api/v1/public/events";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Инвалидирует все публичные страницы событий (список и страницы событий).
+     * Используется при изменениях, влияющих на список: публикация, отмена, изменение данных.
+     */
+    public void invalidateAllAfterCommit() {
+        afterCommit(PUBLIC_EVENTS_PATH);
+    }
+
+    /**
+     * Инвалидирует страницу события и его типы билетов.
+     * Используется при изменении количества доступных билетов.
+     *
+     * @param slug URL-slug события
+     */
+    public void invalidateEventAfterCommit(String slug) {
+        afterCommit(PUBLIC_EVENTS_PATH + "/" + slug);
+    }
+
+    private void afterCommit(String pathPrefix) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            purge(pathPrefix);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purge(pathPrefix);
+            }
+        });
+    }
+
+    private void purge(String pathPrefix) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, pathPrefix);
+            log.debug("Инвалидация кэша Gateway: prefix={}", pathPrefix);
+        } catch (DataAccessException e) {
+            log.warn("Не удалось инвалидировать кэш Gateway: prefix={}, error={}", pathPrefix, e.getMessage());
+        }
+    }
+}
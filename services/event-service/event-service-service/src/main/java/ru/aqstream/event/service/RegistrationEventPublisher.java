@@ -4,12 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.event.api.event.CheckInCompletedEvent;
 import ru.aqstream.event.api.event.RegistrationCancelledEvent;
 import ru.aqstream.event.api.event.RegistrationCreatedEvent;
 import ru.aqstream.event.api.event.TicketResendRequestedEvent;
 import ru.aqstream.event.db.entity.Event;
 import ru.aqstream.event.db.entity.Registration;
 import ru.aqstream.event.db.entity.TicketType;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInFact;
 
 /**
  * Публикация событий регистрации в RabbitMQ.
@@ -21,6 +23,7 @@ import ru.aqstream.event.db.entity.TicketType;
 public class RegistrationEventPublisher {
 
     private final EventPublisher eventPublisher;
+    private final PublicEventCacheInvalidator publicEventCacheInvalidator;
 
     /**
      * Публикует событие создания регистрации.
@@ -39,6 +42,7 @@ public class RegistrationEventPublisher {
             event.getTitle(),
             event.getSlug(),
             event.getStartsAt(),
+            ticketType.getId(),
             ticketType.getName(),
             registration.getConfirmationCode(),
             registration.getFirstName(),
@@ -48,6 +52,9 @@ public class RegistrationEventPublisher {
 
         log.debug("Опубликовано событие RegistrationCreatedEvent: registrationId={}",
             registration.getId());
+
+        // Изменилось количество доступных билетов
+        publicEventCacheInvalidator.invalidateEventAfterCommit(event.getSlug());
     }
 
     /**
@@ -68,6 +75,7 @@ public class RegistrationEventPublisher {
             event.getTitle(),
             event.getSlug(),
             event.getStartsAt(),
+            ticketType.getId(),
             ticketType.getName(),
             registration.getFirstName(),
             registration.getLastName(),
@@ -78,6 +86,26 @@ public class RegistrationEventPublisher {
 
         log.debug("Опубликовано событие RegistrationCancelledEvent: registrationId={}, byOrganizer={}",
             registration.getId(), byOrganizer);
+
+        publicEventCacheInvalidator.invalidateEventAfterCommit(event.getSlug());
+    }
+
+    /**
+     * Публикует событие check-in.
+     *
+     * @param checkIn данные выполненного check-in
+     */
+    public void publishCheckedIn(CheckInFact checkIn) {
+        eventPublisher.publish(new CheckInCompletedEvent(
+            checkIn.getRegistrationId(),
+            checkIn.getEventId(),
+            checkIn.getTenantId(),
+            checkIn.getTicketTypeId(),
+            checkIn.getCheckedInAt()
+        ));
+
+        log.debug("Опубликовано событие CheckInCompletedEvent: registrationId={}",
+            checkIn.getRegistrationId());
     }
 
     /**
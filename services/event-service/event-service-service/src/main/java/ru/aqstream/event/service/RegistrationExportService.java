@@ -0,0 +1,209 @@
+package ru.aqstream.event.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.event.api.dto.CustomFieldConfig;
+import ru.aqstream.event.api.dto.ExportFormat;
+import ru.aqstream.event.api.dto.RegistrationFormConfig;
+import ru.aqstream.event.api.dto.RegistrationStatus;
+import ru.aqstream.event.api.exception.EventNotFoundException;
+import ru.aqstream.event.db.entity.Event;
+import ru.aqstream.event.db.repository.EventRepository;
+
+/**
+ * Потоковая выгрузка участников события в CSV или XLSX.
+ *
+ * <p>Регистрации читаются JDBC-курсором: запрос выполняется в read-only транзакции
+ * с {@code fetchSize}, PostgreSQL отдаёт строки порциями по {@link #FETCH_SIZE},
+ * и каждая строка сразу пишется в поток ответа. Сущности не загружаются, память
+ * не зависит от количества участников.</p>
+ *
+ * <p>Кастомные поля становятся колонками в порядке формы регистрации события.
+ * Значения извлекаются из JSONB на стороне БД.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationExportService {
+
+    static final int FETCH_SIZE = 500;
+
+    private static final String[] BASE_HEADERS = {
+        "Код", "Фамилия", "Имя", "Email", "Тип билета", "Статус", "Дата регистрации", "Check-in"
+    };
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final EventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Куда писать выгрузку. Открывается только после проверки доступа к событию,
+     * чтобы ошибка вернулась обычным ответом, а не оборванным файлом.
+     */
+    @FunctionalInterface
+    public interface ExportTarget {
+
+        /**
+         * Подготавливает ответ и возвращает поток для записи.
+         *
+         * @return поток ответа
+         * @throws IOException при ошибке ввода-вывода
+         */
+        OutputStream open() throws IOException;
+    }
+
+    /**
+     * Выгружает участников события текущей организации.
+     *
+     * @param eventId идентификатор события
+     * @param status  фильтр по статусу (null — все)
+     * @param format  формат файла
+     * @param target  поток ответа
+     * @return количество выгруженных участников
+     * @throws EventNotFoundException если событие не найдено
+     * @throws IOException            при ошибке записи в поток
+     */
+    @Transactional(readOnly = true)
+    public long export(UUID eventId, RegistrationStatus status, ExportFormat format, ExportTarget target)
+            throws IOException {
+        UUID tenantId = TenantContext.getTenantId();
+        Event event = eventRepository.findByIdAndTenantId(eventId, tenantId)
+            .orElseThrow(() -> new EventNotFoundException(eventId, tenantId));
+        List<CustomFieldConfig> customFields = customFields(event.getRegistrationFormConfig());
+        ZoneId zone = zone(event.getTimezone());
+
+        long rows;
+        try (ExportWriter writer = open(format, target.open())) {
+            writer.writeRow(headers(customFields));
+            rows = writeRows(writer, eventId, tenantId, status, customFields, zone);
+            writer.finish();
+        }
+
+        log.info("Выгрузка участников: eventId={}, format={}, status={}, rows={}", eventId, format, status, rows);
+        return rows;
+    }
+
+    private long writeRows(
+            ExportWriter writer,
+            UUID eventId,
+            UUID tenantId,
+            RegistrationStatus status,
+            List<CustomFieldConfig> customFields,
+            ZoneId zone) throws IOException {
+        String[] row = new String[BASE_HEADERS.length + customFields.size()];
+        long[] count = {0};
+        RowCallbackHandler handler = rs -> {
+            row[0] = rs.getString("confirmation_code");
+            row[1] = rs.getString("last_name");
+            row[2] = rs.getString("first_name");
+            row[3] = rs.getString("email");
+            row[4] = rs.getString("ticket_type_name");
+            row[5] = rs.getString("status");
+            row[6] = formatTime(rs.getTimestamp("created_at"), zone);
+            row[7] = formatTime(rs.getTimestamp("checked_in_at"), zone);
+            for (int i = 0; i < customFields.size(); i++) {
+                row[BASE_HEADERS.length + i] = rs.getString("cf_" + i);
+            }
+            try {
+                writer.writeRow(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        };
+
+        try {
+            jdbcTemplate.query(statement(eventId, tenantId, status, customFields), handler);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    /**
+     * Forward-only запрос с fetchSize: внутри транзакции драйвер PostgreSQL
+     * читает результат порциями через курсор.
+     */
+    private static PreparedStatementCreator statement(
+            UUID eventId, UUID tenantId, RegistrationStatus status, List<CustomFieldConfig> customFields) {
+        StringBuilder sql = new StringBuilder(512)
+            .append("SELECT r.confirmation_code, r.last_name, r.first_name, r.email, ")
+            .append("t.name AS ticket_type_name, r.status, r.created_at, r.checked_in_at");
+        for (int i = 0; i < customFields.size(); i++) {
+            sql.append(", r.custom_fields ->> ? AS cf_").append(i);
+        }
+        sql.append(" FROM event_service.registrations r")
+            .append(" JOIN event_service.ticket_types t ON t.id = r.ticket_type_id")
+            .append(" WHERE r.event_id = ? AND r.tenant_id = ?");
+        if (status != null) {
+            sql.append(" AND r.status = ?");
+        }
+        sql.append(" ORDER BY r.created_at, r.id");
+
+        return connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            int index = 1;
+            for (CustomFieldConfig field : customFields) {
+                ps.setString(index++, field.name());
+            }
+            ps.setObject(index++, eventId);
+            ps.setObject(index++, tenantId);
+            if (status != null) {
+                ps.setString(index, status.name());
+            }
+            return ps;
+        };
+    }
+
+    private static ExportWriter open(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(out);
+            case XLSX -> new XlsxExportWriter(out, "Участники");
+        };
+    }
+
+    private static String[] headers(List<CustomFieldConfig> customFields) {
+        String[] headers = new String[BASE_HEADERS.length + customFields.size()];
+        System.arraycopy(BASE_HEADERS, 0, headers, 0, BASE_HEADERS.length);
+        for (int i = 0; i < customFields.size(); i++) {
+            headers[BASE_HEADERS.length + i] = customFields.get(i).label();
+        }
+        return headers;
+    }
+
+    private static List<CustomFieldConfig> customFields(RegistrationFormConfig config) {
+        return config != null ? config.customFieldsOrEmpty() : List.of();
+    }
+
+    private static ZoneId zone(String timezone) {
+        try {
+            return timezone != null ? ZoneId.of(timezone) : ZoneOffset.UTC;
+        } catch (DateTimeException e) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private static String formatTime(Timestamp timestamp, ZoneId zone) {
+        return timestamp != null ? DATE_TIME.format(timestamp.toInstant().atZone(zone)) : null;
+    }
+}
@@ -50,8 +50,8 @@ public class RegistrationService {
     /**
      * Символы для генерации confirmation code (без похожих: 0,O,I,L,1).
      */
-    private static final String CONFIRMATION_CODE_CHARS = "ABCDEFGHJKMNPQRSTUVWXYZ23456789";
-    private static final int CONFIRMATION_CODE_LENGTH = 8;
+    static final String CONFIRMATION_CODE_CHARS = "ABCDEFGHJKMNPQRSTUVWXYZ23456789";
+    static final int CONFIRMATION_CODE_LENGTH = 8;
     private static final int MAX_CODE_GENERATION_ATTEMPTS = 10;
 
     private final RegistrationRepository registrationRepository;
@@ -60,6 +60,7 @@ public class RegistrationService {
     private final RegistrationMapper registrationMapper;
     private final RegistrationEventPublisher registrationEventPublisher;
     private final UserClient userClient;
+    private final MembershipService membershipService;
     private final SecureRandom secureRandom = new SecureRandom();
 
     // ==================== Создание регистрации ====================
@@ -123,7 +124,7 @@ public class RegistrationService {
 
         // Для приватных событий проверяем членство в группе
         if (event.getGroupId() != null) {
-            boolean isMember = userClient.isGroupMember(event.getGroupId(), userId);
+            boolean isMember = membershipService.isGroupMember(event.getGroupId(), userId);
             if (!isMember) {
                 log.warn("Попытка регистрации на приватное событие без членства в группе: "
                     + "eventId={}, groupId={}, userId={}", eventId, event.getGroupId(), userId);
@@ -31,6 +31,7 @@ public class TicketTypeService {
     private final TicketTypeRepository ticketTypeRepository;
     private final EventRepository eventRepository;
     private final TicketTypeMapper ticketTypeMapper;
+    private final PublicEventCacheInvalidator publicEventCacheInvalidator;
 
     // ==================== CRUD ====================
 
@@ -69,6 +70,7 @@ public class TicketTypeService {
 
         log.info("Тип билета создан: ticketTypeId={}, eventId={}, name={}",
             ticketType.getId(), eventId, ticketType.getName());
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
 
         return ticketTypeMapper.toDto(ticketType);
     }
@@ -161,6 +163,7 @@ public class TicketTypeService {
         ticketType = ticketTypeRepository.save(ticketType);
 
         log.info("Тип билета обновлён: ticketTypeId={}, eventId={}", ticketTypeId, eventId);
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
 
         return ticketTypeMapper.toDto(ticketType);
     }
@@ -195,6 +198,7 @@ public class TicketTypeService {
         ticketTypeRepository.delete(ticketType);
 
         log.info("Тип билета удалён: ticketTypeId={}, eventId={}", ticketTypeId, eventId);
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
     }
 
     /**
@@ -218,6 +222,7 @@ public class TicketTypeService {
         ticketType = ticketTypeRepository.save(ticketType);
 
         log.info("Тип билета деактивирован: ticketTypeId={}, eventId={}", ticketTypeId, eventId);
+        publicEventCacheInvalidator.invalidateAllAfterCommit();
 
         return ticketTypeMapper.toDto(ticketType);
     }
@@ -0,0 +1,61 @@
+package ru.aqstream.event.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Запись выгрузки в XLSX через потоковый SXSSF.
+ *
+ * <p>В памяти держится окно из {@link #ROW_WINDOW} строк, остальные сбрасываются
+ * во сжатый временный файл. Файл удаляется при закрытии писателя.
+ * Все значения записываются строками, поэтому формулы из данных участников не выполняются.</p>
+ */
+final class XlsxExportWriter implements ExportWriter {
+
+    static final int ROW_WINDOW = 100;
+
+    private static final int MAX_CELL_LENGTH = SpreadsheetVersion.EXCEL2007.getMaxTextLength();
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final Sheet sheet;
+    private int rowIndex;
+
+    XlsxExportWriter(OutputStream out, String sheetName) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(sheetName);
+    }
+
+    @Override
+    public void writeRow(String[] values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (value != null) {
+                row.createCell(i).setCellValue(
+                    value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value);
+            }
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.dispose();
+        } finally {
+            workbook.close();
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
 import ru.aqstream.user.client.UserClient;
 import ru.aqstream.common.security.TenantContext;
@@ -55,6 +56,9 @@ class CheckInControllerIntegrationTest extends SharedServicesTestContainer {
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -29,6 +29,7 @@ import ru.aqstream.common.web.GlobalExceptionHandler;
 import ru.aqstream.event.db.entity.Event;
 import ru.aqstream.event.db.repository.EventRepository;
 import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
 import ru.aqstream.user.client.UserClient;
 
@@ -66,6 +67,9 @@ class DashboardControllerIntegrationTest extends SharedServicesTestContainer {
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -37,6 +37,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.context.annotation.Import;
 import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
 import ru.aqstream.user.api.dto.OrganizationMembershipDto;
 import ru.aqstream.user.api.dto.OrganizationRole;
@@ -87,6 +88,9 @@ class EventControllerIntegrationTest extends SharedServicesTestContainer {
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
     @Autowired
     private EventRepository eventRepository;
 
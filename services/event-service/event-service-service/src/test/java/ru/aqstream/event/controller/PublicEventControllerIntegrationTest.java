@@ -1,6 +1,12 @@
 package ru.aqstream.event.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.aqstream.common.test.SecurityTestUtils.jwt;
@@ -37,14 +43,18 @@ import ru.aqstream.event.db.entity.TicketType;
 import ru.aqstream.event.db.repository.EventRepository;
 import ru.aqstream.event.db.repository.RegistrationRepository;
 import ru.aqstream.event.db.repository.TicketTypeRepository;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
+import ru.aqstream.event.service.PageViewTracker;
 import ru.aqstream.user.client.UserClient;
 
 import static io.qameta.allure.SeverityLevel.BLOCKER;
+import static io.qameta.allure.SeverityLevel.NORMAL;
 
 /**
  * Интеграционные тесты для PublicEventController.
- * Проверяет endpoint GET /api/v1/public/events/{slug} с опциональной аутентификацией.
+ * Проверяет endpoint GET /api/v1/public/events/{slug} с опциональной аутентификацией
+ * и учёт просмотров POST /api/v1/public/events/{slug}/views.
  */
 @IntegrationTest
 @AutoConfigureMockMvc
@@ -71,6 +81,12 @@ class PublicEventControllerIntegrationTest extends SharedServicesTestContainer {
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
+    @MockitoBean
+    private PageViewTracker pageViewTracker;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -343,4 +359,43 @@ class PublicEventControllerIntegrationTest extends SharedServicesTestContainer {
             TestLogger.info("Корректно вернули 404 для черновика события");
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/public/events/{slug}/views")
+    class TrackView {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("просмотр страницы учитывается для события и его организации")
+        void trackView_PublicEvent_Returns202AndTracksView() throws Exception {
+            mockMvc.perform(post("/api/v1/public/events/" + testEvent.getSlug() + "/views")
+                    .header("User-Agent", "Mozilla/5.0"))
+                .andExpect(status().isAccepted());
+
+            verify(pageViewTracker).track(eq(testEvent.getId()), eq(tenantId), isNull(), any(), eq("Mozilla/5.0"));
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("чтение события не учитывает просмотр: GET кэшируется в Gateway")
+        void getBySlug_PublicEvent_DoesNotTrackView() throws Exception {
+            mockMvc.perform(get("/api/v1/public/events/" + testEvent.getSlug()))
+                .andExpect(status().isOk());
+
+            verifyNoInteractions(pageViewTracker);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("возвращает 404 для непубличного события без учёта просмотра")
+        void trackView_NotPublic_Returns404() throws Exception {
+            testEvent.updateVisibility(false, null);
+            eventRepository.save(testEvent);
+
+            mockMvc.perform(post("/api/v1/public/events/" + testEvent.getSlug() + "/views"))
+                .andExpect(status().isNotFound());
+
+            verifyNoInteractions(pageViewTracker);
+        }
+    }
 }
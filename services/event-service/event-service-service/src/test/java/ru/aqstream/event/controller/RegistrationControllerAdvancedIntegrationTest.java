@@ -42,6 +42,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
 import ru.aqstream.user.api.dto.UserDto;
 import ru.aqstream.user.client.UserClient;
@@ -89,6 +90,9 @@ class RegistrationControllerAdvancedIntegrationTest extends SharedServicesTestCo
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
     @Autowired
     private EventRepository eventRepository;
 
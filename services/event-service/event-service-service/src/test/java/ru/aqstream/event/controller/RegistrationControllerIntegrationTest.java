@@ -31,6 +31,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
 import ru.aqstream.user.client.UserClient;
 import ru.aqstream.common.security.JwtTokenProvider;
@@ -75,6 +76,9 @@ class RegistrationControllerIntegrationTest extends SharedServicesTestContainer
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -5,6 +5,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static ru.aqstream.common.test.SecurityTestUtils.jwt;
@@ -15,8 +17,11 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.Story;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -33,6 +38,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.event.listener.MembershipEventListener;
 import ru.aqstream.event.listener.OrganizationEventListener;
 import ru.aqstream.user.api.dto.UserDto;
 import ru.aqstream.user.client.UserClient;
@@ -43,6 +49,8 @@ import ru.aqstream.common.test.SharedServicesTestContainer;
 import ru.aqstream.common.test.allure.AllureFeatures;
 import ru.aqstream.common.web.GlobalExceptionHandler;
 import ru.aqstream.event.api.dto.CancelRegistrationRequest;
+import ru.aqstream.event.api.dto.CustomFieldConfig;
+import ru.aqstream.event.api.dto.RegistrationFormConfig;
 import ru.aqstream.event.api.dto.RegistrationStatus;
 import ru.aqstream.event.db.entity.Event;
 import ru.aqstream.event.db.entity.Registration;
@@ -81,6 +89,9 @@ class RegistrationControllerOrganizerIntegrationTest extends SharedServicesTestC
     @MockitoBean
     private OrganizationEventListener organizationEventListener;
 
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
     @Autowired
     private EventRepository eventRepository;
 
@@ -195,6 +206,60 @@ class RegistrationControllerOrganizerIntegrationTest extends SharedServicesTestC
         }
     }
 
+    @Nested
+    @Story(AllureFeatures.Stories.REGISTRATION_FLOW)
+    @DisplayName("GET /api/v1/events/{eventId}/registrations/export")
+    class ExportEventRegistrations {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("выгружает участников в CSV с кастомными полями")
+        void exportEventRegistrations_Csv_ReturnsRowsWithCustomFields() throws Exception {
+            // given
+            testEvent.setRegistrationFormConfig(new RegistrationFormConfig(List.of(
+                new CustomFieldConfig("company", "Компания", "text", false, null))));
+            testEvent = eventRepository.save(testEvent);
+            Registration registration = createTestRegistration();
+            registration.setCustomFields(Map.of("company", "ООО \"Ромашка\", филиал"));
+            registrationRepository.save(registration);
+
+            // when
+            String body = mockMvc.perform(get("/api/v1/events/" + testEvent.getId() + "/registrations/export")
+                    .with(organizerAuth()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition",
+                    "attachment; filename=\"registrations-" + testEvent.getId() + ".csv\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+            // then
+            List<String> lines = body.lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(lines.get(0)).endsWith("Check-in,Компания");
+            assertThat(lines.get(1))
+                .startsWith(registration.getConfirmationCode() + "," + testLastName + "," + testFirstName)
+                .endsWith(",\"ООО \"\"Ромашка\"\", филиал\"");
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("возвращает 404 для несуществующего события")
+        void exportEventRegistrations_NotFound_ReturnsNotFound() throws Exception {
+            mockMvc.perform(get("/api/v1/events/" + UUID.randomUUID() + "/registrations/export")
+                    .with(organizerAuth()))
+                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("возвращает 403 без роли организатора")
+        void exportEventRegistrations_NotOrganizer_ReturnsForbidden() throws Exception {
+            mockMvc.perform(get("/api/v1/events/" + testEvent.getId() + "/registrations/export")
+                    .with(userAuth()))
+                .andExpect(status().isForbidden());
+        }
+    }
+
     @Nested
     @Story(AllureFeatures.Stories.REGISTRATION_FLOW)
     @DisplayName("DELETE /api/v1/events/{eventId}/registrations/{registrationId}")
@@ -0,0 +1,150 @@
+package ru.aqstream.event.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static io.qameta.allure.SeverityLevel.BLOCKER;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import ru.aqstream.common.api.event.DomainEvent;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.service.MembershipService;
+import ru.aqstream.user.api.dto.OrganizationRole;
+import ru.aqstream.user.api.event.GroupDeletedEvent;
+import ru.aqstream.user.api.event.GroupMemberAddedEvent;
+import ru.aqstream.user.api.event.GroupMemberRemovedEvent;
+import ru.aqstream.user.api.event.OrganizationMemberRemovedEvent;
+import ru.aqstream.user.api.event.OrganizationMemberRoleChangedEvent;
+
+@UnitTest
+@Feature(AllureFeatures.Features.EVENT_MANAGEMENT)
+@Story(AllureFeatures.Stories.EVENT_PERMISSIONS)
+@DisplayName("MembershipEventListener")
+class MembershipEventListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private MembershipService membershipService;
+
+    private MembershipEventListener listener;
+    private UUID organizationId;
+    private UUID groupId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        listener = new MembershipEventListener(membershipService, objectMapper);
+        organizationId = UUID.randomUUID();
+        groupId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @Severity(BLOCKER)
+    @DisplayName("сообщение outbox (JSON-строка с __TypeId__=String) отзывает роль удалённого члена")
+    void handle_OutboxMemberRemoved_RevokesRole() throws Exception {
+        // given
+        OrganizationMemberRemovedEvent event =
+            new OrganizationMemberRemovedEvent(organizationId, userId, UUID.randomUUID());
+        Message message = outboxMessage(event);
+
+        // then: тело сообщения — строка, тип по нему не определить
+        assertThat(message.getMessageProperties().getHeader("__TypeId__").toString())
+            .isEqualTo(String.class.getName());
+
+        // when
+        listener.handle(message);
+
+        // then
+        verify(membershipService).applyOrganizationRole(organizationId, userId, null, event.getOccurredAt());
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("изменение роли применяется с новой ролью и версией события")
+    void handle_OutboxRoleChanged_AppliesRole() throws Exception {
+        // given
+        OrganizationMemberRoleChangedEvent event = new OrganizationMemberRoleChangedEvent(
+            organizationId, userId, OrganizationRole.MODERATOR, UUID.randomUUID());
+
+        // when
+        listener.handle(outboxMessage(event));
+
+        // then
+        verify(membershipService).applyOrganizationRole(
+            organizationId, userId, OrganizationRole.MODERATOR, event.getOccurredAt());
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("добавление и удаление из группы различаются по routing key")
+    void handle_OutboxGroupMembership_AppliesByRoutingKey() throws Exception {
+        // given
+        GroupMemberAddedEvent added = new GroupMemberAddedEvent(groupId, userId, UUID.randomUUID());
+        GroupMemberRemovedEvent removed = new GroupMemberRemovedEvent(groupId, userId, UUID.randomUUID(), false);
+
+        // when
+        listener.handle(outboxMessage(added));
+        listener.handle(outboxMessage(removed));
+
+        // then
+        verify(membershipService).applyGroupMembership(groupId, userId, true, added.getOccurredAt());
+        verify(membershipService).applyGroupMembership(groupId, userId, false, removed.getOccurredAt());
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("удаление группы очищает её членство")
+    void handle_OutboxGroupDeleted_RemovesGroup() throws Exception {
+        // when
+        listener.handle(outboxMessage(new GroupDeletedEvent(groupId, organizationId, UUID.randomUUID())));
+
+        // then
+        verify(membershipService).removeGroup(groupId);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("сообщение с некорректными полями отправляется в DLQ")
+    void handle_MalformedIds_RejectsWithoutRequeue() {
+        // given
+        MessageProperties properties = new MessageProperties();
+        properties.setReceivedRoutingKey(MembershipEventListener.ORGANIZATION_MEMBER_REMOVED);
+        Message message = new Message("{\"organizationId\":\"not-a-uuid\"}".getBytes(StandardCharsets.UTF_8),
+            properties);
+
+        // then
+        assertThatThrownBy(() -> listener.handle(message))
+            .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+        verifyNoInteractions(membershipService);
+    }
+
+    /**
+     * Сообщение в том виде, в каком его отправляет OutboxProcessor:
+     * payload — строка JSON, сериализованная конвертером ещё раз.
+     */
+    private Message outboxMessage(DomainEvent event) throws Exception {
+        String payload = objectMapper.writeValueAsString(event);
+        Message message = new Jackson2JsonMessageConverter(objectMapper).toMessage(payload, new MessageProperties());
+        message.getMessageProperties().setReceivedRoutingKey(event.getEventType());
+        return message;
+    }
+}
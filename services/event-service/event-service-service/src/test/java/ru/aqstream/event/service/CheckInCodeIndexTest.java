@@ -0,0 +1,137 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.api.dto.RegistrationStatus;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInEntry;
+
+@UnitTest
+@Feature(AllureFeatures.Features.CHECK_IN)
+@Story(AllureFeatures.Stories.CHECK_IN_PROCESS)
+@DisplayName("CheckInCodeIndex")
+class CheckInCodeIndexTest {
+
+    private static final Faker FAKER = new Faker();
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("находит каждую регистрацию события по коду")
+    void find_ManyCodes_ReturnsMatchingRegistrations() {
+        // given
+        Map<String, UUID> registrations = new LinkedHashMap<>();
+        while (registrations.size() < 5_000) {
+            registrations.put(generateConfirmationCode(), UUID.randomUUID());
+        }
+        List<CheckInEntry> entries = new ArrayList<>();
+        registrations.forEach((code, id) -> entries.add(entry(id, code, RegistrationStatus.CONFIRMED, null)));
+
+        // when
+        CheckInCodeIndex index = CheckInCodeIndex.build(entries);
+
+        // then
+        assertThat(index.size()).isEqualTo(registrations.size());
+        registrations.forEach((code, id) -> assertThat(index.registrationId(index.find(code))).isEqualTo(id));
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("не находит неизвестный код и код вне алфавита")
+    void find_UnknownCode_ReturnsMinusOne() {
+        // given
+        CheckInCodeIndex index = CheckInCodeIndex.build(List.of(
+            entry(UUID.randomUUID(), "ABCD2345", RegistrationStatus.CONFIRMED, null)));
+
+        // when/then
+        assertThat(index.find("ABCD2346")).isEqualTo(-1);
+        assertThat(index.find("ABCD234O")).isEqualTo(-1);
+        assertThat(index.find("abcd2345")).isEqualTo(-1);
+        assertThat(index.find(null)).isEqualTo(-1);
+        assertThat(CheckInCodeIndex.EMPTY.find("ABCD2345")).isEqualTo(-1);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("сохраняет статус, время check-in и данные для ответа")
+    void build_Entry_KeepsCheckInData() {
+        // given
+        UUID registrationId = UUID.randomUUID();
+        Instant checkedInAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        // when
+        CheckInCodeIndex index = CheckInCodeIndex.build(List.of(
+            entry(registrationId, "ZZZZ9999", RegistrationStatus.CANCELLED, checkedInAt)));
+        int slot = index.find("ZZZZ9999");
+
+        // then
+        assertThat(index.status(slot)).isEqualTo(RegistrationStatus.CANCELLED);
+        assertThat(index.checkedInAt(slot)).isEqualTo(checkedInAt);
+        assertThat(index.eventTitle(slot)).isEqualTo("Конференция");
+        assertThat(index.ticketTypeName(slot)).isEqualTo("Стандарт");
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("захватывает код для записи только один раз")
+    void tryClaim_ConcurrentScan_OnlyFirstSucceeds() {
+        // given
+        CheckInCodeIndex index = CheckInCodeIndex.build(List.of(
+            entry(UUID.randomUUID(), "ABCD2345", RegistrationStatus.CONFIRMED, null)));
+        int slot = index.find("ABCD2345");
+
+        // when/then
+        assertThat(index.tryClaim(slot)).isTrue();
+        assertThat(index.tryClaim(slot)).isFalse();
+        assertThat(index.checkedInAt(slot)).isNull();
+
+        index.release(slot);
+        assertThat(index.tryClaim(slot)).isTrue();
+
+        index.markCheckedIn(slot, Instant.now());
+        index.release(slot);
+        assertThat(index.tryClaim(slot)).isFalse();
+        assertThat(index.checkedInAt(slot)).isNotNull();
+    }
+
+    private CheckInEntry entry(UUID registrationId, String code, RegistrationStatus status, Instant checkedInAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("registrationId", registrationId);
+        values.put("confirmationCode", code);
+        values.put("status", status);
+        values.put("checkedInAt", checkedInAt);
+        values.put("firstName", FAKER.name().firstName());
+        values.put("lastName", FAKER.name().lastName());
+        values.put("ticketTypeName", "Стандарт");
+        values.put("eventTitle", "Конференция");
+        return PROJECTIONS.createProjection(CheckInEntry.class, values);
+    }
+
+    private String generateConfirmationCode() {
+        String chars = RegistrationService.CONFIRMATION_CODE_CHARS;
+        StringBuilder sb = new StringBuilder(RegistrationService.CONFIRMATION_CODE_LENGTH);
+        for (int i = 0; i < RegistrationService.CONFIRMATION_CODE_LENGTH; i++) {
+            sb.append(chars.charAt(FAKER.random().nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -3,8 +3,10 @@ package ru.aqstream.event.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static io.qameta.allure.SeverityLevel.NORMAL;
 
@@ -14,6 +16,9 @@ import io.qameta.allure.Story;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import net.datafaker.Faker;
@@ -22,6 +27,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.aqstream.common.test.UnitTest;
 import ru.aqstream.common.test.allure.AllureFeatures;
 import ru.aqstream.event.api.dto.CheckInInfoDto;
@@ -34,6 +41,7 @@ import ru.aqstream.event.db.entity.Event;
 import ru.aqstream.event.db.entity.Registration;
 import ru.aqstream.event.db.entity.TicketType;
 import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInEntry;
 
 @UnitTest
 @Feature(AllureFeatures.Features.CHECK_IN)
@@ -43,9 +51,16 @@ class CheckInServiceTest {
     @Mock
     private RegistrationRepository registrationRepository;
 
+    @Mock
+    private CheckInIndexService checkInIndexService;
+
+    @Mock
+    private CheckInBatchWriter checkInBatchWriter;
+
     private CheckInService checkInService;
 
     private static final Faker FAKER = new Faker();
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
 
     private String confirmationCode;
     private UUID tenantId;
@@ -60,7 +75,7 @@ class CheckInServiceTest {
 
     @BeforeEach
     void setUp() {
-        checkInService = new CheckInService(registrationRepository);
+        checkInService = new CheckInService(registrationRepository, checkInIndexService, checkInBatchWriter);
 
         // Генерируем тестовые данные
         confirmationCode = generateConfirmationCode();
@@ -85,9 +100,8 @@ class CheckInServiceTest {
         @DisplayName("возвращает информацию о регистрации")
         void getCheckInInfo_ValidCode_ReturnsInfo() {
             // Given
-            Registration registration = createConfirmedRegistration();
-            when(registrationRepository.findByConfirmationCode(confirmationCode))
-                .thenReturn(Optional.of(registration));
+            when(registrationRepository.findCheckInInfoByConfirmationCode(confirmationCode))
+                .thenReturn(Optional.of(createCheckInInfo(null)));
 
             // When
             CheckInInfoDto info = checkInService.getCheckInInfo(confirmationCode);
@@ -111,9 +125,8 @@ class CheckInServiceTest {
         @DisplayName("возвращает информацию с отметкой о check-in")
         void getCheckInInfo_AlreadyCheckedIn_ReturnsInfoWithCheckedInAt() {
             // Given
-            Registration registration = createCheckedInRegistration();
-            when(registrationRepository.findByConfirmationCode(confirmationCode))
-                .thenReturn(Optional.of(registration));
+            when(registrationRepository.findCheckInInfoByConfirmationCode(confirmationCode))
+                .thenReturn(Optional.of(createCheckInInfo(Instant.now())));
 
             // When
             CheckInInfoDto info = checkInService.getCheckInInfo(confirmationCode);
@@ -128,7 +141,7 @@ class CheckInServiceTest {
         @DisplayName("выбрасывает исключение если регистрация не найдена")
         void getCheckInInfo_NotFound_ThrowsException() {
             // Given
-            when(registrationRepository.findByConfirmationCode(confirmationCode))
+            when(registrationRepository.findCheckInInfoByConfirmationCode(confirmationCode))
                 .thenReturn(Optional.empty());
 
             // When & Then
@@ -142,6 +155,11 @@ class CheckInServiceTest {
     @DisplayName("checkIn")
     class CheckIn {
 
+        @BeforeEach
+        void setUp() {
+            when(checkInIndexService.current()).thenReturn(CheckInCodeIndex.EMPTY);
+        }
+
         @Test
         @Severity(NORMAL)
         @DisplayName("успешно выполняет check-in для подтверждённой регистрации")
@@ -150,8 +168,7 @@ class CheckInServiceTest {
             Registration registration = createConfirmedRegistration();
             when(registrationRepository.findByConfirmationCode(confirmationCode))
                 .thenReturn(Optional.of(registration));
-            when(registrationRepository.save(any(Registration.class)))
-                .thenAnswer(inv -> inv.getArgument(0));
+            when(checkInBatchWriter.checkIn(eq(registrationId), any(Instant.class))).thenReturn(true);
 
             // When
             CheckInResultDto result = checkInService.checkIn(confirmationCode);
@@ -166,9 +183,9 @@ class CheckInServiceTest {
             assertThat(result.checkedInAt()).isNotNull();
             assertThat(result.message()).contains("успешно");
 
-            // Проверяем что registration был сохранён
-            verify(registrationRepository).save(registration);
-            assertThat(registration.isCheckedIn()).isTrue();
+            // Проверяем что check-in записан условным UPDATE, а не сохранением сущности
+            verify(checkInBatchWriter).checkIn(registrationId, result.checkedInAt());
+            verify(registrationRepository, never()).save(any());
         }
 
         @Test
@@ -186,6 +203,7 @@ class CheckInServiceTest {
 
             // Проверяем что save не вызывался
             verify(registrationRepository, never()).save(any());
+            verifyNoInteractions(checkInBatchWriter);
         }
 
         @Test
@@ -202,6 +220,7 @@ class CheckInServiceTest {
                 .isInstanceOf(CheckInNotAllowedException.class);
 
             verify(registrationRepository, never()).save(any());
+            verifyNoInteractions(checkInBatchWriter);
         }
 
         @Test
@@ -217,6 +236,102 @@ class CheckInServiceTest {
                 .isInstanceOf(RegistrationNotFoundByCodeException.class);
 
             verify(registrationRepository, never()).save(any());
+            verifyNoInteractions(checkInBatchWriter);
+        }
+    }
+
+    @Nested
+    @Story(AllureFeatures.Stories.CHECK_IN_PROCESS)
+    @DisplayName("checkIn по индексу")
+    class CheckInFromIndex {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("выполняет check-in без чтения регистрации из БД")
+        void checkIn_IndexedCode_SkipsRegistrationLookup() {
+            // Given
+            CheckInCodeIndex index = indexOf(RegistrationStatus.CONFIRMED, null);
+            when(checkInIndexService.current()).thenReturn(index);
+            when(checkInBatchWriter.checkIn(eq(registrationId), any(Instant.class))).thenReturn(true);
+
+            // When
+            CheckInResultDto result = checkInService.checkIn(confirmationCode);
+
+            // Then
+            assertThat(result.registrationId()).isEqualTo(registrationId);
+            assertThat(result.eventTitle()).isEqualTo(eventTitle);
+            assertThat(result.ticketTypeName()).isEqualTo(ticketTypeName);
+            assertThat(result.firstName()).isEqualTo(firstName);
+            assertThat(index.checkedInAt(index.find(confirmationCode))).isNotNull();
+            verifyNoInteractions(registrationRepository);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("отклоняет повторный скан без обращения к БД")
+        void checkIn_RepeatedScan_RejectedInMemory() {
+            // Given
+            CheckInCodeIndex index = indexOf(RegistrationStatus.CONFIRMED, null);
+            when(checkInIndexService.current()).thenReturn(index);
+            when(checkInBatchWriter.checkIn(eq(registrationId), any(Instant.class))).thenReturn(true);
+            checkInService.checkIn(confirmationCode);
+
+            // When & Then
+            assertThatThrownBy(() -> checkInService.checkIn(confirmationCode))
+                .isInstanceOf(AlreadyCheckedInException.class);
+
+            verify(checkInBatchWriter).checkIn(eq(registrationId), any(Instant.class));
+            verifyNoInteractions(registrationRepository);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("отклоняет отменённую регистрацию без обращения к БД")
+        void checkIn_CancelledRegistration_RejectedInMemory() {
+            // Given
+            when(checkInIndexService.current()).thenReturn(indexOf(RegistrationStatus.CANCELLED, null));
+
+            // When & Then
+            assertThatThrownBy(() -> checkInService.checkIn(confirmationCode))
+                .isInstanceOf(CheckInNotAllowedException.class);
+
+            verifyNoInteractions(registrationRepository, checkInBatchWriter);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("при check-in на другом инстансе отвечает по состоянию БД и обновляет индекс")
+        void checkIn_CheckedInElsewhere_RejectsAndUpdatesIndex() {
+            // Given
+            CheckInCodeIndex index = indexOf(RegistrationStatus.CONFIRMED, null);
+            Instant checkedInElsewhere = Instant.now().minusSeconds(30).truncatedTo(ChronoUnit.MILLIS);
+            when(checkInIndexService.current()).thenReturn(index);
+            when(checkInBatchWriter.checkIn(eq(registrationId), any(Instant.class))).thenReturn(false);
+            when(registrationRepository.findCheckInEntryById(registrationId))
+                .thenReturn(Optional.of(entry(RegistrationStatus.CONFIRMED, checkedInElsewhere)));
+
+            // When & Then
+            assertThatThrownBy(() -> checkInService.checkIn(confirmationCode))
+                .isInstanceOf(AlreadyCheckedInException.class);
+
+            assertThat(index.checkedInAt(index.find(confirmationCode))).isEqualTo(checkedInElsewhere);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("освобождает код, если запись check-in не удалась")
+        void checkIn_WriteFailed_ReleasesCode() {
+            // Given
+            CheckInCodeIndex index = indexOf(RegistrationStatus.CONFIRMED, null);
+            when(checkInIndexService.current()).thenReturn(index);
+            when(checkInBatchWriter.checkIn(eq(registrationId), any(Instant.class)))
+                .thenThrow(new IllegalStateException("db down"));
+
+            // When & Then
+            assertThatThrownBy(() -> checkInService.checkIn(confirmationCode))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(index.tryClaim(index.find(confirmationCode))).isTrue();
         }
     }
 
@@ -230,9 +345,8 @@ class CheckInServiceTest {
         @DisplayName("возвращает false для не прошедшего check-in")
         void isCheckedIn_NotCheckedIn_ReturnsFalse() {
             // Given
-            Registration registration = createConfirmedRegistration();
-            when(registrationRepository.findByConfirmationCode(confirmationCode))
-                .thenReturn(Optional.of(registration));
+            when(registrationRepository.findCheckInInfoByConfirmationCode(confirmationCode))
+                .thenReturn(Optional.of(createCheckInInfo(null)));
 
             // When
             boolean result = checkInService.isCheckedIn(confirmationCode);
@@ -246,9 +360,8 @@ class CheckInServiceTest {
         @DisplayName("возвращает true для прошедшего check-in")
         void isCheckedIn_CheckedIn_ReturnsTrue() {
             // Given
-            Registration registration = createCheckedInRegistration();
-            when(registrationRepository.findByConfirmationCode(confirmationCode))
-                .thenReturn(Optional.of(registration));
+            when(registrationRepository.findCheckInInfoByConfirmationCode(confirmationCode))
+                .thenReturn(Optional.of(createCheckInInfo(Instant.now())));
 
             // When
             boolean result = checkInService.isCheckedIn(confirmationCode);
@@ -283,6 +396,31 @@ class CheckInServiceTest {
         return registration;
     }
 
+    private CheckInInfoDto createCheckInInfo(Instant checkedInAt) {
+        return new CheckInInfoDto(
+            registrationId, confirmationCode, eventId, eventTitle, Instant.now().plus(7, ChronoUnit.DAYS),
+            ticketTypeName, firstName, lastName, email, RegistrationStatus.CONFIRMED,
+            checkedInAt != null, checkedInAt
+        );
+    }
+
+    private CheckInCodeIndex indexOf(RegistrationStatus status, Instant checkedInAt) {
+        return CheckInCodeIndex.build(List.of(entry(status, checkedInAt)));
+    }
+
+    private CheckInEntry entry(RegistrationStatus status, Instant checkedInAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("registrationId", registrationId);
+        values.put("confirmationCode", confirmationCode);
+        values.put("status", status);
+        values.put("checkedInAt", checkedInAt);
+        values.put("firstName", firstName);
+        values.put("lastName", lastName);
+        values.put("ticketTypeName", ticketTypeName);
+        values.put("eventTitle", eventTitle);
+        return PROJECTIONS.createProjection(CheckInEntry.class, values);
+    }
+
     private Event createEvent() {
         Event event = Event.create(
             eventTitle,
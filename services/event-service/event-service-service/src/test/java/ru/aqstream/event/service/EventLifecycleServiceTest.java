@@ -64,6 +64,9 @@ class EventLifecycleServiceTest {
     @Mock
     private EventAuditService eventAuditService;
 
+    @Mock
+    private PublicEventCacheInvalidator publicEventCacheInvalidator;
+
     private EventLifecycleService service;
 
     private static final Faker FAKER = new Faker();
@@ -84,7 +87,8 @@ class EventLifecycleServiceTest {
             eventMapper,
             recurrenceRuleMapper,
             eventPublisher,
-            eventAuditService
+            eventAuditService,
+            publicEventCacheInvalidator
         );
 
         tenantId = UUID.randomUUID();
@@ -193,6 +197,7 @@ class EventLifecycleServiceTest {
             verify(eventRepository).save(testEvent);
             verify(eventPublisher).publish(any());
             verify(eventAuditService).logPublished(testEvent);
+            verify(publicEventCacheInvalidator).invalidateAllAfterCommit();
         }
 
         @Test
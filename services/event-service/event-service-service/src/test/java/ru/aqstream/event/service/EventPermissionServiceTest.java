@@ -21,7 +21,6 @@ import ru.aqstream.common.test.UnitTest;
 import ru.aqstream.common.test.allure.AllureFeatures;
 import ru.aqstream.user.api.dto.OrganizationMembershipDto;
 import ru.aqstream.user.api.dto.OrganizationRole;
-import ru.aqstream.user.client.UserClient;
 
 @UnitTest
 @Feature(AllureFeatures.Features.EVENT_MANAGEMENT)
@@ -29,7 +28,7 @@ import ru.aqstream.user.client.UserClient;
 class EventPermissionServiceTest {
 
     @Mock
-    private UserClient userClient;
+    private MembershipService membershipService;
 
     private EventPermissionService service;
 
@@ -38,7 +37,7 @@ class EventPermissionServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new EventPermissionService(userClient);
+        service = new EventPermissionService(membershipService);
         userId = UUID.randomUUID();
         organizationId = UUID.randomUUID();
     }
@@ -57,8 +56,8 @@ class EventPermissionServiceTest {
                 service.validateCreatePermission(userId, organizationId, true)
             );
 
-            // Не вызывает userClient для админов
-            verifyNoInteractions(userClient);
+            // Не вызывает membershipService для админов
+            verifyNoInteractions(membershipService);
         }
 
         @Test
@@ -66,7 +65,7 @@ class EventPermissionServiceTest {
         @DisplayName("OWNER может создавать события")
         void validateCreatePermission_Owner_Allows() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.OWNER));
 
             // when/then
@@ -80,7 +79,7 @@ class EventPermissionServiceTest {
         @DisplayName("MODERATOR может создавать события")
         void validateCreatePermission_Moderator_Allows() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.MODERATOR));
 
             // when/then
@@ -94,7 +93,7 @@ class EventPermissionServiceTest {
         @DisplayName("Не-член организации получает 403")
         void validateCreatePermission_NotMember_ThrowsForbidden() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.notMember(organizationId, userId));
 
             // when/then
@@ -110,7 +109,7 @@ class EventPermissionServiceTest {
         @DisplayName("Ошибка при вызове userClient выбрасывает ForbiddenException")
         void validateCreatePermission_UserClientError_ThrowsForbidden() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenThrow(new RuntimeException("Connection error"));
 
             // when/then
@@ -136,8 +135,8 @@ class EventPermissionServiceTest {
                 service.validateManagePermission(userId, organizationId, true)
             );
 
-            // Не вызывает userClient для админов
-            verifyNoInteractions(userClient);
+            // Не вызывает membershipService для админов
+            verifyNoInteractions(membershipService);
         }
 
         @Test
@@ -145,7 +144,7 @@ class EventPermissionServiceTest {
         @DisplayName("OWNER может управлять событиями")
         void validateManagePermission_Owner_Allows() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.OWNER));
 
             // when/then
@@ -159,7 +158,7 @@ class EventPermissionServiceTest {
         @DisplayName("MODERATOR может управлять событиями")
         void validateManagePermission_Moderator_Allows() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.MODERATOR));
 
             // when/then
@@ -173,7 +172,7 @@ class EventPermissionServiceTest {
         @DisplayName("Обычный пользователь не может управлять событиями")
         void validateManagePermission_RegularUser_ThrowsForbidden() {
             // given: пользователь член организации, но без роли OWNER/MODERATOR
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, null));
 
             // when/then
@@ -189,7 +188,7 @@ class EventPermissionServiceTest {
         @DisplayName("Не-член организации получает 403")
         void validateManagePermission_NotMember_ThrowsForbidden() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.notMember(organizationId, userId));
 
             // when/then
@@ -227,8 +226,8 @@ class EventPermissionServiceTest {
                 service.validateViewPermission(userId, organizationId, true)
             );
 
-            // Не вызывает userClient для админов
-            verifyNoInteractions(userClient);
+            // Не вызывает membershipService для админов
+            verifyNoInteractions(membershipService);
         }
 
         @Test
@@ -236,7 +235,7 @@ class EventPermissionServiceTest {
         @DisplayName("OWNER может просматривать события")
         void validateViewPermission_Owner_Allows() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.OWNER));
 
             // when/then
@@ -250,7 +249,7 @@ class EventPermissionServiceTest {
         @DisplayName("MODERATOR может просматривать события")
         void validateViewPermission_Moderator_Allows() {
             // given
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.MODERATOR));
 
             // when/then
@@ -264,7 +263,7 @@ class EventPermissionServiceTest {
         @DisplayName("Обычный пользователь не может просматривать события в dashboard")
         void validateViewPermission_RegularUser_ThrowsForbidden() {
             // given: пользователь член организации, но без роли OWNER/MODERATOR
-            when(userClient.getMembershipRole(organizationId, userId))
+            when(membershipService.getOrganizationMembership(organizationId, userId))
                 .thenReturn(OrganizationMembershipDto.member(organizationId, userId, null));
 
             // when/then
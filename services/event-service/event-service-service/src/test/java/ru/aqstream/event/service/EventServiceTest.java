@@ -77,6 +77,9 @@ class EventServiceTest {
     @Mock
     private OrganizationNameResolver organizationNameResolver;
 
+    @Mock
+    private PublicEventCacheInvalidator publicEventCacheInvalidator;
+
     private EventService service;
 
     private static final Faker FAKER = new Faker();
@@ -100,7 +103,8 @@ class EventServiceTest {
             eventPublisher,
             eventAuditService,
             eventLifecycleService,
-            organizationNameResolver
+            organizationNameResolver,
+            publicEventCacheInvalidator
         );
 
         tenantId = UUID.randomUUID();
@@ -0,0 +1,104 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.REGISTRATIONS)
+@Story(AllureFeatures.Stories.REGISTRATION_FLOW)
+@DisplayName("ExportWriter")
+class ExportWriterTest {
+
+    @Nested
+    @DisplayName("CSV")
+    class Csv {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("пишет BOM и экранирует разделители, кавычки и переводы строк")
+        void writeRow_SpecialCharacters_QuotesValues() throws Exception {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            CsvExportWriter writer = new CsvExportWriter(out);
+
+            // when
+            writer.writeRow(new String[] {"Код", "Компания", "Комментарий"});
+            writer.writeRow(new String[] {"A1B2C3D4", "ООО \"Ромашка\", филиал", "две\nстроки"});
+            writer.writeRow(new String[] {"E5F6G7H8", null, ""});
+            writer.finish();
+
+            // then
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "\uFEFFКод,Компания,Комментарий\r\n"
+                    + "A1B2C3D4,\"ООО \"\"Ромашка\"\", филиал\",\"две\nстроки\"\r\n"
+                    + "E5F6G7H8,,\r\n");
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("экранирует значения, которые Excel выполнит как формулу")
+        void neutralize_FormulaStart_PrefixesApostrophe() {
+            // then
+            assertThat(CsvExportWriter.neutralize("=HYPERLINK(\"http://evil\")"))
+                .isEqualTo("'=HYPERLINK(\"http://evil\")");
+            assertThat(CsvExportWriter.neutralize("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+            assertThat(CsvExportWriter.neutralize("-2+3+cmd|' /C calc'!A0")).startsWith("'");
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("не трогает телефоны и обычный текст")
+        void neutralize_PhoneOrText_Unchanged() {
+            // then
+            assertThat(CsvExportWriter.neutralize("+7 (999) 123-45-67")).isEqualTo("+7 (999) 123-45-67");
+            assertThat(CsvExportWriter.neutralize("Иванов")).isEqualTo("Иванов");
+        }
+    }
+
+    @Nested
+    @DisplayName("XLSX")
+    class Xlsx {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("пишет строки больше окна SXSSF в читаемую книгу")
+        void writeRow_MoreThanWindow_ProducesWorkbook() throws Exception {
+            // given
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int rows = XlsxExportWriter.ROW_WINDOW * 3;
+
+            // when
+            try (XlsxExportWriter writer = new XlsxExportWriter(out, "Участники")) {
+                writer.writeRow(new String[] {"Код", "Компания"});
+                for (int i = 0; i < rows; i++) {
+                    writer.writeRow(new String[] {"CODE" + i, i % 2 == 0 ? "=1+1" : null});
+                }
+                writer.finish();
+            }
+
+            // then
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+                Sheet sheet = workbook.getSheet("Участники");
+                assertThat(sheet.getLastRowNum()).isEqualTo(rows);
+                assertThat(sheet.getRow(rows).getCell(0).getStringCellValue()).isEqualTo("CODE" + (rows - 1));
+                assertThat(sheet.getRow(1).getCell(1).getStringCellValue()).isEqualTo("=1+1");
+                assertThat(sheet.getRow(2).getCell(1)).isNull();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.aqstream.common.api.exception.ServiceUnavailableException;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.api.dto.LiveDashboardDto;
+
+@UnitTest
+@Feature(AllureFeatures.Features.EVENT_MANAGEMENT)
+@Story(AllureFeatures.Stories.LIVE_DASHBOARD)
+@DisplayName("LiveDashboardHub")
+class LiveDashboardHubTest {
+
+    private static final Instant NOW = Instant.parse("2026-05-01T10:00:00Z");
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(30);
+
+    @Mock
+    private LiveDashboardService liveDashboardService;
+
+    private LiveDashboardHub hub;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        hub = hub(10);
+        tenantId = UUID.randomUUID();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("несколько изменений за тик дают один пересчёт и одну отправку")
+    void flushOnce_SeveralChanges_CoalescesIntoOnePush() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        hub.register(tenantId, emitter);
+        AtomicReference<UUID> tenantInContext = new AtomicReference<>();
+        when(liveDashboardService.getStats(tenantId, NOW)).thenAnswer(invocation -> {
+            tenantInContext.set(TenantContext.getTenantId());
+            return new LiveDashboardDto(NOW, List.of());
+        });
+        hub.markChanged(tenantId);
+        hub.markChanged(tenantId);
+        hub.markChanged(tenantId);
+
+        // when
+        hub.flushOnce(NOW);
+        hub.flushOnce(NOW.plusSeconds(1));
+
+        // then
+        verify(liveDashboardService).getStats(tenantId, NOW);
+        verify(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(tenantInContext.get()).isEqualTo(tenantId);
+        assertThat(TenantContext.getTenantIdOptional()).isEmpty();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("снимок считается один раз для всех подписчиков организации")
+    void flushOnce_TwoSubscribers_SharesSnapshot() throws Exception {
+        // given
+        SseEmitter first = mock(SseEmitter.class);
+        SseEmitter second = mock(SseEmitter.class);
+        hub.register(tenantId, first);
+        hub.register(tenantId, second);
+        when(liveDashboardService.getStats(tenantId, NOW)).thenReturn(new LiveDashboardDto(NOW, List.of()));
+
+        // when
+        hub.flushOnce(NOW);
+
+        // then
+        verify(liveDashboardService).getStats(tenantId, NOW);
+        verify(first).send(any(SseEmitter.SseEventBuilder.class));
+        verify(second).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("без изменений снимок обновляется только по refresh-interval")
+    void flushOnce_NoChanges_RefreshesPeriodically() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        hub.register(tenantId, emitter);
+        when(liveDashboardService.getStats(eq(tenantId), any(Instant.class)))
+            .thenReturn(new LiveDashboardDto(NOW, List.of()));
+        hub.flushOnce(NOW);
+
+        // when
+        hub.flushOnce(NOW.plusSeconds(10));
+        hub.flushOnce(NOW.plus(REFRESH_INTERVAL));
+
+        // then
+        verify(liveDashboardService).getStats(tenantId, NOW);
+        verify(liveDashboardService).getStats(tenantId, NOW.plus(REFRESH_INTERVAL));
+        verify(emitter, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("изменения организации без открытых dashboard игнорируются")
+    void markChanged_NoSubscribers_DoesNothing() {
+        // when
+        hub.markChanged(tenantId);
+        hub.flushOnce(NOW);
+
+        // then
+        verifyNoInteractions(liveDashboardService);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("отклоняет подписку сверх лимита")
+    void register_LimitReached_ThrowsServiceUnavailable() {
+        // given
+        hub = hub(1);
+        hub.register(tenantId, mock(SseEmitter.class));
+
+        // when / then
+        assertThatThrownBy(() -> hub.register(UUID.randomUUID(), mock(SseEmitter.class)))
+            .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private LiveDashboardHub hub(int maxSubscribers) {
+        return new LiveDashboardHub(liveDashboardService, new ObjectMapper().findAndRegisterModules(),
+            Runnable::run, REFRESH_INTERVAL, Duration.ofMinutes(30), maxSubscribers);
+    }
+}
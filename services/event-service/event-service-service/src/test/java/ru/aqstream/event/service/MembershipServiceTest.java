@@ -0,0 +1,176 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.db.entity.GroupMember;
+import ru.aqstream.event.db.entity.OrganizationMemberRole;
+import ru.aqstream.event.db.repository.GroupMemberRepository;
+import ru.aqstream.event.db.repository.OrganizationMemberRoleRepository;
+import ru.aqstream.user.api.dto.OrganizationMembershipDto;
+import ru.aqstream.user.api.dto.OrganizationRole;
+import ru.aqstream.user.client.UserClient;
+
+@UnitTest
+@Feature(AllureFeatures.Features.EVENT_MANAGEMENT)
+@Story(AllureFeatures.Stories.EVENT_PERMISSIONS)
+@DisplayName("MembershipService")
+class MembershipServiceTest {
+
+    @Mock
+    private OrganizationMemberRoleRepository organizationMemberRoleRepository;
+
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
+    @Mock
+    private UserClient userClient;
+
+    private MembershipService service;
+
+    private UUID organizationId;
+    private UUID groupId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        service = new MembershipService(organizationMemberRoleRepository, groupMemberRepository, userClient);
+        organizationId = UUID.randomUUID();
+        groupId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("getOrganizationMembership()")
+    class GetOrganizationMembership {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("Возвращает роль из локальной копии без обращения к user-service")
+        void getOrganizationMembership_LocalHit_DoesNotCallUserService() {
+            // given
+            OrganizationMemberRole local = mock(OrganizationMemberRole.class);
+            when(local.getRole()).thenReturn("MODERATOR");
+            when(organizationMemberRoleRepository.findById(new OrganizationMemberRole.Key(organizationId, userId)))
+                .thenReturn(Optional.of(local));
+
+            // when
+            OrganizationMembershipDto result = service.getOrganizationMembership(organizationId, userId);
+
+            // then
+            assertThat(result.isMember()).isTrue();
+            assertThat(result.role()).isEqualTo(OrganizationRole.MODERATOR);
+            verifyNoInteractions(userClient);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("Запись без роли означает, что пользователь не член организации")
+        void getOrganizationMembership_LocalTombstone_ReturnsNotMember() {
+            // given
+            OrganizationMemberRole local = mock(OrganizationMemberRole.class);
+            when(local.getRole()).thenReturn(null);
+            when(organizationMemberRoleRepository.findById(any())).thenReturn(Optional.of(local));
+
+            // when
+            OrganizationMembershipDto result = service.getOrganizationMembership(organizationId, userId);
+
+            // then
+            assertThat(result.isMember()).isFalse();
+            verifyNoInteractions(userClient);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("При промахе запрашивает user-service и сохраняет ответ с моментом до запроса")
+        void getOrganizationMembership_LocalMiss_FetchesAndStores() {
+            // given
+            Instant before = Instant.now();
+            when(organizationMemberRoleRepository.findById(any())).thenReturn(Optional.empty());
+            when(userClient.getMembershipRole(organizationId, userId))
+                .thenReturn(OrganizationMembershipDto.member(organizationId, userId, OrganizationRole.OWNER));
+
+            // when
+            OrganizationMembershipDto result = service.getOrganizationMembership(organizationId, userId);
+
+            // then
+            assertThat(result.role()).isEqualTo(OrganizationRole.OWNER);
+            ArgumentCaptor<Instant> version = ArgumentCaptor.forClass(Instant.class);
+            verify(organizationMemberRoleRepository)
+                .upsert(eq(organizationId), eq(userId), eq("OWNER"), version.capture());
+            assertThat(version.getValue()).isBetween(before, Instant.now());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("Ошибка сохранения не влияет на результат проверки")
+        void getOrganizationMembership_StoreFails_ReturnsFetchedMembership() {
+            // given
+            when(organizationMemberRoleRepository.findById(any())).thenReturn(Optional.empty());
+            when(userClient.getMembershipRole(organizationId, userId))
+                .thenReturn(OrganizationMembershipDto.notMember(organizationId, userId));
+            when(organizationMemberRoleRepository.upsert(any(), any(), any(), any()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+            // when
+            OrganizationMembershipDto result = service.getOrganizationMembership(organizationId, userId);
+
+            // then
+            assertThat(result.isMember()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("isGroupMember()")
+    class IsGroupMember {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("Возвращает членство из локальной копии")
+        void isGroupMember_LocalHit_DoesNotCallUserService() {
+            // given
+            GroupMember local = mock(GroupMember.class);
+            when(local.isMember()).thenReturn(true);
+            when(groupMemberRepository.findById(new GroupMember.Key(groupId, userId))).thenReturn(Optional.of(local));
+
+            // when/then
+            assertThat(service.isGroupMember(groupId, userId)).isTrue();
+            verifyNoInteractions(userClient);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("При промахе запрашивает user-service и сохраняет ответ")
+        void isGroupMember_LocalMiss_FetchesAndStores() {
+            // given
+            when(groupMemberRepository.findById(any())).thenReturn(Optional.empty());
+            when(userClient.isGroupMember(groupId, userId)).thenReturn(false);
+
+            // when/then
+            assertThat(service.isGroupMember(groupId, userId)).isFalse();
+            verify(groupMemberRepository).upsert(eq(groupId), eq(userId), anyBoolean(), any(Instant.class));
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.api.dto.CheckInSnapshotDto;
+import ru.aqstream.event.api.dto.OfflineCheckInOutcome;
+import ru.aqstream.event.api.dto.OfflineCheckInRequest;
+import ru.aqstream.event.api.dto.OfflineCheckInRequest.Scan;
+import ru.aqstream.event.api.dto.OfflineCheckInResultDto;
+import ru.aqstream.event.api.dto.RegistrationStatus;
+import ru.aqstream.event.api.exception.EventNotFoundException;
+import ru.aqstream.event.db.entity.Event;
+import ru.aqstream.event.db.repository.EventRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInEntry;
+import ru.aqstream.event.db.repository.RegistrationRepository.CheckInFact;
+
+@UnitTest
+@Feature(AllureFeatures.Features.CHECK_IN)
+@Story(AllureFeatures.Stories.CHECK_IN_PROCESS)
+@DisplayName("OfflineCheckInService")
+class OfflineCheckInServiceTest {
+
+    private static final Faker FAKER = new Faker();
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private RegistrationRepository registrationRepository;
+
+    @Mock
+    private RegistrationEventPublisher registrationEventPublisher;
+
+    private OfflineCheckInService service;
+
+    private UUID tenantId;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        service = new OfflineCheckInService(eventRepository, registrationRepository,
+            registrationEventPublisher, new ObjectMapper());
+        tenantId = UUID.randomUUID();
+        eventId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Nested
+    @DisplayName("getSnapshot")
+    class GetSnapshot {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("без версии возвращает полный снимок события")
+        void getSnapshot_NoVersion_ReturnsFullSnapshot() {
+            // given
+            givenEventExists();
+            when(registrationRepository.findCheckInEntriesByEventIds(List.of(eventId)))
+                .thenReturn(List.of(entry("ABCD2345", RegistrationStatus.CONFIRMED, null)));
+
+            // when
+            CheckInSnapshotDto snapshot = service.getSnapshot(eventId, null);
+
+            // then
+            assertThat(snapshot.delta()).isFalse();
+            assertThat(snapshot.entries()).hasSize(1);
+            assertThat(snapshot.entries().getFirst().confirmationCode()).isEqualTo("ABCD2345");
+            assertThat(snapshot.version()).isLessThanOrEqualTo(Instant.now().toEpochMilli());
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("с версией возвращает изменения с перекрытием окна")
+        void getSnapshot_WithVersion_ReturnsDeltaWithOverlap() {
+            // given
+            givenEventExists();
+            long since = Instant.now().minusSeconds(600).toEpochMilli();
+            Instant expectedFrom = Instant.ofEpochMilli(since).minus(OfflineCheckInService.DELTA_OVERLAP);
+            when(registrationRepository.findCheckInEntriesByEventIdUpdatedSince(eventId, expectedFrom))
+                .thenReturn(List.of(entry("ABCD2345", RegistrationStatus.CANCELLED, null)));
+
+            // when
+            CheckInSnapshotDto snapshot = service.getSnapshot(eventId, since);
+
+            // then
+            assertThat(snapshot.delta()).isTrue();
+            assertThat(snapshot.entries().getFirst().status()).isEqualTo(RegistrationStatus.CANCELLED);
+            assertThat(snapshot.version()).isGreaterThan(since);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("не отдаёт снимок события другой организации")
+        void getSnapshot_ForeignEvent_ThrowsNotFound() {
+            // given
+            when(eventRepository.findByIdAndTenantId(eventId, tenantId)).thenReturn(Optional.empty());
+
+            // when/then
+            assertThatThrownBy(() -> service.getSnapshot(eventId, null))
+                .isInstanceOf(EventNotFoundException.class);
+            verifyNoInteractions(registrationRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("upload")
+    class Upload {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("применяет сканы одним UPDATE и сообщает о конфликтах")
+        void upload_MixedScans_ReportsOutcomePerScan() {
+            // given
+            givenEventExists();
+            Instant scannedAt = Instant.now().minusSeconds(300).truncatedTo(ChronoUnit.MICROS);
+            Instant checkedInElsewhere = scannedAt.minusSeconds(60);
+            when(registrationRepository.applyOfflineCheckIns(eq(eventId), eq(tenantId), anyString(), any()))
+                .thenReturn(1);
+            CheckInEntry checkedIn = entry("AAAA2222", RegistrationStatus.CONFIRMED, scannedAt);
+            when(registrationRepository.findCheckInEntriesByEventIdAndCodes(eq(eventId), anyCollection()))
+                .thenReturn(List.of(
+                    checkedIn,
+                    entry("BBBB3333", RegistrationStatus.CONFIRMED, checkedInElsewhere),
+                    entry("CCCC4444", RegistrationStatus.CANCELLED, null)));
+            CheckInFact fact = fact(checkedIn.getRegistrationId(), scannedAt);
+            when(registrationRepository.findCheckInFactsByIds(Set.of(checkedIn.getRegistrationId())))
+                .thenReturn(List.of(fact));
+
+            // when
+            OfflineCheckInResultDto result = service.upload(eventId, new OfflineCheckInRequest(List.of(
+                new Scan("AAAA2222", scannedAt),
+                new Scan("BBBB3333", scannedAt),
+                new Scan("CCCC4444", scannedAt),
+                new Scan("DDDD5555", scannedAt))));
+
+            // then
+            assertThat(result.appliedCount()).isEqualTo(1);
+            assertThat(result.results())
+                .extracting(OfflineCheckInResultDto.ScanResult::outcome)
+                .containsExactly(
+                    OfflineCheckInOutcome.CHECKED_IN,
+                    OfflineCheckInOutcome.ALREADY_CHECKED_IN,
+                    OfflineCheckInOutcome.NOT_ALLOWED,
+                    OfflineCheckInOutcome.NOT_FOUND);
+            assertThat(result.results().get(1).checkedInAt()).isEqualTo(checkedInElsewhere);
+            verify(registrationEventPublisher).publishCheckedIn(fact);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("повторная отправка пачки возвращает тот же результат")
+        void upload_ReplayedBatch_IsIdempotent() {
+            // given
+            givenEventExists();
+            Instant scannedAt = Instant.now().minusSeconds(300);
+            when(registrationRepository.applyOfflineCheckIns(eq(eventId), eq(tenantId), anyString(), any()))
+                .thenReturn(0);
+            when(registrationRepository.findCheckInEntriesByEventIdAndCodes(eq(eventId), anyCollection()))
+                .thenReturn(List.of(entry("AAAA2222", RegistrationStatus.CONFIRMED,
+                    scannedAt.truncatedTo(ChronoUnit.MICROS))));
+
+            // when
+            OfflineCheckInResultDto result = service.upload(eventId,
+                new OfflineCheckInRequest(List.of(new Scan("AAAA2222", scannedAt))));
+
+            // then
+            assertThat(result.appliedCount()).isZero();
+            assertThat(result.results().getFirst().outcome()).isEqualTo(OfflineCheckInOutcome.CHECKED_IN);
+            verifyNoInteractions(registrationEventPublisher);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("для кода, отсканированного несколько раз, применяет самый ранний скан")
+        void upload_DuplicateCode_AppliesEarliestScan() throws Exception {
+            // given
+            givenEventExists();
+            Instant first = Instant.parse("2026-05-01T10:00:00Z");
+            Instant second = Instant.parse("2026-05-01T10:05:00Z");
+            when(registrationRepository.findCheckInEntriesByEventIdAndCodes(eq(eventId), anyCollection()))
+                .thenReturn(List.of(entry("AAAA2222", RegistrationStatus.CONFIRMED, first)));
+
+            // when
+            OfflineCheckInResultDto result = service.upload(eventId, new OfflineCheckInRequest(List.of(
+                new Scan("AAAA2222", second),
+                new Scan("AAAA2222", first))));
+
+            // then
+            ArgumentCaptor<String> scans = ArgumentCaptor.forClass(String.class);
+            verify(registrationRepository).applyOfflineCheckIns(eq(eventId), eq(tenantId), scans.capture(), any());
+            assertThat(new ObjectMapper().readTree(scans.getValue()))
+                .hasSize(1)
+                .first()
+                .satisfies(scan -> assertThat(scan.get("scanned_at").asText()).isEqualTo(first.toString()));
+            assertThat(result.results())
+                .extracting(OfflineCheckInResultDto.ScanResult::outcome)
+                .containsExactly(OfflineCheckInOutcome.ALREADY_CHECKED_IN, OfflineCheckInOutcome.CHECKED_IN);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("скан из будущего записывается не позже текущего времени с допуском")
+        void upload_ScanFromFuture_ClampsCheckInTime() {
+            // given: часы сканера спешат на час
+            givenEventExists();
+            Instant scannedAt = Instant.now().plus(1, ChronoUnit.HOURS);
+            AtomicReference<Instant> stored = new AtomicReference<>();
+            when(registrationRepository.applyOfflineCheckIns(eq(eventId), eq(tenantId), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    String json = invocation.getArgument(2);
+                    stored.set(Instant.parse(new ObjectMapper().readTree(json).get(0).get("scanned_at").asText()));
+                    return 1;
+                });
+            when(registrationRepository.findCheckInEntriesByEventIdAndCodes(eq(eventId), anyCollection()))
+                .thenAnswer(invocation -> List.of(entry("AAAA2222", RegistrationStatus.CONFIRMED, stored.get())));
+
+            // when
+            Instant before = Instant.now();
+            OfflineCheckInResultDto result = service.upload(eventId,
+                new OfflineCheckInRequest(List.of(new Scan("AAAA2222", scannedAt))));
+
+            // then
+            assertThat(stored.get())
+                .isBefore(scannedAt)
+                .isBetween(before, Instant.now().plus(OfflineCheckInService.MAX_CLOCK_SKEW));
+            assertThat(result.results().getFirst().outcome()).isEqualTo(OfflineCheckInOutcome.CHECKED_IN);
+            assertThat(result.results().getFirst().checkedInAt()).isEqualTo(stored.get());
+        }
+    }
+
+    private void givenEventExists() {
+        when(eventRepository.findByIdAndTenantId(eventId, tenantId)).thenReturn(Optional.of(
+            Event.create(FAKER.book().title(), FAKER.internet().slug(), Instant.now(), "Europe/Moscow")));
+    }
+
+    private CheckInFact fact(UUID registrationId, Instant checkedInAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("registrationId", registrationId);
+        values.put("eventId", eventId);
+        values.put("tenantId", tenantId);
+        values.put("ticketTypeId", UUID.randomUUID());
+        values.put("checkedInAt", checkedInAt);
+        return PROJECTIONS.createProjection(CheckInFact.class, values);
+    }
+
+    private CheckInEntry entry(String code, RegistrationStatus status, Instant checkedInAt) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("registrationId", UUID.randomUUID());
+        values.put("confirmationCode", code);
+        values.put("status", status);
+        values.put("checkedInAt", checkedInAt);
+        values.put("firstName", FAKER.name().firstName());
+        values.put("lastName", FAKER.name().lastName());
+        values.put("ticketTypeName", FAKER.commerce().productName());
+        values.put("eventTitle", FAKER.book().title());
+        return PROJECTIONS.createProjection(CheckInEntry.class, values);
+    }
+}
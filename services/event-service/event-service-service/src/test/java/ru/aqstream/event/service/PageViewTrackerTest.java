@@ -0,0 +1,124 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import ru.aqstream.common.security.UserPrincipal;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.api.event.PageViewedEvent;
+
+@UnitTest
+@Feature(AllureFeatures.Features.ANALYTICS)
+@Story(AllureFeatures.Stories.PAGE_VIEWS)
+@DisplayName("PageViewTracker")
+class PageViewTrackerTest {
+
+    private static final Faker FAKER = new Faker();
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private PageViewTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PageViewTracker(rabbitTemplate);
+    }
+
+    @Nested
+    @DisplayName("visitorId")
+    class VisitorId {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("авторизованный посетитель идентифицируется по userId")
+        void visitorId_Authenticated_UsesUserId() {
+            // given
+            UUID userId = UUID.randomUUID();
+            UserPrincipal principal = new UserPrincipal(userId, FAKER.internet().emailAddress(), null, Set.of());
+
+            // when
+            String visitorId = PageViewTracker.visitorId(principal, FAKER.internet().ipV4Address(), "Mozilla");
+
+            // then
+            assertThat(visitorId).isEqualTo("u:" + userId);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("анонимный посетитель идентифицируется хешем без IP в открытом виде")
+        void visitorId_Anonymous_HashesIpAndUserAgent() {
+            // given
+            String ip = FAKER.internet().ipV4Address();
+
+            // when
+            String first = PageViewTracker.visitorId(null, ip, "Mozilla");
+            String second = PageViewTracker.visitorId(null, ip, "Mozilla");
+            String otherAgent = PageViewTracker.visitorId(null, ip, "Safari");
+
+            // then
+            assertThat(first).startsWith("a:").hasSize(34).doesNotContain(ip).isEqualTo(second);
+            assertThat(otherAgent).isNotEqualTo(first);
+        }
+    }
+
+    @Nested
+    @DisplayName("publishBatch")
+    class PublishBatch {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("отправляет каждый просмотр с routing key page.viewed")
+        void publishBatch_SendsEachView() {
+            // given
+            List<PageViewedEvent> batch = List.of(view(), view());
+
+            // when
+            tracker.publishBatch(batch);
+
+            // then
+            verify(rabbitTemplate, times(2)).convertAndSend(eq("page.viewed"), any(PageViewedEvent.class));
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("при недоступном брокере отбрасывает остаток пачки без исключения")
+        void publishBatch_BrokerDown_DropsRest() {
+            // given
+            List<PageViewedEvent> batch = List.of(view(), view(), view());
+            doThrow(new AmqpConnectException(new RuntimeException("connection refused")))
+                .when(rabbitTemplate).convertAndSend(eq("page.viewed"), any(PageViewedEvent.class));
+
+            // when
+            tracker.publishBatch(batch);
+
+            // then
+            verify(rabbitTemplate, times(1)).convertAndSend(eq("page.viewed"), any(PageViewedEvent.class));
+        }
+    }
+
+    private static PageViewedEvent view() {
+        return new PageViewedEvent(UUID.randomUUID(), UUID.randomUUID(), "u:" + UUID.randomUUID());
+    }
+}
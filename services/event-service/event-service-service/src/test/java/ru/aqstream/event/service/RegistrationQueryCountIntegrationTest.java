@@ -0,0 +1,210 @@
+package ru.aqstream.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.aqstream.common.api.PageResponse;
+import ru.aqstream.common.messaging.EventPublisher;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.common.test.IntegrationTest;
+import ru.aqstream.common.test.SharedServicesTestContainer;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.api.dto.CheckInInfoDto;
+import ru.aqstream.event.api.dto.RegistrationDto;
+import ru.aqstream.event.db.entity.Event;
+import ru.aqstream.event.db.entity.Registration;
+import ru.aqstream.event.db.entity.TicketType;
+import ru.aqstream.event.db.repository.EventRepository;
+import ru.aqstream.event.db.repository.RegistrationRepository;
+import ru.aqstream.event.db.repository.TicketTypeRepository;
+import ru.aqstream.event.listener.MembershipEventListener;
+import ru.aqstream.event.listener.OrganizationEventListener;
+import ru.aqstream.user.client.UserClient;
+
+/**
+ * Проверяет, что чтение регистраций не порождает N+1 запросов:
+ * число SQL запросов не зависит от количества регистраций на странице.
+ */
+@IntegrationTest
+// Статистика Hibernate общая для всех потоков: фоновый опрос outbox не должен в неё попадать
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "outbox.processor.enabled=false"
+})
+@Feature(AllureFeatures.Features.REGISTRATIONS)
+@Story(AllureFeatures.Stories.REGISTRATION_FLOW)
+@DisplayName("Количество SQL запросов при чтении регистраций")
+class RegistrationQueryCountIntegrationTest extends SharedServicesTestContainer {
+
+    private static final Faker FAKER = new Faker();
+    private static final int TICKET_TYPES = 3;
+    private static final int REGISTRATIONS = 30;
+    private static final int PAGE_SIZE = 20;
+
+    @MockitoBean
+    private EventPublisher eventPublisher;
+
+    @MockitoBean
+    private UserClient userClient;
+
+    @MockitoBean
+    private OrganizationEventListener organizationEventListener;
+
+    @MockitoBean
+    private MembershipEventListener membershipEventListener;
+
+    // Фоновое обновление индекса check-in не должно попадать в статистику
+    @MockitoBean
+    private CheckInIndexService checkInIndexService;
+
+    @Autowired
+    private RegistrationService registrationService;
+
+    @Autowired
+    private CheckInService checkInService;
+
+    @Autowired
+    private RegistrationMapper registrationMapper;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private Event event;
+    private List<Registration> registrations;
+
+    @BeforeEach
+    void setUp() {
+        registrationRepository.deleteAll();
+        ticketTypeRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        TenantContext.setTenantId(UUID.randomUUID());
+
+        event = Event.create(
+            FAKER.book().title(),
+            "query-count-" + UUID.randomUUID().toString().substring(0, 8),
+            Instant.now().plus(7, ChronoUnit.DAYS),
+            "Europe/Moscow"
+        );
+        event.publish();
+        event = eventRepository.save(event);
+
+        List<TicketType> ticketTypes = new ArrayList<>();
+        for (int i = 0; i < TICKET_TYPES; i++) {
+            TicketType ticketType = TicketType.create(event, FAKER.commerce().productName() + " " + i);
+            ticketType.updateQuantity(100);
+            ticketTypes.add(ticketTypeRepository.save(ticketType));
+        }
+
+        registrations = new ArrayList<>();
+        for (int i = 0; i < REGISTRATIONS; i++) {
+            registrations.add(registrationRepository.save(Registration.create(
+                event,
+                ticketTypes.get(i % TICKET_TYPES),
+                UUID.randomUUID(),
+                String.format("QC%06d", i),
+                FAKER.name().firstName(),
+                FAKER.name().lastName(),
+                FAKER.internet().emailAddress()
+            )));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("страница регистраций события: проверка события, страница и count")
+    void getEventRegistrations_Page_RunsConstantStatements() {
+        // when
+        PageResponse<RegistrationDto> page = registrationService.getEventRegistrations(
+            event.getId(), PageRequest.of(0, PAGE_SIZE));
+
+        // then
+        assertThat(page.data()).hasSize(PAGE_SIZE)
+            .allSatisfy(dto -> assertThat(dto.ticketTypeName()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("поиск регистраций события: проверка события, страница и count")
+    void searchEventRegistrations_Page_RunsConstantStatements() {
+        // when
+        PageResponse<RegistrationDto> page = registrationService.searchEventRegistrations(
+            event.getId(), "@", PageRequest.of(0, PAGE_SIZE));
+
+        // then
+        assertThat(page.data()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("информация для check-in читается одним запросом")
+    void getCheckInInfo_Code_RunsSingleStatement() {
+        // when
+        CheckInInfoDto info = checkInService.getCheckInInfo(registrations.getFirst().getConfirmationCode());
+
+        // then
+        assertThat(info.eventTitle()).isEqualTo(event.getTitle());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("регистрации события для внутреннего API читаются одним запросом")
+    void findActiveByEventId_AllRegistrations_RunsSingleStatement() {
+        // when
+        List<RegistrationDto> dtos = new TransactionTemplate(transactionManager).execute(status ->
+            registrationRepository.findActiveByEventId(event.getId()).stream()
+                .map(registrationMapper::toDto)
+                .toList());
+
+        // then
+        assertThat(dtos).hasSize(REGISTRATIONS)
+            .allSatisfy(dto -> assertThat(dto.eventTitle()).isEqualTo(event.getTitle()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
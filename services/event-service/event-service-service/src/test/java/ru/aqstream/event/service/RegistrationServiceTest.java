@@ -72,6 +72,9 @@ class RegistrationServiceTest {
     @Mock
     private ru.aqstream.user.client.UserClient userClient;
 
+    @Mock
+    private MembershipService membershipService;
+
     private RegistrationService service;
 
     private static final Faker FAKER = new Faker();
@@ -102,7 +105,8 @@ class RegistrationServiceTest {
             ticketTypeRepository,
             registrationMapper,
             registrationEventPublisher,
-            userClient
+            userClient,
+            membershipService
         );
 
         tenantId = UUID.randomUUID();
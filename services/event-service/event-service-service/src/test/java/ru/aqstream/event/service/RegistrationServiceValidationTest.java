@@ -63,6 +63,9 @@ class RegistrationServiceValidationTest {
     @Mock
     private ru.aqstream.user.client.UserClient userClient;
 
+    @Mock
+    private MembershipService membershipService;
+
     private RegistrationService service;
 
     private static final Faker FAKER = new Faker();
@@ -93,7 +96,8 @@ class RegistrationServiceValidationTest {
             ticketTypeRepository,
             registrationMapper,
             registrationEventPublisher,
-            userClient
+            userClient,
+            membershipService
         );
 
         tenantId = UUID.randomUUID();
@@ -42,6 +42,9 @@ class TicketTypeServiceQueryTest {
     @Mock
     private TicketTypeMapper ticketTypeMapper;
 
+    @Mock
+    private PublicEventCacheInvalidator publicEventCacheInvalidator;
+
     private TicketTypeService service;
 
     private static final Faker FAKER = new Faker();
@@ -56,7 +59,8 @@ class TicketTypeServiceQueryTest {
 
     @BeforeEach
     void setUp() {
-        service = new TicketTypeService(ticketTypeRepository, eventRepository, ticketTypeMapper);
+        service = new TicketTypeService(
+            ticketTypeRepository, eventRepository, ticketTypeMapper, publicEventCacheInvalidator);
 
         tenantId = UUID.randomUUID();
         eventId = UUID.randomUUID();
@@ -47,6 +47,9 @@ class TicketTypeServiceTest {
     @Mock
     private TicketTypeMapper ticketTypeMapper;
 
+    @Mock
+    private PublicEventCacheInvalidator publicEventCacheInvalidator;
+
     private TicketTypeService service;
 
     private static final Faker FAKER = new Faker();
@@ -61,7 +64,8 @@ class TicketTypeServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new TicketTypeService(ticketTypeRepository, eventRepository, ticketTypeMapper);
+        service = new TicketTypeService(
+            ticketTypeRepository, eventRepository, ticketTypeMapper, publicEventCacheInvalidator);
 
         tenantId = UUID.randomUUID();
         eventId = UUID.randomUUID();
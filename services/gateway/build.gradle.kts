@@ -1,6 +1,8 @@
 plugins {
     id("org.springframework.boot")
     id("io.spring.dependency-management")
+    // JMH бенчмарки (src/jmh): ./gradlew :services:gateway:jmh
+    id("me.champeau.jmh")
     // git-properties отключён из-за несовместимости с Java 25
     // id("com.gorylenko.gradle-git-properties")
 }
@@ -39,6 +41,13 @@ dependencies {
     // DataFaker для генерации тестовых данных
     val datafakerVersion: String by project
     testImplementation("net.datafaker:datafaker:$datafakerVersion")
+
+    // MockServerWebExchange для JMH бенчмарков фильтров
+    jmh("org.springframework:spring-test")
+}
+
+jmh {
+    jmhVersion.set(project.property("jmhVersion") as String)
 }
 
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
@@ -0,0 +1,130 @@
+package ru.aqstream.gateway.filter;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import ru.aqstream.gateway.routing.PathClassifier;
+import ru.aqstream.gateway.security.GatewaySecurityProperties;
+import ru.aqstream.gateway.security.JwtTokenValidator;
+
+/**
+ * Накладные расходы JwtAuthenticationFilter на запрос.
+ *
+ * <p>Запуск: {@code ./gradlew :services:gateway:jmh}. Бенчмарки *Baseline показывают
+ * стоимость прежней реализации (поиск по списку префиксов, валидация токена на каждый запрос).</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-32-characters-long";
+
+    private static final List<String> PUBLIC_PATHS = List.of(
+        "/api/v1/auth/login",
+        "/api/v1/auth/register",
+        "/api/v1/auth/refresh",
+        "/api/v1/auth/forgot-password",
+        "/api/v1/auth/reset-password",
+        "/api/v1/auth/verify-email",
+        "/api/v1/auth/telegram",
+        "/api/v1/events/public",
+        "/api/v1/public",
+        "/api/v1/webhooks",
+        "/api/v1/notifications/telegram/webhook",
+        "/ws/notifications",
+        "/api/v1/system",
+        "/actuator"
+    );
+
+    private static final String PROTECTED_PATH = "/api/v1/registrations/my";
+    private static final String PUBLIC_PATH = "/api/v1/public/events/summer-meetup";
+
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    private JwtAuthenticationFilter filter;
+    private JwtTokenValidator tokenValidator;
+    private PathClassifier<Boolean> publicPathClassifier;
+    private MockServerHttpRequest publicRequest;
+    private MockServerHttpRequest authenticatedRequest;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenValidator = new JwtTokenValidator(SECRET);
+        filter = new JwtAuthenticationFilter(tokenValidator, new GatewaySecurityProperties(PUBLIC_PATHS));
+
+        PathClassifier.Builder<Boolean> builder = PathClassifier.builder();
+        PUBLIC_PATHS.forEach(path -> builder.add(path, Boolean.TRUE));
+        publicPathClassifier = builder.build();
+
+        token = Jwts.builder()
+            .subject(UUID.randomUUID().toString())
+            .claim("type", "access")
+            .claim("userId", UUID.randomUUID().toString())
+            .claim("email", "benchmark@aqstream.ru")
+            .claim("tenantId", UUID.randomUUID().toString())
+            .claim("roles", List.of("USER", "ORGANIZER"))
+            .expiration(Date.from(Instant.now().plus(Duration.ofHours(1))))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        publicRequest = MockServerHttpRequest.get(PUBLIC_PATH).build();
+        authenticatedRequest = MockServerHttpRequest.get(PROTECTED_PATH)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+            .build();
+    }
+
+    @Benchmark
+    public MockServerWebExchange filterPublicPath() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(publicRequest);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public MockServerWebExchange filterAuthenticatedCachedToken() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(authenticatedRequest);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public boolean publicPathClassifier() {
+        return publicPathClassifier.matches(PROTECTED_PATH);
+    }
+
+    @Benchmark
+    public boolean publicPathListBaseline() {
+        return PUBLIC_PATHS.stream().anyMatch(PROTECTED_PATH::startsWith);
+    }
+
+    @Benchmark
+    public JwtTokenValidator.TokenInfo tokenValidationBaseline() {
+        return tokenValidator.validate(token);
+    }
+}
@@ -3,13 +3,14 @@ package ru.aqstream.gateway;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import ru.aqstream.gateway.security.GatewaySecurityProperties;
 import ru.aqstream.gateway.version.ServiceEndpoints;
 
 /**
  * Точка входа для API Gateway.
  */
 @SpringBootApplication
-@EnableConfigurationProperties(ServiceEndpoints.class)
+@EnableConfigurationProperties({ServiceEndpoints.class, GatewaySecurityProperties.class})
 public class GatewayApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,57 @@
+package ru.aqstream.gateway.cache;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.cloud.gateway.route.Route;
+
+/**
+ * Политика кэширования маршрута.
+ *
+ * <p>Задаётся в метаданных маршрута рядом с его определением:</p>
+ * <pre>
+ * metadata:
+ *   response-cache:
+ *     ttl: 30s
+ *     stale-while-revalidate: 60s
+ * </pre>
+ *
+ * @param ttl                  время, в течение которого ответ считается свежим
+ * @param staleWhileRevalidate время после ttl, в течение которого отдаётся устаревший ответ
+ *                             с фоновым обновлением
+ */
+public record CachePolicy(Duration ttl, Duration staleWhileRevalidate) {
+
+    /**
+     * Ключ метаданных маршрута.
+     */
+    public static final String METADATA_KEY = "response-cache";
+
+    private static final String TTL_KEY = "ttl";
+    private static final String STALE_KEY = "stale-while-revalidate";
+
+    /**
+     * Читает политику из метаданных маршрута.
+     *
+     * @param route маршрут
+     * @return политика или null, если кэширование для маршрута не настроено
+     */
+    public static CachePolicy fromRoute(Route route) {
+        Object settings = route.getMetadata().get(METADATA_KEY);
+        if (!(settings instanceof Map<?, ?> values) || values.get(TTL_KEY) == null) {
+            return null;
+        }
+        Duration ttl = parse(values.get(TTL_KEY));
+        Duration stale = values.get(STALE_KEY) != null ? parse(values.get(STALE_KEY)) : Duration.ZERO;
+        if (ttl.isNegative() || ttl.isZero()) {
+            return null;
+        }
+        return new CachePolicy(ttl, stale.isNegative() ? Duration.ZERO : stale);
+    }
+
+    private static Duration parse(Object value) {
+        // Число без единиц — секунды
+        return DurationStyle.detectAndParse(String.valueOf(value), ChronoUnit.SECONDS);
+    }
+}
@@ -0,0 +1,106 @@
+package ru.aqstream.gateway.cache;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import ru.aqstream.gateway.GatewayHeaders;
+
+/**
+ * Ответ downstream сервиса, сохранённый в кэше Gateway.
+ *
+ * @param status     HTTP статус
+ * @param headers    заголовки ответа (без hop-by-hop и заголовков, которые выставляет сам Gateway)
+ * @param body       тело ответа
+ * @param createdAt  момент получения ответа ({@link System#nanoTime()})
+ * @param freshUntil до этого момента ответ свежий
+ * @param staleUntil до этого момента ответ можно отдавать с фоновым обновлением
+ * @param cacheable  можно ли сохранять ответ в кэш
+ */
+public record CachedResponse(
+    int status,
+    HttpHeaders headers,
+    byte[] body,
+    long createdAt,
+    long freshUntil,
+    long staleUntil,
+    boolean cacheable
+) {
+
+    /**
+     * Заголовки, которые не сохраняются в кэше.
+     * CORS и correlation ID Gateway выставляет для каждого запроса сам.
+     */
+    private static final Set<String> EXCLUDED_HEADERS = Set.of(
+        HttpHeaders.CONNECTION.toLowerCase(),
+        HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+        HttpHeaders.SET_COOKIE.toLowerCase(),
+        "keep-alive",
+        GatewayHeaders.CORRELATION_ID.toLowerCase()
+    );
+
+    private static final String CORS_HEADER_PREFIX = "access-control-";
+
+    /**
+     * Создаёт запись кэша из ответа downstream сервиса.
+     *
+     * @param entity ответ
+     * @param policy политика кэширования маршрута
+     * @param now    текущее время ({@link System#nanoTime()})
+     * @return запись кэша
+     */
+    public static CachedResponse of(ResponseEntity<byte[]> entity, CachePolicy policy, long now) {
+        HttpHeaders headers = new HttpHeaders();
+        entity.getHeaders().forEach((name, values) -> {
+            String lowerName = name.toLowerCase();
+            if (!EXCLUDED_HEADERS.contains(lowerName) && !lowerName.startsWith(CORS_HEADER_PREFIX)) {
+                headers.put(name, values);
+            }
+        });
+        long freshUntil = now + policy.ttl().toNanos();
+        return new CachedResponse(
+            entity.getStatusCode().value(),
+            HttpHeaders.readOnlyHttpHeaders(headers),
+            entity.getBody() != null ? entity.getBody() : new byte[0],
+            now,
+            freshUntil,
+            freshUntil + policy.staleWhileRevalidate().toNanos(),
+            isCacheable(entity)
+        );
+    }
+
+    /**
+     * Кэшируются только 200 OK без cookies.
+     * Cache-Control downstream сервиса не учитывается: Spring Security выставляет no-store
+     * для всех ответов, а время жизни в Gateway задаётся политикой маршрута.
+     */
+    private static boolean isCacheable(ResponseEntity<byte[]> entity) {
+        return entity.getStatusCode().value() == HttpStatus.OK.value()
+            && !entity.getHeaders().containsKey(HttpHeaders.SET_COOKIE)
+            && !entity.getHeaders().getVary().contains("*");
+    }
+
+    /**
+     * Возвращает имена заголовков запроса, от которых зависит ответ.
+     */
+    public List<String> varyHeaders() {
+        return headers.getVary();
+    }
+
+    public boolean isFresh(long now) {
+        return now - freshUntil < 0;
+    }
+
+    public boolean isServable(long now) {
+        return now - staleUntil < 0;
+    }
+
+    /**
+     * Возвращает возраст ответа в секундах для заголовка Age.
+     */
+    public long ageSeconds(long now) {
+        return Math.max(0, (now - createdAt) / 1_000_000_000L);
+    }
+}
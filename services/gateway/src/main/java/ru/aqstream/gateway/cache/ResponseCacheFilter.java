@@ -0,0 +1,211 @@
+package ru.aqstream.gateway.cache;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.RouteToRequestUrlFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Кэширование ответов публичных GET endpoints.
+ *
+ * <p>Работает для маршрутов с {@link CachePolicy} в метаданных и только для анонимных
+ * запросов (без Authorization). Поведение:</p>
+ * <ul>
+ *   <li>свежий ответ отдаётся из памяти без обращения к сервису</li>
+ *   <li>устаревший (в пределах stale-while-revalidate) отдаётся сразу, обновление идёт в фоне</li>
+ *   <li>одновременные промахи по одному ключу объединяются в один запрос к сервису</li>
+ * </ul>
+ *
+ * <p>Запрос к сервису выполняется отдельным WebClient, а не через цепочку фильтров:
+ * результат нужен всем ожидающим запросам и фоновому обновлению, а не одному клиенту.
+ * Заголовок {@code X-Cache} показывает результат: HIT, STALE или MISS.</p>
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheFilter.class);
+
+    private static final String HIT = "HIT";
+    private static final String STALE = "STALE";
+    private static final String MISS = "MISS";
+
+    /**
+     * Лимит тела ответа при чтении из сервиса. Ответы больше max-body-size
+     * отдаются клиенту, но не сохраняются в кэш.
+     */
+    private static final int MAX_ORIGIN_BODY_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * Заголовки запроса, которые не передаются сервису при заполнении кэша.
+     * Accept-Encoding исключён, чтобы в кэше хранилось несжатое тело.
+     */
+    private static final Set<String> EXCLUDED_REQUEST_HEADERS = Set.of(
+        HttpHeaders.HOST.toLowerCase(),
+        HttpHeaders.CONNECTION.toLowerCase(),
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+        HttpHeaders.ACCEPT_ENCODING.toLowerCase(),
+        HttpHeaders.COOKIE.toLowerCase(),
+        "keep-alive"
+    );
+
+    private final ResponseCacheStore store;
+    private final WebClient webClient;
+    private final Duration originTimeout;
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, RoutePolicy> policies = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter originRequests;
+
+    public ResponseCacheFilter(
+            ResponseCacheStore store,
+            WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${gateway.response-cache.origin-timeout:10s}") Duration originTimeout) {
+        this.store = store;
+        this.webClient = webClientBuilder
+            .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_ORIGIN_BODY_SIZE))
+            .build();
+        this.originTimeout = originTimeout;
+        this.hits = resultCounter(meterRegistry, "hit");
+        this.staleHits = resultCounter(meterRegistry, "stale");
+        this.misses = resultCounter(meterRegistry, "miss");
+        this.originRequests = Counter.builder("gateway.response.cache.origin.requests")
+            .description("Запросы к сервисам для заполнения кэша")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+            return chain.filter(exchange);
+        }
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        URI target = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        CachePolicy policy = route != null ? policyFor(route) : null;
+        if (policy == null || target == null) {
+            return chain.filter(exchange);
+        }
+
+        String key = store.key(route.getId(), request);
+        long now = System.nanoTime();
+        CachedResponse cached = store.get(key);
+        if (cached != null && cached.isFresh(now)) {
+            hits.increment();
+            return write(exchange, cached, HIT, now);
+        }
+        if (cached != null && cached.isServable(now)) {
+            staleHits.increment();
+            load(key, route.getId(), policy, request, target)
+                .subscribe(response -> { }, e -> log.warn("Не удалось обновить кэш ответа: key={}, error={}",
+                    key, e.getMessage()));
+            return write(exchange, cached, STALE, now);
+        }
+
+        misses.increment();
+        return load(key, route.getId(), policy, request, target)
+            .flatMap(response -> write(exchange, response, MISS, System.nanoTime()));
+    }
+
+    @Override
+    public int getOrder() {
+        // После RouteToRequestUrlFilter — нужен итоговый URL сервиса
+        return RouteToRequestUrlFilter.ROUTE_TO_URL_FILTER_ORDER + 1;
+    }
+
+    /**
+     * Запрашивает ответ у сервиса. Одновременно для ключа выполняется не больше одного запроса.
+     */
+    private Mono<CachedResponse> load(
+            String key, String routeId, CachePolicy policy, ServerHttpRequest request, URI target) {
+        return inFlight.computeIfAbsent(key, k -> {
+            long generation = store.generation();
+            return fetch(request, target, policy)
+                .doOnNext(response -> store.put(routeId, request, response, generation))
+                .doFinally(signal -> inFlight.remove(k))
+                .cache();
+        });
+    }
+
+    private Mono<CachedResponse> fetch(ServerHttpRequest request, URI target, CachePolicy policy) {
+        return webClient.get()
+            .uri(target)
+            .headers(headers -> request.getHeaders().forEach((name, values) -> {
+                if (!EXCLUDED_REQUEST_HEADERS.contains(name.toLowerCase())) {
+                    headers.put(name, values);
+                }
+            }))
+            .exchangeToMono(response -> response.toEntity(byte[].class))
+            .timeout(originTimeout)
+            .doOnSubscribe(subscription -> originRequests.increment())
+            .map(entity -> CachedResponse.of(entity, policy, System.nanoTime()))
+            .onErrorMap(e -> !(e instanceof ResponseStatusException),
+                e -> new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Сервис недоступен", e));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, CachedResponse cached, String cacheStatus, long now) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(cached.status()));
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach(headers::put);
+        headers.setContentLength(cached.body().length);
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        if (!MISS.equals(cacheStatus)) {
+            headers.set(HttpHeaders.AGE, String.valueOf(cached.ageSeconds(now)));
+        }
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    /**
+     * Политика маршрута. Разбирается один раз для каждого экземпляра Route
+     * (после обновления маршрутов экземпляр меняется).
+     */
+    private CachePolicy policyFor(Route route) {
+        RoutePolicy cached = policies.get(route.getId());
+        if (cached != null && cached.route() == route) {
+            return cached.policy();
+        }
+        CachePolicy policy = CachePolicy.fromRoute(route);
+        policies.put(route.getId(), new RoutePolicy(route, policy));
+        return policy;
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gateway.response.cache.requests")
+            .description("Запросы к кэшируемым маршрутам по результату")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record RoutePolicy(Route route, CachePolicy policy) {
+    }
+}
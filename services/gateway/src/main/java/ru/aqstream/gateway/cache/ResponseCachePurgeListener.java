@@ -0,0 +1,75 @@
+package ru.aqstream.gateway.cache;
+
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+/**
+ * Инвалидация кэша ответов по сообщениям сервисов.
+ *
+ * <p>Сервис публикует в Redis канал {@link #CHANNEL} префикс пути
+ * (например {@code /api/v1/public/events/my-event}), и каждый инстанс Gateway
+ * удаляет соответствующие ответы. Если сообщение потеряно (Redis недоступен),
+ * ответ устареет по TTL маршрута.</p>
+ */
+@Component
+public class ResponseCachePurgeListener implements DisposableBean {
+
+    /**
+     * Redis pub/sub канал инвалидации.
+     */
+    public static final String CHANNEL = "gateway:response-cache:purge";
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCachePurgeListener.class);
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ResponseCacheStore store;
+    private volatile Disposable subscription;
+
+    public ResponseCachePurgeListener(ReactiveStringRedisTemplate redisTemplate, ResponseCacheStore store) {
+        this.redisTemplate = redisTemplate;
+        this.store = store;
+    }
+
+    /**
+     * Подписывается на канал после старта приложения.
+     * При потере соединения подписка восстанавливается с backoff.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        subscription = redisTemplate.listenToChannel(CHANNEL)
+            .map(ReactiveSubscription.Message::getMessage)
+            .doOnNext(this::onPurge)
+            .doOnError(e -> log.warn("Подписка на инвалидацию кэша прервана: {}", e.getMessage()))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF))
+            .subscribe();
+        log.info("Подписка на инвалидацию кэша ответов: channel={}", CHANNEL);
+    }
+
+    @Override
+    public void destroy() {
+        Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private void onPurge(String pathPrefix) {
+        if (pathPrefix == null || !pathPrefix.startsWith("/")) {
+            log.warn("Некорректное сообщение инвалидации кэша: {}", pathPrefix);
+            return;
+        }
+        store.purge(pathPrefix.strip());
+    }
+}
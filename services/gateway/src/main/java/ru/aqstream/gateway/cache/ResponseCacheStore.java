@@ -0,0 +1,151 @@
+package ru.aqstream.gateway.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-memory хранилище кэшированных ответов Gateway.
+ *
+ * <p>Ключ — путь и query запроса плюс значения заголовков из Vary ответа
+ * (список Vary запоминается для маршрута). Размер ограничен количеством записей
+ * и размером тела; при заполнении новые ответы не сохраняются до очистки
+ * устаревших записей.</p>
+ */
+@Component
+public class ResponseCacheStore implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCacheStore.class);
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofSeconds(30);
+
+    private final ConcurrentHashMap<String, CachedResponse> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, List<String>> varyByRoute = new ConcurrentHashMap<>();
+
+    /**
+     * Увеличивается при каждой инвалидации. Ответ, запрошенный до инвалидации,
+     * не сохраняется — иначе в кэш попали бы данные, которые уже устарели.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final int maxEntries;
+    private final long maxBodySize;
+    private final Disposable cleanupTask;
+
+    public ResponseCacheStore(
+            @Value("${gateway.response-cache.max-entries:10000}") int maxEntries,
+            @Value("${gateway.response-cache.max-body-size:256KB}") DataSize maxBodySize,
+            MeterRegistry meterRegistry) {
+        this.maxEntries = maxEntries;
+        this.maxBodySize = maxBodySize.toBytes();
+        Gauge.builder("gateway.response.cache.entries", entries, ConcurrentHashMap::size)
+            .description("Количество ответов в кэше Gateway")
+            .register(meterRegistry);
+        this.cleanupTask = Schedulers.parallel().schedulePeriodically(
+            this::evictExpired,
+            CLEANUP_INTERVAL.toMillis(), CLEANUP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Вычисляет ключ кэша для запроса.
+     *
+     * @param routeId ID маршрута
+     * @param request запрос
+     * @return ключ
+     */
+    public String key(String routeId, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        StringBuilder key = new StringBuilder(request.getPath().value())
+            .append('?')
+            .append(query != null ? query : "");
+        List<String> vary = varyByRoute.get(routeId);
+        if (vary != null) {
+            HttpHeaders headers = request.getHeaders();
+            for (String name : vary) {
+                key.append('|').append(name).append('=').append(headers.getOrEmpty(name));
+            }
+        }
+        return key.toString();
+    }
+
+    public CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Сохраняет ответ, если он кэшируемый и с момента запроса не было инвалидации.
+     *
+     * @param routeId    ID маршрута
+     * @param request    запрос, на который получен ответ
+     * @param response   ответ
+     * @param generation значение {@link #generation()} на момент запроса
+     */
+    public void put(String routeId, ServerHttpRequest request, CachedResponse response, long generation) {
+        if (!response.cacheable() || response.body().length > maxBodySize) {
+            return;
+        }
+        List<String> vary = response.varyHeaders();
+        if (!vary.equals(varyByRoute.getOrDefault(routeId, List.of()))) {
+            varyByRoute.put(routeId, List.copyOf(vary));
+        }
+        String key = key(routeId, request);
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            log.debug("Кэш ответов заполнен, ответ не сохранён: key={}", key);
+            return;
+        }
+        entries.put(key, response);
+        if (this.generation.get() != generation) {
+            // Инвалидация произошла, пока шёл запрос к сервису
+            entries.remove(key, response);
+        }
+    }
+
+    /**
+     * Удаляет ответы по префиксу пути.
+     * Префикс {@code /api/v1/public/events} удаляет и список, и страницы отдельных событий.
+     *
+     * @param pathPrefix префикс пути
+     * @return количество удалённых записей
+     */
+    public int purge(String pathPrefix) {
+        String prefix = pathPrefix.endsWith("/") ? pathPrefix.substring(0, pathPrefix.length() - 1) : pathPrefix;
+        generation.incrementAndGet();
+        int before = entries.size();
+        entries.keySet().removeIf(key -> key.startsWith(prefix + "?") || key.startsWith(prefix + "/"));
+        int removed = before - entries.size();
+        log.debug("Инвалидация кэша ответов: prefix={}, removed={}", prefix, removed);
+        return removed;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void destroy() {
+        cleanupTask.dispose();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(response -> !response.isServable(now));
+    }
+}
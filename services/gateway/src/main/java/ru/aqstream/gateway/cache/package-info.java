@@ -0,0 +1,5 @@
+/**
+ * Кэширование ответов в Gateway.
+ * Кэш публичных GET ответов с TTL из метаданных маршрутов и инвалидацией из сервисов.
+ */
+package ru.aqstream.gateway.cache;
@@ -24,7 +24,12 @@ public class CorsConfig {
         config.setAllowedOrigins(allowedOrigins);
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         config.setAllowedHeaders(List.of("*"));
-        config.setExposedHeaders(List.of("X-Correlation-ID", "X-RateLimit-Remaining"));
+        config.setExposedHeaders(List.of(
+            "X-Correlation-ID",
+            "X-RateLimit-Remaining",
+            "X-RateLimit-Replenish-Rate",
+            "X-RateLimit-Burst-Capacity"
+        ));
         config.setAllowCredentials(true);
         config.setMaxAge(3600L);
 
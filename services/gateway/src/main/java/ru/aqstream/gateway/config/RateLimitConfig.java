@@ -1,17 +1,23 @@
 package ru.aqstream.gateway.config;
 
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import reactor.core.publisher.Mono;
 import ru.aqstream.gateway.GatewayHeaders;
+import ru.aqstream.gateway.ratelimit.HybridRateLimiter;
 import ru.aqstream.gateway.security.JwtTokenValidator;
 
 /**
  * Конфигурация rate limiting для Gateway.
- * Определяет KeyResolver для идентификации клиентов.
+ * Определяет KeyResolver для идентификации клиентов и {@link HybridRateLimiter}.
  *
  * <p>ВАЖНО: Rate limiting в Spring Cloud Gateway работает ДО кастомных GlobalFilter.
  * RequestRateLimiter имеет порядок 0, а наш JwtAuthenticationFilter = -100.
@@ -62,6 +68,27 @@ public class RateLimitConfig {
         };
     }
 
+    /**
+     * Rate limiter с локальными бакетами и квотами из Redis.
+     * Primary — используется фильтром RequestRateLimiter вместо RedisRateLimiter.
+     * Лимиты маршрута задаются аргументами {@code hybrid-rate-limiter.*} фильтра.
+     */
+    @Bean
+    @Primary
+    public HybridRateLimiter hybridRateLimiter(
+            ReactiveStringRedisTemplate redisTemplate,
+            ConfigurationService configurationService,
+            @Value("${gateway.rate-limit.replenish-rate:100}") int replenishRate,
+            @Value("${gateway.rate-limit.burst-capacity:200}") int burstCapacity,
+            @Value("${gateway.rate-limit.lease-ttl:1s}") Duration leaseTtl,
+            @Value("${gateway.rate-limit.redis-timeout:200ms}") Duration redisTimeout) {
+
+        HybridRateLimiter.Config defaultConfig = new HybridRateLimiter.Config()
+            .setReplenishRate(replenishRate)
+            .setBurstCapacity(burstCapacity);
+        return new HybridRateLimiter(redisTemplate, configurationService, defaultConfig, leaseTtl, redisTimeout);
+    }
+
     /**
      * Извлекает IP клиента с учётом proxy headers.
      */
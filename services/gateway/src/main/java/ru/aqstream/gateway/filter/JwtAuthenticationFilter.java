@@ -1,6 +1,7 @@
 package ru.aqstream.gateway.filter;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -13,12 +14,18 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import ru.aqstream.gateway.GatewayHeaders;
+import ru.aqstream.gateway.routing.PathClassifier;
+import ru.aqstream.gateway.security.GatewaySecurityProperties;
 import ru.aqstream.gateway.security.JwtTokenValidator;
 import ru.aqstream.gateway.security.JwtValidationException;
 
 /**
  * Фильтр аутентификации JWT токенов для Gateway.
  * Валидирует токен и добавляет заголовки с данными пользователя для downstream сервисов.
+ *
+ * <p>Публичные пути задаются в {@code gateway.security.public-paths} и компилируются
+ * в {@link PathClassifier} при старте. Результат валидации токена вместе с готовыми
+ * значениями заголовков кэшируется до истечения токена.</p>
  */
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
@@ -27,25 +34,21 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private static final List<String> PUBLIC_PATHS = List.of(
-        "/api/v1/auth/login",
-        "/api/v1/auth/register",
-        "/api/v1/auth/refresh",
-        "/api/v1/auth/forgot-password",
-        "/api/v1/auth/reset-password",
-        "/api/v1/auth/verify-email",
-        "/api/v1/auth/telegram",
-        "/api/v1/events/public",
-        "/api/v1/public",
-        "/api/v1/webhooks",
-        "/api/v1/system",
-        "/actuator"
-    );
+    /**
+     * Максимальное количество токенов в кэше. При заполнении кэш очищается от истёкших
+     * токенов, а новые токены валидируются без кэширования.
+     */
+    private static final int MAX_CACHED_TOKENS = 10_000;
 
     private final JwtTokenValidator tokenValidator;
+    private final PathClassifier<Boolean> publicPaths;
+    private final ConcurrentHashMap<String, AuthenticatedUser> authenticatedUsers = new ConcurrentHashMap<>();
 
-    public JwtAuthenticationFilter(JwtTokenValidator tokenValidator) {
+    public JwtAuthenticationFilter(JwtTokenValidator tokenValidator, GatewaySecurityProperties properties) {
         this.tokenValidator = tokenValidator;
+        PathClassifier.Builder<Boolean> builder = PathClassifier.builder();
+        properties.publicPaths().forEach(path -> builder.add(path, Boolean.TRUE));
+        this.publicPaths = builder.build();
     }
 
     @Override
@@ -53,7 +56,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         String path = exchange.getRequest().getPath().value();
 
         // Пропускаем публичные endpoints
-        if (isPublicPath(path)) {
+        if (publicPaths.matches(path)) {
             return chain.filter(exchange);
         }
 
@@ -64,17 +67,14 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         }
 
         try {
-            JwtTokenValidator.TokenInfo tokenInfo = tokenValidator.validate(token);
+            AuthenticatedUser user = authenticate(token);
 
-            // Добавляем headers для downstream сервисов
+            // Добавляем headers для downstream сервисов (set — значения от клиента перезаписываются)
             ServerHttpRequest request = exchange.getRequest().mutate()
-                .header(GatewayHeaders.USER_ID, tokenInfo.userId().toString())
-                .header(GatewayHeaders.TENANT_ID, tokenInfo.tenantId().toString())
-                .header(GatewayHeaders.USER_ROLES, String.join(",", tokenInfo.roles()))
+                .headers(user::applyTo)
                 .build();
 
-            log.trace("Аутентификация успешна: userId={}, tenantId={}",
-                tokenInfo.userId(), tokenInfo.tenantId());
+            log.trace("Аутентификация успешна: userId={}, tenantId={}", user.userId(), user.tenantId());
 
             return chain.filter(exchange.mutate().request(request).build());
 
@@ -90,6 +90,31 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         return -100;
     }
 
+    /**
+     * Возвращает данные пользователя по токену: из кэша или после валидации.
+     */
+    private AuthenticatedUser authenticate(String token) {
+        Instant now = Instant.now();
+        AuthenticatedUser cached = authenticatedUsers.get(token);
+        if (cached != null) {
+            if (cached.isValidAt(now)) {
+                return cached;
+            }
+            authenticatedUsers.remove(token, cached);
+        }
+
+        AuthenticatedUser user = AuthenticatedUser.from(tokenValidator.validate(token));
+        if (user.expiresAt() != null && user.isValidAt(now)) {
+            if (authenticatedUsers.size() >= MAX_CACHED_TOKENS) {
+                authenticatedUsers.values().removeIf(entry -> !entry.isValidAt(now));
+            }
+            if (authenticatedUsers.size() < MAX_CACHED_TOKENS) {
+                authenticatedUsers.put(token, user);
+            }
+        }
+        return user;
+    }
+
     /**
      * Извлекает токен из заголовка Authorization.
      */
@@ -101,13 +126,6 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         return null;
     }
 
-    /**
-     * Проверяет, является ли путь публичным.
-     */
-    private boolean isPublicPath(String path) {
-        return PUBLIC_PATHS.stream().anyMatch(path::startsWith);
-    }
-
     /**
      * Возвращает 401 Unauthorized ответ.
      */
@@ -115,4 +133,29 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
         return exchange.getResponse().setComplete();
     }
+
+    /**
+     * Проверенный пользователь с готовыми значениями заголовков для downstream сервисов.
+     */
+    private record AuthenticatedUser(String userId, String tenantId, String roles, Instant expiresAt) {
+
+        static AuthenticatedUser from(JwtTokenValidator.TokenInfo tokenInfo) {
+            return new AuthenticatedUser(
+                tokenInfo.userId().toString(),
+                tokenInfo.tenantId().toString(),
+                String.join(",", tokenInfo.roles()),
+                tokenInfo.expiresAt()
+            );
+        }
+
+        boolean isValidAt(Instant now) {
+            return expiresAt == null || now.isBefore(expiresAt);
+        }
+
+        void applyTo(HttpHeaders headers) {
+            headers.set(GatewayHeaders.USER_ID, userId);
+            headers.set(GatewayHeaders.TENANT_ID, tenantId);
+            headers.set(GatewayHeaders.USER_ROLES, roles);
+        }
+    }
 }
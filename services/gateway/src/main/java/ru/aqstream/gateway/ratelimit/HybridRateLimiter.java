@@ -0,0 +1,389 @@
+package ru.aqstream.gateway.ratelimit;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.route.RouteDefinitionRouteLocator;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.validation.annotation.Validated;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Rate limiter с локальными бакетами и квотами из Redis.
+ *
+ * <p>Общий token bucket для маршрута и ключа (userId или IP) живёт в Redis, но инстанс
+ * не ходит в Redis на каждый запрос. Он забирает из общего бакета квоту
+ * (lease) на несколько токенов и расходует её локально:</p>
+ * <ul>
+ *   <li>запрос при наличии локальных токенов — только CAS в памяти, без I/O</li>
+ *   <li>когда квота заканчивается, следующая запрашивается асинхронно заранее</li>
+ *   <li>запрос ждёт Redis только если локальные токены кончились полностью</li>
+ * </ul>
+ *
+ * <p>Токены выдаются из общего бакета до использования, поэтому лимит
+ * не превышается в масштабе кластера. Неиспользованная квота сгорает через
+ * {@code lease-ttl}. При недоступности Redis инстанс выдаёт квоты локально (fail open,
+ * как и {@code RedisRateLimiter}). После ошибки Redis квоты выдаются локально сразу,
+ * без ожидания таймаута, а Redis проверяется одним запросом не чаще раза в секунду.</p>
+ *
+ * <p>Ответ содержит заголовки {@code RedisRateLimiter}: {@code X-RateLimit-Remaining}
+ * (локальная квота плюс остаток общего бакета при последнем обращении к Redis),
+ * {@code X-RateLimit-Replenish-Rate}, {@code X-RateLimit-Burst-Capacity}
+ * и {@code X-RateLimit-Requested-Tokens}.</p>
+ */
+public class HybridRateLimiter extends AbstractRateLimiter<HybridRateLimiter.Config> implements DisposableBean {
+
+    /**
+     * Имя секции аргументов фильтра RequestRateLimiter.
+     */
+    public static final String CONFIGURATION_PROPERTY_NAME = "hybrid-rate-limiter";
+
+    private static final Logger log = LoggerFactory.getLogger(HybridRateLimiter.class);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofMinutes(1);
+    private static final long REDIS_PROBE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Token bucket в Redis. Выдаёт до ARGV[3] токенов (сколько есть),
+     * возвращает выданное количество и остаток бакета.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> LEASE_SCRIPT = (RedisScript) RedisScript.of("""
+        local rate = tonumber(ARGV[1])
+        local capacity = tonumber(ARGV[2])
+        local requested = tonumber(ARGV[3])
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local ttl = math.floor(capacity / rate * 2) + 1
+        local tokens = tonumber(redis.call('GET', KEYS[1])) or capacity
+        local refreshed = tonumber(redis.call('GET', KEYS[2])) or now
+        local filled = math.min(capacity, tokens + math.max(0, now - refreshed) * rate / 1000)
+        local granted = math.min(requested, math.floor(filled))
+        redis.call('SETEX', KEYS[1], ttl, filled - granted)
+        redis.call('SETEX', KEYS[2], ttl, now)
+        return {granted, math.floor(filled - granted)}
+        """, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final Config defaultConfig;
+    private final long leaseTtlNanos;
+    private final Duration redisTimeout;
+    // routeId -> ключ -> бакет: лимит каждого маршрута расходуется отдельно
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LocalBucket>> buckets =
+        new ConcurrentHashMap<>();
+    private final AtomicBoolean redisAvailable = new AtomicBoolean(true);
+    private final AtomicLong redisRetryAt = new AtomicLong(System.nanoTime());
+    private final Disposable evictionTask;
+
+    public HybridRateLimiter(
+            ReactiveStringRedisTemplate redisTemplate,
+            ConfigurationService configurationService,
+            Config defaultConfig,
+            Duration leaseTtl,
+            Duration redisTimeout) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.redisTemplate = redisTemplate;
+        this.defaultConfig = defaultConfig;
+        this.leaseTtlNanos = leaseTtl.toNanos();
+        this.redisTimeout = redisTimeout;
+        this.evictionTask = Schedulers.parallel().schedulePeriodically(
+            this::evictIdleBuckets,
+            EVICTION_INTERVAL.toMillis(), EVICTION_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = resolveConfig(routeId);
+        ConcurrentHashMap<String, LocalBucket> routeBuckets = buckets.get(routeId);
+        if (routeBuckets == null) {
+            routeBuckets = buckets.computeIfAbsent(routeId, key -> new ConcurrentHashMap<>());
+        }
+        LocalBucket bucket = routeBuckets.get(id);
+        if (bucket == null) {
+            bucket = routeBuckets.computeIfAbsent(id, key -> new LocalBucket());
+        }
+
+        long now = System.nanoTime();
+        bucket.lastAccessAt = now;
+
+        if (bucket.tryConsume(now)) {
+            if (bucket.tokens.get() < config.getLeaseSize() / 2 + 1) {
+                // Запрашиваем следующую квоту заранее, не дожидаясь результата
+                requestLease(bucket, routeId, id, config).subscribe();
+            }
+            return response(true, bucket, config);
+        }
+
+        if (now - bucket.exhaustedUntil < 0) {
+            // Общий бакет пуст — не ходим в Redis до следующего пополнения
+            return response(false, bucket, config);
+        }
+
+        LocalBucket target = bucket;
+        return requestLease(bucket, routeId, id, config)
+            .flatMap(granted -> response(target.tryConsume(System.nanoTime()), target, config));
+    }
+
+    /**
+     * Возвращает количество локальных бакетов (пар маршрут и ключ).
+     * Используется для мониторинга и в тестах.
+     */
+    public int getBucketCount() {
+        return buckets.values().stream().mapToInt(ConcurrentHashMap::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        evictionTask.dispose();
+    }
+
+    /**
+     * Настройки маршрута. Аргументы из {@code default-filters} сохраняются под ключом
+     * {@link RouteDefinitionRouteLocator#DEFAULT_FILTERS}, как и у {@code RedisRateLimiter}.
+     */
+    private Config resolveConfig(String routeId) {
+        Config config = getConfig().get(routeId);
+        if (config == null) {
+            config = getConfig().get(RouteDefinitionRouteLocator.DEFAULT_FILTERS);
+        }
+        return config != null ? config : defaultConfig;
+    }
+
+    /**
+     * Запрашивает квоту из Redis. Одновременно для ключа выполняется не больше одного запроса.
+     */
+    private Mono<Long> requestLease(LocalBucket bucket, String routeId, String id, Config config) {
+        Mono<Long> inFlight = bucket.inFlight.get();
+        if (inFlight != null) {
+            return inFlight;
+        }
+
+        if (!redisCallAllowed(System.nanoTime())) {
+            // Redis недоступен: квота выдаётся локально, запрос не ждёт таймаута
+            return Mono.just(localLease(bucket, config));
+        }
+
+        Mono<Long> lease = redisTemplate.execute(LEASE_SCRIPT, keys(routeId, id),
+                List.of(String.valueOf(config.getReplenishRate()),
+                    String.valueOf(config.getBurstCapacity()),
+                    String.valueOf(config.getLeaseSize())))
+            .reduce(new ArrayList<Long>(), (all, part) -> {
+                all.addAll(part);
+                return all;
+            })
+            .timeout(redisTimeout)
+            .map(result -> {
+                markRedisAvailable();
+                bucket.sharedRemaining = result.size() > 1 ? result.get(1) : 0;
+                return result.isEmpty() ? 0L : result.getFirst();
+            })
+            .onErrorResume(e -> {
+                markRedisUnavailable(e);
+                return Mono.fromSupplier(() -> localFallbackGrant(bucket, config));
+            })
+            .doOnNext(granted -> bucket.addLease(granted, System.nanoTime(), leaseTtlNanos, config))
+            .doFinally(signal -> bucket.inFlight.set(null))
+            .cache();
+
+        if (bucket.inFlight.compareAndSet(null, lease)) {
+            return lease;
+        }
+        Mono<Long> current = bucket.inFlight.get();
+        return current != null ? current : Mono.just(0L);
+    }
+
+    /**
+     * Разрешён ли запрос к Redis. Пока Redis недоступен, пробный запрос
+     * выполняет только один вызов за интервал, остальные сразу получают локальную квоту.
+     */
+    private boolean redisCallAllowed(long now) {
+        if (redisAvailable.get()) {
+            return true;
+        }
+        long retryAt = redisRetryAt.get();
+        return now - retryAt >= 0 && redisRetryAt.compareAndSet(retryAt, now + REDIS_PROBE_INTERVAL_NANOS);
+    }
+
+    /**
+     * Выдаёт квоту локально, без обращения к Redis.
+     */
+    private long localLease(LocalBucket bucket, Config config) {
+        long granted = localFallbackGrant(bucket, config);
+        bucket.addLease(granted, System.nanoTime(), leaseTtlNanos, config);
+        return granted;
+    }
+
+    /**
+     * Квота при недоступности Redis: инстанс ограничивает ключ самостоятельно
+     * с той же скоростью пополнения, что и общий бакет.
+     */
+    private long localFallbackGrant(LocalBucket bucket, Config config) {
+        // Локальная выдача может идти из нескольких потоков, пока Redis недоступен
+        synchronized (bucket) {
+            bucket.sharedRemaining = 0;
+            long now = System.nanoTime();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(now - bucket.fallbackRefilledAt);
+            long granted = Math.min(config.getBurstCapacity(), elapsedMillis * config.getReplenishRate() / 1000);
+            if (granted > 0) {
+                bucket.fallbackRefilledAt = now;
+            }
+            return granted;
+        }
+    }
+
+    private void markRedisUnavailable(Throwable error) {
+        redisRetryAt.set(System.nanoTime() + REDIS_PROBE_INTERVAL_NANOS);
+        if (redisAvailable.compareAndSet(true, false)) {
+            log.warn("Redis недоступен для rate limiting, используются локальные лимиты: {}", error.getMessage());
+        }
+    }
+
+    private void markRedisAvailable() {
+        if (redisAvailable.compareAndSet(false, true)) {
+            log.info("Redis снова доступен для rate limiting");
+        }
+    }
+
+    private void evictIdleBuckets() {
+        long idleBefore = System.nanoTime() - Math.max(leaseTtlNanos, EVICTION_INTERVAL.toNanos());
+        buckets.values().forEach(routeBuckets -> routeBuckets.entrySet().removeIf(entry ->
+            entry.getValue().lastAccessAt < idleBefore && entry.getValue().inFlight.get() == null));
+    }
+
+    private static Mono<Response> response(boolean allowed, LocalBucket bucket, Config config) {
+        long remaining = Math.min(config.getBurstCapacity(), bucket.tokens.get() + bucket.sharedRemaining);
+        return Mono.just(new Response(allowed, Map.of(
+            RedisRateLimiter.REMAINING_HEADER, String.valueOf(Math.max(0, remaining)),
+            RedisRateLimiter.REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()),
+            RedisRateLimiter.BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()),
+            RedisRateLimiter.REQUESTED_TOKENS_HEADER, "1")));
+    }
+
+    static List<String> keys(String routeId, String id) {
+        // Hash tag {routeId.id} — оба ключа в одном слоте Redis Cluster
+        String prefix = "hybrid_rate_limiter.{" + routeId + "." + id + "}";
+        return List.of(prefix + ".tokens", prefix + ".timestamp");
+    }
+
+    /**
+     * Локальный остаток квоты для одного ключа.
+     */
+    static final class LocalBucket {
+
+        private final AtomicLong tokens = new AtomicLong();
+        private final AtomicReference<Mono<Long>> inFlight = new AtomicReference<>();
+        private volatile long leaseExpiresAt;
+        private volatile long exhaustedUntil;
+        private volatile long fallbackRefilledAt;
+        // Остаток общего бакета при последнем обращении к Redis (для X-RateLimit-Remaining)
+        private volatile long sharedRemaining;
+        private volatile long lastAccessAt;
+
+        LocalBucket() {
+            long now = System.nanoTime();
+            this.leaseExpiresAt = now;
+            this.exhaustedUntil = now;
+            this.lastAccessAt = now;
+            // Без Redis первый запрос получает полный burst
+            this.fallbackRefilledAt = now - TimeUnit.DAYS.toNanos(1);
+        }
+
+        boolean tryConsume(long now) {
+            if (now - leaseExpiresAt > 0) {
+                // Квота сгорела: за это время общий бакет уже пополнился
+                tokens.set(0);
+                return false;
+            }
+            long current;
+            do {
+                current = tokens.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!tokens.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        void addLease(long granted, long now, long ttlNanos, Config config) {
+            if (granted <= 0) {
+                exhaustedUntil = now + TimeUnit.SECONDS.toNanos(1) / config.getReplenishRate();
+                return;
+            }
+            if (now - leaseExpiresAt > 0) {
+                tokens.set(granted);
+            } else {
+                tokens.addAndGet(granted);
+            }
+            leaseExpiresAt = now + ttlNanos;
+        }
+    }
+
+    /**
+     * Настройки лимита для маршрута.
+     */
+    @Validated
+    public static class Config {
+
+        /**
+         * Скорость пополнения общего бакета (токенов в секунду).
+         */
+        @Min(1)
+        private int replenishRate = 100;
+
+        /**
+         * Ёмкость общего бакета (допустимый burst).
+         */
+        @Min(1)
+        private int burstCapacity = 200;
+
+        /**
+         * Размер квоты, забираемой инстансом за один запрос к Redis.
+         * 0 — автоматически (десятая часть replenishRate).
+         */
+        @Min(0)
+        private int leaseSize;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getLeaseSize() {
+            return leaseSize > 0 ? leaseSize : Math.max(1, replenishRate / 10);
+        }
+
+        public Config setLeaseSize(int leaseSize) {
+            this.leaseSize = leaseSize;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Rate limiting в Gateway.
+ * Локальные token bucket с выдачей квот из общего бакета в Redis.
+ */
+package ru.aqstream.gateway.ratelimit;
@@ -0,0 +1,186 @@
+package ru.aqstream.gateway.routing;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Классификатор путей на основе radix-дерева префиксов.
+ *
+ * <p>Строится один раз из набора префиксов и сопоставляет путь с самым длинным
+ * подходящим префиксом. Префикс совпадает только по границе сегмента:
+ * {@code /api/v1/public} подходит для {@code /api/v1/public} и {@code /api/v1/public/events},
+ * но не для {@code /api/v1/publicity}.</p>
+ *
+ * <p>Поиск проходит путь один раз, без аллокаций. Экземпляр неизменяемый и потокобезопасный.</p>
+ *
+ * @param <T> тип значения, связанного с префиксом (политика, класс лимита и т.п.)
+ */
+public final class PathClassifier<T> {
+
+    private final Node<T> root;
+
+    private PathClassifier(Node<T> root) {
+        this.root = root;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Возвращает значение самого длинного префикса, подходящего для пути.
+     *
+     * @param path путь запроса (без query)
+     * @return значение или null, если ни один префикс не подходит
+     */
+    public T classify(String path) {
+        T best = root.value;
+        Node<T> node = root;
+        int offset = 0;
+        int length = path.length();
+        while (offset < length) {
+            Node<T> child = node.child(path.charAt(offset));
+            if (child == null || !path.startsWith(child.label, offset)) {
+                break;
+            }
+            offset += child.label.length();
+            node = child;
+            if (node.value != null && (offset == length || path.charAt(offset) == '/')) {
+                best = node.value;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Проверяет, подходит ли путь хотя бы под один префикс.
+     *
+     * @param path путь запроса
+     * @return true если путь классифицирован
+     */
+    public boolean matches(String path) {
+        return classify(path) != null;
+    }
+
+    /**
+     * Построитель классификатора.
+     *
+     * @param <T> тип значения
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, T> prefixes = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Добавляет префикс. Завершающий "/" игнорируется, повторный префикс заменяет значение.
+         *
+         * @param prefix префикс пути, начинается с "/"
+         * @param value  значение
+         * @return builder
+         */
+        public Builder<T> add(String prefix, T value) {
+            if (prefix == null || !prefix.startsWith("/")) {
+                throw new IllegalArgumentException("Префикс пути должен начинаться с '/': " + prefix);
+            }
+            if (value == null) {
+                throw new IllegalArgumentException("Значение для префикса не задано: " + prefix);
+            }
+            prefixes.put(normalize(prefix), value);
+            return this;
+        }
+
+        public PathClassifier<T> build() {
+            Node<T> root = new Node<>("");
+            prefixes.forEach((prefix, value) -> insert(root, prefix, 0, value));
+            return new PathClassifier<>(root);
+        }
+
+        private static String normalize(String prefix) {
+            int end = prefix.length();
+            while (end > 0 && prefix.charAt(end - 1) == '/') {
+                end--;
+            }
+            return prefix.substring(0, end);
+        }
+
+        private static <T> void insert(Node<T> node, String key, int offset, T value) {
+            if (offset == key.length()) {
+                node.value = value;
+                return;
+            }
+            int index = node.indexOf(key.charAt(offset));
+            if (index < 0) {
+                Node<T> leaf = new Node<>(key.substring(offset));
+                leaf.value = value;
+                node.addChild(leaf);
+                return;
+            }
+
+            Node<T> child = node.children[index];
+            int common = commonPrefixLength(child.label, key, offset);
+            if (common < child.label.length()) {
+                // Разделяем ребро: общая часть становится промежуточным узлом
+                Node<T> split = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.addChild(child);
+                node.children[index] = split;
+                child = split;
+            }
+            insert(child, key, offset + common, value);
+        }
+
+        private static int commonPrefixLength(String label, String key, int offset) {
+            int max = Math.min(label.length(), key.length() - offset);
+            int i = 0;
+            while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * Узел дерева. Дочерние узлы индексируются первым символом ребра.
+     */
+    private static final class Node<T> {
+
+        private String label;
+        private T value;
+        private char[] keys = new char[0];
+        private Node<T>[] children = newArray(0);
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private Node<T> child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private int indexOf(char first) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == first) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void addChild(Node<T> child) {
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = child.label.charAt(0);
+            children[children.length - 1] = child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Node<T>[] newArray(int size) {
+            return (Node<T>[]) new Node<?>[size];
+        }
+    }
+}
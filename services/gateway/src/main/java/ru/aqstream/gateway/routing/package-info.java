@@ -0,0 +1,5 @@
+/**
+ * Классификация путей запросов в Gateway.
+ * Префиксное дерево путей, собираемое один раз из конфигурации.
+ */
+package ru.aqstream.gateway.routing;
@@ -0,0 +1,19 @@
+package ru.aqstream.gateway.security;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Настройки аутентификации Gateway.
+ *
+ * @param publicPaths префиксы путей, доступных без JWT токена (совпадение по границе сегмента)
+ */
+@ConfigurationProperties(prefix = "gateway.security")
+public record GatewaySecurityProperties(
+    List<String> publicPaths
+) {
+
+    public GatewaySecurityProperties {
+        publicPaths = publicPaths != null ? List.copyOf(publicPaths) : List.of();
+    }
+}
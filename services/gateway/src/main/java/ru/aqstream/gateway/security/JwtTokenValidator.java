@@ -6,6 +6,8 @@ import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -67,7 +69,10 @@ public class JwtTokenValidator {
             List<String> rolesList = claims.get(CLAIM_ROLES, List.class);
             Set<String> roles = rolesList != null ? new HashSet<>(rolesList) : Set.of();
 
-            return new TokenInfo(userId, email, tenantId, roles);
+            Date expiration = claims.getExpiration();
+            Instant expiresAt = expiration != null ? expiration.toInstant() : null;
+
+            return new TokenInfo(userId, email, tenantId, roles, expiresAt);
 
         } catch (ExpiredJwtException e) {
             log.debug("JWT токен истёк: {}", e.getMessage());
@@ -83,11 +88,18 @@ public class JwtTokenValidator {
 
     /**
      * Данные пользователя из токена.
+     *
+     * @param userId    ID пользователя
+     * @param email     email пользователя
+     * @param tenantId  ID организации
+     * @param roles     роли пользователя
+     * @param expiresAt время истечения токена (null, если не задано)
      */
     public record TokenInfo(
         UUID userId,
         String email,
         UUID tenantId,
-        Set<String> roles
+        Set<String> roles,
+        Instant expiresAt
     ) { }
 }
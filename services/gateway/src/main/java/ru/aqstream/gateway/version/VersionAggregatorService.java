@@ -1,11 +1,18 @@
 package ru.aqstream.gateway.version;
 
-import lombok.RequiredArgsConstructor;
+import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import ru.aqstream.common.api.version.ServiceVersionDto;
 import ru.aqstream.common.api.version.SystemVersionDto;
 import ru.aqstream.common.api.version.SystemVersionDto.InfrastructureVersionDto;
@@ -14,31 +21,106 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Сервис агрегации версий всех микросервисов и инфраструктуры.
+ *
+ * <p>Опрос сервисов выполняется в фоне с интервалом {@code aqstream.system-version.refresh-interval}.
+ * Endpoint отдаёт последний снимок из памяти, поле {@code timestamp} — время его сбора.
+ * До первого снимка (сразу после старта) запрос собирает версии сам.
+ * Сервис, не ответивший за {@link #TIMEOUT}, попадает в снимок со статусом unavailable.</p>
+ *
+ * <p>Для опроса используется один WebClient с отдельным небольшим пулом соединений,
+ * чтобы не конкурировать с проксированием запросов за соединения к сервисам.</p>
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class VersionAggregatorService {
+public class VersionAggregatorService implements InitializingBean, DisposableBean {
 
-    private final WebClient.Builder webClientBuilder;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Шесть сервисов опрашиваются параллельно; запас на опрос по запросу до первого снимка.
+     */
+    private static final int MAX_CONNECTIONS = 16;
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
     private final GatewayVersionProvider gatewayVersionProvider;
     private final InfrastructureVersionService infrastructureVersionService;
     private final ServiceEndpoints serviceEndpoints;
+    private final String environment;
+    private final Duration refreshInterval;
 
-    @Value("${aqstream.environment:development}")
-    private String environment;
+    private final AtomicReference<SystemVersionDto> snapshot = new AtomicReference<>();
+    private Disposable refresher;
 
-    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    public VersionAggregatorService(
+            WebClient.Builder webClientBuilder,
+            GatewayVersionProvider gatewayVersionProvider,
+            InfrastructureVersionService infrastructureVersionService,
+            ServiceEndpoints serviceEndpoints,
+            @Value("${aqstream.environment:development}") String environment,
+            @Value("${aqstream.system-version.refresh-interval:30s}") Duration refreshInterval) {
+        this.connectionProvider = ConnectionProvider.builder("version-aggregator")
+            .maxConnections(MAX_CONNECTIONS)
+            .pendingAcquireTimeout(TIMEOUT)
+            .maxIdleTime(MAX_IDLE_TIME)
+            .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) TIMEOUT.toMillis())
+            .responseTimeout(TIMEOUT);
+        this.webClient = webClientBuilder.clone()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+        this.gatewayVersionProvider = gatewayVersionProvider;
+        this.infrastructureVersionService = infrastructureVersionService;
+        this.serviceEndpoints = serviceEndpoints;
+        this.environment = environment;
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        // concatMap: следующий опрос не начинается, пока не завершился предыдущий
+        refresher = Flux.interval(Duration.ZERO, refreshInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> refresh()
+                .onErrorResume(e -> {
+                    log.warn("Не удалось обновить снимок версий: {}", e.getMessage());
+                    return Mono.empty();
+                }))
+            .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (refresher != null) {
+            refresher.dispose();
+        }
+        connectionProvider.dispose();
+    }
 
     /**
-     * Агрегирует версии всех сервисов системы.
+     * Возвращает версии всех сервисов системы из последнего снимка.
      *
      * @return системная информация о версиях
      */
     public Mono<SystemVersionDto> aggregateVersions() {
+        return Mono.defer(() -> {
+            SystemVersionDto current = snapshot.get();
+            return current != null ? Mono.just(current) : refresh();
+        });
+    }
+
+    /**
+     * Опрашивает все сервисы и сохраняет новый снимок.
+     *
+     * @return собранный снимок
+     */
+    Mono<SystemVersionDto> refresh() {
         // Параллельный запрос ко всем сервисам
         Mono<ServiceVersionDto> userService = fetchServiceVersion(
             "user-service", serviceEndpoints.userService());
@@ -82,7 +164,7 @@ public class VersionAggregatorService {
                 services,
                 tuple.getT7().hasAnyInfo() ? tuple.getT7() : null
             );
-        });
+        }).doOnNext(snapshot::set);
     }
 
     private Mono<ServiceVersionDto> fetchServiceVersion(String serviceName, String baseUrl) {
@@ -91,7 +173,7 @@ public class VersionAggregatorService {
             return Mono.just(ServiceVersionDto.unavailable(serviceName));
         }
 
-        return webClientBuilder.build()
+        return webClient
             .get()
             .uri(ServiceEndpoints.versionUrl(baseUrl))
             .retrieve()
@@ -0,0 +1,248 @@
+package ru.aqstream.gateway.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Тесты для ResponseCacheFilter.
+ */
+class ResponseCacheFilterTest {
+
+    private static final Faker FAKER = new Faker();
+    private static final String ORIGIN = "http://localhost:8082";
+    private static final String PATH = "/api/v1/public/events";
+
+    private final AtomicInteger originCalls = new AtomicInteger();
+    private String originBody;
+    private Duration originDelay;
+
+    private ResponseCacheStore store;
+    private ResponseCacheFilter filter;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        originBody = "{\"title\":\"" + FAKER.book().title() + "\"}";
+        originDelay = Duration.ZERO;
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            originCalls.incrementAndGet();
+            ClientResponse response = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.VARY, "Origin")
+                .body(originBody)
+                .build();
+            return originDelay.isZero() ? Mono.just(response) : Mono.delay(originDelay).thenReturn(response);
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        store = new ResponseCacheStore(100, DataSize.ofKilobytes(256), meterRegistry);
+        filter = new ResponseCacheFilter(store, webClientBuilder, meterRegistry, Duration.ofSeconds(5));
+        chain = mock(GatewayFilterChain.class);
+        when(chain.filter(any())).thenReturn(Mono.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.destroy();
+    }
+
+    @Test
+    @DisplayName("filter_RepeatedRequest_ServesFromCache")
+    void filter_RepeatedRequest_ServesFromCache() {
+        // Arrange
+        Route route = route("30s", "60s");
+
+        // Act
+        MockServerWebExchange first = exchange(route, MockServerHttpRequest.get(PATH + "?page=0"));
+        filter.filter(first, chain).block();
+        MockServerWebExchange second = exchange(route, MockServerHttpRequest.get(PATH + "?page=0"));
+        filter.filter(second, chain).block();
+
+        // Assert
+        assertEquals(1, originCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals(originBody, second.getResponse().getBodyAsString().block());
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("filter_ViewBeaconAfterCacheHit_ReachesService")
+    void filter_ViewBeaconAfterCacheHit_ReachesService() {
+        // Arrange — страница события уже в кэше
+        Route route = route("30s", "60s");
+        filter.filter(exchange(route, MockServerHttpRequest.get(PATH + "/my-event")), chain).block();
+        MockServerWebExchange hit = exchange(route, MockServerHttpRequest.get(PATH + "/my-event"));
+        filter.filter(hit, chain).block();
+
+        // Act — просмотр отправляется отдельным POST
+        MockServerWebExchange view = exchange(route, MockServerHttpRequest.post(PATH + "/my-event/views"));
+        filter.filter(view, chain).block();
+
+        // Assert — GET отдан из кэша, а просмотр проксирован в сервис
+        assertEquals("HIT", hit.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        assertEquals(1, originCalls.get());
+        verify(chain).filter(view);
+        assertNull(view.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+    }
+
+    @Test
+    @DisplayName("filter_ConcurrentMisses_SingleOriginRequest")
+    void filter_ConcurrentMisses_SingleOriginRequest() {
+        // Arrange
+        Route route = route("30s", "60s");
+        originDelay = Duration.ofMillis(200);
+        int concurrentRequests = 200;
+
+        // Act — все запросы приходят, пока первый запрос к сервису ещё выполняется
+        List<MockServerWebExchange> exchanges = Flux.range(0, concurrentRequests)
+            .map(i -> exchange(route, MockServerHttpRequest.get(PATH + "?page=1")))
+            .flatMap(exchange -> filter.filter(exchange, chain).thenReturn(exchange), concurrentRequests)
+            .collectList()
+            .block();
+
+        // Assert
+        assertEquals(1, originCalls.get());
+        assertEquals(concurrentRequests, exchanges.size());
+        for (MockServerWebExchange exchange : exchanges) {
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+            assertEquals(originBody, exchange.getResponse().getBodyAsString().block());
+        }
+    }
+
+    @Test
+    @DisplayName("filter_ExpiredWithinStaleWindow_ServesStaleAndRevalidates")
+    void filter_ExpiredWithinStaleWindow_ServesStaleAndRevalidates() throws InterruptedException {
+        // Arrange
+        Route route = route("1ms", "60s");
+        filter.filter(exchange(route, MockServerHttpRequest.get(PATH)), chain).block();
+        Thread.sleep(5);
+
+        // Act
+        MockServerWebExchange stale = exchange(route, MockServerHttpRequest.get(PATH));
+        filter.filter(stale, chain).block();
+
+        // Assert
+        assertEquals("STALE", stale.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+        // Фоновое обновление уже выполнено (ответ сервиса в тесте синхронный)
+        assertEquals(2, originCalls.get());
+    }
+
+    @Test
+    @DisplayName("filter_AfterPurge_FetchesFromOrigin")
+    void filter_AfterPurge_FetchesFromOrigin() {
+        // Arrange
+        Route route = route("30s", "60s");
+        filter.filter(exchange(route, MockServerHttpRequest.get(PATH + "/my-event")), chain).block();
+
+        // Act
+        store.purge(PATH);
+        MockServerWebExchange afterPurge = exchange(route, MockServerHttpRequest.get(PATH + "/my-event"));
+        filter.filter(afterPurge, chain).block();
+
+        // Assert
+        assertEquals(2, originCalls.get());
+        assertEquals("MISS", afterPurge.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER));
+    }
+
+    @Test
+    @DisplayName("filter_VaryHeaderDiffers_CachesSeparately")
+    void filter_VaryHeaderDiffers_CachesSeparately() {
+        // Arrange
+        Route route = route("30s", "60s");
+        filter.filter(exchange(route, MockServerHttpRequest.get(PATH).header("Origin", "https://a.example")), chain)
+            .block();
+        filter.filter(exchange(route, MockServerHttpRequest.get(PATH).header("Origin", "https://a.example")), chain)
+            .block();
+
+        // Act
+        filter.filter(exchange(route, MockServerHttpRequest.get(PATH).header("Origin", "https://b.example")), chain)
+            .block();
+
+        // Assert
+        assertEquals(2, originCalls.get());
+    }
+
+    @Test
+    @DisplayName("filter_AuthorizedRequest_BypassesCache")
+    void filter_AuthorizedRequest_BypassesCache() {
+        // Arrange
+        Route route = route("30s", "60s");
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(PATH)
+            .header(HttpHeaders.AUTHORIZATION, "Bearer token");
+
+        // Act
+        filter.filter(exchange(route, request), chain).block();
+
+        // Assert
+        assertEquals(0, originCalls.get());
+        verify(chain).filter(any());
+    }
+
+    @Test
+    @DisplayName("filter_RouteWithoutPolicy_BypassesCache")
+    void filter_RouteWithoutPolicy_BypassesCache() {
+        // Arrange
+        Route route = Route.async()
+            .id("event-service-events")
+            .uri(ORIGIN)
+            .predicate(exchange -> true)
+            .build();
+
+        // Act
+        filter.filter(exchange(route, MockServerHttpRequest.get("/api/v1/events")), chain).block();
+
+        // Assert
+        assertEquals(0, originCalls.get());
+        assertEquals(0, store.size());
+        verify(chain).filter(any());
+    }
+
+    private Route route(String ttl, String stale) {
+        return Route.async()
+            .id("event-service-public-events")
+            .uri(ORIGIN)
+            .predicate(exchange -> true)
+            .metadata(Map.of(CachePolicy.METADATA_KEY, Map.of("ttl", ttl, "stale-while-revalidate", stale)))
+            .build();
+    }
+
+    private MockServerWebExchange exchange(Route route, MockServerHttpRequest.BaseBuilder<?> requestBuilder) {
+        MockServerHttpRequest request = requestBuilder.build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR, URI.create(ORIGIN + request.getURI().getRawPath()
+            + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "")));
+        return exchange;
+    }
+}
@@ -5,21 +5,29 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import ru.aqstream.gateway.GatewayHeaders;
+import ru.aqstream.gateway.security.GatewaySecurityProperties;
 import ru.aqstream.gateway.security.JwtTokenValidator;
 import ru.aqstream.gateway.security.JwtValidationException;
 
@@ -34,6 +42,14 @@ class JwtAuthenticationFilterTest {
     private static final String EMAIL = FAKER.internet().emailAddress();
     private static final Set<String> ROLES = Set.of("ROLE_USER");
     private static final String VALID_TOKEN = "valid.jwt.token";
+    private static final List<String> PUBLIC_PATHS = List.of(
+        "/api/v1/auth/login",
+        "/api/v1/auth/register",
+        "/api/v1/events/public",
+        "/api/v1/public",
+        "/api/v1/webhooks",
+        "/actuator"
+    );
 
     private JwtAuthenticationFilter filter;
     private JwtTokenValidator tokenValidator;
@@ -42,7 +58,7 @@ class JwtAuthenticationFilterTest {
     @BeforeEach
     void setUp() {
         tokenValidator = mock(JwtTokenValidator.class);
-        filter = new JwtAuthenticationFilter(tokenValidator);
+        filter = new JwtAuthenticationFilter(tokenValidator, new GatewaySecurityProperties(PUBLIC_PATHS));
         chain = mock(GatewayFilterChain.class);
         when(chain.filter(any())).thenReturn(Mono.empty());
     }
@@ -131,7 +147,7 @@ class JwtAuthenticationFilterTest {
     void filter_ProtectedPathWithValidToken_AddsUserHeaders() {
         // Arrange
         JwtTokenValidator.TokenInfo tokenInfo = new JwtTokenValidator.TokenInfo(
-            USER_ID, EMAIL, TENANT_ID, ROLES
+            USER_ID, EMAIL, TENANT_ID, ROLES, Instant.now().plus(15, ChronoUnit.MINUTES)
         );
         when(tokenValidator.validate(VALID_TOKEN)).thenReturn(tokenInfo);
 
@@ -201,4 +217,80 @@ class JwtAuthenticationFilterTest {
         // Assert
         verify(tokenValidator, never()).validate(anyString());
     }
+
+    @Test
+    @DisplayName("filter_PathSharingPublicPrefix_RequiresAuthentication")
+    void filter_PathSharingPublicPrefix_RequiresAuthentication() {
+        // Arrange — совпадение только по границе сегмента
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/publicity").build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        // Act
+        filter.filter(exchange, chain).block();
+
+        // Assert
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        verify(chain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("filter_SameTokenTwice_ValidatesOnce")
+    void filter_SameTokenTwice_ValidatesOnce() {
+        // Arrange
+        when(tokenValidator.validate(VALID_TOKEN)).thenReturn(new JwtTokenValidator.TokenInfo(
+            USER_ID, EMAIL, TENANT_ID, ROLES, Instant.now().plus(15, ChronoUnit.MINUTES)));
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/events")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_TOKEN)
+                .build();
+            filter.filter(MockServerWebExchange.from(request), chain).block();
+        }
+
+        // Assert
+        verify(tokenValidator, times(1)).validate(VALID_TOKEN);
+        verify(chain, times(2)).filter(any());
+    }
+
+    @Test
+    @DisplayName("filter_ExpiredCachedToken_ValidatesAgain")
+    void filter_ExpiredCachedToken_ValidatesAgain() {
+        // Arrange
+        when(tokenValidator.validate(VALID_TOKEN)).thenReturn(new JwtTokenValidator.TokenInfo(
+            USER_ID, EMAIL, TENANT_ID, ROLES, Instant.now().minusSeconds(1)));
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/events")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_TOKEN)
+                .build();
+            filter.filter(MockServerWebExchange.from(request), chain).block();
+        }
+
+        // Assert
+        verify(tokenValidator, times(2)).validate(VALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("filter_SpoofedUserHeader_OverwrittenFromToken")
+    void filter_SpoofedUserHeader_OverwrittenFromToken() {
+        // Arrange
+        when(tokenValidator.validate(VALID_TOKEN)).thenReturn(new JwtTokenValidator.TokenInfo(
+            USER_ID, EMAIL, TENANT_ID, ROLES, Instant.now().plus(15, ChronoUnit.MINUTES)));
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/v1/events")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_TOKEN)
+            .header(GatewayHeaders.USER_ID, UUID.randomUUID().toString())
+            .build();
+
+        // Act
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+
+        // Assert
+        ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        verify(chain).filter(captor.capture());
+        HttpHeaders headers = captor.getValue().getRequest().getHeaders();
+        assertEquals(List.of(USER_ID.toString()), headers.get(GatewayHeaders.USER_ID));
+        assertEquals(TENANT_ID.toString(), headers.getFirst(GatewayHeaders.TENANT_ID));
+    }
 }
@@ -0,0 +1,229 @@
+package ru.aqstream.gateway.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.cloud.gateway.filter.ratelimit.RedisRateLimiter;
+import org.springframework.cloud.gateway.route.RouteDefinitionRouteLocator;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+/**
+ * Тесты для HybridRateLimiter.
+ */
+@SuppressWarnings("unchecked")
+class HybridRateLimiterTest {
+
+    private static final String ROUTE_ID = "user-service";
+    private static final String OTHER_ROUTE_ID = "event-service";
+    private static final String KEY = "user:42";
+
+    private ReactiveStringRedisTemplate redisTemplate;
+    private HybridRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(ReactiveStringRedisTemplate.class);
+        HybridRateLimiter.Config config = new HybridRateLimiter.Config()
+            .setReplenishRate(1)
+            .setBurstCapacity(20)
+            .setLeaseSize(5);
+        rateLimiter = new HybridRateLimiter(redisTemplate, null, config, Duration.ofMinutes(1), Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.destroy();
+    }
+
+    @Test
+    @DisplayName("isAllowed_LeaseGranted_AllowsLocallyWithoutRedis")
+    void isAllowed_LeaseGranted_AllowsLocallyWithoutRedis() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(5L, 100L)));
+
+        // Act
+        boolean first = rateLimiter.isAllowed(ROUTE_ID, KEY).block().isAllowed();
+        boolean second = rateLimiter.isAllowed(ROUTE_ID, KEY).block().isAllowed();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        // Один запрос квоты при первом обращении, остальное — из локального бакета
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+        assertEquals(1, rateLimiter.getBucketCount());
+    }
+
+    @Test
+    @DisplayName("isAllowed_LowLocalTokens_PrefetchesNextLease")
+    void isAllowed_LowLocalTokens_PrefetchesNextLease() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(5L, 100L)));
+
+        // Act — квота 5, после третьего запроса остаётся 2 токена (меньше половины квоты)
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.isAllowed(ROUTE_ID, KEY).block().isAllowed());
+        }
+
+        // Assert
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("isAllowed_SharedBucketEmpty_DeniesWithoutRepeatedRedisCalls")
+    void isAllowed_SharedBucketEmpty_DeniesWithoutRepeatedRedisCalls() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(0L, 100L)));
+
+        // Act
+        boolean first = rateLimiter.isAllowed(ROUTE_ID, KEY).block().isAllowed();
+        boolean second = rateLimiter.isAllowed(ROUTE_ID, KEY).block().isAllowed();
+
+        // Assert
+        assertFalse(first);
+        assertFalse(second);
+        // Повторный запрос квоты откладывается до пополнения общего бакета
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("isAllowed_RedisUnavailable_FallsBackToLocalLimit")
+    void isAllowed_RedisUnavailable_FallsBackToLocalLimit() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.error(new RedisConnectionFailureException("connection refused")));
+
+        // Act
+        boolean allowed = rateLimiter.isAllowed(ROUTE_ID, KEY).block().isAllowed();
+
+        // Assert
+        assertTrue(allowed);
+    }
+
+    @Test
+    @DisplayName("isAllowed_DifferentKeys_UseSeparateBuckets")
+    void isAllowed_DifferentKeys_UseSeparateBuckets() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(5L, 100L)));
+
+        // Act
+        rateLimiter.isAllowed(ROUTE_ID, KEY).block();
+        rateLimiter.isAllowed(ROUTE_ID, "ip:10.0.0.1").block();
+
+        // Assert
+        assertEquals(2, rateLimiter.getBucketCount());
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("isAllowed_DefaultFiltersArgs_UsedForRouteWithoutOwnConfig")
+    void isAllowed_DefaultFiltersArgs_UsedForRouteWithoutOwnConfig() {
+        // Arrange — аргументы hybrid-rate-limiter из default-filters
+        rateLimiter.getConfig().put(RouteDefinitionRouteLocator.DEFAULT_FILTERS, new HybridRateLimiter.Config()
+            .setReplenishRate(7)
+            .setBurstCapacity(70)
+            .setLeaseSize(3));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(3L, 100L)));
+
+        // Act
+        rateLimiter.isAllowed(ROUTE_ID, KEY).block();
+
+        // Assert
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(List.of("7", "70", "3")));
+    }
+
+    @Test
+    @DisplayName("isAllowed_SameKeyDifferentRoutes_UseSeparateBucketsAndRedisKeys")
+    void isAllowed_SameKeyDifferentRoutes_UseSeparateBucketsAndRedisKeys() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(5L, 100L)));
+
+        // Act
+        rateLimiter.isAllowed(ROUTE_ID, KEY).block();
+        rateLimiter.isAllowed(OTHER_ROUTE_ID, KEY).block();
+
+        // Assert — запросы к одному маршруту не расходуют лимит другого
+        assertEquals(2, rateLimiter.getBucketCount());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(HybridRateLimiter.keys(ROUTE_ID, KEY)), anyList());
+        verify(redisTemplate)
+            .execute(any(RedisScript.class), eq(HybridRateLimiter.keys(OTHER_ROUTE_ID, KEY)), anyList());
+        assertEquals(List.of("hybrid_rate_limiter.{user-service.user:42}.tokens",
+            "hybrid_rate_limiter.{user-service.user:42}.timestamp"), HybridRateLimiter.keys(ROUTE_ID, KEY));
+    }
+
+    @Test
+    @DisplayName("isAllowed_LeaseGranted_ReturnsRateLimitHeaders")
+    void isAllowed_LeaseGranted_ReturnsRateLimitHeaders() {
+        // Arrange — выдано 5 токенов, в общем бакете осталось 10
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(5L, 10L)));
+
+        // Act
+        RateLimiter.Response response = rateLimiter.isAllowed(ROUTE_ID, KEY).block();
+
+        // Assert — 4 токена в локальной квоте и 10 в общем бакете
+        assertTrue(response.isAllowed());
+        assertEquals(Map.of(
+            RedisRateLimiter.REMAINING_HEADER, "14",
+            RedisRateLimiter.REPLENISH_RATE_HEADER, "1",
+            RedisRateLimiter.BURST_CAPACITY_HEADER, "20",
+            RedisRateLimiter.REQUESTED_TOKENS_HEADER, "1"), response.getHeaders());
+    }
+
+    @Test
+    @DisplayName("isAllowed_SharedBucketEmpty_ReturnsZeroRemaining")
+    void isAllowed_SharedBucketEmpty_ReturnsZeroRemaining() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.just(List.of(0L, 0L)));
+
+        // Act
+        RateLimiter.Response response = rateLimiter.isAllowed(ROUTE_ID, KEY).block();
+
+        // Assert
+        assertFalse(response.isAllowed());
+        assertEquals("0", response.getHeaders().get(RedisRateLimiter.REMAINING_HEADER));
+    }
+
+    @Test
+    @DisplayName("isAllowed_RedisFailed_SkipsRedisUntilProbeInterval")
+    void isAllowed_RedisFailed_SkipsRedisUntilProbeInterval() {
+        // Arrange
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyList()))
+            .thenReturn(Flux.error(new RedisConnectionFailureException("connection refused")));
+        rateLimiter.isAllowed(ROUTE_ID, KEY).block();
+
+        // Act — новые ключи получают квоту локально, не дожидаясь таймаута Redis
+        boolean second = rateLimiter.isAllowed(ROUTE_ID, "ip:10.0.0.1").block().isAllowed();
+        boolean third = rateLimiter.isAllowed(OTHER_ROUTE_ID, KEY).block().isAllowed();
+
+        // Assert
+        assertTrue(second);
+        assertTrue(third);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), anyList());
+    }
+}
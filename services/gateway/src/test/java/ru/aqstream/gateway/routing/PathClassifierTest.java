@@ -0,0 +1,114 @@
+package ru.aqstream.gateway.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Тесты для PathClassifier.
+ */
+class PathClassifierTest {
+
+    @Test
+    @DisplayName("classify_ExactPrefix_ReturnsValue")
+    void classify_ExactPrefix_ReturnsValue() {
+        // Arrange
+        PathClassifier<String> classifier = PathClassifier.<String>builder()
+            .add("/api/v1/public", "public")
+            .build();
+
+        // Act & Assert
+        assertEquals("public", classifier.classify("/api/v1/public"));
+        assertEquals("public", classifier.classify("/api/v1/public/"));
+        assertEquals("public", classifier.classify("/api/v1/public/events/my-event"));
+    }
+
+    @Test
+    @DisplayName("classify_PrefixWithinSegment_ReturnsNull")
+    void classify_PrefixWithinSegment_ReturnsNull() {
+        // Arrange
+        PathClassifier<String> classifier = PathClassifier.<String>builder()
+            .add("/api/v1/public", "public")
+            .build();
+
+        // Act & Assert
+        assertNull(classifier.classify("/api/v1/publicity"));
+        assertNull(classifier.classify("/api/v1/pub"));
+        assertNull(classifier.classify("/api/v1"));
+    }
+
+    @Test
+    @DisplayName("classify_NestedPrefixes_ReturnsLongestMatch")
+    void classify_NestedPrefixes_ReturnsLongestMatch() {
+        // Arrange
+        PathClassifier<String> classifier = PathClassifier.<String>builder()
+            .add("/api/v1/auth", "auth")
+            .add("/api/v1/auth/telegram", "telegram")
+            .add("/api/v1/auth/login", "login")
+            .build();
+
+        // Act & Assert
+        assertEquals("telegram", classifier.classify("/api/v1/auth/telegram/link"));
+        assertEquals("login", classifier.classify("/api/v1/auth/login"));
+        assertEquals("auth", classifier.classify("/api/v1/auth/logout"));
+        assertEquals("auth", classifier.classify("/api/v1/auth/telegram-bot"));
+    }
+
+    @Test
+    @DisplayName("classify_SharedEdgeSplit_KeepsAllPrefixes")
+    void classify_SharedEdgeSplit_KeepsAllPrefixes() {
+        // Arrange — префиксы добавляются в порядке, требующем разделения рёбер
+        PathClassifier<Integer> classifier = PathClassifier.<Integer>builder()
+            .add("/api/v1/events/public", 1)
+            .add("/api/v1/webhooks", 2)
+            .add("/api/v1/events", 3)
+            .add("/actuator", 4)
+            .build();
+
+        // Act & Assert
+        assertEquals(1, classifier.classify("/api/v1/events/public/upcoming"));
+        assertEquals(2, classifier.classify("/api/v1/webhooks/yookassa"));
+        assertEquals(3, classifier.classify("/api/v1/events/123"));
+        assertEquals(4, classifier.classify("/actuator/health"));
+        assertNull(classifier.classify("/api/v1/users"));
+        assertNull(classifier.classify("/"));
+    }
+
+    @Test
+    @DisplayName("matches_RootPrefix_MatchesEverything")
+    void matches_RootPrefix_MatchesEverything() {
+        // Arrange
+        PathClassifier<Boolean> classifier = PathClassifier.<Boolean>builder()
+            .add("/", Boolean.TRUE)
+            .build();
+
+        // Act & Assert
+        assertTrue(classifier.matches("/"));
+        assertTrue(classifier.matches("/api/v1/events"));
+    }
+
+    @Test
+    @DisplayName("matches_EmptyClassifier_ReturnsFalse")
+    void matches_EmptyClassifier_ReturnsFalse() {
+        // Arrange
+        PathClassifier<Boolean> classifier = PathClassifier.<Boolean>builder().build();
+
+        // Act & Assert
+        assertFalse(classifier.matches("/api/v1/events"));
+    }
+
+    @Test
+    @DisplayName("add_PrefixWithoutLeadingSlash_ThrowsException")
+    void add_PrefixWithoutLeadingSlash_ThrowsException() {
+        // Arrange
+        PathClassifier.Builder<Boolean> builder = PathClassifier.builder();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.add("api/v1", Boolean.TRUE));
+    }
+}
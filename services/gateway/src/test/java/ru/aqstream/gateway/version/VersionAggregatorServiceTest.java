@@ -0,0 +1,112 @@
+package ru.aqstream.gateway.version;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.aqstream.common.api.version.ServiceVersionDto;
+import ru.aqstream.common.api.version.SystemVersionDto;
+import ru.aqstream.common.api.version.SystemVersionDto.InfrastructureVersionDto;
+
+/**
+ * Тесты для VersionAggregatorService.
+ */
+class VersionAggregatorServiceTest {
+
+    private static final String DOWN_HOST = "media-service";
+
+    private final AtomicInteger serviceCalls = new AtomicInteger();
+
+    private VersionAggregatorService service;
+
+    @BeforeEach
+    void setUp() {
+        WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            serviceCalls.incrementAndGet();
+            if (DOWN_HOST.equals(request.url().getHost())) {
+                return Mono.error(new ConnectException("Connection refused"));
+            }
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"name\":\"" + request.url().getHost() + "\",\"version\":\"1.2.3\"}")
+                .build());
+        });
+
+        GatewayVersionProvider gatewayVersionProvider = mock(GatewayVersionProvider.class);
+        when(gatewayVersionProvider.getVersion()).thenReturn(ServiceVersionDto.unavailable("gateway"));
+        InfrastructureVersionService infrastructureVersionService = mock(InfrastructureVersionService.class);
+        when(infrastructureVersionService.getInfrastructureVersions())
+            .thenReturn(Mono.just(new InfrastructureVersionDto(null, "7.2.5", null)));
+
+        ServiceEndpoints endpoints = new ServiceEndpoints(
+            "http://user-service:8081",
+            "http://event-service:8082",
+            "http://payment-service:8083",
+            "http://notification-service:8084",
+            "http://media-service:8085",
+            "http://analytics-service:8086"
+        );
+        // Фоновое обновление не запускается: afterPropertiesSet не вызывается
+        service = new VersionAggregatorService(webClientBuilder, gatewayVersionProvider,
+            infrastructureVersionService, endpoints, "test", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("aggregateVersions_SnapshotExists_ServesFromMemory")
+    void aggregateVersions_SnapshotExists_ServesFromMemory() {
+        // Arrange
+        SystemVersionDto first = service.aggregateVersions().block();
+
+        // Act
+        SystemVersionDto second = service.aggregateVersions().block();
+
+        // Assert
+        assertEquals(6, serviceCalls.get());
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("refresh_NewSnapshot_ReplacesServedSnapshot")
+    void refresh_NewSnapshot_ReplacesServedSnapshot() {
+        // Arrange
+        service.aggregateVersions().block();
+
+        // Act
+        SystemVersionDto refreshed = service.refresh().block();
+
+        // Assert
+        assertEquals(12, serviceCalls.get());
+        assertSame(refreshed, service.aggregateVersions().block());
+    }
+
+    @Test
+    @DisplayName("refresh_ServiceDown_MarksUnavailable")
+    void refresh_ServiceDown_MarksUnavailable() {
+        // Act
+        SystemVersionDto snapshot = service.refresh().block();
+
+        // Assert
+        assertEquals("1.2.3", snapshot.services().get("user-service").version());
+        assertEquals("unavailable", snapshot.services().get("media-service").version());
+        assertEquals("7.2.5", snapshot.infrastructure().redis());
+    }
+}
@@ -0,0 +1,41 @@
+package ru.aqstream.media.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+
+/**
+ * Подтверждение прямой загрузки.
+ *
+ * @param parts загруженные части с ETag (только для загрузки частями)
+ */
+public record ConfirmUploadRequest(
+    @Valid
+    List<CompletedPart> parts
+) {
+
+    /**
+     * Загруженная часть.
+     *
+     * @param partNumber номер части
+     * @param etag       ETag из ответа хранилища
+     */
+    public record CompletedPart(
+        @Positive(message = "Номер части должен быть положительным")
+        int partNumber,
+
+        @NotBlank(message = "ETag обязателен")
+        String etag
+    ) {
+    }
+
+    /**
+     * Возвращает части или пустой список.
+     *
+     * @return список частей
+     */
+    public List<CompletedPart> partsOrEmpty() {
+        return parts != null ? parts : List.of();
+    }
+}
@@ -0,0 +1,31 @@
+package ru.aqstream.media.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Запрос на прямую загрузку файла в хранилище.
+ *
+ * @param fileName    оригинальное имя файла
+ * @param contentType MIME-тип, с которым клиент загрузит файл
+ * @param fileSize    размер файла в байтах
+ * @param purpose     назначение файла
+ */
+public record CreateUploadRequest(
+    @NotBlank(message = "Имя файла обязательно")
+    @Size(max = 255, message = "Имя файла не должно превышать 255 символов")
+    String fileName,
+
+    @NotBlank(message = "MIME-тип обязателен")
+    @Size(max = 100, message = "MIME-тип не должен превышать 100 символов")
+    String contentType,
+
+    @Positive(message = "Размер файла должен быть положительным")
+    long fileSize,
+
+    @NotNull(message = "Назначение файла обязательно")
+    MediaPurpose purpose
+) {
+}
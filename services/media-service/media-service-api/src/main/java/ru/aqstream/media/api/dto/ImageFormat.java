@@ -0,0 +1,48 @@
+package ru.aqstream.media.api.dto;
+
+/**
+ * Формат, в котором хранятся варианты изображения.
+ */
+public enum ImageFormat {
+
+    /**
+     * WebP: основной формат вариантов.
+     */
+    WEBP("image/webp", "webp"),
+
+    /**
+     * JPEG: для непрозрачных изображений, если клиент не поддерживает WebP.
+     */
+    JPEG("image/jpeg", "jpg"),
+
+    /**
+     * PNG: для изображений с прозрачностью, если клиент не поддерживает WebP.
+     */
+    PNG("image/png", "png");
+
+    private final String contentType;
+    private final String extension;
+
+    ImageFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /**
+     * MIME-тип формата.
+     *
+     * @return MIME-тип
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Расширение файла без точки.
+     *
+     * @return расширение
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,38 @@
+package ru.aqstream.media.api.dto;
+
+/**
+ * Уменьшенный вариант изображения.
+ * Изображение вписывается в квадрат со стороной {@link #getMaxSize()} с сохранением пропорций.
+ */
+public enum ImageVariant {
+
+    /**
+     * Миниатюра: аватары в списках.
+     */
+    THUMBNAIL(64),
+
+    /**
+     * Средний размер: карточки событий.
+     */
+    MEDIUM(256),
+
+    /**
+     * Крупный размер: страница события, полноэкранный просмотр.
+     */
+    LARGE(1024);
+
+    private final int maxSize;
+
+    ImageVariant(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Максимальная сторона варианта в пикселях.
+     *
+     * @return размер в пикселях
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
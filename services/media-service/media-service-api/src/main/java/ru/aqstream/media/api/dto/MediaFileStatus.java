@@ -0,0 +1,17 @@
+package ru.aqstream.media.api.dto;
+
+/**
+ * Статус медиа-файла.
+ */
+public enum MediaFileStatus {
+
+    /**
+     * Выданы ссылки на загрузку, файл ещё не подтверждён.
+     */
+    PENDING,
+
+    /**
+     * Файл загружен и проверен.
+     */
+    READY
+}
@@ -0,0 +1,15 @@
+package ru.aqstream.media.api.dto;
+
+/**
+ * Временная ссылка на файл или вариант изображения.
+ *
+ * @param url         presigned URL
+ * @param variant     вариант изображения (null — оригинал)
+ * @param contentType MIME-тип файла по ссылке
+ */
+public record MediaUrlResponse(
+    String url,
+    ImageVariant variant,
+    String contentType
+) {
+}
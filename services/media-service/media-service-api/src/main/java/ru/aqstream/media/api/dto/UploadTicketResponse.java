@@ -0,0 +1,45 @@
+package ru.aqstream.media.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Ссылки для прямой загрузки файла в хранилище.
+ *
+ * <p>Небольшой файл загружается одним {@code POST} multipart/form-data на {@code uploadUrl}:
+ * сначала все {@code uploadFields}, затем поле {@code file}. Подписанная политика
+ * допускает только заявленные размер и {@code Content-Type}. Большой файл
+ * делится на части по {@code partSize} байт (последняя может быть меньше), каждая
+ * загружается {@code PUT} на свою ссылку, ETag из ответа передаётся при подтверждении.
+ * Заголовок {@code Content-Type} должен совпадать с заявленным.</p>
+ *
+ * @param id           идентификатор файла для подтверждения
+ * @param uploadUrl    адрес формы для загрузки одним запросом (null для загрузки частями)
+ * @param uploadFields поля формы (пусто для загрузки частями)
+ * @param partSize     размер части в байтах (null для загрузки одним запросом)
+ * @param parts        ссылки на части (пусто для загрузки одним запросом)
+ * @param expiresAt    время истечения ссылок
+ */
+public record UploadTicketResponse(
+    UUID id,
+    String uploadUrl,
+    Map<String, String> uploadFields,
+    Long partSize,
+    List<PartUrl> parts,
+    Instant expiresAt
+) {
+
+    /**
+     * Ссылка на загрузку части.
+     *
+     * @param partNumber номер части, начиная с 1
+     * @param url        ссылка для PUT
+     */
+    public record PartUrl(
+        int partNumber,
+        String url
+    ) {
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,6 +14,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLRestriction;
 import ru.aqstream.common.data.SoftDeletableEntity;
+import ru.aqstream.media.api.dto.ImageFormat;
+import ru.aqstream.media.api.dto.MediaFileStatus;
 import ru.aqstream.media.api.dto.MediaPurpose;
 
 /**
@@ -74,6 +78,26 @@ public class MediaFile extends SoftDeletableEntity {
     @Column(name = "entity_id")
     private UUID entityId;
 
+    /**
+     * Статус файла. PENDING — выданы ссылки на прямую загрузку, файл не подтверждён.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private MediaFileStatus status = MediaFileStatus.READY;
+
+    /**
+     * Идентификатор multipart upload в хранилище (только для загрузки частями).
+     */
+    @Column(name = "upload_id")
+    private String uploadId;
+
+    /**
+     * Форматы готовых вариантов изображения через запятую, предпочтительный первым.
+     * null — вариантов нет (не изображение или обработка не завершена).
+     */
+    @Column(name = "variant_formats", length = 50)
+    private String variantFormats;
+
     /**
      * Создаёт новый медиа-файл.
      *
@@ -114,4 +138,64 @@ public class MediaFile extends SoftDeletableEntity {
     public void attachToEntity(UUID entityId) {
         this.entityId = entityId;
     }
+
+    /**
+     * Создаёт файл, ожидающий прямой загрузки в хранилище.
+     *
+     * @param userId       идентификатор пользователя
+     * @param fileKey      ключ в хранилище
+     * @param originalName оригинальное имя файла
+     * @param contentType  MIME-тип
+     * @param fileSize     заявленный размер в байтах
+     * @param bucket       имя бакета
+     * @param purpose      назначение
+     * @param uploadId     идентификатор multipart upload или null
+     * @return новый объект MediaFile в статусе PENDING
+     */
+    public static MediaFile createPending(
+        UUID userId,
+        String fileKey,
+        String originalName,
+        String contentType,
+        long fileSize,
+        String bucket,
+        MediaPurpose purpose,
+        String uploadId
+    ) {
+        MediaFile file = create(userId, fileKey, originalName, contentType, fileSize, bucket, purpose);
+        file.status = MediaFileStatus.PENDING;
+        file.uploadId = uploadId;
+        return file;
+    }
+
+    /**
+     * Проверяет, ожидает ли файл подтверждения загрузки.
+     *
+     * @return true если файл в статусе PENDING
+     */
+    public boolean isPending() {
+        return status == MediaFileStatus.PENDING;
+    }
+
+    /**
+     * Отмечает файл загруженным.
+     */
+    public void markReady() {
+        this.status = MediaFileStatus.READY;
+        this.uploadId = null;
+    }
+
+    /**
+     * Возвращает форматы готовых вариантов изображения.
+     *
+     * @return форматы, предпочтительный первым; пустой список, если вариантов нет
+     */
+    public List<ImageFormat> getVariantFormatList() {
+        if (variantFormats == null || variantFormats.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(variantFormats.split(","))
+            .map(ImageFormat::valueOf)
+            .toList();
+    }
 }
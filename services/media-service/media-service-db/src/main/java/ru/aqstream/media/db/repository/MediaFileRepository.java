@@ -4,9 +4,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import ru.aqstream.media.api.dto.MediaPurpose;
 import ru.aqstream.media.db.entity.MediaFile;
 
@@ -27,14 +29,15 @@ public interface MediaFileRepository extends JpaRepository<MediaFile, UUID> {
     Optional<MediaFile> findByIdAndTenantId(@Param("id") UUID id, @Param("tenantId") UUID tenantId);
 
     /**
-     * Находит файлы по назначению и связанной сущности.
+     * Находит загруженные файлы по назначению и связанной сущности.
      *
      * @param purpose  назначение
      * @param entityId идентификатор сущности
      * @param tenantId идентификатор организации
      * @return список файлов
      */
-    @Query("SELECT f FROM MediaFile f WHERE f.purpose = :purpose AND f.entityId = :entityId AND f.tenantId = :tenantId")
+    @Query("SELECT f FROM MediaFile f WHERE f.purpose = :purpose AND f.entityId = :entityId "
+        + "AND f.tenantId = :tenantId AND f.status = 'READY'")
     List<MediaFile> findByPurposeAndEntityId(
         @Param("purpose") MediaPurpose purpose,
         @Param("entityId") UUID entityId,
@@ -42,13 +45,14 @@ public interface MediaFileRepository extends JpaRepository<MediaFile, UUID> {
     );
 
     /**
-     * Находит аватар пользователя.
+     * Находит загруженный аватар пользователя.
      *
      * @param userId   идентификатор пользователя
      * @param tenantId идентификатор организации
      * @return аватар или empty
      */
-    @Query("SELECT f FROM MediaFile f WHERE f.purpose = 'USER_AVATAR' AND f.entityId = :userId AND f.tenantId = :tenantId")
+    @Query("SELECT f FROM MediaFile f WHERE f.purpose = 'USER_AVATAR' AND f.entityId = :userId "
+        + "AND f.tenantId = :tenantId AND f.status = 'READY'")
     Optional<MediaFile> findUserAvatar(@Param("userId") UUID userId, @Param("tenantId") UUID tenantId);
 
     /**
@@ -58,4 +62,23 @@ public interface MediaFileRepository extends JpaRepository<MediaFile, UUID> {
      * @return true если файл существует
      */
     boolean existsByFileKey(String fileKey);
+
+    /**
+     * Сохраняет форматы готовых вариантов изображения.
+     * Удалённый за время обработки файл не обновляется.
+     *
+     * @param id             идентификатор файла
+     * @param tenantId       идентификатор организации
+     * @param variantFormats форматы через запятую
+     * @return 1 если файл обновлён, 0 если файл удалён
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MediaFile f SET f.variantFormats = :variantFormats "
+        + "WHERE f.id = :id AND f.tenantId = :tenantId AND f.deletedAt IS NULL")
+    int updateVariantFormats(
+        @Param("id") UUID id,
+        @Param("tenantId") UUID tenantId,
+        @Param("variantFormats") String variantFormats
+    );
 }
@@ -25,6 +25,10 @@ dependencies {
     val minioVersion: String by project
     implementation("io.minio:minio:$minioVersion")
 
+    // WebP для ImageIO: чтение оригиналов и кодирование вариантов (нативный libwebp)
+    val webpImageioVersion: String by project
+    runtimeOnly("org.sejda.imageio:webp-imageio:$webpImageioVersion")
+
     // MapStruct
     val mapstructVersion: String by project
     implementation("org.mapstruct:mapstruct:$mapstructVersion")
@@ -32,6 +36,7 @@ dependencies {
 
     testImplementation(project(":common:common-test"))
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("org.awaitility:awaitility")
 }
 
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
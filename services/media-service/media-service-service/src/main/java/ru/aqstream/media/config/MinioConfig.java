@@ -1,9 +1,12 @@
 package ru.aqstream.media.config;
 
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import ru.aqstream.media.storage.MinioMultipartClient;
 
 /**
  * Конфигурация MinIO клиента.
@@ -20,16 +23,53 @@ public class MinioConfig {
     @Value("${minio.secret-key}")
     private String secretKey;
 
+    @Value("${minio.public-endpoint}")
+    private String publicEndpoint;
+
+    @Value("${minio.region}")
+    private String region;
+
     /**
      * Создаёт MinIO клиент.
      *
      * @return настроенный MinioClient
      */
     @Bean
+    @Primary
     public MinioClient minioClient() {
         return MinioClient.builder()
             .endpoint(endpoint)
             .credentials(accessKey, secretKey)
             .build();
     }
+
+    /**
+     * Создаёт клиент для подписи ссылок прямой загрузки.
+     * Ссылки подписываются на публичный адрес хранилища, доступный браузеру.
+     * Регион задан явно, чтобы подпись не требовала запроса к хранилищу.
+     *
+     * @return MinioClient для presigned ссылок
+     */
+    @Bean
+    public MinioClient minioPresignClient() {
+        return MinioClient.builder()
+            .endpoint(publicEndpoint)
+            .region(region)
+            .credentials(accessKey, secretKey)
+            .build();
+    }
+
+    /**
+     * Создаёт клиент для открытия и завершения multipart upload.
+     *
+     * @return MinioMultipartClient
+     */
+    @Bean
+    public MinioMultipartClient minioMultipartClient() {
+        return new MinioMultipartClient(MinioAsyncClient.builder()
+            .endpoint(endpoint)
+            .region(region)
+            .credentials(accessKey, secretKey)
+            .build());
+    }
 }
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -11,15 +12,23 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import ru.aqstream.common.security.UserPrincipal;
+import ru.aqstream.media.api.dto.ConfirmUploadRequest;
+import ru.aqstream.media.api.dto.CreateUploadRequest;
+import ru.aqstream.media.api.dto.ImageFormat;
+import ru.aqstream.media.api.dto.ImageVariant;
 import ru.aqstream.media.api.dto.MediaPurpose;
+import ru.aqstream.media.api.dto.MediaUrlResponse;
 import ru.aqstream.media.api.dto.UploadResponse;
+import ru.aqstream.media.api.dto.UploadTicketResponse;
 import ru.aqstream.media.service.MediaService;
 
 /**
@@ -74,6 +83,72 @@ public class MediaController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+        summary = "Начать прямую загрузку",
+        description = "Выдаёт presigned ссылки для загрузки файла напрямую в хранилище: подписанную "
+            + "форму POST для файлов до 16MB или ссылки на части для больших файлов. После загрузки файл нужно "
+            + "подтвердить. Для аватаров и обложек: JPEG, PNG, WebP, GIF до 10MB, остальные файлы до 1GB."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Ссылки выданы"),
+        @ApiResponse(responseCode = "400", description = "Невалидные параметры файла"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован")
+    })
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadTicketResponse> createUpload(
+        @Valid @RequestBody CreateUploadRequest request,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireAuthenticated(principal);
+        UploadTicketResponse response = mediaService.createUpload(request, principal.userId());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(
+        summary = "Подтвердить прямую загрузку",
+        description = "Собирает файл из частей (для загрузки частями) и проверяет, что объект в хранилище "
+            + "совпадает с заявленным размером и типом. Файл, не прошедший проверку, удаляется."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Файл загружен"),
+        @ApiResponse(responseCode = "400", description = "Файл не загружен или не совпадает с заявленным"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "403", description = "Нет доступа к файлу"),
+        @ApiResponse(responseCode = "404", description = "Файл не найден")
+    })
+    @PostMapping("/uploads/{id}/confirm")
+    public ResponseEntity<UploadResponse> confirmUpload(
+        @PathVariable UUID id,
+        @Valid @RequestBody(required = false) ConfirmUploadRequest request,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireAuthenticated(principal);
+        UploadResponse response = mediaService.confirmUpload(id, request, principal.userId());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(
+        summary = "Получить ссылку на файл",
+        description = "Возвращает временную ссылку на файл. Для изображений можно запросить вариант "
+            + "THUMBNAIL (64px), MEDIUM (256px) или LARGE (1024px) и формат: по умолчанию WebP, "
+            + "JPEG/PNG для клиентов без WebP. Пока варианты не готовы, возвращается оригинал."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Ссылка выдана"),
+        @ApiResponse(responseCode = "401", description = "Не авторизован"),
+        @ApiResponse(responseCode = "404", description = "Файл не найден")
+    })
+    @GetMapping("/{id}/url")
+    public ResponseEntity<MediaUrlResponse> getUrl(
+        @PathVariable UUID id,
+        @RequestParam(value = "variant", required = false) ImageVariant variant,
+        @RequestParam(value = "format", required = false) ImageFormat format,
+        @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        requireAuthenticated(principal);
+        return ResponseEntity.ok(mediaService.getFileUrl(id, variant, format));
+    }
+
     @Operation(
         summary = "Удалить файл",
         description = "Удаляет файл. Доступно только владельцу файла."
@@ -0,0 +1,184 @@
+package ru.aqstream.media.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import ru.aqstream.media.api.dto.ImageFormat;
+
+/**
+ * Декодирование, уменьшение и кодирование изображений через ImageIO.
+ */
+final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * Декодирует первый кадр изображения с прореживанием.
+     *
+     * <p>Размеры читаются из заголовка, и декодер пропускает строки и столбцы так,
+     * чтобы большая сторона результата была не меньше {@code minSide}. Фото 6000×4000
+     * для варианта 1024px декодируется в 1200×800: в heap попадает ~4MB вместо ~96MB.</p>
+     *
+     * @param input     поток изображения
+     * @param minSide   минимальная большая сторона результата
+     * @param maxPixels максимальное число пикселей исходного изображения
+     * @return декодированное изображение
+     * @throws IOException               при ошибке чтения или декодирования
+     * @throws UnsupportedImageException если формат не поддерживается или изображение слишком большое
+     */
+    static BufferedImage decode(ImageInputStream input, int minSide, long maxPixels) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            throw new UnsupportedImageException("Неподдерживаемый формат изображения");
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(input, true, true);
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxPixels) {
+                throw new UnsupportedImageException("Изображение слишком большое: " + width + "x" + height);
+            }
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int step = subsampling(width, height, minSide);
+            if (step > 1) {
+                param.setSourceSubsampling(step, step, 0, 0);
+            }
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * Шаг прореживания, при котором большая сторона остаётся не меньше {@code minSide}.
+     *
+     * @param width   ширина
+     * @param height  высота
+     * @param minSide минимальная большая сторона
+     * @return шаг, не меньше 1
+     */
+    static int subsampling(int width, int height, int minSide) {
+        return Math.max(1, Math.max(width, height) / minSide);
+    }
+
+    /**
+     * Вписывает изображение в квадрат со стороной {@code maxSide} с сохранением пропорций.
+     * Меньшие изображения не увеличиваются. Результат всегда RGB или ARGB,
+     * чтобы его принимали все кодировщики.
+     *
+     * @param source  исходное изображение
+     * @param maxSide максимальная сторона
+     * @return уменьшенное изображение
+     */
+    static BufferedImage resize(BufferedImage source, int maxSide) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = hasAlpha(source) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        // Уменьшение шагами не больше чем вдвое: билинейная интерполяция за один шаг
+        // при сильном уменьшении пропускает пиксели и даёт «лесенку»
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, type);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    /**
+     * Кодирует изображение в заданный формат.
+     *
+     * @param image   изображение RGB или ARGB
+     * @param format  формат
+     * @param quality качество сжатия с потерями, от 0 до 1
+     * @return закодированные байты
+     * @throws IOException               при ошибке кодирования
+     * @throws UnsupportedImageException если кодировщик формата не установлен
+     */
+    static byte[] encode(BufferedImage image, ImageFormat format, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(format.getContentType());
+        if (!writers.hasNext()) {
+            throw new UnsupportedImageException("Нет кодировщика для " + format.getContentType());
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (format != ImageFormat.PNG && param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                String[] types = param.getCompressionTypes();
+                if (types != null && types.length > 0) {
+                    // Первый тип — сжатие с потерями (JPEG — единственный, WebP — Lossy)
+                    param.setCompressionType(types[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Проверяет, что кодировщик формата установлен и работает.
+     * Кодировщик WebP использует нативную библиотеку, которая может не загрузиться на платформе.
+     *
+     * @param format формат
+     * @return true если пробное кодирование прошло успешно
+     */
+    static boolean canEncode(ImageFormat format) {
+        try {
+            return encode(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB), format, 0.5f).length > 0;
+        } catch (IOException | RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static boolean hasAlpha(BufferedImage image) {
+        return image.getColorModel().hasAlpha();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Исключение: изображение нельзя обработать.
+     */
+    static class UnsupportedImageException extends RuntimeException {
+        UnsupportedImageException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package ru.aqstream.media.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.media.api.dto.ImageFormat;
+import ru.aqstream.media.api.dto.ImageVariant;
+import ru.aqstream.media.db.entity.MediaFile;
+import ru.aqstream.media.db.repository.MediaFileRepository;
+import ru.aqstream.media.storage.MinioStorageService;
+
+/**
+ * Фоновое создание уменьшенных вариантов изображений.
+ *
+ * <p>После коммита загрузки изображение ставится в очередь пула. Поток скачивает оригинал,
+ * декодирует его с прореживанием под самый крупный вариант и уменьшает каскадом
+ * {@code LARGE → MEDIUM → THUMBNAIL}. Каждый вариант кодируется в WebP и в JPEG
+ * (PNG при прозрачности) и сохраняется рядом с оригиналом:
+ * {@code <fileKey>-medium.webp}. Когда все варианты загружены, их форматы
+ * записываются в {@code media_files.variant_formats}; до этого ссылки ведут на оригинал.</p>
+ *
+ * <p>Обработка занимает CPU, поэтому пул фиксированного размера с ограниченной очередью.
+ * При переполнении задача отбрасывается: файл остаётся без вариантов и отдаётся оригиналом.</p>
+ *
+ * <p>Метрики: {@code media.variants.queue} (глубина очереди),
+ * {@code media.variants.duration} (обработка изображения),
+ * {@code media.variants.rejected} (отброшенные задачи),
+ * {@code media.variants.failed} (ошибки обработки).</p>
+ */
+@Component
+@Slf4j
+public class ImageVariantProcessor {
+
+    private static final String METRIC_PREFIX = "media.variants";
+    // Защита от «бомб»: PNG 50000×50000 весит килобайты, но декодируется в гигабайты
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+    private static final float QUALITY = 0.82f;
+    private static final Set<String> SUPPORTED_TYPES = Set.of(
+        "image/jpeg",
+        "image/png",
+        "image/webp",
+        "image/gif"
+    );
+    private static final List<ImageVariant> LARGEST_FIRST = Arrays.stream(ImageVariant.values())
+        .sorted(Comparator.comparingInt(ImageVariant::getMaxSize).reversed())
+        .toList();
+
+    private final MinioStorageService storageService;
+    private final MediaFileRepository mediaFileRepository;
+    private final ThreadPoolExecutor executor;
+    private final Timer processTimer;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean webpSupported;
+
+    /**
+     * Создаёт обработчик.
+     *
+     * @param storageService      хранилище
+     * @param mediaFileRepository репозиторий файлов
+     * @param threads             количество потоков
+     * @param queueCapacity       ёмкость очереди ожидающих изображений
+     * @param meterRegistry       реестр метрик
+     */
+    public ImageVariantProcessor(
+        MinioStorageService storageService,
+        MediaFileRepository mediaFileRepository,
+        @Value("${media.variants.threads:2}") int threads,
+        @Value("${media.variants.queue-capacity:100}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        this.storageService = storageService;
+        this.mediaFileRepository = mediaFileRepository;
+        int poolSize = Math.max(1, threads);
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            Thread.ofPlatform().name("image-variant-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, e -> e.getQueue().size())
+            .description("Изображения в очереди на создание вариантов")
+            .register(meterRegistry);
+        this.processTimer = Timer.builder(METRIC_PREFIX + ".duration")
+            .description("Время создания вариантов одного изображения")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("Изображения, отброшенные из-за переполнения очереди")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+            .description("Изображения, для которых не удалось создать варианты")
+            .register(meterRegistry);
+
+        log.info("Пул обработки изображений: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Регистрирует плагины ImageIO и проверяет кодировщик WebP.
+     */
+    @PostConstruct
+    public void init() {
+        // Плагины из boot jar видны только через context class loader основного потока
+        ImageIO.scanForPlugins();
+        // Оригинал не больше 10MB: поток кэшируется в памяти, без временных файлов
+        ImageIO.setUseCache(false);
+        webpSupported = ImageResizer.canEncode(ImageFormat.WEBP);
+        if (!webpSupported) {
+            log.warn("Кодировщик WebP недоступен, варианты изображений создаются только в JPEG/PNG");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Проверяет, создаются ли варианты для файла этого типа.
+     *
+     * @param contentType MIME-тип
+     * @return true для JPEG, PNG, WebP и GIF
+     */
+    public static boolean supports(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Ключ варианта в хранилище.
+     *
+     * @param fileKey ключ оригинала
+     * @param variant вариант
+     * @param format  формат
+     * @return ключ варианта
+     */
+    public static String variantKey(String fileKey, ImageVariant variant, ImageFormat format) {
+        return fileKey + "-" + variant.name().toLowerCase(Locale.ROOT) + "." + format.getExtension();
+    }
+
+    /**
+     * Ставит изображение в очередь после коммита текущей транзакции.
+     *
+     * @param fileId   идентификатор файла
+     * @param tenantId идентификатор организации
+     * @param fileKey  ключ оригинала
+     */
+    public void scheduleAfterCommit(UUID fileId, UUID tenantId, String fileKey) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(fileId, tenantId, fileKey);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(fileId, tenantId, fileKey);
+            }
+        });
+    }
+
+    /**
+     * Удаляет готовые варианты файла. Ошибки только логируются.
+     *
+     * @param file медиа-файл
+     */
+    public void deleteVariants(MediaFile file) {
+        List<ImageFormat> formats = file.getVariantFormatList();
+        for (ImageVariant variant : ImageVariant.values()) {
+            for (ImageFormat format : formats) {
+                deleteQuietly(variantKey(file.getFileKey(), variant, format));
+            }
+        }
+    }
+
+    private void submit(UUID fileId, UUID tenantId, String fileKey) {
+        try {
+            executor.execute(() -> processTimer.record(() -> process(fileId, tenantId, fileKey)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Очередь обработки изображений заполнена, варианты не созданы: fileId={}, queue={}",
+                fileId, executor.getQueue().size());
+        }
+    }
+
+    private void process(UUID fileId, UUID tenantId, String fileKey) {
+        List<String> uploaded = new ArrayList<>();
+        try {
+            BufferedImage current = decode(fileKey);
+            ImageFormat fallback = ImageResizer.hasAlpha(current) ? ImageFormat.PNG : ImageFormat.JPEG;
+            List<ImageFormat> formats = webpSupported ? List.of(ImageFormat.WEBP, fallback) : List.of(fallback);
+
+            for (ImageVariant variant : LARGEST_FIRST) {
+                current = ImageResizer.resize(current, variant.getMaxSize());
+                for (ImageFormat format : formats) {
+                    String key = variantKey(fileKey, variant, format);
+                    storageService.uploadDerivative(key, ImageResizer.encode(current, format, QUALITY),
+                        format.getContentType());
+                    uploaded.add(key);
+                }
+            }
+
+            if (markReady(fileId, tenantId, formats)) {
+                log.info("Варианты изображения созданы: fileId={}, formats={}", fileId, formats);
+            } else {
+                // Файл удалили, пока шла обработка
+                uploaded.forEach(this::deleteQuietly);
+            }
+        } catch (IOException | RuntimeException | LinkageError e) {
+            failedCounter.increment();
+            log.warn("Не удалось создать варианты изображения: fileId={}, error={}", fileId, e.getMessage());
+            uploaded.forEach(this::deleteQuietly);
+        }
+    }
+
+    private BufferedImage decode(String fileKey) throws IOException {
+        int largest = LARGEST_FIRST.getFirst().getMaxSize();
+        try (InputStream in = storageService.download(fileKey);
+             ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            return ImageResizer.decode(input, largest, MAX_SOURCE_PIXELS);
+        }
+    }
+
+    private boolean markReady(UUID fileId, UUID tenantId, List<ImageFormat> formats) {
+        String value = formats.stream().map(ImageFormat::name).collect(Collectors.joining(","));
+        // RLS: соединение получает app.tenant_id из TenantContext
+        TenantContext.setTenantId(tenantId);
+        try {
+            return mediaFileRepository.updateVariantFormats(fileId, tenantId, value) > 0;
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            storageService.delete(key);
+        } catch (MinioStorageService.FileDeleteException e) {
+            log.warn("Не удалось удалить вариант изображения: key={}, error={}", key, e.getMessage());
+        }
+    }
+}
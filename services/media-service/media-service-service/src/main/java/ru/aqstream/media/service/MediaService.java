@@ -1,7 +1,16 @@
 package ru.aqstream.media.service;
 
+import io.minio.StatObjectResponse;
+import io.minio.messages.Part;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +19,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.media.api.dto.ConfirmUploadRequest;
+import ru.aqstream.media.api.dto.CreateUploadRequest;
+import ru.aqstream.media.api.dto.ImageFormat;
+import ru.aqstream.media.api.dto.ImageVariant;
 import ru.aqstream.media.api.dto.MediaPurpose;
+import ru.aqstream.media.api.dto.MediaUrlResponse;
 import ru.aqstream.media.api.dto.UploadResponse;
+import ru.aqstream.media.api.dto.UploadTicketResponse;
 import ru.aqstream.media.db.entity.MediaFile;
 import ru.aqstream.media.db.repository.MediaFileRepository;
+import ru.aqstream.media.storage.DirectUploadStorage;
 import ru.aqstream.media.storage.MinioStorageService;
 
 /**
@@ -25,6 +41,12 @@ import ru.aqstream.media.storage.MinioStorageService;
 public class MediaService {
 
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    // Прямая загрузка не проходит через сервис, поэтому общие файлы могут быть больше
+    private static final long MAX_DIRECT_FILE_SIZE = 1024L * 1024 * 1024; // 1GB
+    // Больше порога — загрузка частями; минимальная часть S3 — 5MB
+    private static final long MULTIPART_THRESHOLD = 16 * 1024 * 1024;
+    private static final long PART_SIZE = 16 * 1024 * 1024;
+    private static final Duration UPLOAD_URL_EXPIRY = Duration.ofHours(1);
     private static final Set<String> ALLOWED_IMAGE_TYPES = Set.of(
         "image/jpeg",
         "image/png",
@@ -34,6 +56,8 @@ public class MediaService {
 
     private final MediaFileRepository mediaFileRepository;
     private final MinioStorageService storageService;
+    private final DirectUploadStorage directUploadStorage;
+    private final ImageVariantProcessor imageVariantProcessor;
 
     /**
      * Загружает файл.
@@ -85,6 +109,7 @@ public class MediaService {
         }
 
         mediaFile = mediaFileRepository.save(mediaFile);
+        scheduleVariants(mediaFile, tenantId);
 
         String url = storageService.getPresignedUrl(fileKey);
 
@@ -100,19 +125,144 @@ public class MediaService {
     }
 
     /**
-     * Получает URL файла по ID.
+     * Выдаёт ссылки для прямой загрузки файла в хранилище.
+     * Файл сохраняется в статусе PENDING до подтверждения.
      *
-     * @param fileId идентификатор файла
+     * @param request параметры файла
+     * @param userId  идентификатор пользователя
+     * @return ссылки на загрузку одним запросом или частями
+     */
+    @Transactional
+    public UploadTicketResponse createUpload(CreateUploadRequest request, UUID userId) {
+        UUID tenantId = TenantContext.getTenantId();
+        MediaPurpose purpose = request.purpose();
+
+        log.info("Прямая загрузка файла: userId={}, purpose={}, fileName={}, size={}",
+            userId, purpose, request.fileName(), request.fileSize());
+
+        validateFile(request.contentType(), request.fileSize(), purpose, MAX_DIRECT_FILE_SIZE);
+
+        String fileKey = storageService.generateFileKey(purpose, tenantId);
+        boolean multipart = request.fileSize() > MULTIPART_THRESHOLD;
+        String uploadId = multipart
+            ? directUploadStorage.createMultipartUpload(fileKey, request.contentType())
+            : null;
+
+        MediaFile mediaFile = MediaFile.createPending(
+            userId,
+            fileKey,
+            request.fileName(),
+            request.contentType(),
+            request.fileSize(),
+            storageService.getBucketName(),
+            purpose,
+            uploadId
+        );
+        if (purpose == MediaPurpose.USER_AVATAR) {
+            mediaFile.attachToEntity(userId);
+        }
+        mediaFile = mediaFileRepository.save(mediaFile);
+
+        Instant expiresAt = Instant.now().plus(UPLOAD_URL_EXPIRY);
+        if (!multipart) {
+            DirectUploadStorage.PresignedPost post = directUploadStorage.presignPost(
+                fileKey, request.contentType(), request.fileSize(), UPLOAD_URL_EXPIRY);
+            return new UploadTicketResponse(mediaFile.getId(), post.url(), post.fields(), null, List.of(), expiresAt);
+        }
+
+        int partCount = (int) ((request.fileSize() + PART_SIZE - 1) / PART_SIZE);
+        List<UploadTicketResponse.PartUrl> parts = new ArrayList<>(partCount);
+        for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+            parts.add(new UploadTicketResponse.PartUrl(
+                partNumber,
+                directUploadStorage.presignPart(fileKey, uploadId, partNumber, UPLOAD_URL_EXPIRY)
+            ));
+        }
+        log.info("Выданы ссылки на загрузку частями: fileId={}, parts={}", mediaFile.getId(), partCount);
+        return new UploadTicketResponse(mediaFile.getId(), null, Map.of(), PART_SIZE, parts, expiresAt);
+    }
+
+    /**
+     * Подтверждает прямую загрузку: собирает части (если загрузка частями)
+     * и проверяет объект в хранилище. Повторное подтверждение возвращает тот же результат.
+     *
+     * @param fileId  идентификатор файла
+     * @param request загруженные части (для загрузки частями)
+     * @param userId  идентификатор пользователя
+     * @return информация о загруженном файле
+     * @throws InvalidFileException если объект отсутствует или не совпадает с заявленным
+     */
+    @Transactional(noRollbackFor = InvalidFileException.class)
+    public UploadResponse confirmUpload(UUID fileId, ConfirmUploadRequest request, UUID userId) {
+        UUID tenantId = TenantContext.getTenantId();
+
+        MediaFile file = mediaFileRepository.findByIdAndTenantId(fileId, tenantId)
+            .orElseThrow(() -> new MediaFileNotFoundException(fileId));
+        if (!file.getUserId().equals(userId)) {
+            throw new MediaFileAccessDeniedException(fileId, userId);
+        }
+        if (!file.isPending()) {
+            return toUploadResponse(file);
+        }
+
+        if (file.getUploadId() != null) {
+            List<ConfirmUploadRequest.CompletedPart> completed = request != null
+                ? request.partsOrEmpty()
+                : List.of();
+            if (completed.isEmpty()) {
+                throw new InvalidFileException("Не переданы загруженные части файла");
+            }
+            List<Part> parts = completed.stream()
+                .sorted(Comparator.comparingInt(ConfirmUploadRequest.CompletedPart::partNumber))
+                .map(part -> new Part(part.partNumber(), part.etag()))
+                .toList();
+            directUploadStorage.completeMultipartUpload(file.getFileKey(), file.getUploadId(), parts);
+        }
+
+        StatObjectResponse stat = directUploadStorage.stat(file.getFileKey())
+            .orElseThrow(() -> new InvalidFileException("Файл не загружен в хранилище"));
+        if (stat.size() != file.getFileSize() || !sameContentType(stat.contentType(), file.getContentType())) {
+            log.warn("Загруженный файл не совпадает с заявленным: fileId={}, size={}/{}, contentType={}/{}",
+                fileId, stat.size(), file.getFileSize(), stat.contentType(), file.getContentType());
+            storageService.delete(file.getFileKey());
+            file.softDelete();
+            mediaFileRepository.save(file);
+            throw new InvalidFileException("Загруженный файл не совпадает с заявленным размером или типом");
+        }
+
+        file.markReady();
+        file = mediaFileRepository.save(file);
+        scheduleVariants(file, tenantId);
+
+        log.info("Прямая загрузка подтверждена: fileId={}, fileKey={}", fileId, file.getFileKey());
+        return toUploadResponse(file);
+    }
+
+    /**
+     * Получает URL файла или варианта изображения по ID.
+     * Если варианты ещё не готовы, возвращается URL оригинала.
+     *
+     * @param fileId  идентификатор файла
+     * @param variant вариант изображения (null — оригинал)
+     * @param format  предпочтительный формат варианта (null — WebP, если есть)
      * @return URL файла
      */
     @Transactional(readOnly = true)
-    public String getFileUrl(UUID fileId) {
+    public MediaUrlResponse getFileUrl(UUID fileId, ImageVariant variant, ImageFormat format) {
         UUID tenantId = TenantContext.getTenantId();
 
         MediaFile file = mediaFileRepository.findByIdAndTenantId(fileId, tenantId)
+            .filter(found -> !found.isPending())
             .orElseThrow(() -> new MediaFileNotFoundException(fileId));
 
-        return storageService.getPresignedUrl(file.getFileKey());
+        List<ImageFormat> formats = file.getVariantFormatList();
+        if (variant == null || formats.isEmpty()) {
+            return new MediaUrlResponse(storageService.getPresignedUrl(file.getFileKey()), null, file.getContentType());
+        }
+
+        ImageFormat resolved = format != null && formats.contains(format) ? format : formats.getFirst();
+        String key = ImageVariantProcessor.variantKey(file.getFileKey(), variant, resolved);
+        return new MediaUrlResponse(storageService.getPresignedUrl(key), variant, resolved.getContentType());
     }
 
     /**
@@ -136,6 +286,10 @@ public class MediaService {
         log.info("Удаление файла: fileId={}, userId={}", fileId, userId);
 
         // Удаляем из MinIO
+        if (file.getUploadId() != null) {
+            directUploadStorage.abortMultipartUpload(file.getFileKey(), file.getUploadId());
+        }
+        imageVariantProcessor.deleteVariants(file);
         storageService.delete(file.getFileKey());
 
         // Soft delete в БД
@@ -149,22 +303,56 @@ public class MediaService {
         if (file.isEmpty()) {
             throw new InvalidFileException("Файл пуст");
         }
+        validateFile(file.getContentType(), file.getSize(), purpose, MAX_FILE_SIZE);
+    }
+
+    private void validateFile(String contentType, long size, MediaPurpose purpose, long maxGeneralSize) {
+        boolean image = isImagePurpose(purpose);
+
+        long maxSize = image ? MAX_FILE_SIZE : maxGeneralSize;
+        if (size > maxSize) {
+            throw new InvalidFileException(
+                "Размер файла превышает максимально допустимый (" + maxSize / (1024 * 1024) + "MB)");
+        }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
-            throw new InvalidFileException("Размер файла превышает максимально допустимый (10MB)");
+        // Для изображений проверяем MIME-тип
+        if (image && (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType))) {
+            throw new InvalidFileException("Недопустимый тип файла. Разрешены: JPEG, PNG, WebP, GIF");
         }
+    }
 
-        String contentType = file.getContentType();
+    /**
+     * Варианты создаются только для аватаров, обложек и логотипов: они ограничены 10MB.
+     */
+    private void scheduleVariants(MediaFile file, UUID tenantId) {
+        if (isImagePurpose(file.getPurpose()) && ImageVariantProcessor.supports(file.getContentType())) {
+            imageVariantProcessor.scheduleAfterCommit(file.getId(), tenantId, file.getFileKey());
+        }
+    }
 
-        // Для изображений проверяем MIME-тип
-        if (purpose == MediaPurpose.USER_AVATAR
+    private static boolean isImagePurpose(MediaPurpose purpose) {
+        return purpose == MediaPurpose.USER_AVATAR
             || purpose == MediaPurpose.EVENT_COVER
-            || purpose == MediaPurpose.ORGANIZATION_LOGO) {
+            || purpose == MediaPurpose.ORGANIZATION_LOGO;
+    }
 
-            if (contentType == null || !ALLOWED_IMAGE_TYPES.contains(contentType)) {
-                throw new InvalidFileException("Недопустимый тип файла. Разрешены: JPEG, PNG, WebP, GIF");
-            }
+    private static boolean sameContentType(String actual, String expected) {
+        if (actual == null) {
+            return false;
         }
+        int separator = actual.indexOf(';');
+        String baseType = separator >= 0 ? actual.substring(0, separator) : actual;
+        return baseType.trim().toLowerCase(Locale.ROOT).equals(expected.toLowerCase(Locale.ROOT));
+    }
+
+    private UploadResponse toUploadResponse(MediaFile file) {
+        return new UploadResponse(
+            file.getId(),
+            storageService.getPresignedUrl(file.getFileKey()),
+            file.getOriginalName(),
+            file.getContentType(),
+            file.getFileSize()
+        );
     }
 
     /**
@@ -0,0 +1,192 @@
+package ru.aqstream.media.storage;
+
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.PostPolicy;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
+import io.minio.messages.Part;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Прямая загрузка файлов в MinIO по presigned ссылкам.
+ *
+ * <p>Сервис только подписывает ссылки, открывает и закрывает multipart upload
+ * и проверяет результат через {@code statObject}. Байты файла идут от клиента
+ * в хранилище, минуя media-service.</p>
+ */
+@Service
+@Slf4j
+public class DirectUploadStorage {
+
+    private static final String NO_SUCH_KEY = "NoSuchKey";
+
+    private final MinioClient minioClient;
+    private final MinioClient presignClient;
+    private final MinioMultipartClient multipartClient;
+    private final String bucketName;
+    private final String publicEndpoint;
+
+    public DirectUploadStorage(
+            MinioClient minioClient,
+            @Qualifier("minioPresignClient") MinioClient presignClient,
+            MinioMultipartClient multipartClient,
+            @Value("${minio.bucket}") String bucketName,
+            @Value("${minio.public-endpoint}") String publicEndpoint) {
+        this.minioClient = minioClient;
+        this.presignClient = presignClient;
+        this.multipartClient = multipartClient;
+        this.bucketName = bucketName;
+        this.publicEndpoint = publicEndpoint;
+    }
+
+    /**
+     * Подписывает форму для загрузки объекта одним POST.
+     *
+     * <p>В отличие от presigned PUT, политика POST ограничивает сам запрос загрузки:
+     * хранилище отклонит файл другого размера или с другим {@code Content-Type}.</p>
+     *
+     * @param fileKey     ключ объекта
+     * @param contentType MIME-тип объекта
+     * @param fileSize    точный размер объекта в байтах
+     * @param expiry      срок действия политики
+     * @return адрес и поля формы
+     */
+    public PresignedPost presignPost(String fileKey, String contentType, long fileSize, Duration expiry) {
+        PostPolicy policy = new PostPolicy(bucketName, ZonedDateTime.now(ZoneOffset.UTC).plus(expiry));
+        policy.addEqualsCondition("key", fileKey);
+        policy.addEqualsCondition("Content-Type", contentType);
+        policy.addContentLengthRangeCondition(fileSize, fileSize);
+        try {
+            Map<String, String> fields = new HashMap<>(presignClient.getPresignedPostFormData(policy));
+            fields.put("key", fileKey);
+            fields.put("Content-Type", contentType);
+            return new PresignedPost(publicEndpoint + "/" + bucketName, Map.copyOf(fields));
+        } catch (Exception e) {
+            log.error("Ошибка генерации формы загрузки: key={}, ошибка={}", fileKey, e.getMessage(), e);
+            throw new MinioStorageService.UrlGenerationException("Ошибка генерации URL для загрузки файла", e);
+        }
+    }
+
+    /**
+     * Открывает multipart upload.
+     *
+     * @param fileKey     ключ объекта
+     * @param contentType MIME-тип итогового объекта
+     * @return идентификатор загрузки
+     */
+    public String createMultipartUpload(String fileKey, String contentType) {
+        try {
+            return multipartClient.createMultipartUpload(bucketName, fileKey, contentType);
+        } catch (Exception e) {
+            log.error("Ошибка открытия multipart upload: key={}, ошибка={}", fileKey, e.getMessage(), e);
+            throw new MinioStorageService.FileUploadException("Ошибка подготовки загрузки файла", e);
+        }
+    }
+
+    /**
+     * Подписывает ссылку для загрузки части.
+     *
+     * @param fileKey    ключ объекта
+     * @param uploadId   идентификатор загрузки
+     * @param partNumber номер части, начиная с 1
+     * @param expiry     срок действия ссылки
+     * @return presigned URL
+     */
+    public String presignPart(String fileKey, String uploadId, int partNumber, Duration expiry) {
+        return presign(fileKey, expiry, Map.of("uploadId", uploadId, "partNumber", String.valueOf(partNumber)));
+    }
+
+    /**
+     * Собирает объект из загруженных частей.
+     *
+     * @param fileKey  ключ объекта
+     * @param uploadId идентификатор загрузки
+     * @param parts    части по возрастанию номера
+     */
+    public void completeMultipartUpload(String fileKey, String uploadId, List<Part> parts) {
+        try {
+            multipartClient.completeMultipartUpload(bucketName, fileKey, uploadId, parts.toArray(Part[]::new));
+        } catch (Exception e) {
+            log.warn("Ошибка завершения multipart upload: key={}, ошибка={}", fileKey, e.getMessage());
+            throw new MinioStorageService.FileUploadException("Не удалось собрать файл из загруженных частей", e);
+        }
+    }
+
+    /**
+     * Отменяет multipart upload. Ошибки только логируются.
+     *
+     * @param fileKey  ключ объекта
+     * @param uploadId идентификатор загрузки
+     */
+    public void abortMultipartUpload(String fileKey, String uploadId) {
+        try {
+            multipartClient.abortMultipartUpload(bucketName, fileKey, uploadId);
+        } catch (Exception e) {
+            log.warn("Ошибка отмены multipart upload: key={}, ошибка={}", fileKey, e.getMessage());
+        }
+    }
+
+    /**
+     * Читает метаданные объекта.
+     *
+     * @param fileKey ключ объекта
+     * @return метаданные или empty, если объекта нет
+     */
+    public Optional<StatObjectResponse> stat(String fileKey) {
+        try {
+            return Optional.of(minioClient.statObject(
+                StatObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(fileKey)
+                    .build()
+            ));
+        } catch (ErrorResponseException e) {
+            if (NO_SUCH_KEY.equals(e.errorResponse().code())) {
+                return Optional.empty();
+            }
+            throw new MinioStorageService.FileUploadException("Ошибка проверки файла в хранилище", e);
+        } catch (Exception e) {
+            log.error("Ошибка проверки файла: key={}, ошибка={}", fileKey, e.getMessage(), e);
+            throw new MinioStorageService.FileUploadException("Ошибка проверки файла в хранилище", e);
+        }
+    }
+
+    private String presign(String fileKey, Duration expiry, Map<String, String> queryParams) {
+        try {
+            return presignClient.getPresignedObjectUrl(
+                GetPresignedObjectUrlArgs.builder()
+                    .method(Method.PUT)
+                    .bucket(bucketName)
+                    .object(fileKey)
+                    .expiry((int) expiry.toSeconds())
+                    .extraQueryParams(queryParams)
+                    .build()
+            );
+        } catch (Exception e) {
+            log.error("Ошибка генерации URL загрузки: key={}, ошибка={}", fileKey, e.getMessage(), e);
+            throw new MinioStorageService.UrlGenerationException("Ошибка генерации URL для загрузки файла", e);
+        }
+    }
+
+    /**
+     * Подписанная форма загрузки.
+     *
+     * @param url    адрес для POST multipart/form-data
+     * @param fields поля формы; файл передаётся последним полем {@code file}
+     */
+    public record PresignedPost(String url, Map<String, String> fields) {
+    }
+}
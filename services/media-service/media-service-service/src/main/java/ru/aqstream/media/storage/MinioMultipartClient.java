@@ -0,0 +1,64 @@
+package ru.aqstream.media.storage;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.MinioAsyncClient;
+import io.minio.errors.MinioException;
+import io.minio.messages.Part;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * MinIO клиент с доступом к операциям multipart upload.
+ *
+ * <p>Создание, завершение и отмена multipart upload в SDK доступны только наследникам.
+ * Сами части загружает клиент по presigned ссылкам, сервис лишь открывает
+ * и закрывает загрузку.</p>
+ */
+public class MinioMultipartClient extends MinioAsyncClient {
+
+    public MinioMultipartClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    /**
+     * Открывает multipart upload.
+     *
+     * @param bucket      бакет
+     * @param object      ключ объекта
+     * @param contentType MIME-тип итогового объекта
+     * @return идентификатор загрузки
+     */
+    public String createMultipartUpload(String bucket, String object, String contentType)
+        throws MinioException, GeneralSecurityException, IOException, InterruptedException, ExecutionException {
+        Multimap<String, String> headers = HashMultimap.create();
+        headers.put("Content-Type", contentType);
+        return createMultipartUploadAsync(bucket, null, object, headers, null).get().result().uploadId();
+    }
+
+    /**
+     * Собирает объект из загруженных частей.
+     *
+     * @param bucket   бакет
+     * @param object   ключ объекта
+     * @param uploadId идентификатор загрузки
+     * @param parts    части по возрастанию номера
+     */
+    public void completeMultipartUpload(String bucket, String object, String uploadId, Part[] parts)
+        throws MinioException, GeneralSecurityException, IOException, InterruptedException, ExecutionException {
+        completeMultipartUploadAsync(bucket, null, object, uploadId, parts, null, null).get();
+    }
+
+    /**
+     * Отменяет загрузку и удаляет загруженные части.
+     *
+     * @param bucket   бакет
+     * @param object   ключ объекта
+     * @param uploadId идентификатор загрузки
+     */
+    public void abortMultipartUpload(String bucket, String object, String uploadId)
+        throws MinioException, GeneralSecurityException, IOException, InterruptedException, ExecutionException {
+        abortMultipartUploadAsync(bucket, null, object, uploadId, null, null).get();
+    }
+}
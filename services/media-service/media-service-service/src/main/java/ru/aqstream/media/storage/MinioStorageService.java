@@ -1,14 +1,23 @@
 package ru.aqstream.media.storage;
 
 import io.minio.BucketExistsArgs;
+import io.minio.GetObjectArgs;
 import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.SetBucketLifecycleArgs;
 import io.minio.http.Method;
+import io.minio.messages.AbortIncompleteMultipartUpload;
+import io.minio.messages.LifecycleConfiguration;
+import io.minio.messages.LifecycleRule;
+import io.minio.messages.RuleFilter;
+import io.minio.messages.Status;
 import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +35,8 @@ import ru.aqstream.media.api.dto.MediaPurpose;
 public class MinioStorageService {
 
     private static final long URL_EXPIRY_HOURS = 24;
+    // Ссылки на части живут час: незавершённая за сутки загрузка брошена
+    private static final int ABORT_INCOMPLETE_UPLOAD_DAYS = 1;
 
     private final MinioClient minioClient;
 
@@ -36,7 +47,7 @@ public class MinioStorageService {
     private String endpoint;
 
     /**
-     * Инициализирует bucket при запуске.
+     * Инициализирует bucket при запуске и правило очистки брошенных multipart upload.
      */
     @PostConstruct
     public void init() {
@@ -54,6 +65,37 @@ public class MinioStorageService {
             log.error("Ошибка инициализации MinIO bucket: {}", e.getMessage(), e);
             throw new StorageInitializationException("Ошибка инициализации хранилища", e);
         }
+        initLifecycle();
+    }
+
+    /**
+     * Части неподтверждённой загрузки не видны как объект и не удаляются сервисом.
+     * Хранилище удаляет их само через сутки после начала загрузки.
+     * Правило заменяет lifecycle-конфигурацию бакета целиком.
+     */
+    private void initLifecycle() {
+        LifecycleRule rule = new LifecycleRule(
+            Status.ENABLED,
+            new AbortIncompleteMultipartUpload(ABORT_INCOMPLETE_UPLOAD_DAYS),
+            null,
+            new RuleFilter(""),
+            "abort-incomplete-uploads",
+            null,
+            null,
+            null
+        );
+        try {
+            minioClient.setBucketLifecycle(
+                SetBucketLifecycleArgs.builder()
+                    .bucket(bucketName)
+                    .config(new LifecycleConfiguration(List.of(rule)))
+                    .build()
+            );
+        } catch (Exception e) {
+            // Без правила сервис работает, брошенные части остаются до ручной очистки
+            log.warn("Не удалось настроить очистку незавершённых загрузок: bucket={}, ошибка={}",
+                bucketName, e.getMessage());
+        }
     }
 
     /**
@@ -92,6 +134,50 @@ public class MinioStorageService {
         }
     }
 
+    /**
+     * Сохраняет производный объект (вариант изображения) под заданным ключом.
+     *
+     * @param fileKey     ключ объекта
+     * @param data        содержимое
+     * @param contentType MIME-тип
+     */
+    public void uploadDerivative(String fileKey, byte[] data, String contentType) {
+        try {
+            minioClient.putObject(
+                PutObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(fileKey)
+                    .stream(new ByteArrayInputStream(data), data.length, -1)
+                    .contentType(contentType)
+                    .build()
+            );
+            log.debug("Производный файл загружен: bucket={}, key={}, size={}", bucketName, fileKey, data.length);
+        } catch (Exception e) {
+            log.error("Ошибка загрузки производного файла: key={}, ошибка={}", fileKey, e.getMessage(), e);
+            throw new FileUploadException("Ошибка загрузки файла в хранилище", e);
+        }
+    }
+
+    /**
+     * Открывает поток чтения файла из хранилища. Поток нужно закрыть.
+     *
+     * @param fileKey ключ файла
+     * @return поток содержимого
+     */
+    public InputStream download(String fileKey) {
+        try {
+            return minioClient.getObject(
+                GetObjectArgs.builder()
+                    .bucket(bucketName)
+                    .object(fileKey)
+                    .build()
+            );
+        } catch (Exception e) {
+            log.error("Ошибка чтения файла: key={}, ошибка={}", fileKey, e.getMessage(), e);
+            throw new FileDownloadException("Ошибка чтения файла из хранилища", e);
+        }
+    }
+
     /**
      * Удаляет файл из хранилища.
      *
@@ -153,7 +239,14 @@ public class MinioStorageService {
         return bucketName;
     }
 
-    private String generateFileKey(MediaPurpose purpose, UUID tenantId) {
+    /**
+     * Генерирует уникальный ключ файла в хранилище.
+     *
+     * @param purpose  назначение файла
+     * @param tenantId идентификатор организации
+     * @return ключ файла
+     */
+    public String generateFileKey(MediaPurpose purpose, UUID tenantId) {
         String prefix = switch (purpose) {
             case USER_AVATAR -> "avatars";
             case EVENT_COVER -> "events";
@@ -181,6 +274,15 @@ public class MinioStorageService {
         }
     }
 
+    /**
+     * Исключение при ошибке чтения файла.
+     */
+    public static class FileDownloadException extends RuntimeException {
+        public FileDownloadException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     /**
      * Исключение при ошибке удаления файла.
      */
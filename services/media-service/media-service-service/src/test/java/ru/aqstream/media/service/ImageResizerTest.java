@@ -0,0 +1,234 @@
+package ru.aqstream.media.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.media.api.dto.ImageFormat;
+
+@UnitTest
+@Feature(AllureFeatures.Features.MEDIA)
+@Story(AllureFeatures.Stories.IMAGE_VARIANTS)
+@DisplayName("ImageResizer")
+class ImageResizerTest {
+
+    @Nested
+    @DisplayName("subsampling")
+    class Subsampling {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("шаг оставляет большую сторону не меньше целевой")
+        void subsampling_LargeImage_KeepsLargestSideAboveTarget() {
+            // when
+            int landscape = ImageResizer.subsampling(6000, 4000, 1024);
+            int portrait = ImageResizer.subsampling(4000, 6000, 1024);
+
+            // then
+            assertThat(landscape).isEqualTo(5);
+            assertThat(portrait).isEqualTo(5);
+            assertThat(6000 / landscape).isGreaterThanOrEqualTo(1024);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("шаг округляется вниз: 2047px для 1024px не прореживается")
+        void subsampling_BelowDoubleTarget_NoSubsampling() {
+            // when/then
+            assertThat(ImageResizer.subsampling(2048, 100, 1024)).isEqualTo(2);
+            assertThat(ImageResizer.subsampling(2047, 100, 1024)).isEqualTo(1);
+            assertThat(ImageResizer.subsampling(1024, 1024, 1024)).isEqualTo(1);
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("изображение меньше целевого размера не прореживается")
+        void subsampling_SmallImage_ReturnsOne() {
+            // when/then
+            assertThat(ImageResizer.subsampling(100, 50, 1024)).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("decode")
+    class Decode {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("крупное изображение декодируется с прореживанием")
+        void decode_LargeImage_Subsampled() throws IOException {
+            // given
+            byte[] png = encode(new BufferedImage(3000, 2000, BufferedImage.TYPE_INT_RGB), "png");
+
+            // when
+            BufferedImage decoded;
+            try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+                decoded = ImageResizer.decode(input, 1024, 100_000_000L);
+            }
+
+            // then
+            assertThat(decoded.getWidth()).isEqualTo(1500);
+            assertThat(decoded.getHeight()).isEqualTo(1000);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("изображение больше лимита пикселей отклоняется по заголовку")
+        void decode_TooManyPixels_ThrowsException() throws IOException {
+            // given
+            byte[] png = encode(new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB), "png");
+
+            // when/then
+            try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+                assertThatThrownBy(() -> ImageResizer.decode(input, 1024, 19_999L))
+                    .isInstanceOf(ImageResizer.UnsupportedImageException.class)
+                    .hasMessageContaining("200x100");
+            }
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("не изображение отклоняется")
+        void decode_NotAnImage_ThrowsException() throws IOException {
+            // given
+            byte[] text = "not an image".getBytes();
+
+            // when/then
+            try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(text))) {
+                assertThatThrownBy(() -> ImageResizer.decode(input, 1024, 100_000_000L))
+                    .isInstanceOf(ImageResizer.UnsupportedImageException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("resize")
+    class Resize {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("вписывает в квадрат с сохранением пропорций")
+        void resize_LargerSource_FitsIntoSquare() {
+            // when
+            BufferedImage landscape = ImageResizer.resize(rgb(2000, 1000), 256);
+            BufferedImage portrait = ImageResizer.resize(rgb(1000, 2000), 256);
+
+            // then
+            assertThat(landscape.getWidth()).isEqualTo(256);
+            assertThat(landscape.getHeight()).isEqualTo(128);
+            assertThat(portrait.getWidth()).isEqualTo(128);
+            assertThat(portrait.getHeight()).isEqualTo(256);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("уменьшение вдвое останавливается ровно на целевом размере")
+        void resize_NonPowerOfTwo_StopsAtTarget() {
+            // when
+            BufferedImage square = ImageResizer.resize(rgb(1000, 999), 64);
+            BufferedImage strip = ImageResizer.resize(rgb(4000, 10), 64);
+            BufferedImage single = ImageResizer.resize(rgb(3000, 3000), 1024);
+
+            // then
+            assertThat(square.getWidth()).isEqualTo(64);
+            assertThat(square.getHeight()).isEqualTo(64);
+            assertThat(strip.getWidth()).isEqualTo(64);
+            assertThat(strip.getHeight()).isEqualTo(1);
+            assertThat(single.getWidth()).isEqualTo(1024);
+            assertThat(single.getHeight()).isEqualTo(1024);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("изображение меньше целевого размера не увеличивается")
+        void resize_SmallerSource_KeepsSize() {
+            // given
+            BufferedImage source = new BufferedImage(100, 50, BufferedImage.TYPE_3BYTE_BGR);
+
+            // when
+            BufferedImage resized = ImageResizer.resize(source, 256);
+
+            // then
+            assertThat(resized.getWidth()).isEqualTo(100);
+            assertThat(resized.getHeight()).isEqualTo(50);
+            assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("прозрачность сохраняется в ARGB")
+        void resize_AlphaSource_ReturnsArgb() {
+            // given
+            BufferedImage source = new BufferedImage(800, 600, BufferedImage.TYPE_4BYTE_ABGR);
+
+            // when
+            BufferedImage resized = ImageResizer.resize(source, 256);
+
+            // then
+            assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_ARGB);
+            assertThat(ImageResizer.hasAlpha(resized)).isTrue();
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("изображение без прозрачности приводится к RGB")
+        void resize_GraySource_ReturnsRgb() {
+            // given
+            BufferedImage source = new BufferedImage(800, 600, BufferedImage.TYPE_BYTE_GRAY);
+
+            // when
+            BufferedImage resized = ImageResizer.resize(source, 256);
+
+            // then
+            assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+            assertThat(ImageResizer.hasAlpha(resized)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("encode")
+    class Encode {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("JPEG кодируется и читается обратно")
+        void encode_Jpeg_Decodable() throws IOException {
+            // given
+            BufferedImage image = new BufferedImage(64, 32, BufferedImage.TYPE_INT_RGB);
+
+            // when
+            byte[] bytes = ImageResizer.encode(image, ImageFormat.JPEG, 0.82f);
+
+            // then
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(bytes));
+            assertThat(decoded.getWidth()).isEqualTo(64);
+            assertThat(decoded.getHeight()).isEqualTo(32);
+            assertThat(ImageResizer.canEncode(ImageFormat.JPEG)).isTrue();
+        }
+    }
+
+    private static BufferedImage rgb(int width, int height) {
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,225 @@
+package ru.aqstream.media.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.media.api.dto.ImageFormat;
+import ru.aqstream.media.api.dto.ImageVariant;
+import ru.aqstream.media.db.repository.MediaFileRepository;
+import ru.aqstream.media.storage.MinioStorageService;
+
+@UnitTest
+@Feature(AllureFeatures.Features.MEDIA)
+@Story(AllureFeatures.Stories.IMAGE_VARIANTS)
+@DisplayName("ImageVariantProcessor")
+class ImageVariantProcessorTest {
+
+    private static final String FILE_KEY = "tenant/events/cover";
+    // Обработка идёт в пуле: ждём завершения фоновой задачи
+    private static final long PROCESSING_TIMEOUT_MS = 5_000;
+
+    @Mock
+    private MinioStorageService storageService;
+
+    @Mock
+    private MediaFileRepository mediaFileRepository;
+
+    private MeterRegistry meterRegistry;
+    private ImageVariantProcessor processor;
+    private UUID fileId;
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // init() не вызывается: WebP не проверяется, варианты создаются только в JPEG/PNG
+        processor = new ImageVariantProcessor(storageService, mediaFileRepository, 1, 10, meterRegistry);
+        fileId = UUID.randomUUID();
+        tenantId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("ключ варианта строится рядом с оригиналом")
+    void variantKey_ReturnsSiblingKey() {
+        // when/then
+        assertThat(ImageVariantProcessor.variantKey(FILE_KEY, ImageVariant.MEDIUM, ImageFormat.WEBP))
+            .isEqualTo("tenant/events/cover-medium.webp");
+        assertThat(ImageVariantProcessor.variantKey(FILE_KEY, ImageVariant.THUMBNAIL, ImageFormat.JPEG))
+            .isEqualTo("tenant/events/cover-thumbnail.jpg");
+    }
+
+    @Test
+    @Severity(NORMAL)
+    @DisplayName("варианты создаются только для поддерживаемых изображений")
+    void supports_ImageTypes() {
+        // when/then
+        assertThat(ImageVariantProcessor.supports("image/JPEG")).isTrue();
+        assertThat(ImageVariantProcessor.supports("image/gif")).isTrue();
+        assertThat(ImageVariantProcessor.supports("image/svg+xml")).isFalse();
+        assertThat(ImageVariantProcessor.supports(null)).isFalse();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("все варианты загружаются, форматы записываются в файл")
+    void process_OpaqueImage_UploadsJpegVariants() throws IOException {
+        // given
+        when(storageService.download(FILE_KEY))
+            .thenReturn(new ByteArrayInputStream(image(2000, 1000, BufferedImage.TYPE_INT_RGB, "jpg")));
+        when(mediaFileRepository.updateVariantFormats(fileId, tenantId, "JPEG")).thenReturn(1);
+
+        // when
+        processor.scheduleAfterCommit(fileId, tenantId, FILE_KEY);
+
+        // then
+        verify(mediaFileRepository, timeout(PROCESSING_TIMEOUT_MS)).updateVariantFormats(fileId, tenantId, "JPEG");
+        for (ImageVariant variant : ImageVariant.values()) {
+            verify(storageService).uploadDerivative(
+                eq(ImageVariantProcessor.variantKey(FILE_KEY, variant, ImageFormat.JPEG)), any(), eq("image/jpeg"));
+        }
+        verify(storageService, never()).delete(anyString());
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("изображение с прозрачностью сохраняется в PNG")
+    void process_AlphaImage_UploadsPngVariants() throws IOException {
+        // given
+        when(storageService.download(FILE_KEY))
+            .thenReturn(new ByteArrayInputStream(image(300, 300, BufferedImage.TYPE_INT_ARGB, "png")));
+        when(mediaFileRepository.updateVariantFormats(fileId, tenantId, "PNG")).thenReturn(1);
+
+        // when
+        processor.scheduleAfterCommit(fileId, tenantId, FILE_KEY);
+
+        // then
+        verify(mediaFileRepository, timeout(PROCESSING_TIMEOUT_MS)).updateVariantFormats(fileId, tenantId, "PNG");
+        verify(storageService).uploadDerivative(
+            eq(ImageVariantProcessor.variantKey(FILE_KEY, ImageVariant.THUMBNAIL, ImageFormat.PNG)),
+            any(), eq("image/png"));
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("файл удалён во время обработки: загруженные варианты удаляются")
+    void process_FileDeletedDuringProcessing_DeletesVariants() throws IOException {
+        // given
+        when(storageService.download(FILE_KEY))
+            .thenReturn(new ByteArrayInputStream(image(2000, 1000, BufferedImage.TYPE_INT_RGB, "jpg")));
+        when(mediaFileRepository.updateVariantFormats(fileId, tenantId, "JPEG")).thenReturn(0);
+
+        // when
+        processor.scheduleAfterCommit(fileId, tenantId, FILE_KEY);
+
+        // then
+        for (ImageVariant variant : ImageVariant.values()) {
+            verify(storageService, timeout(PROCESSING_TIMEOUT_MS))
+                .delete(ImageVariantProcessor.variantKey(FILE_KEY, variant, ImageFormat.JPEG));
+        }
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("ошибка загрузки варианта удаляет уже загруженные и не отмечает файл")
+    void process_UploadFails_DeletesUploadedVariants() throws IOException {
+        // given
+        when(storageService.download(FILE_KEY))
+            .thenReturn(new ByteArrayInputStream(image(2000, 1000, BufferedImage.TYPE_INT_RGB, "jpg")));
+        String mediumKey = ImageVariantProcessor.variantKey(FILE_KEY, ImageVariant.MEDIUM, ImageFormat.JPEG);
+        doAnswer(invocation -> {
+            if (mediumKey.equals(invocation.getArgument(0))) {
+                throw new MinioStorageService.FileUploadException("Ошибка загрузки файла в хранилище", null);
+            }
+            return null;
+        }).when(storageService).uploadDerivative(anyString(), any(), anyString());
+
+        // when
+        processor.scheduleAfterCommit(fileId, tenantId, FILE_KEY);
+
+        // then
+        verify(storageService, timeout(PROCESSING_TIMEOUT_MS))
+            .delete(ImageVariantProcessor.variantKey(FILE_KEY, ImageVariant.LARGE, ImageFormat.JPEG));
+        verifyNoInteractions(mediaFileRepository);
+        assertThat(meterRegistry.counter("media.variants.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("изображение больше лимита пикселей не обрабатывается")
+    void process_ImageBomb_Rejected() throws IOException {
+        // given
+        // 12000×9000 = 108 Мп: больше MAX_SOURCE_PIXELS, отклоняется по заголовку PNG
+        when(storageService.download(FILE_KEY))
+            .thenReturn(new ByteArrayInputStream(pngHeader(12_000, 9_000)));
+
+        // when
+        processor.scheduleAfterCommit(fileId, tenantId, FILE_KEY);
+
+        // then
+        await().atMost(PROCESSING_TIMEOUT_MS, TimeUnit.MILLISECONDS)
+            .until(() -> meterRegistry.counter("media.variants.failed").count() == 1.0);
+        verify(storageService, never()).uploadDerivative(anyString(), any(), anyString());
+        verifyNoInteractions(mediaFileRepository);
+    }
+
+    private static byte[] image(int width, int height, int type, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, type), format, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * PNG-заголовок с заданными размерами без данных: декодер читает размеры
+     * и должен отклонить изображение до чтения пикселей.
+     */
+    private static byte[] pngHeader(int width, int height) throws IOException {
+        byte[] png = image(1, 1, BufferedImage.TYPE_INT_RGB, "png");
+        // IHDR: сигнатура (8) + длина (4) + тип (4), затем ширина и высота big-endian
+        writeInt(png, 16, width);
+        writeInt(png, 20, height);
+        return png;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+}
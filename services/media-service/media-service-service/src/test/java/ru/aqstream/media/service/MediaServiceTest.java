@@ -0,0 +1,413 @@
+package ru.aqstream.media.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+import static io.qameta.allure.SeverityLevel.NORMAL;
+
+import io.minio.StatObjectResponse;
+import io.minio.messages.Part;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.aqstream.common.security.TenantContext;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.media.api.dto.ConfirmUploadRequest;
+import ru.aqstream.media.api.dto.CreateUploadRequest;
+import ru.aqstream.media.api.dto.MediaFileStatus;
+import ru.aqstream.media.api.dto.MediaPurpose;
+import ru.aqstream.media.api.dto.UploadResponse;
+import ru.aqstream.media.api.dto.UploadTicketResponse;
+import ru.aqstream.media.db.entity.MediaFile;
+import ru.aqstream.media.db.repository.MediaFileRepository;
+import ru.aqstream.media.storage.DirectUploadStorage;
+import ru.aqstream.media.storage.MinioStorageService;
+
+@UnitTest
+@Feature(AllureFeatures.Features.MEDIA)
+@Story(AllureFeatures.Stories.MEDIA_UPLOAD)
+@DisplayName("MediaService")
+class MediaServiceTest {
+
+    private static final long MB = 1024 * 1024;
+    private static final String FILE_KEY = "tenant/general/file";
+    private static final String BUCKET = "aqstream-media";
+
+    @Mock
+    private MediaFileRepository mediaFileRepository;
+
+    @Mock
+    private MinioStorageService storageService;
+
+    @Mock
+    private DirectUploadStorage directUploadStorage;
+
+    @Mock
+    private ImageVariantProcessor imageVariantProcessor;
+
+    private MediaService service;
+    private UUID tenantId;
+    private UUID userId;
+    private UUID fileId;
+
+    @BeforeEach
+    void setUp() {
+        service = new MediaService(mediaFileRepository, storageService, directUploadStorage, imageVariantProcessor);
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        fileId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Nested
+    @DisplayName("createUpload")
+    class CreateUpload {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("небольшой файл получает подписанную форму POST без multipart upload")
+        void createUpload_SmallFile_ReturnsPostForm() {
+            // given
+            CreateUploadRequest request = new CreateUploadRequest(
+                "doc.pdf", "application/pdf", 5 * MB, MediaPurpose.GENERAL);
+            stubNewFile();
+            DirectUploadStorage.PresignedPost post = new DirectUploadStorage.PresignedPost(
+                "http://minio/aqstream-media", Map.of("key", FILE_KEY, "policy", "signed"));
+            when(directUploadStorage.presignPost(FILE_KEY, "application/pdf", 5 * MB, Duration.ofHours(1)))
+                .thenReturn(post);
+
+            // when
+            UploadTicketResponse response = service.createUpload(request, userId);
+
+            // then
+            assertThat(response.id()).isEqualTo(fileId);
+            assertThat(response.uploadUrl()).isEqualTo(post.url());
+            assertThat(response.uploadFields()).isEqualTo(post.fields());
+            assertThat(response.partSize()).isNull();
+            assertThat(response.parts()).isEmpty();
+            verify(directUploadStorage, never()).createMultipartUpload(anyString(), anyString());
+
+            MediaFile saved = captureSaved();
+            assertThat(saved.getStatus()).isEqualTo(MediaFileStatus.PENDING);
+            assertThat(saved.getUploadId()).isNull();
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("большой файл делится на части по 16MB, последняя часть меньше")
+        void createUpload_LargeFile_SplitsIntoParts() {
+            // given
+            CreateUploadRequest request = new CreateUploadRequest(
+                "video.mp4", "video/mp4", 40 * MB, MediaPurpose.GENERAL);
+            stubNewFile();
+            when(directUploadStorage.createMultipartUpload(FILE_KEY, "video/mp4")).thenReturn("upload-1");
+            when(directUploadStorage.presignPart(eq(FILE_KEY), eq("upload-1"), anyInt(), eq(Duration.ofHours(1))))
+                .thenAnswer(invocation -> "part-" + invocation.getArgument(2));
+
+            // when
+            UploadTicketResponse response = service.createUpload(request, userId);
+
+            // then
+            assertThat(response.uploadUrl()).isNull();
+            assertThat(response.uploadFields()).isEmpty();
+            assertThat(response.partSize()).isEqualTo(16 * MB);
+            assertThat(response.parts())
+                .extracting(UploadTicketResponse.PartUrl::partNumber, UploadTicketResponse.PartUrl::url)
+                .containsExactly(
+                    tuple(1, "part-1"),
+                    tuple(2, "part-2"),
+                    tuple(3, "part-3"));
+            verify(directUploadStorage, never()).presignPost(anyString(), anyString(), anyLong(), any());
+
+            MediaFile saved = captureSaved();
+            assertThat(saved.getUploadId()).isEqualTo("upload-1");
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("файл ровно на пороге загружается одним запросом")
+        void createUpload_ThresholdSize_SingleShot() {
+            // given
+            CreateUploadRequest request = new CreateUploadRequest(
+                "doc.pdf", "application/pdf", 16 * MB, MediaPurpose.GENERAL);
+            stubNewFile();
+            when(directUploadStorage.presignPost(FILE_KEY, "application/pdf", 16 * MB, Duration.ofHours(1)))
+                .thenReturn(new DirectUploadStorage.PresignedPost("http://minio/aqstream-media", Map.of()));
+
+            // when
+            UploadTicketResponse response = service.createUpload(request, userId);
+
+            // then
+            assertThat(response.parts()).isEmpty();
+            verify(directUploadStorage, never()).createMultipartUpload(anyString(), anyString());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("изображение больше 10MB отклоняется до выдачи ссылок")
+        void createUpload_ImageTooLarge_ThrowsException() {
+            // given
+            CreateUploadRequest request = new CreateUploadRequest(
+                "cover.jpg", "image/jpeg", 11 * MB, MediaPurpose.EVENT_COVER);
+
+            // when/then
+            assertThatThrownBy(() -> service.createUpload(request, userId))
+                .isInstanceOf(MediaService.InvalidFileException.class);
+            verifyNoInteractions(directUploadStorage, mediaFileRepository);
+        }
+
+        private void stubNewFile() {
+            when(storageService.generateFileKey(MediaPurpose.GENERAL, tenantId)).thenReturn(FILE_KEY);
+            when(storageService.getBucketName()).thenReturn(BUCKET);
+            when(mediaFileRepository.save(any(MediaFile.class))).thenAnswer(invocation -> {
+                MediaFile file = invocation.getArgument(0);
+                ReflectionTestUtils.setField(file, "id", fileId);
+                return file;
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("confirmUpload")
+    class ConfirmUpload {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("загрузка частями без переданных частей отклоняется")
+        void confirmUpload_MissingParts_ThrowsException() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.GENERAL, "application/pdf", 40 * MB, "upload-1");
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+
+            // when/then
+            assertThatThrownBy(() -> service.confirmUpload(fileId, new ConfirmUploadRequest(null), userId))
+                .isInstanceOf(MediaService.InvalidFileException.class);
+            verifyNoInteractions(directUploadStorage);
+            assertThat(file.isPending()).isTrue();
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("части собираются по возрастанию номера, файл становится READY")
+        void confirmUpload_Multipart_CompletesInPartOrder() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.GENERAL, "application/pdf", 40 * MB, "upload-1");
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+            stubStat(40 * MB, "application/pdf");
+            when(mediaFileRepository.save(file)).thenReturn(file);
+            when(storageService.getPresignedUrl(FILE_KEY)).thenReturn("http://minio/file");
+            ConfirmUploadRequest request = new ConfirmUploadRequest(List.of(
+                new ConfirmUploadRequest.CompletedPart(2, "etag-2"),
+                new ConfirmUploadRequest.CompletedPart(1, "etag-1")));
+
+            // when
+            UploadResponse response = service.confirmUpload(fileId, request, userId);
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Part>> parts = ArgumentCaptor.forClass(List.class);
+            verify(directUploadStorage).completeMultipartUpload(eq(FILE_KEY), eq("upload-1"), parts.capture());
+            assertThat(parts.getValue())
+                .extracting(Part::partNumber, Part::etag)
+                .containsExactly(
+                    tuple(1, "etag-1"),
+                    tuple(2, "etag-2"));
+            assertThat(file.getStatus()).isEqualTo(MediaFileStatus.READY);
+            assertThat(file.getUploadId()).isNull();
+            assertThat(response.url()).isEqualTo("http://minio/file");
+            verifyNoInteractions(imageVariantProcessor);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("подтверждённое изображение отправляется на создание вариантов")
+        void confirmUpload_Image_SchedulesVariants() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.EVENT_COVER, "image/jpeg", 2 * MB, null);
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+            stubStat(2 * MB, "image/jpeg; charset=binary");
+            when(mediaFileRepository.save(file)).thenReturn(file);
+            when(storageService.getPresignedUrl(FILE_KEY)).thenReturn("http://minio/file");
+
+            // when
+            service.confirmUpload(fileId, null, userId);
+
+            // then
+            assertThat(file.isPending()).isFalse();
+            verify(imageVariantProcessor).scheduleAfterCommit(fileId, tenantId, FILE_KEY);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("объект другого размера удаляется, запись помечается удалённой")
+        void confirmUpload_SizeMismatch_DeletesObjectAndRecord() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.GENERAL, "application/pdf", 5 * MB, null);
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+            stubStat(50 * MB, "application/pdf");
+
+            // when/then
+            assertThatThrownBy(() -> service.confirmUpload(fileId, null, userId))
+                .isInstanceOf(MediaService.InvalidFileException.class);
+            verify(storageService).delete(FILE_KEY);
+            verify(mediaFileRepository).save(file);
+            assertThat(file.isDeleted()).isTrue();
+            verifyNoInteractions(imageVariantProcessor);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("объект другого Content-Type удаляется, запись помечается удалённой")
+        void confirmUpload_ContentTypeMismatch_DeletesObjectAndRecord() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.USER_AVATAR, "image/jpeg", 2 * MB, null);
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+            stubStat(2 * MB, "text/html");
+
+            // when/then
+            assertThatThrownBy(() -> service.confirmUpload(fileId, null, userId))
+                .isInstanceOf(MediaService.InvalidFileException.class);
+            verify(storageService).delete(FILE_KEY);
+            verify(mediaFileRepository).save(file);
+            assertThat(file.isDeleted()).isTrue();
+        }
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("отсутствующий объект отклоняется, файл остаётся PENDING")
+        void confirmUpload_ObjectMissing_ThrowsException() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.GENERAL, "application/pdf", 5 * MB, null);
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+            when(directUploadStorage.stat(FILE_KEY)).thenReturn(Optional.empty());
+
+            // when/then
+            assertThatThrownBy(() -> service.confirmUpload(fileId, null, userId))
+                .isInstanceOf(MediaService.InvalidFileException.class);
+            verify(storageService, never()).delete(anyString());
+            assertThat(file.isPending()).isTrue();
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("повторное подтверждение возвращает тот же файл без обращения к хранилищу")
+        void confirmUpload_AlreadyReady_ReturnsSameFile() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.EVENT_COVER, "image/jpeg", 2 * MB, null);
+            file.markReady();
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+            when(storageService.getPresignedUrl(FILE_KEY)).thenReturn("http://minio/file");
+
+            // when
+            UploadResponse response = service.confirmUpload(fileId, null, userId);
+
+            // then
+            assertThat(response.id()).isEqualTo(fileId);
+            assertThat(response.url()).isEqualTo("http://minio/file");
+            verifyNoInteractions(directUploadStorage, imageVariantProcessor);
+            verify(mediaFileRepository, never()).save(any());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("чужой файл подтвердить нельзя")
+        void confirmUpload_OtherUser_ThrowsAccessDenied() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.GENERAL, "application/pdf", 5 * MB, null);
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+
+            // when/then
+            assertThatThrownBy(() -> service.confirmUpload(fileId, null, UUID.randomUUID()))
+                .isInstanceOf(MediaService.MediaFileAccessDeniedException.class);
+            verifyNoInteractions(directUploadStorage);
+        }
+
+        private void stubStat(long size, String contentType) {
+            StatObjectResponse stat = mock(StatObjectResponse.class);
+            when(stat.size()).thenReturn(size);
+            when(stat.contentType()).thenReturn(contentType);
+            when(directUploadStorage.stat(FILE_KEY)).thenReturn(Optional.of(stat));
+        }
+    }
+
+    @Nested
+    @DisplayName("Неподтверждённые файлы")
+    class PendingFiles {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("URL неподтверждённого файла не выдаётся")
+        void getFileUrl_PendingFile_ThrowsNotFound() {
+            // given
+            MediaFile file = pendingFile(MediaPurpose.EVENT_COVER, "image/jpeg", 2 * MB, null);
+            when(mediaFileRepository.findByIdAndTenantId(fileId, tenantId)).thenReturn(Optional.of(file));
+
+            // when/then
+            assertThatThrownBy(() -> service.getFileUrl(fileId, null, null))
+                .isInstanceOf(MediaService.MediaFileNotFoundException.class);
+            verifyNoInteractions(storageService);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("поиск аватара и файлов сущности возвращает только READY")
+        void repositoryLookups_FilterReadyFiles() throws NoSuchMethodException {
+            // given
+            Query avatar = MediaFileRepository.class
+                .getMethod("findUserAvatar", UUID.class, UUID.class)
+                .getAnnotation(Query.class);
+            Query byEntity = MediaFileRepository.class
+                .getMethod("findByPurposeAndEntityId", MediaPurpose.class, UUID.class, UUID.class)
+                .getAnnotation(Query.class);
+
+            // when/then
+            assertThat(avatar.value()).contains("f.status = 'READY'");
+            assertThat(byEntity.value()).contains("f.status = 'READY'");
+        }
+    }
+
+    private MediaFile pendingFile(MediaPurpose purpose, String contentType, long size, String uploadId) {
+        MediaFile file = MediaFile.createPending(
+            userId, FILE_KEY, "file", contentType, size, BUCKET, purpose, uploadId);
+        ReflectionTestUtils.setField(file, "id", fileId);
+        file.setTenantId(tenantId);
+        return file;
+    }
+
+    private MediaFile captureSaved() {
+        ArgumentCaptor<MediaFile> captor = ArgumentCaptor.forClass(MediaFile.class);
+        verify(mediaFileRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,57 @@
+package ru.aqstream.notification.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Отметка об отправке напоминания.
+ *
+ * <p>Уникальна по (registration_id, reminder_type) — гарантирует, что
+ * участник получит напоминание одного типа не более одного раза,
+ * даже если событие обработают несколько инстансов.</p>
+ */
+@Entity
+@Table(
+    name = "reminder_deliveries",
+    schema = "notification_service",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_reminder_deliveries_registration_type",
+        columnNames = {"registration_id", "reminder_type"}
+    )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderDelivery {
+
+    /**
+     * Тип напоминания: за 24 часа до начала события.
+     */
+    public static final String EVENT_24H = "EVENT_24H";
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "registration_id", nullable = false, updatable = false)
+    private UUID registrationId;
+
+    @Column(name = "reminder_type", length = 30, nullable = false, updatable = false)
+    private String reminderType;
+
+    @Column(name = "event_id", nullable = false, updatable = false)
+    private UUID eventId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt = Instant.now();
+}
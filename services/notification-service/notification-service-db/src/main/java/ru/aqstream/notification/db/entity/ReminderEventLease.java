@@ -0,0 +1,50 @@
+package ru.aqstream.notification.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Аренда события для отправки напоминаний.
+ *
+ * <p>Распределяет события между инстансами notification-service:
+ * событие обрабатывает только инстанс, захвативший аренду. Если инстанс
+ * упал, аренда истекает и событие подхватывает другой.</p>
+ */
+@Entity
+@Table(name = "reminder_event_leases", schema = "notification_service")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderEventLease {
+
+    /**
+     * ID события.
+     */
+    @Id
+    @Column(name = "event_id", updatable = false, nullable = false)
+    private UUID eventId;
+
+    /**
+     * Идентификатор инстанса-владельца аренды.
+     */
+    @Column(name = "owner", length = 100, nullable = false)
+    private String owner;
+
+    /**
+     * Время истечения аренды.
+     */
+    @Column(name = "leased_until", nullable = false)
+    private Instant leasedUntil;
+
+    /**
+     * Время завершения обработки (null — ещё не обработано).
+     */
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,43 @@
+package ru.aqstream.notification.db.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Watermark планировщика напоминаний.
+ *
+ * <p>Хранит время начала событий, до которого напоминания уже обработаны.
+ * Следующий запуск продолжает с этой точки, поэтому пропущенный или
+ * медленный запуск не теряет события.</p>
+ */
+@Entity
+@Table(name = "reminder_watermarks", schema = "notification_service")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderWatermark {
+
+    /**
+     * Название задачи планировщика.
+     */
+    @Id
+    @Column(name = "job_name", length = 50, updatable = false, nullable = false)
+    private String jobName;
+
+    /**
+     * События с началом раньше этого момента уже обработаны.
+     */
+    @Column(name = "covered_until", nullable = false)
+    private Instant coveredUntil;
+
+    /**
+     * Время последнего обновления.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+}
@@ -0,0 +1,66 @@
+package ru.aqstream.notification.db.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.notification.db.entity.ReminderDelivery;
+
+/**
+ * Репозиторий отметок об отправке напоминаний.
+ */
+@Repository
+public interface ReminderDeliveryRepository extends JpaRepository<ReminderDelivery, UUID> {
+
+    /**
+     * Атомарно создаёт отметку об отправке.
+     *
+     * @param registrationId ID регистрации
+     * @param reminderType   тип напоминания
+     * @param eventId        ID события
+     * @param userId         ID участника
+     * @return 1 если отметка создана, 0 если напоминание уже отправлялось
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO notification_service.reminder_deliveries
+            (id, registration_id, reminder_type, event_id, user_id, created_at)
+        VALUES (gen_random_uuid(), :registrationId, :reminderType, :eventId, :userId, now())
+        ON CONFLICT (registration_id, reminder_type) DO NOTHING
+        """, nativeQuery = true)
+    int tryMark(
+        @Param("registrationId") UUID registrationId,
+        @Param("reminderType") String reminderType,
+        @Param("eventId") UUID eventId,
+        @Param("userId") UUID userId
+    );
+
+    /**
+     * Удаляет отметку (если отправка завершилась ошибкой и её нужно повторить).
+     *
+     * @param registrationId ID регистрации
+     * @param reminderType   тип напоминания
+     * @return количество удалённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReminderDelivery d "
+         + "WHERE d.registrationId = :registrationId AND d.reminderType = :reminderType")
+    int unmark(@Param("registrationId") UUID registrationId, @Param("reminderType") String reminderType);
+
+    /**
+     * Удаляет старые отметки.
+     *
+     * @param before удалить отметки, созданные до этого времени
+     * @return количество удалённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReminderDelivery d WHERE d.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") Instant before);
+}
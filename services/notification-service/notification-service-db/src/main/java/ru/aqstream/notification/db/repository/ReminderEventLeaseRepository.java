@@ -0,0 +1,93 @@
+package ru.aqstream.notification.db.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.notification.db.entity.ReminderEventLease;
+
+/**
+ * Репозиторий аренды событий для отправки напоминаний.
+ */
+@Repository
+public interface ReminderEventLeaseRepository extends JpaRepository<ReminderEventLease, UUID> {
+
+    /**
+     * Пытается захватить событие.
+     * Успешно, если события нет в таблице, аренда истекла или уже принадлежит этому инстансу.
+     * Завершённые события не захватываются повторно.
+     *
+     * @param eventId     ID события
+     * @param owner       идентификатор инстанса
+     * @param leasedUntil время истечения аренды
+     * @param now         текущее время
+     * @return 1 если событие захвачено, иначе 0
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO notification_service.reminder_event_leases (event_id, owner, leased_until)
+        VALUES (:eventId, :owner, :leasedUntil)
+        ON CONFLICT (event_id) DO UPDATE
+        SET owner = EXCLUDED.owner, leased_until = EXCLUDED.leased_until
+        WHERE reminder_event_leases.completed_at IS NULL
+          AND (reminder_event_leases.leased_until < :now OR reminder_event_leases.owner = EXCLUDED.owner)
+        """, nativeQuery = true)
+    int tryAcquire(
+        @Param("eventId") UUID eventId,
+        @Param("owner") String owner,
+        @Param("leasedUntil") Instant leasedUntil,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Отмечает событие как обработанное.
+     *
+     * @param eventId ID события
+     * @param owner   идентификатор инстанса
+     * @param now     текущее время
+     * @return количество обновлённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReminderEventLease l SET l.completedAt = :now "
+         + "WHERE l.eventId = :eventId AND l.owner = :owner")
+    int markCompleted(@Param("eventId") UUID eventId, @Param("owner") String owner, @Param("now") Instant now);
+
+    /**
+     * Освобождает аренду, чтобы событие мог подхватить другой инстанс.
+     *
+     * @param eventId ID события
+     * @param owner   идентификатор инстанса
+     * @param now     текущее время
+     * @return количество обновлённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ReminderEventLease l SET l.leasedUntil = :now "
+         + "WHERE l.eventId = :eventId AND l.owner = :owner AND l.completedAt IS NULL")
+    int release(@Param("eventId") UUID eventId, @Param("owner") String owner, @Param("now") Instant now);
+
+    /**
+     * Проверяет, обработано ли событие.
+     *
+     * @param eventId ID события
+     * @return true если напоминания по событию уже разосланы
+     */
+    boolean existsByEventIdAndCompletedAtIsNotNull(UUID eventId);
+
+    /**
+     * Удаляет завершённые аренды.
+     *
+     * @param before удалить аренды, завершённые до этого времени
+     * @return количество удалённых записей
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ReminderEventLease l WHERE l.completedAt < :before")
+    int deleteCompletedBefore(@Param("before") Instant before);
+}
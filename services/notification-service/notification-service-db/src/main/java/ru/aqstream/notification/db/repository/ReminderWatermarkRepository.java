@@ -0,0 +1,46 @@
+package ru.aqstream.notification.db.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.notification.db.entity.ReminderWatermark;
+
+/**
+ * Репозиторий watermark планировщика напоминаний.
+ */
+@Repository
+public interface ReminderWatermarkRepository extends JpaRepository<ReminderWatermark, String> {
+
+    /**
+     * Возвращает момент, до которого события уже обработаны.
+     *
+     * @param jobName название задачи
+     * @return watermark или empty для первого запуска
+     */
+    @Query("SELECT w.coveredUntil FROM ReminderWatermark w WHERE w.jobName = :jobName")
+    Optional<Instant> findCoveredUntil(@Param("jobName") String jobName);
+
+    /**
+     * Сдвигает watermark вперёд. Никогда не сдвигает назад,
+     * поэтому безопасен при одновременных вызовах с разных инстансов.
+     *
+     * @param jobName      название задачи
+     * @param coveredUntil новое значение watermark
+     * @return количество изменённых строк
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO notification_service.reminder_watermarks (job_name, covered_until, updated_at)
+        VALUES (:jobName, :coveredUntil, now())
+        ON CONFLICT (job_name) DO UPDATE
+        SET covered_until = GREATEST(reminder_watermarks.covered_until, EXCLUDED.covered_until),
+            updated_at = now()
+        """, nativeQuery = true)
+    int advance(@Param("jobName") String jobName, @Param("coveredUntil") Instant coveredUntil);
+}
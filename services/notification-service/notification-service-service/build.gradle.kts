@@ -29,6 +29,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-mail")
     implementation("org.springframework.boot:spring-boot-starter-amqp")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-websocket")
+
+    // Redis — счётчики непрочитанных уведомлений и pub/sub между инстансами
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
 
     // OpenAPI / Swagger
     val openApiVersion: String by project
@@ -52,6 +56,11 @@ dependencies {
 
     testImplementation(project(":common:common-test"))
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+
+    // GreenMail — локальный SMTP сервер для тестов отправки email
+    val greenmailVersion: String by project
+    testImplementation("com.icegreen:greenmail-junit5:$greenmailVersion")
+    testImplementation("org.awaitility:awaitility")
 }
 
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
@@ -6,6 +6,8 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import ru.aqstream.notification.config.ListenerProperties;
+import ru.aqstream.notification.config.MailPoolProperties;
 import ru.aqstream.notification.config.NotificationProperties;
 import ru.aqstream.notification.config.TelegramProperties;
 
@@ -15,7 +17,12 @@ import ru.aqstream.notification.config.TelegramProperties;
 @SpringBootApplication
 @EnableFeignClients(basePackages = {"ru.aqstream.user.client", "ru.aqstream.event.client"})
 @EnableScheduling
-@EnableConfigurationProperties({TelegramProperties.class, NotificationProperties.class})
+@EnableConfigurationProperties({
+    TelegramProperties.class,
+    NotificationProperties.class,
+    MailPoolProperties.class,
+    ListenerProperties.class
+})
 @ComponentScan(basePackages = {
     "ru.aqstream.notification",
     "ru.aqstream.common.security",
@@ -0,0 +1,75 @@
+package ru.aqstream.notification.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Настройки RabbitMQ consumers по семействам событий.
+ *
+ * <p>Каждое семейство читает свою очередь отдельным пулом consumers,
+ * поэтому медленные рассылки не задерживают письма аутентификации.</p>
+ */
+@ConfigurationProperties(prefix = "notification.listeners")
+@Validated
+@Getter
+@Setter
+public class ListenerProperties {
+
+    /**
+     * Письма аутентификации (user.#) — критичны по задержке.
+     */
+    @Valid
+    private Family auth = new Family(2, 4, 1);
+
+    /**
+     * Регистрации (registration.#, ticket.#) — загружают изображение билета по HTTP.
+     */
+    @Valid
+    private Family registration = new Family(2, 8, 5);
+
+    /**
+     * Массовые рассылки по событиям (event.#) — длительная обработка.
+     */
+    @Valid
+    private Family broadcast = new Family(1, 2, 1);
+
+    /**
+     * Настройки пула consumers одного семейства.
+     */
+    @Getter
+    @Setter
+    public static class Family {
+
+        /**
+         * Начальное количество consumers.
+         */
+        @Min(1)
+        private int concurrency;
+
+        /**
+         * Максимальное количество consumers.
+         */
+        @Min(1)
+        private int maxConcurrency;
+
+        /**
+         * Количество неподтверждённых сообщений на consumer.
+         */
+        @Min(1)
+        private int prefetch;
+
+        public Family() {
+            this(1, 1, 1);
+        }
+
+        public Family(int concurrency, int maxConcurrency, int prefetch) {
+            this.concurrency = concurrency;
+            this.maxConcurrency = maxConcurrency;
+            this.prefetch = prefetch;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package ru.aqstream.notification.config;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Конфигурация пула SMTP соединений.
+ *
+ * <p>Каждый воркер пула держит собственное SMTP соединение открытым
+ * и отправляет через него пачку писем из общей очереди.</p>
+ */
+@ConfigurationProperties(prefix = "notification.mail")
+@Validated
+@Getter
+@Setter
+public class MailPoolProperties {
+
+    /**
+     * Количество воркеров (и одновременно открытых SMTP соединений).
+     */
+    @Min(1)
+    private int poolSize = 2;
+
+    /**
+     * Максимальное количество писем, отправляемых за один захват соединения.
+     */
+    @Min(1)
+    private int batchSize = 20;
+
+    /**
+     * Ёмкость очереди писем, ожидающих отправки.
+     */
+    @Min(1)
+    private int queueCapacity = 500;
+
+    /**
+     * Сколько ждать свободного места в очереди, прежде чем отклонить письмо.
+     * Блокирует вызывающий поток (RabbitMQ listener) — это и есть backpressure.
+     */
+    private Duration enqueueTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Через сколько простоя закрывать SMTP соединение воркера.
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+}
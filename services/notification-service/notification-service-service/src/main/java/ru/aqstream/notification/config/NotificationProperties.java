@@ -1,5 +1,7 @@
 package ru.aqstream.notification.config;
 
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -19,6 +21,11 @@ public class NotificationProperties {
      */
     private String baseUrl = "https://aqstream.ru";
 
+    /**
+     * Настройки планировщика напоминаний.
+     */
+    private Reminder reminder = new Reminder();
+
     /**
      * Формирует URL для события.
      *
@@ -38,4 +45,46 @@ public class NotificationProperties {
     public String getOrganizationUrl(String orgSlug) {
         return baseUrl + "/org/" + orgSlug;
     }
+
+    /**
+     * Настройки планировщика напоминаний о событиях.
+     */
+    @Getter
+    @Setter
+    public static class Reminder {
+
+        /**
+         * Расписание запуска. Частота влияет только на точность:
+         * пропущенные окна обрабатываются при следующем запуске.
+         */
+        private String cron = "0 */10 * * * *";
+
+        /**
+         * За сколько до начала события отправлять напоминание.
+         */
+        private Duration leadTime = Duration.ofHours(24);
+
+        /**
+         * Время аренды события одним инстансом.
+         * По истечении событие может подхватить другой инстанс.
+         */
+        private Duration leaseDuration = Duration.ofMinutes(10);
+
+        /**
+         * Количество одновременных отправок.
+         * Не должно превышать размер пула соединений к БД.
+         */
+        @Min(1)
+        private int parallelism = 2;
+
+        /**
+         * Срок хранения отметок об отправке и завершённых аренд.
+         */
+        private Duration retention = Duration.ofDays(7);
+
+        /**
+         * Расписание очистки устаревших отметок.
+         */
+        private String cleanupCron = "0 30 3 * * *";
+    }
 }
@@ -0,0 +1,84 @@
+package ru.aqstream.notification.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * Фабрики RabbitMQ listener контейнеров по семействам событий.
+ *
+ * <p>Каждое семейство (auth, registration, broadcast) получает собственные
+ * concurrency, prefetch и executor на виртуальных потоках. Медленная обработка
+ * регистраций или массовая рассылка не занимают consumers писем аутентификации.</p>
+ *
+ * <p>Общие настройки ({@code spring.rabbitmq.listener.simple.*}, message converter)
+ * применяются через {@link SimpleRabbitListenerContainerFactoryConfigurer}.</p>
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RabbitListenerConfig {
+
+    /**
+     * Фабрика для писем аутентификации (notification.auth.queue).
+     */
+    public static final String AUTH_CONTAINER_FACTORY = "authListenerContainerFactory";
+
+    /**
+     * Фабрика для регистраций (notification.registration.queue).
+     */
+    public static final String REGISTRATION_CONTAINER_FACTORY = "registrationListenerContainerFactory";
+
+    /**
+     * Фабрика для массовых рассылок (notification.broadcast.queue).
+     */
+    public static final String BROADCAST_CONTAINER_FACTORY = "broadcastListenerContainerFactory";
+
+    private final ListenerProperties listenerProperties;
+
+    @Bean(AUTH_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory authListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        return createFactory(configurer, connectionFactory, listenerProperties.getAuth(), "rabbit-auth-");
+    }
+
+    @Bean(REGISTRATION_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory registrationListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        return createFactory(configurer, connectionFactory, listenerProperties.getRegistration(),
+            "rabbit-registration-");
+    }
+
+    @Bean(BROADCAST_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory broadcastListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory) {
+        return createFactory(configurer, connectionFactory, listenerProperties.getBroadcast(),
+            "rabbit-broadcast-");
+    }
+
+    private SimpleRabbitListenerContainerFactory createFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerProperties.Family family,
+            String threadNamePrefix) {
+
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+
+        factory.setConcurrentConsumers(family.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(family.getConcurrency(), family.getMaxConcurrency()));
+        factory.setPrefetchCount(family.getPrefetch());
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        factory.setTaskExecutor(executor);
+
+        return factory;
+    }
+}
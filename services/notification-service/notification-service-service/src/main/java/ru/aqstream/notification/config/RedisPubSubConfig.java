@@ -0,0 +1,44 @@
+package ru.aqstream.notification.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import ru.aqstream.notification.service.UnreadCountService;
+import ru.aqstream.notification.service.UnreadCountService.UnreadCountChange;
+import ru.aqstream.notification.websocket.UnreadCountWebSocketHandler;
+
+/**
+ * Подписка на Redis pub/sub каналы.
+ *
+ * <p>Изменения счётчика непрочитанных публикует инстанс, обработавший событие,
+ * а WebSocket сессия пользователя может быть открыта на любом другом инстансе.
+ * Каждый инстанс подписан на канал и доставляет изменения в свои сессии.</p>
+ */
+@Configuration
+@Slf4j
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            UnreadCountWebSocketHandler unreadCountWebSocketHandler,
+            ObjectMapper objectMapper) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            try {
+                UnreadCountChange change = objectMapper.readValue(message.getBody(), UnreadCountChange.class);
+                unreadCountWebSocketHandler.onUnreadCountChanged(change);
+            } catch (IOException e) {
+                log.warn("Некорректное сообщение в канале {}: error={}", UnreadCountService.CHANNEL, e.getMessage());
+            }
+        }, new ChannelTopic(UnreadCountService.CHANNEL));
+        return container;
+    }
+}
@@ -6,6 +6,7 @@ import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -23,7 +24,7 @@ import ru.aqstream.common.web.TenantContextFilter;
  * Конфигурация безопасности для Notification Service.
  *
  * <p>Все эндпоинты требуют аутентификации через JWT токен,
- * кроме Actuator и Swagger.</p>
+ * кроме Actuator, Swagger, Telegram webhook и WebSocket (аутентификация при handshake).</p>
  *
  * <p>JWT валидируется через JwtAuthenticationFilter, что позволяет
  * сервису работать автономно и поддерживает полноценное интеграционное тестирование.</p>
@@ -59,6 +60,10 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/**").permitAll()
                 // Системная информация (версия сервиса)
                 .requestMatchers("/api/v1/system/**").permitAll()
+                // Telegram webhook (проверяется по секрету в TelegramWebhookController)
+                .requestMatchers(HttpMethod.POST, "/api/v1/notifications/telegram/webhook").permitAll()
+                // WebSocket счётчика (токен проверяется в UnreadCountHandshakeInterceptor)
+                .requestMatchers("/ws/notifications").permitAll()
                 // Swagger/OpenAPI
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                 // Остальные требуют аутентификации
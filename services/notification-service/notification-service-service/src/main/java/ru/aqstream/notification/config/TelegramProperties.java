@@ -1,5 +1,6 @@
 package ru.aqstream.notification.config;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
@@ -32,6 +33,26 @@ public class TelegramProperties {
      */
     private String webhookUrl;
 
+    /**
+     * Секрет webhook. Telegram передаёт его в заголовке
+     * {@code X-Telegram-Bot-Api-Secret-Token}, запросы без него отклоняются.
+     */
+    private String webhookSecret;
+
+    /**
+     * Количество последовательных обработчиков updates.
+     * Updates одного чата всегда попадают в один обработчик и обрабатываются по порядку.
+     */
+    @Min(1)
+    private int updateWorkers = 8;
+
+    /**
+     * Ёмкость очереди каждого обработчика.
+     * При переполнении webhook отвечает 429 и Telegram повторит доставку.
+     */
+    @Min(1)
+    private int updateQueueCapacity = 200;
+
     /**
      * Базовый URL для deeplinks.
      */
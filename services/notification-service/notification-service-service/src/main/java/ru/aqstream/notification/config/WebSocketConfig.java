@@ -0,0 +1,32 @@
+package ru.aqstream.notification.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+import ru.aqstream.notification.websocket.UnreadCountHandshakeInterceptor;
+import ru.aqstream.notification.websocket.UnreadCountWebSocketHandler;
+
+/**
+ * Конфигурация WebSocket для счётчика непрочитанных уведомлений.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final UnreadCountWebSocketHandler unreadCountWebSocketHandler;
+    private final UnreadCountHandshakeInterceptor unreadCountHandshakeInterceptor;
+
+    @Value("${websocket.allowed-origins:*}")
+    private String allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(unreadCountWebSocketHandler, "/ws/notifications")
+            .addInterceptors(unreadCountHandshakeInterceptor)
+            .setAllowedOrigins(allowedOrigins.split(","));
+    }
+}
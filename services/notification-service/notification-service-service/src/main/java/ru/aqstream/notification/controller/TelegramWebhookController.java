@@ -0,0 +1,86 @@
+package ru.aqstream.notification.controller;
+
+import com.pengrad.telegrambot.BotUtils;
+import com.pengrad.telegrambot.model.Update;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.aqstream.common.api.exception.TooManyRequestsException;
+import ru.aqstream.common.api.exception.UnauthorizedException;
+import ru.aqstream.notification.config.TelegramProperties;
+import ru.aqstream.notification.telegram.TelegramBotService;
+
+/**
+ * Приём updates от Telegram в режиме webhook.
+ *
+ * <p>Запрос подтверждается сразу после постановки update в очередь,
+ * обработка выполняется асинхронно. Если очередь переполнена, возвращается 429 —
+ * Telegram повторит доставку позже.</p>
+ */
+@RestController
+@RequestMapping("/api/v1/notifications/telegram")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Telegram Webhook", description = "Приём updates от Telegram")
+public class TelegramWebhookController {
+
+    /**
+     * Заголовок с секретом, заданным при регистрации webhook.
+     */
+    public static final String SECRET_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    private final TelegramBotService telegramBotService;
+    private final TelegramProperties telegramProperties;
+
+    @Operation(
+        summary = "Webhook Telegram",
+        description = "Принимает update от Telegram Bot API. Вызывается только Telegram."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Update принят"),
+        @ApiResponse(responseCode = "401", description = "Неверный секрет webhook"),
+        @ApiResponse(responseCode = "429", description = "Очередь обработки переполнена")
+    })
+    @PostMapping("/webhook")
+    public ResponseEntity<Void> receiveUpdate(
+            @RequestHeader(value = SECRET_HEADER, required = false) String secret,
+            @RequestBody String body
+    ) {
+        if (!telegramProperties.isWebhookEnabled() || !isValidSecret(secret)) {
+            throw new UnauthorizedException("invalid_webhook_secret", "Неверный секрет webhook");
+        }
+
+        Update update = BotUtils.parseUpdate(body);
+        if (update == null) {
+            log.debug("Пустой update от Telegram");
+            return ResponseEntity.ok().build();
+        }
+
+        if (!telegramBotService.acceptWebhookUpdate(update)) {
+            throw new TooManyRequestsException("telegram_updates_overloaded", "Очередь обработки переполнена");
+        }
+        return ResponseEntity.ok().build();
+    }
+
+    private boolean isValidSecret(String secret) {
+        String expected = telegramProperties.getWebhookSecret();
+        if (expected == null || expected.isBlank() || secret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8),
+            secret.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -1,5 +1,9 @@
 package ru.aqstream.notification.listener;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
@@ -7,8 +11,11 @@ import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
+import ru.aqstream.common.messaging.config.RabbitMQConfig;
 import ru.aqstream.event.api.dto.RegistrationDto;
 import ru.aqstream.event.api.event.EventCancelledEvent;
 import ru.aqstream.event.api.event.EventUpdatedEvent;
@@ -16,6 +23,7 @@ import ru.aqstream.event.api.event.RegistrationCancelledEvent;
 import ru.aqstream.event.api.event.RegistrationCreatedEvent;
 import ru.aqstream.event.client.EventClient;
 import ru.aqstream.notification.config.NotificationProperties;
+import ru.aqstream.notification.config.RabbitListenerConfig;
 import ru.aqstream.notification.db.entity.NotificationPreference;
 import ru.aqstream.notification.service.NotificationService;
 import ru.aqstream.user.api.event.EmailVerificationRequestedEvent;
@@ -27,16 +35,26 @@ import ru.aqstream.user.api.event.UserRegisteredEvent;
 /**
  * Слушатель событий RabbitMQ для отправки уведомлений.
  *
- * <p>Обрабатывает события из очереди notification.queue и отправляет
- * соответствующие уведомления через Telegram и Email.</p>
+ * <p>Обрабатывает события и отправляет соответствующие уведомления через Telegram и Email.
+ * События разделены по очередям и пулам consumers (см. {@link RabbitListenerConfig}):</p>
+ * <ul>
+ *   <li>notification.auth.queue — письма аутентификации и приветствие</li>
+ *   <li>notification.registration.queue — билеты и отмены регистраций</li>
+ *   <li>notification.broadcast.queue — массовые рассылки по событиям</li>
+ *   <li>notification.queue — остальные уведомления (запросы организаций)</li>
+ * </ul>
+ *
+ * <p>На каждую очередь — один listener, который выбирает обработчик по routing key.
+ * Несколько типизированных consumers на одной очереди конкурировали бы за сообщения,
+ * и событие попадало бы к обработчику чужого типа. Outbox отправляет payload строкой,
+ * конвертер оборачивает её в JSON-строку, поэтому тело разбирается вручную.
+ * Сообщения с неизвестным routing key подтверждаются без обработки.</p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationEventListener {
 
-    private static final String NOTIFICATION_QUEUE = "notification.queue";
-
     private static final DateTimeFormatter DATE_FORMATTER =
         DateTimeFormatter.ofPattern("d MMMM yyyy, HH:mm")
             .withZone(ZoneId.of("Europe/Moscow"));
@@ -44,6 +62,87 @@ public class NotificationEventListener {
     private final NotificationService notificationService;
     private final NotificationProperties notificationProperties;
     private final EventClient eventClient;
+    private final ObjectMapper objectMapper;
+
+    // === Dispatch ===
+
+    /**
+     * Принимает сообщения очереди регистраций.
+     *
+     * @param message сообщение
+     */
+    @RabbitListener(
+        queues = RabbitMQConfig.NOTIFICATION_REGISTRATION_QUEUE,
+        id = "registration-events",
+        containerFactory = RabbitListenerConfig.REGISTRATION_CONTAINER_FACTORY
+    )
+    public void onRegistrationMessage(Message message) {
+        String routingKey = routingKey(message);
+        switch (routingKey) {
+            case "registration.created" -> handleRegistrationCreated(decode(message, RegistrationCreatedEvent.class));
+            case "registration.cancelled" ->
+                handleRegistrationCancelled(decode(message, RegistrationCancelledEvent.class));
+            default -> skip(routingKey);
+        }
+    }
+
+    /**
+     * Принимает сообщения очереди массовых рассылок.
+     *
+     * @param message сообщение
+     */
+    @RabbitListener(
+        queues = RabbitMQConfig.NOTIFICATION_BROADCAST_QUEUE,
+        id = "broadcast-events",
+        containerFactory = RabbitListenerConfig.BROADCAST_CONTAINER_FACTORY
+    )
+    public void onBroadcastMessage(Message message) {
+        String routingKey = routingKey(message);
+        switch (routingKey) {
+            case "event.cancelled" -> handleEventCancelled(decode(message, EventCancelledEvent.class));
+            case "event.updated" -> handleEventUpdated(decode(message, EventUpdatedEvent.class));
+            default -> skip(routingKey);
+        }
+    }
+
+    /**
+     * Принимает сообщения очереди аутентификации.
+     *
+     * @param message сообщение
+     */
+    @RabbitListener(
+        queues = RabbitMQConfig.NOTIFICATION_AUTH_QUEUE,
+        id = "auth-events",
+        containerFactory = RabbitListenerConfig.AUTH_CONTAINER_FACTORY
+    )
+    public void onAuthMessage(Message message) {
+        String routingKey = routingKey(message);
+        switch (routingKey) {
+            case "user.registered" -> handleUserRegistered(decode(message, UserRegisteredEvent.class));
+            case "user.email.verification.requested" ->
+                handleEmailVerificationRequested(decode(message, EmailVerificationRequestedEvent.class));
+            case "user.password.reset.requested" ->
+                handlePasswordResetRequested(decode(message, PasswordResetRequestedEvent.class));
+            default -> skip(routingKey);
+        }
+    }
+
+    /**
+     * Принимает сообщения общей очереди уведомлений.
+     *
+     * @param message сообщение
+     */
+    @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE, id = "notification-events")
+    public void onNotificationMessage(Message message) {
+        String routingKey = routingKey(message);
+        switch (routingKey) {
+            case "organization.request.approved" ->
+                handleOrganizationRequestApproved(decode(message, OrganizationRequestApprovedEvent.class));
+            case "organization.request.rejected" ->
+                handleOrganizationRequestRejected(decode(message, OrganizationRequestRejectedEvent.class));
+            default -> skip(routingKey);
+        }
+    }
 
     // === Registration Events ===
 
@@ -51,7 +150,6 @@ public class NotificationEventListener {
      * Обрабатывает создание регистрации.
      * Отправляет билет с QR-кодом участнику как изображение.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "registration-created")
     public void handleRegistrationCreated(RegistrationCreatedEvent event) {
         log.info("Получено событие RegistrationCreatedEvent: registrationId={}, userId={}",
             event.getRegistrationId(), event.getUserId());
@@ -98,7 +196,6 @@ public class NotificationEventListener {
     /**
      * Обрабатывает отмену регистрации.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "registration-cancelled")
     public void handleRegistrationCancelled(RegistrationCancelledEvent event) {
         log.info("Получено событие RegistrationCancelledEvent: registrationId={}, userId={}",
             event.getRegistrationId(), event.getUserId());
@@ -131,7 +228,6 @@ public class NotificationEventListener {
      * Обрабатывает отмену события.
      * Отправляет уведомление всем активным участникам.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "event-cancelled")
     public void handleEventCancelled(EventCancelledEvent event) {
         log.info("Получено событие EventCancelledEvent: eventId={}, tenantId={}",
             event.getEventId(), event.getTenantId());
@@ -193,7 +289,6 @@ public class NotificationEventListener {
      * Обрабатывает изменения в событии.
      * Отправляет уведомление всем активным участникам о произошедших изменениях.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "event-updated")
     public void handleEventUpdated(EventUpdatedEvent event) {
         log.info("Получено событие EventUpdatedEvent: eventId={}, tenantId={}",
             event.getEventId(), event.getTenantId());
@@ -256,7 +351,6 @@ public class NotificationEventListener {
     /**
      * Обрабатывает одобрение запроса на организацию.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "organization-request-approved")
     public void handleOrganizationRequestApproved(OrganizationRequestApprovedEvent event) {
         log.info("Получено событие OrganizationRequestApprovedEvent: requestId={}, userId={}",
             event.getRequestId(), event.getUserId());
@@ -281,7 +375,6 @@ public class NotificationEventListener {
     /**
      * Обрабатывает отклонение запроса на организацию.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "organization-request-rejected")
     public void handleOrganizationRequestRejected(OrganizationRequestRejectedEvent event) {
         log.info("Получено событие OrganizationRequestRejectedEvent: requestId={}, userId={}",
             event.getRequestId(), event.getUserId());
@@ -309,7 +402,6 @@ public class NotificationEventListener {
      * Обрабатывает регистрацию нового пользователя.
      * Отправляет приветственное уведомление через Telegram (если есть chat_id).
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "user-registered")
     public void handleUserRegistered(UserRegisteredEvent event) {
         log.info("Получено событие UserRegisteredEvent: userId={}, source={}",
             event.getUserId(), event.getSource());
@@ -340,7 +432,6 @@ public class NotificationEventListener {
     /**
      * Обрабатывает запрос верификации email.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "email-verification-requested")
     public void handleEmailVerificationRequested(EmailVerificationRequestedEvent event) {
         log.info("Получено событие EmailVerificationRequestedEvent: userId={}", event.getUserId());
 
@@ -363,7 +454,6 @@ public class NotificationEventListener {
     /**
      * Обрабатывает запрос сброса пароля.
      */
-    @RabbitListener(queues = NOTIFICATION_QUEUE, id = "password-reset-requested")
     public void handlePasswordResetRequested(PasswordResetRequestedEvent event) {
         log.info("Получено событие PasswordResetRequestedEvent: userId={}", event.getUserId());
 
@@ -385,6 +475,29 @@ public class NotificationEventListener {
 
     // === Helper Methods ===
 
+    private static String routingKey(Message message) {
+        String routingKey = message.getMessageProperties().getReceivedRoutingKey();
+        return routingKey != null ? routingKey : "";
+    }
+
+    private <T> T decode(Message message, Class<T> type) {
+        try {
+            JsonNode node = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            // Outbox отправляет payload строкой, конвертер оборачивает её в JSON-строку
+            if (node.isTextual()) {
+                node = objectMapper.readTree(node.textValue());
+            }
+            return objectMapper.treeToValue(node, type);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new AmqpRejectAndDontRequeueException(
+                "Не удалось разобрать " + type.getSimpleName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static void skip(String routingKey) {
+        log.debug("Сообщение без обработчика пропущено: routingKey={}", routingKey);
+    }
+
     private String formatDate(java.time.Instant instant) {
         if (instant == null) {
             return "";
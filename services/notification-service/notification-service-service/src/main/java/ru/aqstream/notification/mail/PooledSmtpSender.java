@@ -0,0 +1,303 @@
+package ru.aqstream.notification.mail;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import ru.aqstream.notification.config.MailPoolProperties;
+
+/**
+ * Пул SMTP соединений для асинхронной отправки писем.
+ *
+ * <p>Письма попадают в ограниченную очередь. Каждый воркер держит своё
+ * SMTP соединение открытым, забирает из очереди пачку писем и отправляет
+ * их через одно соединение без повторного handshake. Соединение закрывается
+ * после простоя {@code notification.mail.idle-timeout}.</p>
+ *
+ * <p>Если очередь заполнена, вызывающий поток ждёт до
+ * {@code notification.mail.enqueue-timeout}, после чего письмо отклоняется.</p>
+ *
+ * <p>Метрики:</p>
+ * <ul>
+ *   <li>{@code notification.email.send} — время от постановки в очередь до отправки (tag outcome)</li>
+ *   <li>{@code notification.email.queue.size} — текущий размер очереди</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class PooledSmtpSender {
+
+    private static final String TIMER_NAME = "notification.email.send";
+    private static final long POLL_INTERVAL_MS = 1000;
+    private static final int MAX_SEND_ATTEMPTS = 2;
+
+    private final JavaMailSender mailSender;
+    private final MailPoolProperties properties;
+    private final BlockingQueue<PendingEmail> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final Timer sentTimer;
+    private final Timer failedTimer;
+    private final Timer rejectedTimer;
+
+    private volatile boolean running;
+
+    public PooledSmtpSender(JavaMailSender mailSender, MailPoolProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.sentTimer = Timer.builder(TIMER_NAME).tag("outcome", "sent").register(meterRegistry);
+        this.failedTimer = Timer.builder(TIMER_NAME).tag("outcome", "failed").register(meterRegistry);
+        this.rejectedTimer = Timer.builder(TIMER_NAME).tag("outcome", "rejected").register(meterRegistry);
+        Gauge.builder("notification.email.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * Запускает воркеры пула.
+     */
+    @PostConstruct
+    public void init() {
+        running = true;
+        for (int i = 0; i < properties.getPoolSize(); i++) {
+            Thread worker = Thread.ofPlatform()
+                .name("smtp-sender-" + i)
+                .daemon(true)
+                .start(this::runWorker);
+            workers.add(worker);
+        }
+        log.info("SMTP пул запущен: poolSize={}, batchSize={}, queueCapacity={}",
+            properties.getPoolSize(), properties.getBatchSize(), properties.getQueueCapacity());
+    }
+
+    /**
+     * Останавливает воркеры, дожидаясь отправки уже поставленных в очередь писем.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Thread worker : workers) {
+            try {
+                worker.join(properties.getEnqueueTimeout().toMillis() + POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+
+        List<PendingEmail> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(email -> complete(email, false));
+        log.info("SMTP пул остановлен");
+    }
+
+    /**
+     * Ставит письмо в очередь на отправку.
+     *
+     * @param message   подготовленное письмо
+     * @param recipient замаскированный адрес получателя (для логов)
+     * @return future, завершающийся true после успешной отправки
+     */
+    public CompletableFuture<Boolean> submit(MimeMessage message, String recipient) {
+        PendingEmail email = new PendingEmail(message, recipient, System.nanoTime(), new CompletableFuture<>());
+
+        boolean accepted;
+        try {
+            accepted = queue.offer(email, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            log.warn("Очередь отправки email переполнена, письмо отклонено: to={}, queueSize={}",
+                recipient, queue.size());
+            rejectedTimer.record(System.nanoTime() - email.enqueuedAt(), TimeUnit.NANOSECONDS);
+            email.result().complete(false);
+        }
+
+        return email.result();
+    }
+
+    /**
+     * Возвращает текущий размер очереди.
+     *
+     * @return количество писем, ожидающих отправки
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Цикл воркера: забирает пачку писем и отправляет через своё соединение.
+     */
+    private void runWorker() {
+        Transport transport = null;
+        long lastUsedAt = System.nanoTime();
+        List<PendingEmail> batch = new ArrayList<>(properties.getBatchSize());
+
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingEmail first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (transport != null
+                        && System.nanoTime() - lastUsedAt > properties.getIdleTimeout().toNanos()) {
+                        closeQuietly(transport);
+                        transport = null;
+                        log.debug("SMTP соединение закрыто по простою: worker={}", Thread.currentThread().getName());
+                    }
+                    continue;
+                }
+
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                transport = sendBatch(transport, batch);
+                batch.clear();
+                lastUsedAt = System.nanoTime();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch.forEach(email -> complete(email, false));
+            closeQuietly(transport);
+        }
+    }
+
+    /**
+     * Отправляет пачку писем.
+     *
+     * @return соединение для повторного использования (может быть null)
+     */
+    private Transport sendBatch(Transport transport, List<PendingEmail> batch) {
+        if (!(mailSender instanceof JavaMailSenderImpl impl)) {
+            // Нестандартный JavaMailSender — отправляем пачкой через Spring API
+            sendBatchViaSpring(batch);
+            return null;
+        }
+
+        Transport current = transport;
+        for (PendingEmail email : batch) {
+            current = deliver(impl, current, email);
+        }
+        log.debug("Отправлена пачка email: size={}, worker={}", batch.size(), Thread.currentThread().getName());
+        return current;
+    }
+
+    /**
+     * Отправляет одно письмо через открытое соединение.
+     * При обрыве соединения переподключается и повторяет попытку.
+     */
+    private Transport deliver(JavaMailSenderImpl impl, Transport transport, PendingEmail email) {
+        Transport current = transport;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                if (current == null || !current.isConnected()) {
+                    closeQuietly(current);
+                    current = connect(impl);
+                }
+
+                MimeMessage message = email.message();
+                if (message.getSentDate() == null) {
+                    message.setSentDate(new Date());
+                }
+                message.saveChanges();
+                current.sendMessage(message, message.getAllRecipients());
+
+                complete(email, true);
+                return current;
+
+            } catch (MessagingException e) {
+                boolean connectionLost = current == null || !current.isConnected();
+                if (connectionLost && attempt < MAX_SEND_ATTEMPTS) {
+                    log.debug("SMTP соединение потеряно, переподключение: to={}", email.recipient());
+                    continue;
+                }
+                log.error("Ошибка отправки email: to={}, error={}", email.recipient(), e.getMessage());
+                complete(email, false);
+                return current;
+            }
+        }
+    }
+
+    private void sendBatchViaSpring(List<PendingEmail> batch) {
+        MimeMessage[] messages = batch.stream()
+            .map(PendingEmail::message)
+            .toArray(MimeMessage[]::new);
+        try {
+            mailSender.send(messages);
+            batch.forEach(email -> complete(email, true));
+        } catch (MailException e) {
+            log.error("Ошибка отправки пачки email: size={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(email -> complete(email, false));
+        }
+    }
+
+    private Transport connect(JavaMailSenderImpl impl) throws MessagingException {
+        Transport transport = impl.getSession().getTransport(impl.getProtocol());
+
+        // Пустые credentials означают SMTP без аутентификации (как в JavaMailSenderImpl)
+        String username = impl.getUsername();
+        String password = impl.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+
+        transport.connect(impl.getHost(), impl.getPort(), username, password);
+        log.debug("Открыто SMTP соединение: host={}, worker={}", impl.getHost(), Thread.currentThread().getName());
+        return transport;
+    }
+
+    private void complete(PendingEmail email, boolean success) {
+        if (email.result().isDone()) {
+            return;
+        }
+        long elapsed = System.nanoTime() - email.enqueuedAt();
+        (success ? sentTimer : failedTimer).record(elapsed, TimeUnit.NANOSECONDS);
+        email.result().complete(success);
+    }
+
+    private void closeQuietly(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Ошибка закрытия SMTP соединения: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Письмо в очереди на отправку.
+     *
+     * @param message    письмо
+     * @param recipient  замаскированный адрес (для логов)
+     * @param enqueuedAt момент постановки в очередь (System.nanoTime)
+     * @param result     результат отправки
+     */
+    private record PendingEmail(
+        MimeMessage message,
+        String recipient,
+        long enqueuedAt,
+        CompletableFuture<Boolean> result
+    ) {
+    }
+}
@@ -1,13 +1,18 @@
 package ru.aqstream.notification.scheduler;
 
+import java.lang.management.ManagementFactory;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -19,18 +24,37 @@ import ru.aqstream.event.api.dto.RegistrationStatus;
 import ru.aqstream.event.client.EventClient;
 import ru.aqstream.notification.config.NotificationProperties;
 import ru.aqstream.notification.db.entity.NotificationPreference;
+import ru.aqstream.notification.db.entity.ReminderDelivery;
+import ru.aqstream.notification.db.repository.ReminderDeliveryRepository;
+import ru.aqstream.notification.db.repository.ReminderEventLeaseRepository;
+import ru.aqstream.notification.db.repository.ReminderWatermarkRepository;
 import ru.aqstream.notification.service.NotificationService;
 
 /**
  * Планировщик отправки напоминаний о событиях.
  *
- * <p>Отправляет напоминания участникам за 24 часа до начала события.</p>
+ * <p>Отправляет напоминания участникам за {@code notification.reminder.lead-time}
+ * (по умолчанию 24 часа) до начала события.</p>
+ *
+ * <p>Вместо фиксированного окна планировщик хранит watermark — момент начала событий,
+ * до которого напоминания уже разосланы. Каждый запуск обрабатывает окно
+ * {@code [watermark, now + leadTime)}, поэтому пропущенный или долгий запуск
+ * не приводит к потере напоминаний.</p>
+ *
+ * <p>При нескольких инстансах:</p>
+ * <ul>
+ *   <li>каждое событие захватывается одним инстансом через аренду (reminder_event_leases)</li>
+ *   <li>отметка (registration_id, reminder_type) гарантирует не более одного напоминания участнику</li>
+ *   <li>watermark не сдвигается дальше события, которое ещё не обработано</li>
+ * </ul>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class EventReminderScheduler {
 
+    static final String JOB_NAME = "event-reminder-24h";
+
     private static final DateTimeFormatter DATE_FORMATTER =
         DateTimeFormatter.ofPattern("d MMMM yyyy, HH:mm")
             .withZone(ZoneId.of("Europe/Moscow"));
@@ -38,47 +62,149 @@ public class EventReminderScheduler {
     private final NotificationService notificationService;
     private final NotificationProperties notificationProperties;
     private final EventClient eventClient;
+    private final ReminderWatermarkRepository watermarkRepository;
+    private final ReminderEventLeaseRepository leaseRepository;
+    private final ReminderDeliveryRepository deliveryRepository;
 
     /**
-     * Отправляет напоминания о событиях, которые начнутся через 24-25 часов.
-     * Запускается каждый час.
+     * Идентификатор инстанса для аренды событий.
      */
-    @Scheduled(cron = "${notification.reminder.cron:0 0 * * * *}")
-    public void sendReminders() {
-        log.info("Запуск планировщика напоминаний");
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName()
+        + "-" + UUID.randomUUID().toString().substring(0, 8);
 
+    /**
+     * Отправляет напоминания о событиях из ещё не обработанного окна.
+     */
+    @Scheduled(cron = "${notification.reminder.cron:0 */10 * * * *}")
+    public void sendReminders() {
         try {
-            Instant from = Instant.now().plus(24, ChronoUnit.HOURS);
-            Instant to = from.plus(1, ChronoUnit.HOURS);
+            Instant now = Instant.now();
+            Instant to = now.plus(notificationProperties.getReminder().getLeadTime());
+            // Первый запуск начинает с конца окна: более ранние события уже напомнены прежним расписанием
+            Instant from = watermarkRepository.findCoveredUntil(JOB_NAME)
+                .map(watermark -> watermark.isAfter(now) ? watermark : now)
+                .orElse(to);
 
-            // Получаем опубликованные события в диапазоне
+            if (!from.isBefore(to)) {
+                watermarkRepository.advance(JOB_NAME, to);
+                return;
+            }
+
+            log.info("Запуск планировщика напоминаний: from={}, to={}", from, to);
             List<EventDto> events = eventClient.findUpcomingEvents(from, to);
-            log.info("Найдено событий для напоминаний: count={}", events.size());
 
-            int sentCount = 0;
+            RunResult result = processEvents(events, now);
+            Instant coveredUntil = result.pendingFrom() != null ? result.pendingFrom() : to;
+            watermarkRepository.advance(JOB_NAME, coveredUntil);
+
+            log.info("Планировщик напоминаний завершён: событий={}, обработано={}, отправлено={}, watermark={}",
+                events.size(), result.processedEvents(), result.sentCount(), coveredUntil);
+        } catch (Exception e) {
+            log.error("Ошибка в планировщике напоминаний: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Удаляет устаревшие отметки об отправке и завершённые аренды.
+     */
+    @Scheduled(cron = "${notification.reminder.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        Instant before = Instant.now().minus(notificationProperties.getReminder().getRetention());
+        int deliveries = deliveryRepository.deleteCreatedBefore(before);
+        int leases = leaseRepository.deleteCompletedBefore(before);
+        if (deliveries > 0 || leases > 0) {
+            log.info("Очистка напоминаний: удалено отметок={}, аренд={}", deliveries, leases);
+        }
+    }
+
+    /**
+     * Обрабатывает события окна.
+     * Регистрации одного события рассылаются параллельно.
+     */
+    private RunResult processEvents(List<EventDto> events, Instant now) {
+        NotificationProperties.Reminder settings = notificationProperties.getReminder();
+        Instant pendingFrom = null;
+        int processed = 0;
+        AtomicInteger sentCount = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                settings.getParallelism(), Thread.ofVirtual().name("reminder-", 0).factory())) {
+
             for (EventDto event : events) {
-                // Дополнительная проверка статуса (на случай race condition)
-                if (event.status() != EventStatus.PUBLISHED) {
-                    continue;
+                boolean done = processEvent(event, now, executor, sentCount);
+                if (done) {
+                    processed++;
+                } else if (event.startsAt() != null
+                    && (pendingFrom == null || event.startsAt().isBefore(pendingFrom))) {
+                    pendingFrom = event.startsAt();
                 }
+            }
+        }
 
-                // Получаем активные регистрации
-                List<RegistrationDto> registrations =
-                    eventClient.findActiveRegistrations(event.id(), event.tenantId());
+        return new RunResult(processed, sentCount.get(), pendingFrom);
+    }
 
-                for (RegistrationDto reg : registrations) {
-                    if (reg.status() == RegistrationStatus.CONFIRMED && reg.userId() != null) {
-                        boolean sent = sendReminderToUser(reg, event);
-                        if (sent) {
-                            sentCount++;
+    /**
+     * Захватывает событие и рассылает напоминания его участникам.
+     *
+     * @return true если событие обработано (этим или другим инстансом)
+     */
+    private boolean processEvent(EventDto event, Instant now, ExecutorService executor, AtomicInteger sentCount) {
+        // Дополнительная проверка статуса (на случай race condition)
+        if (event.status() != EventStatus.PUBLISHED) {
+            return true;
+        }
+
+        Instant leasedUntil = now.plus(notificationProperties.getReminder().getLeaseDuration());
+        if (leaseRepository.tryAcquire(event.id(), instanceId, leasedUntil, now) == 0) {
+            // Событие обработано или захвачено другим инстансом
+            return leaseRepository.existsByEventIdAndCompletedAtIsNotNull(event.id());
+        }
+
+        try {
+            List<RegistrationDto> registrations =
+                eventClient.findActiveRegistrations(event.id(), event.tenantId());
+
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (RegistrationDto reg : registrations) {
+                if (reg.status() == RegistrationStatus.CONFIRMED && reg.userId() != null) {
+                    futures.add(CompletableFuture.runAsync(() -> {
+                        if (dispatchReminder(reg, event)) {
+                            sentCount.incrementAndGet();
                         }
-                    }
+                    }, executor));
                 }
             }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
 
-            log.info("Планировщик напоминаний завершён: отправлено={}", sentCount);
+            leaseRepository.markCompleted(event.id(), instanceId, Instant.now());
+            return true;
         } catch (Exception e) {
-            log.error("Ошибка в планировщике напоминаний: {}", e.getMessage(), e);
+            log.warn("Ошибка рассылки напоминаний по событию: eventId={}, error={}", event.id(), e.getMessage());
+            leaseRepository.release(event.id(), instanceId, Instant.now());
+            return false;
+        }
+    }
+
+    /**
+     * Отправляет напоминание участнику, если оно ещё не отправлялось.
+     * Отметка ставится до отправки; при ошибке снимается, чтобы повторить в следующий запуск.
+     *
+     * @return true если уведомление отправлено
+     */
+    private boolean dispatchReminder(RegistrationDto registration, EventDto event) {
+        int marked = deliveryRepository.tryMark(
+            registration.id(), ReminderDelivery.EVENT_24H, event.id(), registration.userId());
+        if (marked == 0) {
+            log.debug("Напоминание уже отправлено: registrationId={}", registration.id());
+            return false;
+        }
+
+        try {
+            return sendReminderToUser(registration, event);
+        } catch (RuntimeException e) {
+            deliveryRepository.unmark(registration.id(), ReminderDelivery.EVENT_24H);
+            throw e;
         }
     }
 
@@ -146,4 +272,14 @@ public class EventReminderScheduler {
     private String buildEventUrl(String eventSlug) {
         return notificationProperties.getEventUrl(eventSlug);
     }
+
+    /**
+     * Итог запуска планировщика.
+     *
+     * @param processedEvents количество обработанных событий
+     * @param sentCount       количество отправленных напоминаний
+     * @param pendingFrom     начало самого раннего необработанного события (null если все обработаны)
+     */
+    private record RunResult(int processedEvents, int sentCount, Instant pendingFrom) {
+    }
 }
@@ -2,13 +2,14 @@ package ru.aqstream.notification.service;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import ru.aqstream.notification.mail.PooledSmtpSender;
 
 /**
  * Сервис для отправки email через SMTP.
@@ -19,6 +20,9 @@ import org.springframework.stereotype.Service;
  *     <li>Сброс пароля</li>
  * </ul>
  * </p>
+ *
+ * <p>Письма отправляются асинхронно через {@link PooledSmtpSender},
+ * чтобы медленный SMTP не блокировал RabbitMQ listener.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -26,6 +30,7 @@ import org.springframework.stereotype.Service;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final PooledSmtpSender smtpSender;
 
     @Value("${spring.mail.from:noreply@aqstream.ru}")
     private String fromAddress;
@@ -34,14 +39,14 @@ public class EmailService {
     private String fromName;
 
     /**
-     * Отправляет email.
+     * Ставит email в очередь на отправку через пул SMTP соединений.
      *
      * @param to      email получателя
      * @param subject тема письма
      * @param body    тело письма (HTML)
-     * @return true если письмо отправлено успешно
+     * @return future, завершающийся true после успешной отправки
      */
-    public boolean send(String to, String subject, String body) {
+    public CompletableFuture<Boolean> sendAsync(String to, String subject, String body) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -51,22 +56,30 @@ public class EmailService {
             helper.setSubject(subject);
             helper.setText(body, true);  // HTML
 
-            mailSender.send(message);
-            log.debug("Email отправлен: to={}, subject={}", maskEmail(to), subject);
-            return true;
+            log.debug("Email поставлен в очередь: to={}, subject={}", maskEmail(to), subject);
+            return smtpSender.submit(message, maskEmail(to));
 
         } catch (MessagingException e) {
             log.error("Ошибка создания email: to={}, error={}", maskEmail(to), e.getMessage());
-            return false;
-        } catch (MailException e) {
-            log.error("Ошибка отправки email: to={}, error={}", maskEmail(to), e.getMessage());
-            return false;
+            return CompletableFuture.completedFuture(false);
         } catch (Exception e) {
-            log.error("Неожиданная ошибка при отправке email: to={}, error={}", maskEmail(to), e.getMessage());
-            return false;
+            log.error("Неожиданная ошибка при подготовке email: to={}, error={}", maskEmail(to), e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
+    /**
+     * Отправляет email и дожидается результата.
+     *
+     * @param to      email получателя
+     * @param subject тема письма
+     * @param body    тело письма (HTML)
+     * @return true если письмо отправлено успешно
+     */
+    public boolean send(String to, String subject, String body) {
+        return sendAsync(to, subject, body).join();
+    }
+
     /**
      * Проверяет доступность SMTP сервера.
      *
@@ -16,6 +16,7 @@ import ru.aqstream.user.client.UserClient;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Основной сервис для отправки уведомлений.
@@ -171,36 +172,50 @@ public class NotificationService {
      * Отправляет email уведомление.
      * Используется только для аутентификации (верификация email, сброс пароля).
      *
+     * <p>Письмо ставится в очередь пула SMTP соединений, статус лога обновляется
+     * после фактической отправки. Метод не транзакционный: запись лога должна быть
+     * закоммичена до того, как воркер пула её обновит.</p>
+     *
      * @param userId       ID получателя
      * @param email        email адрес
      * @param templateCode код шаблона
      * @param variables    переменные для подстановки
-     * @return true если уведомление отправлено успешно
+     * @return true если письмо принято к отправке
      */
-    @Transactional
     public boolean sendEmail(UUID userId, String email, String templateCode, Map<String, Object> variables) {
         // Рендерим шаблон
         String subject = templateService.renderSubject(templateCode, variables);
         String body = templateService.render(templateCode, NotificationChannel.EMAIL, variables);
 
         // Создаём запись лога
-        NotificationLog logEntry = NotificationLog.createEmail(userId, templateCode, email, subject, body);
-        logEntry = logRepository.save(logEntry);
+        NotificationLog logEntry = logRepository.save(
+            NotificationLog.createEmail(userId, templateCode, email, subject, body)
+        );
 
-        // Отправляем
-        boolean success = emailService.send(email, subject, body);
+        // Ставим в очередь, статус обновится после отправки
+        CompletableFuture<Boolean> result = emailService.sendAsync(email, subject, body);
+        result.thenAccept(success -> updateEmailLog(logEntry, success, userId, templateCode));
 
-        // Обновляем статус
-        if (success) {
-            logEntry.markAsSent();
-            log.info("Email отправлен: userId={}, template={}", userId, templateCode);
-        } else {
-            logEntry.markAsFailed("Ошибка отправки email");
-            log.warn("Не удалось отправить email: userId={}, template={}", userId, templateCode);
-        }
-        logRepository.save(logEntry);
+        return !result.isDone() || result.join();
+    }
 
-        return success;
+    /**
+     * Обновляет статус лога email после завершения отправки.
+     */
+    private void updateEmailLog(NotificationLog logEntry, boolean success, UUID userId, String templateCode) {
+        try {
+            if (success) {
+                logEntry.markAsSent();
+                log.info("Email отправлен: userId={}, template={}", userId, templateCode);
+            } else {
+                logEntry.markAsFailed("Ошибка отправки email");
+                log.warn("Не удалось отправить email: userId={}, template={}", userId, templateCode);
+            }
+            logRepository.save(logEntry);
+        } catch (Exception e) {
+            log.error("Ошибка обновления лога email: userId={}, template={}, error={}",
+                userId, templateCode, e.getMessage());
+        }
     }
 
     /**
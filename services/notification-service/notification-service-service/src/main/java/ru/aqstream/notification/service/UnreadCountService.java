@@ -0,0 +1,177 @@
+package ru.aqstream.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.aqstream.notification.db.repository.UserNotificationRepository;
+
+/**
+ * Счётчик непрочитанных уведомлений в Redis.
+ *
+ * <p>Счётчик хранится по ключу {@code notification:unread:{tenantId}:{userId}}.
+ * При промахе значение считается из БД и кладётся в Redis, дальше оно
+ * поддерживается инкрементами при создании и прочтении уведомлений.</p>
+ *
+ * <p>Каждое изменение после коммита транзакции публикуется в канал
+ * {@link #CHANNEL}, откуда его получают все инстансы и рассылают
+ * в открытые WebSocket сессии пользователя.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCountService {
+
+    /**
+     * Redis pub/sub канал изменений счётчика.
+     */
+    public static final String CHANNEL = "notification:unread-changed";
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    /**
+     * TTL счётчика. Ограничивает время жизни значения, рассинхронизированного
+     * с БД (например, при одновременном промахе кэша и создании уведомления).
+     */
+    private static final Duration COUNTER_TTL = Duration.ofMinutes(30);
+
+    /**
+     * Изменяет счётчик, только если он уже есть в Redis (иначе при следующем чтении он будет посчитан из БД).
+     * Возвращает новое значение или -1, если счётчика нет.
+     */
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = RedisScript.of("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+        if value < 0 then
+            redis.call('SET', KEYS[1], 0, 'KEEPTTL')
+            value = 0
+        end
+        return value
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserNotificationRepository repository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Возвращает количество непрочитанных уведомлений.
+     * При недоступности Redis считает напрямую из БД.
+     *
+     * @param tenantId ID организации
+     * @param userId   ID пользователя
+     * @return количество непрочитанных
+     */
+    public long getUnreadCount(UUID tenantId, UUID userId) {
+        String key = key(tenantId, userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis недоступен, счётчик читается из БД: error={}", e.getMessage());
+            return repository.countUnreadByTenantIdAndUserId(tenantId, userId);
+        }
+
+        long count = repository.countUnreadByTenantIdAndUserId(tenantId, userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), COUNTER_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Не удалось сохранить счётчик в Redis: error={}", e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * Изменяет счётчик на delta после коммита текущей транзакции.
+     *
+     * @param tenantId ID организации
+     * @param userId   ID пользователя
+     * @param delta    изменение (+1 при создании, -1 при прочтении)
+     */
+    public void changeAfterCommit(UUID tenantId, UUID userId, long delta) {
+        afterCommit(() -> applyDelta(tenantId, userId, delta));
+    }
+
+    /**
+     * Обнуляет счётчик после коммита текущей транзакции (прочитаны все уведомления).
+     *
+     * @param tenantId    ID организации
+     * @param userId      ID пользователя
+     * @param markedCount количество отмеченных уведомлений
+     */
+    public void resetAfterCommit(UUID tenantId, UUID userId, long markedCount) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForValue().set(key(tenantId, userId), "0", COUNTER_TTL);
+            } catch (DataAccessException e) {
+                log.warn("Не удалось обнулить счётчик в Redis: error={}", e.getMessage());
+            }
+            publish(new UnreadCountChange(tenantId, userId, 0, -markedCount));
+        });
+    }
+
+    private void applyDelta(UUID tenantId, UUID userId, long delta) {
+        Long count;
+        try {
+            count = redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(key(tenantId, userId)), String.valueOf(delta));
+        } catch (DataAccessException e) {
+            log.warn("Не удалось изменить счётчик в Redis: error={}", e.getMessage());
+            return;
+        }
+
+        if (count == null || count < 0) {
+            // Счётчика нет в Redis — считаем из БД (уже с учётом изменения)
+            count = getUnreadCount(tenantId, userId);
+        }
+        publish(new UnreadCountChange(tenantId, userId, count, delta));
+    }
+
+    private void publish(UnreadCountChange change) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("Не удалось опубликовать изменение счётчика: userId={}, error={}",
+                change.userId(), e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String key(UUID tenantId, UUID userId) {
+        return KEY_PREFIX + tenantId + ":" + userId;
+    }
+
+    /**
+     * Изменение счётчика непрочитанных.
+     *
+     * @param tenantId ID организации
+     * @param userId   ID пользователя
+     * @param count    новое значение
+     * @param delta    изменение
+     */
+    public record UnreadCountChange(UUID tenantId, UUID userId, long count, long delta) {
+    }
+}
@@ -20,6 +20,9 @@ import ru.aqstream.notification.db.repository.UserNotificationRepository;
  * Сервис для работы с UI-уведомлениями пользователя (bell icon).
  *
  * <p>Все методы используют TenantContext для tenant isolation (Defense in Depth).</p>
+ *
+ * <p>Количество непрочитанных хранится в Redis ({@link UnreadCountService})
+ * и рассылается в открытые WebSocket сессии при каждом изменении.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +32,7 @@ public class UserNotificationService {
     private static final int DEFAULT_PAGE_SIZE = 20;
 
     private final UserNotificationRepository repository;
+    private final UnreadCountService unreadCountService;
 
     /**
      * Возвращает список уведомлений пользователя.
@@ -60,7 +64,7 @@ public class UserNotificationService {
     @Transactional(readOnly = true)
     public long getUnreadCount(UUID userId) {
         UUID tenantId = TenantContext.getTenantId();
-        return repository.countUnreadByTenantIdAndUserId(tenantId, userId);
+        return unreadCountService.getUnreadCount(tenantId, userId);
     }
 
     /**
@@ -80,8 +84,13 @@ public class UserNotificationService {
             .findByIdAndTenantIdAndUserId(notificationId, tenantId, userId)
             .orElseThrow(() -> new UserNotificationNotFoundException(notificationId, userId));
 
+        if (notification.isRead()) {
+            return;
+        }
+
         notification.markAsRead();
         repository.save(notification);
+        unreadCountService.changeAfterCommit(tenantId, userId, -1);
         log.info("Уведомление отмечено как прочитанное: notificationId={}", notificationId);
     }
 
@@ -97,6 +106,9 @@ public class UserNotificationService {
         log.info("Отметка всех уведомлений как прочитанных: tenantId={}, userId={}", tenantId, userId);
 
         int count = repository.markAllAsReadByTenantIdAndUserId(tenantId, userId);
+        if (count > 0) {
+            unreadCountService.resetAfterCommit(tenantId, userId, count);
+        }
         log.info("Отмечено уведомлений: count={}, tenantId={}, userId={}", count, tenantId, userId);
         return count;
     }
@@ -112,7 +124,11 @@ public class UserNotificationService {
         log.info("Создание уведомления: tenantId={}, userId={}, type={}, title={}",
             notification.getTenantId(), notification.getUserId(),
             notification.getType(), notification.getTitle());
-        return repository.save(notification);
+        UserNotification saved = repository.save(notification);
+        if (!saved.isRead()) {
+            unreadCountService.changeAfterCommit(saved.getTenantId(), saved.getUserId(), 1);
+        }
+        return saved;
     }
 
     private UserNotificationDto toDto(UserNotification entity) {
@@ -8,6 +8,8 @@ import com.pengrad.telegrambot.model.Update;
 import com.pengrad.telegrambot.model.User;
 import com.pengrad.telegrambot.request.AnswerCallbackQuery;
 import com.pengrad.telegrambot.request.GetUpdates;
+import com.pengrad.telegrambot.request.SetWebhook;
+import com.pengrad.telegrambot.response.BaseResponse;
 import feign.FeignException;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -21,6 +23,9 @@ import ru.aqstream.user.client.UserClient;
 /**
  * Сервис для управления Telegram ботом.
  * Обрабатывает входящие сообщения и команды.
+ *
+ * <p>Updates поступают через long polling или webhook и обрабатываются
+ * параллельно через {@link TelegramUpdateDispatcher}.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -34,13 +39,16 @@ public class TelegramBotService {
     private final TelegramCommandHandler commandHandler;
     private final TelegramMessageSender messageSender;
     private final UserClient userClient;
+    private final TelegramUpdateDispatcher updateDispatcher;
 
     /**
      * Инициализация бота при старте приложения.
      */
     @PostConstruct
     public void init() {
-        if (!properties.isWebhookEnabled()) {
+        if (properties.isWebhookEnabled()) {
+            registerWebhook();
+        } else {
             startLongPolling();
         }
         log.info("Telegram бот инициализирован: @{}", properties.getBotUsername());
@@ -51,7 +59,9 @@ public class TelegramBotService {
      */
     @PreDestroy
     public void shutdown() {
-        bot.removeGetUpdatesListener();
+        if (!properties.isWebhookEnabled()) {
+            bot.removeGetUpdatesListener();
+        }
         log.info("Telegram бот остановлен");
     }
 
@@ -64,13 +74,13 @@ public class TelegramBotService {
                 .timeout(properties.getLongPollingTimeout());
 
         bot.setUpdatesListener(updates -> {
+            int lastAccepted = UpdatesListener.CONFIRMED_UPDATES_NONE;
             for (Update update : updates) {
-                try {
-                    processUpdate(update);
-                } catch (Exception e) {
-                    log.error("Ошибка обработки update: updateId={}, error={}",
-                            update.updateId(), e.getMessage(), e);
+                if (!updateDispatcher.dispatch(update, this::processUpdate)) {
+                    // Очередь переполнена — оставшиеся updates будут получены повторно
+                    return lastAccepted;
                 }
+                lastAccepted = update.updateId();
             }
             return UpdatesListener.CONFIRMED_UPDATES_ALL;
         }, e -> {
@@ -85,6 +95,40 @@ public class TelegramBotService {
         log.info("Long polling запущен: timeout={}s", properties.getLongPollingTimeout());
     }
 
+    /**
+     * Регистрирует webhook в Telegram API.
+     */
+    private void registerWebhook() {
+        if (properties.getWebhookSecret() == null || properties.getWebhookSecret().isBlank()) {
+            // Без секрета нельзя отличить Telegram от поддельных запросов (confirm_auth)
+            log.error("Webhook секрет не задан (TELEGRAM_WEBHOOK_SECRET), webhook не зарегистрирован");
+            return;
+        }
+
+        SetWebhook request = new SetWebhook()
+                .url(properties.getWebhookUrl())
+                .secretToken(properties.getWebhookSecret());
+
+        BaseResponse response = bot.execute(request);
+        if (response.isOk()) {
+            log.info("Webhook зарегистрирован: url={}", properties.getWebhookUrl());
+        } else {
+            log.error("Ошибка регистрации webhook: code={}, description={}",
+                    response.errorCode(), response.description());
+        }
+    }
+
+    /**
+     * Принимает update, полученный через webhook.
+     * Обработка выполняется асинхронно, чтобы быстро ответить Telegram.
+     *
+     * @param update update от Telegram
+     * @return false если очередь обработки переполнена
+     */
+    public boolean acceptWebhookUpdate(Update update) {
+        return updateDispatcher.dispatch(update, this::processUpdate);
+    }
+
     /**
      * Обрабатывает входящее обновление от Telegram.
      */
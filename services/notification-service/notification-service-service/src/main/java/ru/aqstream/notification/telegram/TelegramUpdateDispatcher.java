@@ -0,0 +1,140 @@
+package ru.aqstream.notification.telegram;
+
+import com.pengrad.telegrambot.model.CallbackQuery;
+import com.pengrad.telegrambot.model.Update;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.aqstream.notification.config.TelegramProperties;
+
+/**
+ * Параллельная обработка Telegram updates с сохранением порядка внутри чата.
+ *
+ * <p>Каждый чат по хешу chatId закрепляется за одним из N последовательных
+ * обработчиков. Updates разных чатов обрабатываются параллельно, поэтому
+ * медленный вызов (например, подтверждение входа через user-service)
+ * не задерживает остальных пользователей. Updates одного чата обрабатываются
+ * строго по порядку.</p>
+ *
+ * <p>Метрики:</p>
+ * <ul>
+ *   <li>{@code notification.telegram.update} — время от приёма до окончания обработки (tag outcome)</li>
+ *   <li>{@code notification.telegram.update.pending} — количество updates в очередях</li>
+ * </ul>
+ */
+@Component
+@Slf4j
+public class TelegramUpdateDispatcher {
+
+    private static final String TIMER_NAME = "notification.telegram.update";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final List<ThreadPoolExecutor> workers;
+    private final Timer processedTimer;
+    private final Timer failedTimer;
+
+    public TelegramUpdateDispatcher(TelegramProperties properties, MeterRegistry meterRegistry) {
+        int count = properties.getUpdateWorkers();
+        this.workers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            workers.add(new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(properties.getUpdateQueueCapacity()),
+                Thread.ofVirtual().name("telegram-update-" + i).factory()
+            ));
+        }
+        this.processedTimer = Timer.builder(TIMER_NAME).tag("outcome", "processed").register(meterRegistry);
+        this.failedTimer = Timer.builder(TIMER_NAME).tag("outcome", "failed").register(meterRegistry);
+        Gauge.builder("notification.telegram.update.pending", this, TelegramUpdateDispatcher::getPendingCount)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Ставит update в очередь обработчика его чата.
+     *
+     * @param update  update от Telegram
+     * @param handler обработчик
+     * @return false если очередь обработчика переполнена
+     */
+    public boolean dispatch(Update update, Consumer<Update> handler) {
+        long acceptedAt = System.nanoTime();
+        ThreadPoolExecutor worker = workers.get(Math.floorMod(Long.hashCode(routingKey(update)), workers.size()));
+
+        try {
+            worker.execute(() -> handle(update, handler, acceptedAt));
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("Очередь обработки Telegram updates переполнена: updateId={}, pending={}",
+                update.updateId(), worker.getQueue().size());
+            return false;
+        }
+    }
+
+    /**
+     * Возвращает количество updates, ожидающих обработки.
+     *
+     * @return суммарный размер очередей
+     */
+    public int getPendingCount() {
+        return workers.stream().mapToInt(worker -> worker.getQueue().size()).sum();
+    }
+
+    /**
+     * Останавливает обработчики, дожидаясь обработки уже принятых updates.
+     */
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor worker : workers) {
+            try {
+                if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    worker.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                worker.shutdownNow();
+            }
+        }
+    }
+
+    private void handle(Update update, Consumer<Update> handler, long acceptedAt) {
+        try {
+            handler.accept(update);
+            processedTimer.record(System.nanoTime() - acceptedAt, TimeUnit.NANOSECONDS);
+        } catch (Exception e) {
+            failedTimer.record(System.nanoTime() - acceptedAt, TimeUnit.NANOSECONDS);
+            log.error("Ошибка обработки update: updateId={}, error={}",
+                update.updateId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Определяет ключ маршрутизации: chatId, для callback без сообщения — id пользователя.
+     */
+    @SuppressWarnings("deprecation")
+    static long routingKey(Update update) {
+        if (update.message() != null && update.message().chat() != null) {
+            return update.message().chat().id();
+        }
+        CallbackQuery callbackQuery = update.callbackQuery();
+        if (callbackQuery != null) {
+            if (callbackQuery.message() != null && callbackQuery.message().chat() != null) {
+                return callbackQuery.message().chat().id();
+            }
+            if (callbackQuery.from() != null) {
+                return callbackQuery.from().id();
+            }
+        }
+        return update.updateId() != null ? update.updateId() : 0L;
+    }
+}
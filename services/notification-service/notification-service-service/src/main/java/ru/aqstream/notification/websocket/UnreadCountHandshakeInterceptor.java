@@ -0,0 +1,76 @@
+package ru.aqstream.notification.websocket;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+import ru.aqstream.common.security.JwtAuthenticationException;
+import ru.aqstream.common.security.JwtTokenProvider;
+import ru.aqstream.common.security.UserPrincipal;
+
+/**
+ * Аутентификация WebSocket подключения к счётчику непрочитанных.
+ *
+ * <p>Браузерный WebSocket API не позволяет передать заголовок Authorization,
+ * поэтому access token передаётся в query параметре {@code token}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCountHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String SESSION_ATTRIBUTE_PRINCIPAL = "principal";
+    static final String SESSION_ATTRIBUTE_DECORATED = "decoratedSession";
+
+    private static final String TOKEN_PARAM = "token";
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public boolean beforeHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Map<String, Object> attributes) {
+
+        String token = UriComponentsBuilder.fromUri(request.getURI())
+            .build()
+            .getQueryParams()
+            .getFirst(TOKEN_PARAM);
+
+        if (token == null || token.isBlank()) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        try {
+            UserPrincipal principal = jwtTokenProvider.validateAndGetPrincipal(token);
+            if (principal.tenantId() == null) {
+                // Уведомления привязаны к организации — без tenant подписываться не на что
+                response.setStatusCode(HttpStatus.FORBIDDEN);
+                return false;
+            }
+            attributes.put(SESSION_ATTRIBUTE_PRINCIPAL, principal);
+            return true;
+        } catch (JwtAuthenticationException e) {
+            log.debug("WebSocket: невалидный токен: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(
+            ServerHttpRequest request,
+            ServerHttpResponse response,
+            WebSocketHandler wsHandler,
+            Exception exception) {
+        // Ничего не делаем
+    }
+}
@@ -0,0 +1,149 @@
+package ru.aqstream.notification.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import ru.aqstream.common.security.UserPrincipal;
+import ru.aqstream.notification.service.UnreadCountService;
+import ru.aqstream.notification.service.UnreadCountService.UnreadCountChange;
+
+/**
+ * WebSocket handler для real-time счётчика непрочитанных уведомлений.
+ *
+ * <p>Frontend подключается к /ws/notifications?token={accessToken}. Сразу после
+ * подключения отправляется текущее значение счётчика, дальше — изменения
+ * при создании и прочтении уведомлений. Polling /api/v1/notifications/unread-count
+ * остаётся доступным как fallback.</p>
+ *
+ * <p>Формат сообщения: {@code {"type":"unread_count","count":5,"delta":1}}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCountWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String MESSAGE_TYPE = "unread_count";
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int BUFFER_SIZE_LIMIT = 64 * 1024;
+
+    private final UnreadCountService unreadCountService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Map: tenantId:userId -> WebSocket сессии пользователя (вкладки браузера).
+     */
+    private final ConcurrentHashMap<String, Set<WebSocketSession>> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        UserPrincipal principal = extractPrincipal(session);
+        if (principal == null) {
+            log.warn("WebSocket подключение без аутентификации, закрываем");
+            closeQuietly(session);
+            return;
+        }
+
+        WebSocketSession concurrentSession =
+            new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT);
+        session.getAttributes().put(UnreadCountHandshakeInterceptor.SESSION_ATTRIBUTE_DECORATED, concurrentSession);
+        sessions.computeIfAbsent(key(principal.tenantId(), principal.userId()), k -> ConcurrentHashMap.newKeySet())
+            .add(concurrentSession);
+        log.debug("WebSocket счётчика подключён: userId={}", principal.userId());
+
+        long count = unreadCountService.getUnreadCount(principal.tenantId(), principal.userId());
+        send(concurrentSession, count, 0);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        UserPrincipal principal = extractPrincipal(session);
+        Object decorated = session.getAttributes().get(UnreadCountHandshakeInterceptor.SESSION_ATTRIBUTE_DECORATED);
+        if (principal == null || decorated == null) {
+            return;
+        }
+        sessions.computeIfPresent(key(principal.tenantId(), principal.userId()), (k, userSessions) -> {
+            userSessions.remove(decorated);
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        log.debug("WebSocket счётчика закрыт: userId={}, status={}", principal.userId(), status);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("WebSocket ошибка: error={}", exception.getMessage());
+        closeQuietly(session);
+    }
+
+    /**
+     * Отправляет изменение счётчика во все сессии пользователя на этом инстансе.
+     *
+     * @param change изменение счётчика
+     */
+    public void onUnreadCountChanged(UnreadCountChange change) {
+        Set<WebSocketSession> userSessions = sessions.get(key(change.tenantId(), change.userId()));
+        if (userSessions == null) {
+            return;
+        }
+        for (WebSocketSession session : userSessions) {
+            send(session, change.count(), change.delta());
+        }
+    }
+
+    /**
+     * Возвращает количество активных сессий.
+     * Используется для мониторинга.
+     */
+    public int getActiveSessionCount() {
+        return sessions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void send(WebSocketSession session, long count, long delta) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(Map.of(
+                "type", MESSAGE_TYPE,
+                "count", count,
+                "delta", delta
+            ));
+            session.sendMessage(new TextMessage(json));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Ошибка отправки WebSocket сообщения: error={}", e.getMessage());
+            closeQuietly(session);
+        }
+    }
+
+    private UserPrincipal extractPrincipal(WebSocketSession session) {
+        Object principal = session.getAttributes().get(UnreadCountHandshakeInterceptor.SESSION_ATTRIBUTE_PRINCIPAL);
+        return principal instanceof UserPrincipal userPrincipal ? userPrincipal : null;
+    }
+
+    private static String key(UUID tenantId, UUID userId) {
+        return tenantId + ":" + userId;
+    }
+
+    /**
+     * Закрывает WebSocket сессию без выброса исключений.
+     */
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            if (session.isOpen()) {
+                session.close(CloseStatus.SERVER_ERROR);
+            }
+        } catch (IOException e) {
+            log.debug("Ошибка при закрытии WebSocket: {}", e.getMessage());
+        }
+    }
+}
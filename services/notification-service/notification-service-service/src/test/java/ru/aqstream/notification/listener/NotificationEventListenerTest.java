@@ -0,0 +1,121 @@
+package ru.aqstream.notification.listener;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.aqstream.common.api.event.DomainEvent;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.event.api.event.RegistrationCancelledEvent;
+import ru.aqstream.event.client.EventClient;
+import ru.aqstream.notification.config.NotificationProperties;
+import ru.aqstream.notification.db.entity.NotificationPreference;
+import ru.aqstream.notification.service.NotificationService;
+import ru.aqstream.user.api.event.PasswordResetRequestedEvent;
+
+@UnitTest
+@Feature(AllureFeatures.Features.NOTIFICATIONS)
+@Story(AllureFeatures.Stories.TELEGRAM_NOTIFICATIONS)
+@DisplayName("NotificationEventListener")
+class NotificationEventListenerTest {
+
+    // Настроен как ObjectMapper Spring Boot: имена параметров конструкторов, ISO-даты
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationProperties notificationProperties;
+
+    @Mock
+    private EventClient eventClient;
+
+    private NotificationEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new NotificationEventListener(
+            notificationService, notificationProperties, eventClient, objectMapper);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("отмена регистрации из outbox отправляет уведомление об отмене")
+    void onRegistrationMessage_Cancelled_SendsCancellation() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        RegistrationCancelledEvent event = new RegistrationCancelledEvent(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), userId,
+            "Конференция", "conf", Instant.parse("2026-11-01T10:00:00Z"),
+            UUID.randomUUID(), "Стандарт", "Иван", "Иванов", "ivan@example.com",
+            null, false);
+
+        // when
+        listener.onRegistrationMessage(outboxMessage(event));
+
+        // then
+        verify(notificationService).sendTelegram(
+            eq(userId), eq("registration.cancelled"), anyMap(), eq(NotificationPreference.REGISTRATION_UPDATES));
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("сообщение без обработчика не попадает к обработчику другого типа")
+    void onRegistrationMessage_UnknownRoutingKey_Skipped() throws Exception {
+        // given
+        Message message = outboxMessage(new PasswordResetRequestedEvent(
+            UUID.randomUUID(), "ivan@example.com", "token", "https://aqstream.ru/reset"));
+        message.getMessageProperties().setReceivedRoutingKey("ticket.resend.requested");
+
+        // when
+        listener.onRegistrationMessage(message);
+
+        // then
+        verifyNoInteractions(notificationService, eventClient);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("сброс пароля из outbox отправляет письмо")
+    void onAuthMessage_PasswordReset_SendsEmail() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        PasswordResetRequestedEvent event = new PasswordResetRequestedEvent(
+            userId, "ivan@example.com", "token", "https://aqstream.ru/reset");
+
+        // when
+        listener.onAuthMessage(outboxMessage(event));
+
+        // then
+        verify(notificationService).sendEmail(eq(userId), eq("ivan@example.com"), eq("auth.password-reset"), anyMap());
+    }
+
+    /**
+     * Сообщение в том виде, в каком его отправляет OutboxProcessor:
+     * payload — строка JSON, сериализованная конвертером ещё раз.
+     */
+    private Message outboxMessage(DomainEvent event) throws Exception {
+        String payload = objectMapper.writeValueAsString(event);
+        Message message = new Jackson2JsonMessageConverter(objectMapper).toMessage(payload, new MessageProperties());
+        message.getMessageProperties().setReceivedRoutingKey(event.getEventType());
+        return message;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.aqstream.notification.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import ru.aqstream.notification.config.MailPoolProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit тесты для PooledSmtpSender.
+ * В качестве SMTP сервера используется локальный GreenMail.
+ */
+@DisplayName("PooledSmtpSender")
+class PooledSmtpSenderTest {
+
+    private static final Faker FAKER = new Faker();
+
+    @RegisterExtension
+    static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl mailSender;
+    private MailPoolProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private PooledSmtpSender sender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        properties = new MailPoolProperties();
+        properties.setPoolSize(2);
+        properties.setBatchSize(5);
+        properties.setQueueCapacity(100);
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sender != null) {
+            sender.shutdown();
+        }
+    }
+
+    private MimeMessage createMessage() throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@aqstream.ru");
+        helper.setTo(FAKER.internet().emailAddress());
+        helper.setSubject(FAKER.lorem().sentence());
+        helper.setText(FAKER.lorem().paragraph(), true);
+        return message;
+    }
+
+    @Nested
+    @DisplayName("submit")
+    class Submit {
+
+        @Test
+        @DisplayName("отправляет все письма через пул соединений")
+        void submit_ManyMessages_AllDelivered() throws MessagingException {
+            // given
+            sender = new PooledSmtpSender(mailSender, properties, meterRegistry);
+            sender.init();
+            int count = 20;
+
+            // when
+            List<CompletableFuture<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                results.add(sender.submit(createMessage(), "t***@example.com"));
+            }
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+            // then
+            assertThat(results).allMatch(CompletableFuture::join);
+            assertThat(GREEN_MAIL.waitForIncomingEmail(5000, count)).isTrue();
+            assertThat(meterRegistry.get("notification.email.send").tag("outcome", "sent").timer().count())
+                .isEqualTo(count);
+        }
+
+        @Test
+        @DisplayName("отклоняет письмо при переполненной очереди")
+        void submit_QueueFull_Rejected() throws MessagingException {
+            // given — воркеры не запущены, очередь на одно письмо
+            properties.setQueueCapacity(1);
+            properties.setEnqueueTimeout(Duration.ZERO);
+            sender = new PooledSmtpSender(mailSender, properties, meterRegistry);
+
+            // when
+            CompletableFuture<Boolean> first = sender.submit(createMessage(), "a***@example.com");
+            CompletableFuture<Boolean> second = sender.submit(createMessage(), "b***@example.com");
+
+            // then
+            assertThat(first).isNotDone();
+            assertThat(second).isCompletedWithValue(false);
+            assertThat(sender.getQueueSize()).isEqualTo(1);
+            assertThat(meterRegistry.get("notification.email.send").tag("outcome", "rejected").timer().count())
+                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("завершает future с false если SMTP сервер недоступен")
+        void submit_ServerUnavailable_ReturnsFalse() throws MessagingException {
+            // given
+            mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1000);
+            sender = new PooledSmtpSender(mailSender, properties, meterRegistry);
+            sender.init();
+
+            // when
+            boolean result = sender.submit(createMessage(), "t***@example.com").join();
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(meterRegistry.get("notification.email.send").tag("outcome", "failed").timer().count())
+                .isEqualTo(1);
+        }
+    }
+}
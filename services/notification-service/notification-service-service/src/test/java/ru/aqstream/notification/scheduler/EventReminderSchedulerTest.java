@@ -0,0 +1,246 @@
+package ru.aqstream.notification.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.aqstream.event.api.dto.EventDto;
+import ru.aqstream.event.api.dto.EventStatus;
+import ru.aqstream.event.api.dto.LocationType;
+import ru.aqstream.event.api.dto.ParticipantsVisibility;
+import ru.aqstream.event.api.dto.RegistrationDto;
+import ru.aqstream.event.api.dto.RegistrationStatus;
+import ru.aqstream.event.client.EventClient;
+import ru.aqstream.notification.config.NotificationProperties;
+import ru.aqstream.notification.db.entity.NotificationPreference;
+import ru.aqstream.notification.db.entity.ReminderDelivery;
+import ru.aqstream.notification.db.repository.ReminderDeliveryRepository;
+import ru.aqstream.notification.db.repository.ReminderEventLeaseRepository;
+import ru.aqstream.notification.db.repository.ReminderWatermarkRepository;
+import ru.aqstream.notification.service.NotificationService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventReminderScheduler")
+class EventReminderSchedulerTest {
+
+    private static final Faker FAKER = new Faker();
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private EventClient eventClient;
+
+    @Mock
+    private ReminderWatermarkRepository watermarkRepository;
+
+    @Mock
+    private ReminderEventLeaseRepository leaseRepository;
+
+    @Mock
+    private ReminderDeliveryRepository deliveryRepository;
+
+    private EventReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        NotificationProperties properties = new NotificationProperties();
+        properties.getReminder().setParallelism(2);
+        scheduler = new EventReminderScheduler(
+            notificationService, properties, eventClient,
+            watermarkRepository, leaseRepository, deliveryRepository
+        );
+    }
+
+    private EventDto createEvent(Instant startsAt) {
+        return new EventDto(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            FAKER.company().name(), // organizerName
+            FAKER.book().title(),
+            FAKER.internet().slug(),
+            FAKER.lorem().paragraph(),
+            EventStatus.PUBLISHED,
+            startsAt,
+            startsAt.plus(Duration.ofHours(2)),
+            "Europe/Moscow",
+            LocationType.OFFLINE,
+            FAKER.address().fullAddress(),
+            null, // onlineUrl
+            100, // maxCapacity
+            null, // registrationOpensAt
+            null, // registrationClosesAt
+            true, // isPublic
+            ParticipantsVisibility.CLOSED,
+            null, // groupId
+            null, // registrationFormConfig
+            null, // cancelReason
+            null, // cancelledAt
+            null, // recurrenceRule
+            null, // parentEventId
+            null, // instanceDate
+            Instant.now(),
+            Instant.now(),
+            null  // userRegistration
+        );
+    }
+
+    private RegistrationDto createRegistration(EventDto event) {
+        return new RegistrationDto(
+            UUID.randomUUID(),
+            event.id(),
+            event.title(),
+            event.slug(),
+            event.startsAt(),
+            UUID.randomUUID(), // ticketTypeId
+            "Стандартный", // ticketTypeName
+            UUID.randomUUID(), // userId
+            RegistrationStatus.CONFIRMED,
+            FAKER.regexify("[A-Z0-9]{8}"), // confirmationCode
+            FAKER.name().firstName(),
+            FAKER.name().lastName(),
+            FAKER.internet().emailAddress(),
+            null, // customFields
+            null, // cancelledAt
+            null, // cancellationReason
+            Instant.now() // createdAt
+        );
+    }
+
+    @Nested
+    @DisplayName("sendReminders")
+    class SendReminders {
+
+        @Test
+        @DisplayName("обрабатывает окно от watermark, а не только последний час")
+        void sendReminders_MissedRuns_ProcessesWholeWindow() {
+            // given — последний успешный запуск был 3 часа назад
+            Instant watermark = Instant.now().plus(Duration.ofHours(21));
+            when(watermarkRepository.findCoveredUntil(EventReminderScheduler.JOB_NAME))
+                .thenReturn(Optional.of(watermark));
+            when(eventClient.findUpcomingEvents(any(), any())).thenReturn(List.of());
+
+            // when
+            scheduler.sendReminders();
+
+            // then
+            ArgumentCaptor<Instant> from = ArgumentCaptor.forClass(Instant.class);
+            ArgumentCaptor<Instant> to = ArgumentCaptor.forClass(Instant.class);
+            verify(eventClient).findUpcomingEvents(from.capture(), to.capture());
+            assertThat(from.getValue()).isEqualTo(watermark);
+            assertThat(Duration.between(from.getValue(), to.getValue())).isGreaterThan(Duration.ofHours(2));
+            verify(watermarkRepository).advance(EventReminderScheduler.JOB_NAME, to.getValue());
+        }
+
+        @Test
+        @DisplayName("отправляет напоминание только участникам без отметки")
+        void sendReminders_AlreadyMarked_SkipsRegistration() {
+            // given
+            EventDto event = createEvent(Instant.now().plus(Duration.ofHours(23)));
+            RegistrationDto fresh = createRegistration(event);
+            RegistrationDto alreadySent = createRegistration(event);
+
+            when(watermarkRepository.findCoveredUntil(anyString()))
+                .thenReturn(Optional.of(Instant.now().plus(Duration.ofHours(22))));
+            when(eventClient.findUpcomingEvents(any(), any())).thenReturn(List.of(event));
+            when(leaseRepository.tryAcquire(eq(event.id()), anyString(), any(), any())).thenReturn(1);
+            when(eventClient.findActiveRegistrations(event.id(), event.tenantId()))
+                .thenReturn(List.of(fresh, alreadySent));
+            when(deliveryRepository.tryMark(fresh.id(), ReminderDelivery.EVENT_24H, event.id(), fresh.userId()))
+                .thenReturn(1);
+            when(deliveryRepository.tryMark(
+                alreadySent.id(), ReminderDelivery.EVENT_24H, event.id(), alreadySent.userId()))
+                .thenReturn(0);
+            when(notificationService.sendTelegram(
+                eq(fresh.userId()), eq("event.reminder"), anyMap(), eq(NotificationPreference.EVENT_REMINDER)))
+                .thenReturn(true);
+
+            // when
+            scheduler.sendReminders();
+
+            // then
+            verify(notificationService, times(1)).sendTelegram(any(), anyString(), anyMap(), any());
+            verify(leaseRepository).markCompleted(eq(event.id()), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("не сдвигает watermark дальше события, захваченного другим инстансом")
+        void sendReminders_EventLeasedByOther_HoldsWatermark() {
+            // given
+            EventDto event = createEvent(Instant.now().plus(Duration.ofHours(23)));
+            when(watermarkRepository.findCoveredUntil(anyString()))
+                .thenReturn(Optional.of(Instant.now().plus(Duration.ofHours(22))));
+            when(eventClient.findUpcomingEvents(any(), any())).thenReturn(List.of(event));
+            when(leaseRepository.tryAcquire(eq(event.id()), anyString(), any(), any())).thenReturn(0);
+            when(leaseRepository.existsByEventIdAndCompletedAtIsNotNull(event.id())).thenReturn(false);
+
+            // when
+            scheduler.sendReminders();
+
+            // then
+            verify(eventClient, never()).findActiveRegistrations(any(), any());
+            verify(watermarkRepository).advance(EventReminderScheduler.JOB_NAME, event.startsAt());
+        }
+
+        @Test
+        @DisplayName("снимает отметку и освобождает событие при ошибке отправки")
+        void sendReminders_SendFails_UnmarksAndReleases() {
+            // given
+            EventDto event = createEvent(Instant.now().plus(Duration.ofHours(23)));
+            RegistrationDto registration = createRegistration(event);
+
+            when(watermarkRepository.findCoveredUntil(anyString()))
+                .thenReturn(Optional.of(Instant.now().plus(Duration.ofHours(22))));
+            when(eventClient.findUpcomingEvents(any(), any())).thenReturn(List.of(event));
+            when(leaseRepository.tryAcquire(eq(event.id()), anyString(), any(), any())).thenReturn(1);
+            when(eventClient.findActiveRegistrations(event.id(), event.tenantId()))
+                .thenReturn(List.of(registration));
+            when(deliveryRepository.tryMark(any(), anyString(), any(), any())).thenReturn(1);
+            when(notificationService.sendTelegram(any(), anyString(), anyMap(), any()))
+                .thenThrow(new IllegalStateException("telegram unavailable"));
+
+            // when
+            scheduler.sendReminders();
+
+            // then
+            verify(deliveryRepository).unmark(registration.id(), ReminderDelivery.EVENT_24H);
+            verify(leaseRepository).release(eq(event.id()), anyString(), any());
+            verify(leaseRepository, never()).markCompleted(any(), anyString(), any());
+            verify(watermarkRepository).advance(EventReminderScheduler.JOB_NAME, event.startsAt());
+        }
+
+        @Test
+        @DisplayName("первый запуск только инициализирует watermark")
+        void sendReminders_FirstRun_InitializesWatermark() {
+            // given
+            when(watermarkRepository.findCoveredUntil(anyString())).thenReturn(Optional.empty());
+
+            // when
+            scheduler.sendReminders();
+
+            // then
+            verify(eventClient, never()).findUpcomingEvents(any(), any());
+            verify(watermarkRepository).advance(eq(EventReminderScheduler.JOB_NAME), any());
+        }
+    }
+}
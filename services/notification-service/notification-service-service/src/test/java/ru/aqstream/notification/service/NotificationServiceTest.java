@@ -21,6 +21,7 @@ import ru.aqstream.user.client.UserClient;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -233,14 +234,17 @@ class NotificationServiceTest {
                 .thenReturn(renderedBody);
             when(logRepository.save(any(NotificationLog.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-            when(emailService.send(email, subject, renderedBody)).thenReturn(true);
+            when(emailService.sendAsync(email, subject, renderedBody))
+                .thenReturn(CompletableFuture.completedFuture(true));
 
             // when
             boolean result = notificationService.sendEmail(userId, email, templateCode, variables);
 
             // then
             assertThat(result).isTrue();
-            verify(emailService).send(email, subject, renderedBody);
+            verify(emailService).sendAsync(email, subject, renderedBody);
+            // save вызывается дважды: создание лога + обновление статуса после отправки
+            verify(logRepository, times(2)).save(any(NotificationLog.class));
         }
 
         @Test
@@ -255,7 +259,8 @@ class NotificationServiceTest {
                 .thenReturn(renderedBody);
             when(logRepository.save(any(NotificationLog.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
-            when(emailService.send(email, subject, renderedBody)).thenReturn(false);
+            when(emailService.sendAsync(email, subject, renderedBody))
+                .thenReturn(CompletableFuture.completedFuture(false));
 
             // when
             boolean result = notificationService.sendEmail(userId, email, templateCode, variables);
@@ -0,0 +1,150 @@
+package ru.aqstream.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import ru.aqstream.notification.db.repository.UserNotificationRepository;
+import ru.aqstream.notification.service.UnreadCountService.UnreadCountChange;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UnreadCountService")
+class UnreadCountServiceTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private UserNotificationRepository repository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UnreadCountService service;
+
+    private UUID tenantId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        service = new UnreadCountService(redisTemplate, repository, objectMapper);
+        tenantId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("getUnreadCount")
+    class GetUnreadCount {
+
+        @Test
+        @DisplayName("возвращает значение из Redis без запроса к БД")
+        void getUnreadCount_Cached_ReturnsFromRedis() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn("7");
+
+            // when
+            long count = service.getUnreadCount(tenantId, userId);
+
+            // then
+            assertThat(count).isEqualTo(7);
+            verify(repository, never()).countUnreadByTenantIdAndUserId(any(), any());
+        }
+
+        @Test
+        @DisplayName("при промахе считает из БД и сохраняет в Redis")
+        void getUnreadCount_Miss_CountsAndCaches() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenReturn(null);
+            when(repository.countUnreadByTenantIdAndUserId(tenantId, userId)).thenReturn(3L);
+
+            // when
+            long count = service.getUnreadCount(tenantId, userId);
+
+            // then
+            assertThat(count).isEqualTo(3);
+            verify(valueOperations).setIfAbsent(
+                eq("notification:unread:" + tenantId + ":" + userId), eq("3"), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("при недоступности Redis считает из БД")
+        void getUnreadCount_RedisDown_FallsBackToDatabase() {
+            // given
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+            when(repository.countUnreadByTenantIdAndUserId(tenantId, userId)).thenReturn(4L);
+
+            // when
+            long count = service.getUnreadCount(tenantId, userId);
+
+            // then
+            assertThat(count).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("changeAfterCommit")
+    class ChangeAfterCommit {
+
+        @Test
+        @DisplayName("инкрементирует счётчик и публикует изменение")
+        @SuppressWarnings("unchecked")
+        void changeAfterCommit_CounterExists_PublishesNewCount() throws Exception {
+            // given
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1"))).thenReturn(6L);
+
+            // when
+            service.changeAfterCommit(tenantId, userId, 1);
+
+            // then
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(UnreadCountService.CHANNEL), payload.capture());
+            UnreadCountChange change = objectMapper.readValue(payload.getValue(), UnreadCountChange.class);
+            assertThat(change).isEqualTo(new UnreadCountChange(tenantId, userId, 6, 1));
+        }
+
+        @Test
+        @DisplayName("при отсутствии счётчика берёт значение из БД")
+        @SuppressWarnings("unchecked")
+        void changeAfterCommit_CounterMissing_CountsFromDatabase() throws Exception {
+            // given
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("-1"))).thenReturn(-1L);
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(repository.countUnreadByTenantIdAndUserId(tenantId, userId)).thenReturn(2L);
+
+            // when
+            service.changeAfterCommit(tenantId, userId, -1);
+
+            // then
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(eq(UnreadCountService.CHANNEL), payload.capture());
+            UnreadCountChange change = objectMapper.readValue(payload.getValue(), UnreadCountChange.class);
+            assertThat(change.count()).isEqualTo(2);
+            assertThat(change.delta()).isEqualTo(-1);
+        }
+    }
+}
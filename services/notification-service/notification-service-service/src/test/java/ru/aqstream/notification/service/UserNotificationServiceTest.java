@@ -3,7 +3,9 @@ package ru.aqstream.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +39,9 @@ class UserNotificationServiceTest {
     @Mock
     private UserNotificationRepository repository;
 
+    @Mock
+    private UnreadCountService unreadCountService;
+
     private UserNotificationService service;
 
     private static final Faker FAKER = new Faker();
@@ -46,7 +51,7 @@ class UserNotificationServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new UserNotificationService(repository);
+        service = new UserNotificationService(repository, unreadCountService);
         tenantId = UUID.randomUUID();
         userId = UUID.randomUUID();
         TenantContext.setTenantId(tenantId);
@@ -101,10 +106,10 @@ class UserNotificationServiceTest {
     class GetUnreadCount {
 
         @Test
-        @DisplayName("возвращает количество непрочитанных")
+        @DisplayName("возвращает количество непрочитанных из счётчика")
         void getUnreadCount_ReturnsCount() {
             // given
-            when(repository.countUnreadByTenantIdAndUserId(tenantId, userId)).thenReturn(5L);
+            when(unreadCountService.getUnreadCount(tenantId, userId)).thenReturn(5L);
 
             // when
             long count = service.getUnreadCount(userId);
@@ -135,6 +140,26 @@ class UserNotificationServiceTest {
             // then
             assertThat(notification.isRead()).isTrue();
             verify(repository).save(notification);
+            verify(unreadCountService).changeAfterCommit(tenantId, userId, -1);
+        }
+
+        @Test
+        @DisplayName("не меняет счётчик для уже прочитанного уведомления")
+        void markAsRead_AlreadyRead_DoesNotChangeCounter() {
+            // given
+            UUID notificationId = UUID.randomUUID();
+            UserNotification notification = createTestNotification();
+            notification.markAsRead();
+
+            when(repository.findByIdAndTenantIdAndUserId(notificationId, tenantId, userId))
+                .thenReturn(Optional.of(notification));
+
+            // when
+            service.markAsRead(userId, notificationId);
+
+            // then
+            verify(repository, never()).save(any());
+            verify(unreadCountService, never()).changeAfterCommit(any(), any(), anyLong());
         }
 
         @Test
@@ -168,6 +193,7 @@ class UserNotificationServiceTest {
             // then
             assertThat(count).isEqualTo(10);
             verify(repository).markAllAsReadByTenantIdAndUserId(tenantId, userId);
+            verify(unreadCountService).resetAfterCommit(tenantId, userId, 10);
         }
     }
 
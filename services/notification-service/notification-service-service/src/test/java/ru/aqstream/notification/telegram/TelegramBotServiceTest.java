@@ -62,6 +62,9 @@ class TelegramBotServiceTest {
     @Mock
     private UserClient userClient;
 
+    @Mock
+    private TelegramUpdateDispatcher updateDispatcher;
+
     @InjectMocks
     private TelegramBotService telegramBotService;
 
@@ -0,0 +1,170 @@
+package ru.aqstream.notification.telegram;
+
+import com.pengrad.telegrambot.BotUtils;
+import com.pengrad.telegrambot.model.Update;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.aqstream.notification.config.TelegramProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit тесты для TelegramUpdateDispatcher.
+ */
+@DisplayName("TelegramUpdateDispatcher")
+class TelegramUpdateDispatcherTest {
+
+    private static final Faker FAKER = new Faker();
+
+    private TelegramProperties properties;
+    private TelegramUpdateDispatcher dispatcher;
+    private AtomicInteger updateIdSequence;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TelegramProperties();
+        properties.setUpdateWorkers(4);
+        properties.setUpdateQueueCapacity(100);
+        updateIdSequence = new AtomicInteger(FAKER.number().numberBetween(1, 1000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private Update messageUpdate(long chatId) {
+        String json = """
+            {"update_id": %d, "message": {"message_id": 1, "date": 0,
+             "chat": {"id": %d, "type": "private"}, "text": "/help"}}
+            """.formatted(updateIdSequence.incrementAndGet(), chatId);
+        return BotUtils.parseUpdate(json);
+    }
+
+    private Update callbackUpdate(long chatId) {
+        String json = """
+            {"update_id": %d, "callback_query": {"id": "cb", "chat_instance": "ci", "data": "confirm_auth:x",
+             "from": {"id": %d, "is_bot": false, "first_name": "Test"},
+             "message": {"message_id": 1, "date": 0, "chat": {"id": %d, "type": "private"}}}}
+            """.formatted(updateIdSequence.incrementAndGet(), chatId + 1, chatId);
+        return BotUtils.parseUpdate(json);
+    }
+
+    @Nested
+    @DisplayName("dispatch")
+    class Dispatch {
+
+        @Test
+        @DisplayName("сохраняет порядок updates внутри одного чата")
+        void dispatch_SameChat_PreservesOrder() {
+            // given
+            dispatcher = new TelegramUpdateDispatcher(properties, new SimpleMeterRegistry());
+            long chatId = FAKER.number().numberBetween(100000000L, 999999999L);
+            List<Integer> processed = new CopyOnWriteArrayList<>();
+            List<Integer> expected = new CopyOnWriteArrayList<>();
+
+            // when
+            for (int i = 0; i < 50; i++) {
+                Update update = messageUpdate(chatId);
+                expected.add(update.updateId());
+                dispatcher.dispatch(update, u -> processed.add(u.updateId()));
+            }
+
+            // then
+            await().atMost(5, TimeUnit.SECONDS).until(() -> processed.size() == expected.size());
+            assertThat(processed).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("медленный чат не блокирует другие чаты")
+        void dispatch_SlowChat_OtherChatsNotBlocked() throws InterruptedException {
+            // given
+            properties.setUpdateWorkers(2);
+            dispatcher = new TelegramUpdateDispatcher(properties, new SimpleMeterRegistry());
+            long slowChat = 0;
+            long fastChat = 1;
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch fastProcessed = new CountDownLatch(1);
+
+            // when
+            dispatcher.dispatch(messageUpdate(slowChat), u -> awaitQuietly(release));
+            dispatcher.dispatch(messageUpdate(fastChat), u -> fastProcessed.countDown());
+
+            // then
+            assertThat(fastProcessed.await(2, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("callback и сообщение одного чата попадают в один обработчик")
+        void routingKey_CallbackAndMessage_SameChat() {
+            // given
+            long chatId = FAKER.number().numberBetween(100000000L, 999999999L);
+
+            // when & then
+            assertThat(TelegramUpdateDispatcher.routingKey(callbackUpdate(chatId)))
+                .isEqualTo(TelegramUpdateDispatcher.routingKey(messageUpdate(chatId)));
+        }
+
+        @Test
+        @DisplayName("возвращает false при переполненной очереди")
+        void dispatch_QueueFull_ReturnsFalse() {
+            // given
+            properties.setUpdateWorkers(1);
+            properties.setUpdateQueueCapacity(1);
+            dispatcher = new TelegramUpdateDispatcher(properties, new SimpleMeterRegistry());
+            CountDownLatch release = new CountDownLatch(1);
+            long chatId = FAKER.number().numberBetween(100000000L, 999999999L);
+
+            // when — первый update занимает обработчик, второй — очередь
+            dispatcher.dispatch(messageUpdate(chatId), u -> awaitQuietly(release));
+            await().atMost(2, TimeUnit.SECONDS).until(() -> dispatcher.getPendingCount() == 0);
+            boolean queued = dispatcher.dispatch(messageUpdate(chatId), u -> { });
+            boolean rejected = dispatcher.dispatch(messageUpdate(chatId), u -> { });
+
+            // then
+            assertThat(queued).isTrue();
+            assertThat(rejected).isFalse();
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("ошибка обработчика не останавливает обработку следующих updates")
+        void dispatch_HandlerThrows_ContinuesProcessing() {
+            // given
+            dispatcher = new TelegramUpdateDispatcher(properties, new SimpleMeterRegistry());
+            long chatId = FAKER.number().numberBetween(100000000L, 999999999L);
+            AtomicInteger processed = new AtomicInteger();
+
+            // when
+            dispatcher.dispatch(messageUpdate(chatId), u -> {
+                throw new IllegalStateException("test");
+            });
+            dispatcher.dispatch(messageUpdate(chatId), u -> processed.incrementAndGet());
+
+            // then
+            await().atMost(2, TimeUnit.SECONDS).until(() -> processed.get() == 1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
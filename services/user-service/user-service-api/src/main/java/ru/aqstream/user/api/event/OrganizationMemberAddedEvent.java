@@ -0,0 +1,53 @@
+package ru.aqstream.user.api.event;
+
+import java.util.UUID;
+import ru.aqstream.common.api.event.DomainEvent;
+import ru.aqstream.user.api.dto.OrganizationRole;
+
+/**
+ * Событие добавления члена в организацию.
+ * Публикуется при создании организации (владелец) и при принятии приглашения.
+ * Используется event-service для локальной проверки прав.
+ */
+public class OrganizationMemberAddedEvent extends DomainEvent {
+
+    private final UUID organizationId;
+    private final UUID userId;
+    private final OrganizationRole role;
+
+    /**
+     * Создаёт событие добавления члена.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор пользователя
+     * @param role           роль в организации
+     */
+    public OrganizationMemberAddedEvent(UUID organizationId, UUID userId, OrganizationRole role) {
+        super();
+        this.organizationId = organizationId;
+        this.userId = userId;
+        this.role = role;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public OrganizationRole getRole() {
+        return role;
+    }
+
+    @Override
+    public String getEventType() {
+        return "organization.member.added";
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return organizationId;
+    }
+}
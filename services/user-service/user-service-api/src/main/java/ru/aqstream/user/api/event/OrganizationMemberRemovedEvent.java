@@ -0,0 +1,50 @@
+package ru.aqstream.user.api.event;
+
+import java.util.UUID;
+import ru.aqstream.common.api.event.DomainEvent;
+
+/**
+ * Событие удаления члена из организации.
+ */
+public class OrganizationMemberRemovedEvent extends DomainEvent {
+
+    private final UUID organizationId;
+    private final UUID userId;
+    private final UUID removedById;
+
+    /**
+     * Создаёт событие удаления члена.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор удалённого пользователя
+     * @param removedById    идентификатор удалившего
+     */
+    public OrganizationMemberRemovedEvent(UUID organizationId, UUID userId, UUID removedById) {
+        super();
+        this.organizationId = organizationId;
+        this.userId = userId;
+        this.removedById = removedById;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getRemovedById() {
+        return removedById;
+    }
+
+    @Override
+    public String getEventType() {
+        return "organization.member.removed";
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return organizationId;
+    }
+}
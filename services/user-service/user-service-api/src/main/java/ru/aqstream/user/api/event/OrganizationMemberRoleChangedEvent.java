@@ -0,0 +1,64 @@
+package ru.aqstream.user.api.event;
+
+import java.util.UUID;
+import ru.aqstream.common.api.event.DomainEvent;
+import ru.aqstream.user.api.dto.OrganizationRole;
+
+/**
+ * Событие изменения роли члена организации.
+ * Публикуется при смене роли, в том числе для прежнего владельца при передаче прав.
+ */
+public class OrganizationMemberRoleChangedEvent extends DomainEvent {
+
+    private final UUID organizationId;
+    private final UUID userId;
+    private final OrganizationRole role;
+    private final UUID changedById;
+
+    /**
+     * Создаёт событие изменения роли.
+     *
+     * @param organizationId идентификатор организации
+     * @param userId         идентификатор пользователя, чья роль изменилась
+     * @param role           новая роль
+     * @param changedById    идентификатор изменившего (OWNER)
+     */
+    public OrganizationMemberRoleChangedEvent(
+        UUID organizationId,
+        UUID userId,
+        OrganizationRole role,
+        UUID changedById
+    ) {
+        super();
+        this.organizationId = organizationId;
+        this.userId = userId;
+        this.role = role;
+        this.changedById = changedById;
+    }
+
+    public UUID getOrganizationId() {
+        return organizationId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public OrganizationRole getRole() {
+        return role;
+    }
+
+    public UUID getChangedById() {
+        return changedById;
+    }
+
+    @Override
+    public String getEventType() {
+        return "organization.member.role.changed";
+    }
+
+    @Override
+    public UUID getAggregateId() {
+        return organizationId;
+    }
+}
@@ -177,6 +177,26 @@ public class User extends BaseEntity {
         }
     }
 
+    /**
+     * Блокирует аккаунт до указанного момента.
+     * Используется, когда счётчик неудачных попыток ведётся вне БД.
+     *
+     * @param until момент окончания блокировки
+     */
+    public void lockUntil(Instant until) {
+        this.failedLoginAttempts = MAX_FAILED_LOGIN_ATTEMPTS;
+        this.lockedUntil = until;
+    }
+
+    /**
+     * Проверяет, сохранено ли в БД состояние неудачных входов (счётчик или блокировка).
+     *
+     * @return true если есть что сбрасывать при успешном входе
+     */
+    public boolean hasFailedLoginState() {
+        return failedLoginAttempts > 0 || lockedUntil != null;
+    }
+
     /**
      * Регистрирует успешный вход.
      * Сбрасывает счётчик неудачных попыток и снимает блокировку.
@@ -47,7 +47,7 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, UUID>
      * @param userId идентификатор пользователя
      * @return список участий с загруженными группами
      */
-    @EntityGraph(attributePaths = {"group", "group.organization"})
+    @EntityGraph(attributePaths = {"group", "group.organization", "group.createdBy"})
     @Query("SELECT m FROM GroupMember m WHERE m.user.id = :userId ORDER BY m.joinedAt DESC")
     List<GroupMember> findByUserId(@Param("userId") UUID userId);
 
@@ -1,8 +1,11 @@
 package ru.aqstream.user.db.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -85,6 +88,31 @@ public interface GroupRepository extends JpaRepository<Group, UUID> {
     @Query("SELECT COUNT(m) FROM GroupMember m WHERE m.group.id = :groupId")
     int countMembersByGroupId(@Param("groupId") UUID groupId);
 
+    /**
+     * Считает количество участников нескольких групп одним запросом.
+     * Группы без участников в результат не попадают.
+     *
+     * @param groupIds идентификаторы групп
+     * @return количество участников по группам
+     */
+    @Query("SELECT m.group.id AS groupId, COUNT(m) AS memberCount FROM GroupMember m "
+        + "WHERE m.group.id IN :groupIds GROUP BY m.group.id")
+    List<GroupMemberCount> countMembersByGroupIds(@Param("groupIds") Collection<UUID> groupIds);
+
+    /**
+     * Считает количество участников нескольких групп одним запросом.
+     *
+     * @param groupIds идентификаторы групп
+     * @return map: groupId -> количество участников (группы без участников отсутствуют)
+     */
+    default Map<UUID, Integer> countMembersByGroupIdsAsMap(Collection<UUID> groupIds) {
+        if (groupIds.isEmpty()) {
+            return Map.of();
+        }
+        return countMembersByGroupIds(groupIds).stream()
+            .collect(Collectors.toMap(GroupMemberCount::getGroupId, c -> (int) c.getMemberCount()));
+    }
+
     /**
      * Удаляет все группы организации.
      * Используется при удалении организации.
@@ -95,4 +123,14 @@ public interface GroupRepository extends JpaRepository<Group, UUID> {
     @Modifying
     @Query("DELETE FROM Group g WHERE g.organization.id = :organizationId")
     int deleteByOrganizationId(@Param("organizationId") UUID organizationId);
+
+    /**
+     * Количество участников группы.
+     */
+    interface GroupMemberCount {
+
+        UUID getGroupId();
+
+        long getMemberCount();
+    }
 }
@@ -23,6 +23,28 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID
      */
     Optional<RefreshToken> findByTokenHash(String tokenHash);
 
+    /**
+     * Возвращает владельца токена по хешу.
+     *
+     * @param tokenHash хеш токена
+     * @return идентификатор пользователя если токен найден
+     */
+    @Query("SELECT t.user.id FROM RefreshToken t WHERE t.tokenHash = :tokenHash")
+    Optional<UUID> findUserIdByTokenHash(String tokenHash);
+
+    /**
+     * Отзывает токен, если он активен. Условие проверяется в том же UPDATE,
+     * поэтому из одновременных вызовов для одного токена строку изменит только один.
+     *
+     * @param tokenHash хеш токена
+     * @param now       текущее время
+     * @return 1 если токен был активен и отозван, иначе 0
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true, t.revokedAt = :now "
+         + "WHERE t.tokenHash = :tokenHash AND t.revoked = false AND t.expiresAt > :now")
+    int revokeActiveByTokenHash(String tokenHash, Instant now);
+
     /**
      * Отзывает все токены пользователя.
      *
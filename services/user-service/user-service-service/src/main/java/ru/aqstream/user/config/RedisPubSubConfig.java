@@ -0,0 +1,36 @@
+package ru.aqstream.user.config;
+
+import java.nio.charset.StandardCharsets;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import ru.aqstream.user.websocket.TelegramAuthWebSocketHandler;
+
+/**
+ * Подписка на Redis pub/sub каналы.
+ *
+ * <p>Подтверждение авторизации через Telegram обрабатывает инстанс, получивший запрос
+ * от бота, а WebSocket сессия frontend может быть открыта на любом другом инстансе.
+ * Каждый инстанс подписан на каналы подтверждений и доставляет сообщение в свою сессию.</p>
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TelegramAuthWebSocketHandler telegramAuthWebSocketHandler) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> {
+            String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+            String token = channel.substring(TelegramAuthWebSocketHandler.CHANNEL_PREFIX.length());
+            telegramAuthWebSocketHandler.onConfirmationPublished(
+                token, new String(message.getBody(), StandardCharsets.UTF_8));
+        }, new PatternTopic(TelegramAuthWebSocketHandler.CHANNEL_PREFIX + "*"));
+        return container;
+    }
+}
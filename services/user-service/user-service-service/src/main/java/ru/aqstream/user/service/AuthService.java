@@ -24,9 +24,7 @@ import ru.aqstream.user.api.exception.AccountLockedException;
 import ru.aqstream.user.api.exception.EmailAlreadyExistsException;
 import ru.aqstream.user.api.exception.InvalidCredentialsException;
 import ru.aqstream.user.api.util.EmailUtils;
-import ru.aqstream.user.db.entity.RefreshToken;
 import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 /**
@@ -38,12 +36,6 @@ import ru.aqstream.user.db.repository.UserRepository;
 @Slf4j
 public class AuthService {
 
-    /**
-     * Максимальное количество активных сессий (refresh tokens) на пользователя.
-     * При превышении старые сессии автоматически отзываются.
-     */
-    public static final int MAX_ACTIVE_SESSIONS = 10;
-
     /**
      * Системный tenant ID для пользователей без организации.
      * Используется при регистрации/входе до выбора организации.
@@ -56,8 +48,9 @@ public class AuthService {
     private static final Set<String> DEFAULT_USER_ROLES = Set.of("USER");
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshSessionStore refreshSessionStore;
     private final PasswordService passwordService;
+    private final LoginAttemptService loginAttemptService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
     private final VerificationService verificationService;
@@ -136,7 +129,7 @@ public class AuthService {
                 return new InvalidCredentialsException();
             });
 
-        // Проверяем блокировку аккаунта
+        // Проверяем блокировку аккаунта до bcrypt: заблокированный аккаунт не тратит CPU
         if (user.isLocked()) {
             log.debug("Аккаунт заблокирован: userId={}, lockedUntil={}",
                 user.getId(), user.getLockedUntil());
@@ -145,14 +138,8 @@ public class AuthService {
 
         // Проверяем пароль
         if (!passwordService.matches(request.password(), user.getPasswordHash())) {
-            user.recordFailedLogin();
-            userRepository.save(user);
-
-            log.debug("Неверный пароль: userId={}, failedAttempts={}",
-                user.getId(), user.getFailedLoginAttempts());
-
             // Если аккаунт заблокировался после этой попытки
-            if (user.isLocked()) {
+            if (loginAttemptService.recordFailure(user)) {
                 throw new AccountLockedException(user.getLockedUntil());
             }
 
@@ -160,8 +147,7 @@ public class AuthService {
         }
 
         // Успешный вход
-        user.recordSuccessfulLogin();
-        userRepository.save(user);
+        loginAttemptService.recordSuccess(user);
 
         log.info("Успешный вход: userId={}", user.getId());
 
@@ -187,33 +173,20 @@ public class AuthService {
             throw new InvalidCredentialsException();
         }
 
-        // Ищем токен в БД
+        // Отзываем токен (one-time use): повторное использование того же токена не пройдёт
         String tokenHash = TokenHasher.hash(request.refreshToken());
-        RefreshToken storedToken = refreshTokenRepository.findByTokenHash(tokenHash)
-            .orElseThrow(() -> {
-                log.debug("Refresh token не найден в БД");
-                return new InvalidCredentialsException();
-            });
-
-        // Проверяем валидность
-        if (!storedToken.isValid()) {
-            log.debug("Refresh token невалиден: revoked={}, expired={}",
-                storedToken.isRevoked(), storedToken.isExpired());
-            throw new InvalidCredentialsException();
-        }
+        UUID ownerId = refreshSessionStore.consume(tokenHash)
+            .orElseThrow(InvalidCredentialsException::new);
 
         // Проверяем принадлежность пользователю
-        if (!storedToken.getUser().getId().equals(userId)) {
+        if (!ownerId.equals(userId)) {
             log.warn("Refresh token не принадлежит пользователю: tokenUserId={}, claimedUserId={}",
-                storedToken.getUser().getId(), userId);
+                ownerId, userId);
             throw new InvalidCredentialsException();
         }
 
-        // Отзываем старый токен (one-time use)
-        storedToken.revoke();
-        refreshTokenRepository.save(storedToken);
-
-        User user = storedToken.getUser();
+        User user = userRepository.findById(userId)
+            .orElseThrow(InvalidCredentialsException::new);
         log.debug("Токены обновлены: userId={}", user.getId());
 
         return createAuthResponse(user, userAgent, ipAddress);
@@ -226,7 +199,7 @@ public class AuthService {
      */
     @Transactional
     public void logout(UUID userId) {
-        int revokedCount = refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
+        int revokedCount = refreshSessionStore.revokeAll(userId);
         log.info("Выход: userId={}, отозвано токенов={}", userId, revokedCount);
     }
 
@@ -259,13 +232,8 @@ public class AuthService {
      */
     @Transactional
     public void revokeToken(String refreshToken) {
-        String tokenHash = TokenHasher.hash(refreshToken);
-        refreshTokenRepository.findByTokenHash(tokenHash)
-            .ifPresent(token -> {
-                token.revoke();
-                refreshTokenRepository.save(token);
-                log.debug("Refresh token отозван");
-            });
+        refreshSessionStore.revoke(TokenHasher.hash(refreshToken));
+        log.debug("Refresh token отозван");
     }
 
     // === Приватные методы ===
@@ -294,23 +262,14 @@ public class AuthService {
         // Генерируем refresh token
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-        // Сохраняем refresh token в БД (хешированный)
-        RefreshToken tokenEntity = RefreshToken.create(
+        // Сохраняем refresh token (хешированный), старые сессии сверх лимита отзываются
+        refreshSessionStore.create(
             user,
             TokenHasher.hash(refreshToken),
             Instant.now().plus(refreshTokenExpiration),
             userAgent,
             ipAddress
         );
-        refreshTokenRepository.save(tokenEntity);
-
-        // Отзываем старые токены если превышен лимит сессий
-        int revokedCount = refreshTokenRepository.revokeOldestTokensExceedingLimit(
-            user.getId(), MAX_ACTIVE_SESSIONS, Instant.now()
-        );
-        if (revokedCount > 0) {
-            log.debug("Отозвано старых сессий: userId={}, count={}", user.getId(), revokedCount);
-        }
 
         // Формируем ответ
         UserDto userDto = userMapper.toDto(user);
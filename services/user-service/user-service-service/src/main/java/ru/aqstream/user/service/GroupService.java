@@ -1,6 +1,7 @@
 package ru.aqstream.user.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -69,9 +70,9 @@ public class GroupService {
     public List<GroupDto> getMyGroups(UUID userId) {
         List<GroupMember> memberships = groupMemberRepository.findByUserId(userId);
 
-        return memberships.stream()
-            .map(membership -> toDtoWithMemberCount(membership.getGroup()))
-            .toList();
+        return toDtosWithMemberCount(memberships.stream()
+            .map(GroupMember::getGroup)
+            .toList());
     }
 
     // ==================== CRUD Групп ====================
@@ -97,9 +98,7 @@ public class GroupService {
             groups = groupRepository.findByOrganizationIdAndMemberUserId(organizationId, userId);
         }
 
-        return groups.stream()
-            .map(this::toDtoWithMemberCount)
-            .toList();
+        return toDtosWithMemberCount(groups);
     }
 
     /**
@@ -429,8 +428,22 @@ public class GroupService {
     }
 
     private GroupDto toDtoWithMemberCount(Group group) {
+        return toDtoWithMemberCount(group, groupRepository.countMembersByGroupId(group.getId()));
+    }
+
+    /**
+     * Преобразует список групп в DTO, считая участников одним запросом для всех групп.
+     */
+    private List<GroupDto> toDtosWithMemberCount(List<Group> groups) {
+        Map<UUID, Integer> memberCounts = groupRepository.countMembersByGroupIdsAsMap(
+            groups.stream().map(Group::getId).toList());
+        return groups.stream()
+            .map(group -> toDtoWithMemberCount(group, memberCounts.getOrDefault(group.getId(), 0)))
+            .toList();
+    }
+
+    private GroupDto toDtoWithMemberCount(Group group, int memberCount) {
         GroupDto dto = groupMapper.toDto(group);
-        int memberCount = groupRepository.countMembersByGroupId(group.getId());
         return GroupDto.builder()
             .id(dto.id())
             .organizationId(dto.organizationId())
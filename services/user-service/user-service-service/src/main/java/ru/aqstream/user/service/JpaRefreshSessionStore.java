@@ -0,0 +1,57 @@
+package ru.aqstream.user.service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.aqstream.user.db.entity.RefreshToken;
+import ru.aqstream.user.db.entity.User;
+import ru.aqstream.user.db.repository.RefreshTokenRepository;
+
+/**
+ * Хранилище сессий в таблице refresh_tokens.
+ * Отозванные токены остаются в таблице для аудита и удаляются {@link TokenCleanupService}.
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-sessions.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class JpaRefreshSessionStore implements RefreshSessionStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public void create(User user, String tokenHash, Instant expiresAt, String userAgent, String ipAddress) {
+        refreshTokenRepository.save(RefreshToken.create(user, tokenHash, expiresAt, userAgent, ipAddress));
+
+        int revokedCount = refreshTokenRepository.revokeOldestTokensExceedingLimit(
+            user.getId(), MAX_ACTIVE_SESSIONS, Instant.now()
+        );
+        if (revokedCount > 0) {
+            log.debug("Отозвано старых сессий: userId={}, count={}", user.getId(), revokedCount);
+        }
+    }
+
+    @Override
+    public Optional<UUID> consume(String tokenHash) {
+        // Проверка и отзыв одним UPDATE: второй параллельный refresh с тем же токеном получит 0
+        if (refreshTokenRepository.revokeActiveByTokenHash(tokenHash, Instant.now()) != 1) {
+            log.debug("Refresh token не найден, отозван или истёк");
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findUserIdByTokenHash(tokenHash);
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        refreshTokenRepository.revokeActiveByTokenHash(tokenHash, Instant.now());
+    }
+
+    @Override
+    public int revokeAll(UUID userId) {
+        return refreshTokenRepository.revokeAllByUserId(userId, Instant.now());
+    }
+}
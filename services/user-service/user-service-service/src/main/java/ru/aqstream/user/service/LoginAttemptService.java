@@ -0,0 +1,115 @@
+package ru.aqstream.user.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import ru.aqstream.user.db.entity.User;
+import ru.aqstream.user.db.repository.UserRepository;
+
+/**
+ * Учёт неудачных попыток входа и блокировка аккаунта.
+ *
+ * <p>Счётчик неудачных попыток хранится в Redis по ключу
+ * {@code user:login:failures:{userId}} с TTL {@link User#LOCK_DURATION_MINUTES} минут
+ * от последней неудачи. В БД записывается только долговременное состояние:
+ * блокировка при достижении {@link User#MAX_FAILED_LOGIN_ATTEMPTS} и её снятие
+ * при успешном входе. Перебор паролей не создаёт записей и блокировок строк в users.</p>
+ *
+ * <p>Блокировка проверяется по {@code users.locked_until} до проверки пароля,
+ * поэтому заблокированный аккаунт не тратит время на bcrypt. При недоступности
+ * Redis счётчик ведётся в БД, как раньше.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoginAttemptService {
+
+    private static final String KEY_PREFIX = "user:login:failures:";
+
+    private static final Duration LOCK_DURATION = Duration.ofMinutes(User.LOCK_DURATION_MINUTES);
+
+    /**
+     * Точность last_login_at. Обновление чаще не даёт пользы, но пишет строку на каждый вход.
+     */
+    private static final Duration LAST_LOGIN_PRECISION = Duration.ofHours(1);
+
+    /**
+     * Увеличивает счётчик и продлевает TTL. Возвращает новое значение.
+     */
+    private static final RedisScript<Long> INCREMENT_WITH_TTL = RedisScript.of("""
+        local value = redis.call('INCR', KEYS[1])
+        redis.call('PEXPIRE', KEYS[1], ARGV[1])
+        return value
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+
+    /**
+     * Регистрирует неудачную попытку входа.
+     *
+     * @param user пользователь
+     * @return true если после этой попытки аккаунт заблокирован
+     */
+    public boolean recordFailure(User user) {
+        Long failures;
+        try {
+            failures = redisTemplate.execute(INCREMENT_WITH_TTL, List.of(key(user.getId())),
+                String.valueOf(LOCK_DURATION.toMillis()));
+        } catch (DataAccessException e) {
+            log.warn("Redis недоступен, неудачная попытка входа записывается в БД: error={}", e.getMessage());
+            user.recordFailedLogin();
+            userRepository.save(user);
+            return user.isLocked();
+        }
+
+        log.debug("Неудачная попытка входа: userId={}, failedAttempts={}", user.getId(), failures);
+        if (failures == null || failures < User.MAX_FAILED_LOGIN_ATTEMPTS) {
+            return false;
+        }
+
+        user.lockUntil(Instant.now().plus(LOCK_DURATION));
+        userRepository.save(user);
+        resetFailures(user.getId());
+        log.info("Аккаунт заблокирован: userId={}, lockedUntil={}", user.getId(), user.getLockedUntil());
+        return true;
+    }
+
+    /**
+     * Регистрирует успешный вход.
+     * Строка пользователя обновляется, только если нужно снять блокировку
+     * или last_login_at устарел больше чем на {@link #LAST_LOGIN_PRECISION}.
+     *
+     * @param user пользователь
+     */
+    public void recordSuccess(User user) {
+        resetFailures(user.getId());
+
+        Instant lastLoginAt = user.getLastLoginAt();
+        boolean lastLoginStale = lastLoginAt == null
+            || lastLoginAt.isBefore(Instant.now().minus(LAST_LOGIN_PRECISION));
+        if (user.hasFailedLoginState() || lastLoginStale) {
+            user.recordSuccessfulLogin();
+            userRepository.save(user);
+        }
+    }
+
+    private void resetFailures(UUID userId) {
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (DataAccessException e) {
+            log.warn("Не удалось сбросить счётчик неудачных входов: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -7,9 +7,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.aqstream.common.messaging.EventPublisher;
 import ru.aqstream.user.api.dto.InviteMemberRequest;
 import ru.aqstream.user.api.dto.OrganizationInviteDto;
 import ru.aqstream.user.api.dto.OrganizationMemberDto;
+import ru.aqstream.user.api.dto.OrganizationRole;
+import ru.aqstream.user.api.event.OrganizationMemberAddedEvent;
 import ru.aqstream.user.api.exception.AlreadyOrganizationMemberException;
 import ru.aqstream.user.api.exception.InsufficientOrganizationPermissionsException;
 import ru.aqstream.user.api.exception.OrganizationInviteAlreadyUsedException;
@@ -41,6 +44,7 @@ public class OrganizationInviteService {
     private final UserRepository userRepository;
     private final OrganizationMemberMapper memberMapper;
     private final OrganizationInviteMapper inviteMapper;
+    private final EventPublisher eventPublisher;
 
     /**
      * Создаёт приглашение в организацию.
@@ -142,6 +146,9 @@ public class OrganizationInviteService {
             invite.getInvitedBy()
         );
         member = memberRepository.save(member);
+        eventPublisher.publish(new OrganizationMemberAddedEvent(
+            organization.getId(), userId, OrganizationRole.MODERATOR
+        ));
 
         log.info("Приглашение принято: userId={}, organizationId={}", userId, organization.getId());
 
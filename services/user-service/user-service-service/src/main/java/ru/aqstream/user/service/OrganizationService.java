@@ -31,15 +31,16 @@ import ru.aqstream.user.api.exception.SlugReservationExpiredException;
 import ru.aqstream.user.api.exception.UserNotFoundException;
 import ru.aqstream.user.api.event.OrganizationCreatedEvent;
 import ru.aqstream.user.api.event.OrganizationDeletedEvent;
+import ru.aqstream.user.api.event.OrganizationMemberAddedEvent;
+import ru.aqstream.user.api.event.OrganizationMemberRemovedEvent;
+import ru.aqstream.user.api.event.OrganizationMemberRoleChangedEvent;
 import ru.aqstream.user.db.entity.Organization;
 import ru.aqstream.user.db.entity.OrganizationMember;
 import ru.aqstream.user.db.entity.OrganizationRequest;
-import ru.aqstream.user.db.entity.RefreshToken;
 import ru.aqstream.user.db.entity.User;
 import ru.aqstream.user.db.repository.OrganizationMemberRepository;
 import ru.aqstream.user.db.repository.OrganizationRepository;
 import ru.aqstream.user.db.repository.OrganizationRequestRepository;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 /**
@@ -57,7 +58,7 @@ public class OrganizationService {
     private final OrganizationMemberRepository memberRepository;
     private final OrganizationRequestRepository requestRepository;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshSessionStore refreshSessionStore;
     private final OrganizationMapper organizationMapper;
     private final OrganizationMemberMapper memberMapper;
     private final JwtTokenProvider jwtTokenProvider;
@@ -95,6 +96,9 @@ public class OrganizationService {
         // Создаём membership для владельца
         OrganizationMember ownerMember = OrganizationMember.createOwner(organization, user);
         memberRepository.save(ownerMember);
+        eventPublisher.publish(new OrganizationMemberAddedEvent(
+            organization.getId(), user.getId(), OrganizationRole.OWNER
+        ));
 
         log.info("Организация создана: organizationId={}, slug={}, ownerId={}",
             organization.getId(), slug, user.getId());
@@ -309,15 +313,14 @@ public class OrganizationService {
         String accessToken = jwtTokenProvider.generateAccessToken(principal);
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-        // Сохраняем refresh token
-        RefreshToken tokenEntity = RefreshToken.create(
+        // Сохраняем refresh token (хешированный), старые сессии сверх лимита отзываются
+        refreshSessionStore.create(
             user,
             TokenHasher.hash(refreshToken),
             Instant.now().plus(refreshTokenExpiration),
             userAgent,
             ipAddress
         );
-        refreshTokenRepository.save(tokenEntity);
 
         log.info("Переключение выполнено: userId={}, newTenantId={}", userId, organizationId);
 
@@ -404,10 +407,16 @@ public class OrganizationService {
         if (request.role() == OrganizationRole.OWNER && !targetMember.isOwner()) {
             actor.setRole(OrganizationRole.MODERATOR);
             memberRepository.save(actor);
+            eventPublisher.publish(new OrganizationMemberRoleChangedEvent(
+                organizationId, userId, OrganizationRole.MODERATOR, userId
+            ));
         }
 
         targetMember.setRole(request.role());
         targetMember = memberRepository.save(targetMember);
+        eventPublisher.publish(new OrganizationMemberRoleChangedEvent(
+            organizationId, targetUserId, request.role(), userId
+        ));
 
         log.info("Роль изменена: targetUserId={}, newRole={}", targetUserId, request.role());
 
@@ -444,6 +453,7 @@ public class OrganizationService {
         }
 
         memberRepository.delete(targetMember);
+        eventPublisher.publish(new OrganizationMemberRemovedEvent(organizationId, targetUserId, userId));
 
         log.info("Член удалён: targetUserId={}", targetUserId);
     }
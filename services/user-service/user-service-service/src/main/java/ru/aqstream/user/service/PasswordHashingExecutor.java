@@ -0,0 +1,149 @@
+package ru.aqstream.user.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.aqstream.common.api.exception.InternalServerException;
+import ru.aqstream.common.api.exception.ServiceUnavailableException;
+
+/**
+ * Выделенный пул для хеширования паролей (bcrypt).
+ *
+ * <p>Bcrypt с cost 12 занимает ~250ms CPU. Без ограничения волна логинов
+ * (credential stuffing, рассылка о старте продаж) занимает все request threads
+ * и все ядра. Пул размером с число ядер и ограниченная очередь держат нагрузку
+ * в пределах: при заполнении очереди запрос сразу отклоняется с 503 и Retry-After,
+ * остальные endpoints продолжают работать.</p>
+ *
+ * <p>Метрики: {@code user.password.hashing.queue} (глубина очереди),
+ * {@code user.password.hashing.wait} (ожидание в очереди),
+ * {@code user.password.hashing.duration} (хеширование),
+ * {@code user.password.hashing.rejected} (отклонённые запросы).</p>
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    private static final String METRIC_PREFIX = "user.password.hashing";
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+    private final Timer waitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+    private final AtomicBoolean overloaded = new AtomicBoolean(false);
+
+    /**
+     * Создаёт пул.
+     *
+     * @param threads        количество потоков (0 — по числу ядер)
+     * @param queueCapacity  ёмкость очереди ожидающих задач
+     * @param retryAfter     значение Retry-After при перегрузке
+     * @param meterRegistry  реестр метрик
+     */
+    public PasswordHashingExecutor(
+        @Value("${password-hashing.threads:0}") int threads,
+        @Value("${password-hashing.queue-capacity:32}") int queueCapacity,
+        @Value("${password-hashing.retry-after:2s}") Duration retryAfter,
+        MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.retryAfter = retryAfter;
+
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, e -> e.getQueue().size())
+            .description("Задачи хеширования паролей в очереди")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Потоки, занятые хешированием паролей")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+            .description("Время ожидания в очереди хеширования")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.hashTimer = Timer.builder(METRIC_PREFIX + ".duration")
+            .description("Время хеширования пароля")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("Запросы, отклонённые из-за переполнения очереди хеширования")
+            .register(meterRegistry);
+
+        log.info("Пул хеширования паролей: threads={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    /**
+     * Выполняет операцию в пуле и ожидает результат.
+     *
+     * @param operation операция хеширования или проверки пароля
+     * @param <T>       тип результата
+     * @return результат операции
+     * @throws ServiceUnavailableException если очередь пула заполнена
+     */
+    public <T> T execute(Supplier<T> operation) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(operation);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            if (overloaded.compareAndSet(false, true)) {
+                log.warn("Очередь хеширования паролей заполнена, запросы отклоняются: queue={}",
+                    executor.getQueue().size());
+            }
+            throw new ServiceUnavailableException(
+                "password_hashing_overloaded",
+                "Сервис временно перегружен, повторите попытку позже",
+                retryAfter
+            );
+        }
+
+        if (overloaded.compareAndSet(true, false)) {
+            log.info("Очередь хеширования паролей снова принимает запросы");
+        }
+        return await(future);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new InternalServerException("password_hashing_interrupted", "Проверка пароля прервана");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalServerException("password_hashing_failed", "Ошибка проверки пароля");
+        }
+    }
+}
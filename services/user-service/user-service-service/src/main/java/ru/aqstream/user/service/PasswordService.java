@@ -8,6 +8,9 @@ import ru.aqstream.common.api.exception.ValidationException;
 /**
  * Сервис для работы с паролями.
  * Валидация, хеширование (bcrypt), проверка соответствия.
+ *
+ * <p>Хеширование и проверка выполняются в {@link PasswordHashingExecutor},
+ * а не в request thread.</p>
  */
 @Service
 public class PasswordService {
@@ -25,9 +28,11 @@ public class PasswordService {
     private static final int MAX_PASSWORD_LENGTH = 100;
 
     private final BCryptPasswordEncoder encoder;
+    private final PasswordHashingExecutor hashingExecutor;
 
-    public PasswordService() {
+    public PasswordService(PasswordHashingExecutor hashingExecutor) {
         this.encoder = new BCryptPasswordEncoder(BCRYPT_STRENGTH);
+        this.hashingExecutor = hashingExecutor;
     }
 
     /**
@@ -63,9 +68,10 @@ public class PasswordService {
      *
      * @param rawPassword открытый пароль
      * @return хеш пароля
+     * @throws ru.aqstream.common.api.exception.ServiceUnavailableException если пул хеширования перегружен
      */
     public String hash(String rawPassword) {
-        return encoder.encode(rawPassword);
+        return hashingExecutor.execute(() -> encoder.encode(rawPassword));
     }
 
     /**
@@ -74,11 +80,12 @@ public class PasswordService {
      * @param rawPassword открытый пароль
      * @param encodedPassword хеш пароля
      * @return true если пароль соответствует хешу
+     * @throws ru.aqstream.common.api.exception.ServiceUnavailableException если пул хеширования перегружен
      */
     public boolean matches(String rawPassword, String encodedPassword) {
         if (rawPassword == null || encodedPassword == null) {
             return false;
         }
-        return encoder.matches(rawPassword, encodedPassword);
+        return hashingExecutor.execute(() -> encoder.matches(rawPassword, encodedPassword));
     }
 }
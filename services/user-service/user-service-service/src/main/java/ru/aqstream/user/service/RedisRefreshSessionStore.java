@@ -0,0 +1,130 @@
+package ru.aqstream.user.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import ru.aqstream.user.db.entity.User;
+
+/**
+ * Хранилище сессий в Redis.
+ *
+ * <p>Ключи:</p>
+ * <ul>
+ *   <li>{@code user:refresh:session:{tokenHash}} — hash (userId, userAgent, ipAddress)
+ *       с TTL до истечения токена</li>
+ *   <li>{@code user:refresh:sessions:{userId}} — sorted set хешей токенов пользователя
+ *       со временем истечения в качестве score</li>
+ * </ul>
+ *
+ * <p>Все операции выполняются Lua скриптами атомарно: создание сессии вместе с отзывом
+ * старейших сверх лимита, ротация — одним DEL, поэтому токен нельзя использовать дважды.
+ * Истёкшие сессии удаляет сам Redis, периодическая очистка не нужна. Ключи сессий
+ * формируются внутри скриптов, поэтому хранилище рассчитано на Redis без кластера.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.refresh-sessions.store", havingValue = "redis")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRefreshSessionStore implements RefreshSessionStore {
+
+    private static final String SESSION_KEY_PREFIX = "user:refresh:session:";
+    private static final String USER_SESSIONS_KEY_PREFIX = "user:refresh:sessions:";
+
+    /**
+     * KEYS: сессия, сессии пользователя.
+     * ARGV: userId, userAgent, ipAddress, tokenHash, expiresAt (ms), now (ms), лимит, префикс ключа сессии.
+     * Возвращает количество отозванных сессий.
+     */
+    private static final RedisScript<Long> CREATE = RedisScript.of("""
+        redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'userAgent', ARGV[2], 'ipAddress', ARGV[3])
+        redis.call('PEXPIREAT', KEYS[1], ARGV[5])
+        redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[6])
+        redis.call('ZADD', KEYS[2], ARGV[5], ARGV[4])
+        redis.call('PEXPIREAT', KEYS[2], ARGV[5])
+        local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[7])
+        if excess <= 0 then
+            return 0
+        end
+        local oldest = redis.call('ZPOPMIN', KEYS[2], excess)
+        for i = 1, #oldest, 2 do
+            redis.call('DEL', ARGV[8] .. oldest[i])
+        end
+        return excess
+        """, Long.class);
+
+    /**
+     * KEYS: сессия. ARGV: префикс ключа сессий пользователя, tokenHash.
+     * Возвращает userId удалённой сессии или nil.
+     */
+    private static final RedisScript<String> CONSUME = RedisScript.of("""
+        local userId = redis.call('HGET', KEYS[1], 'userId')
+        if not userId then
+            return false
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('ZREM', ARGV[1] .. userId, ARGV[2])
+        return userId
+        """, String.class);
+
+    /**
+     * KEYS: сессии пользователя. ARGV: префикс ключа сессии.
+     * Возвращает количество удалённых сессий.
+     */
+    private static final RedisScript<Long> REVOKE_ALL = RedisScript.of("""
+        local tokenHashes = redis.call('ZRANGE', KEYS[1], 0, -1)
+        for _, tokenHash in ipairs(tokenHashes) do
+            redis.call('DEL', ARGV[1] .. tokenHash)
+        end
+        redis.call('DEL', KEYS[1])
+        return #tokenHashes
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void create(User user, String tokenHash, Instant expiresAt, String userAgent, String ipAddress) {
+        Long revokedCount = redisTemplate.execute(CREATE,
+            List.of(SESSION_KEY_PREFIX + tokenHash, USER_SESSIONS_KEY_PREFIX + user.getId()),
+            user.getId().toString(),
+            userAgent != null ? userAgent : "",
+            ipAddress != null ? ipAddress : "",
+            tokenHash,
+            String.valueOf(expiresAt.toEpochMilli()),
+            String.valueOf(Instant.now().toEpochMilli()),
+            String.valueOf(MAX_ACTIVE_SESSIONS),
+            SESSION_KEY_PREFIX);
+        if (revokedCount != null && revokedCount > 0) {
+            log.debug("Отозвано старых сессий: userId={}, count={}", user.getId(), revokedCount);
+        }
+    }
+
+    @Override
+    public Optional<UUID> consume(String tokenHash) {
+        String userId = redisTemplate.execute(CONSUME,
+            List.of(SESSION_KEY_PREFIX + tokenHash), USER_SESSIONS_KEY_PREFIX, tokenHash);
+        if (userId == null) {
+            log.debug("Refresh token не найден в Redis");
+            return Optional.empty();
+        }
+        return Optional.of(UUID.fromString(userId));
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        consume(tokenHash);
+    }
+
+    @Override
+    public int revokeAll(UUID userId) {
+        Long revokedCount = redisTemplate.execute(REVOKE_ALL,
+            List.of(USER_SESSIONS_KEY_PREFIX + userId), SESSION_KEY_PREFIX);
+        return revokedCount != null ? revokedCount.intValue() : 0;
+    }
+}
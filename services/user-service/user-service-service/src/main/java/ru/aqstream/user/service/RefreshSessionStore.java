@@ -0,0 +1,62 @@
+package ru.aqstream.user.service;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import ru.aqstream.user.db.entity.User;
+
+/**
+ * Хранилище сессий (refresh токенов).
+ *
+ * <p>Реализация выбирается свойством {@code auth.refresh-sessions.store}:</p>
+ * <ul>
+ *   <li>{@code jpa} — таблица refresh_tokens (по умолчанию, история отозванных токенов для аудита)</li>
+ *   <li>{@code redis} — ключи с TTL и sorted set сессий пользователя, без нагрузки на БД
+ *       при массовом обновлении токенов</li>
+ * </ul>
+ *
+ * <p>Токены хранятся только в виде хеша ({@link ru.aqstream.common.security.TokenHasher}).</p>
+ */
+public interface RefreshSessionStore {
+
+    /**
+     * Максимальное количество активных сессий на пользователя.
+     * При превышении старейшие сессии отзываются.
+     */
+    int MAX_ACTIVE_SESSIONS = 10;
+
+    /**
+     * Сохраняет новую сессию и отзывает старейшие сверх {@link #MAX_ACTIVE_SESSIONS}.
+     *
+     * @param user      пользователь
+     * @param tokenHash хеш refresh токена
+     * @param expiresAt время истечения
+     * @param userAgent User-Agent клиента
+     * @param ipAddress IP адрес клиента
+     */
+    void create(User user, String tokenHash, Instant expiresAt, String userAgent, String ipAddress);
+
+    /**
+     * Отзывает активную сессию (one-time use при ротации токена).
+     * Из двух одновременных вызовов с одним токеном успешен только один.
+     *
+     * @param tokenHash хеш refresh токена
+     * @return идентификатор владельца, если сессия была активна
+     */
+    Optional<UUID> consume(String tokenHash);
+
+    /**
+     * Отзывает сессию, если она существует.
+     *
+     * @param tokenHash хеш refresh токена
+     */
+    void revoke(String tokenHash);
+
+    /**
+     * Отзывает все сессии пользователя.
+     *
+     * @param userId идентификатор пользователя
+     * @return количество отозванных сессий
+     */
+    int revokeAll(UUID userId);
+}
@@ -26,9 +26,7 @@ import ru.aqstream.user.api.exception.InvalidTelegramAuthException;
 import ru.aqstream.user.api.exception.TelegramIdAlreadyExistsException;
 import ru.aqstream.user.api.exception.UserNotFoundException;
 import ru.aqstream.user.api.util.TelegramUtils;
-import ru.aqstream.user.db.entity.RefreshToken;
 import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 /**
@@ -47,11 +45,6 @@ public class TelegramAuthService {
      */
     private static final long MAX_AUTH_AGE_SECONDS = 3600;
 
-    /**
-     * Максимальное количество активных сессий на пользователя.
-     */
-    public static final int MAX_ACTIVE_SESSIONS = 10;
-
     /**
      * Системный tenant для пользователей без привязки к организации.
      * Используется для Telegram-only пользователей и новых регистраций.
@@ -59,7 +52,7 @@ public class TelegramAuthService {
     private static final UUID SYSTEM_TENANT = new UUID(0L, 0L);
 
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshSessionStore refreshSessionStore;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
     private final EventPublisher eventPublisher;
@@ -307,23 +300,14 @@ public class TelegramAuthService {
         String accessToken = jwtTokenProvider.generateAccessToken(principal);
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-        // Сохраняем refresh token
-        RefreshToken tokenEntity = RefreshToken.create(
+        // Сохраняем refresh token (хешированный), старые сессии сверх лимита отзываются
+        refreshSessionStore.create(
             user,
             TokenHasher.hash(refreshToken),
             Instant.now().plus(refreshTokenExpiration),
             userAgent,
             ipAddress
         );
-        refreshTokenRepository.save(tokenEntity);
-
-        // Отзываем старые токены если превышен лимит сессий
-        int revokedCount = refreshTokenRepository.revokeOldestTokensExceedingLimit(
-            user.getId(), MAX_ACTIVE_SESSIONS, Instant.now()
-        );
-        if (revokedCount > 0) {
-            log.debug("Отозвано старых сессий: userId={}, count={}", user.getId(), revokedCount);
-        }
 
         // Формируем ответ
         UserDto userDto = userMapper.toDto(user);
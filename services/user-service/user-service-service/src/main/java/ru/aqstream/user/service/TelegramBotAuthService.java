@@ -25,10 +25,8 @@ import ru.aqstream.user.api.dto.UserDto;
 import ru.aqstream.user.api.event.UserRegisteredEvent;
 import ru.aqstream.user.api.exception.TelegramAuthTokenExpiredException;
 import ru.aqstream.user.api.exception.TelegramAuthTokenNotFoundException;
-import ru.aqstream.user.db.entity.RefreshToken;
 import ru.aqstream.user.db.entity.TelegramAuthToken;
 import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.TelegramAuthTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 import ru.aqstream.user.websocket.TelegramAuthWebSocketHandler;
@@ -52,11 +50,6 @@ public class TelegramBotAuthService {
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     private static final int TOKEN_LENGTH = 32;
 
-    /**
-     * Максимальное количество активных сессий на пользователя.
-     */
-    public static final int MAX_ACTIVE_SESSIONS = 10;
-
     /**
      * Системный tenant для пользователей без привязки к организации.
      */
@@ -64,7 +57,7 @@ public class TelegramBotAuthService {
 
     private final TelegramAuthTokenRepository authTokenRepository;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshSessionStore refreshSessionStore;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
     private final EventPublisher eventPublisher;
@@ -253,23 +246,14 @@ public class TelegramBotAuthService {
         String accessToken = jwtTokenProvider.generateAccessToken(principal);
         String refreshToken = jwtTokenProvider.generateRefreshToken(user.getId());
 
-        // Сохраняем refresh token
-        RefreshToken tokenEntity = RefreshToken.create(
+        // Сохраняем refresh token (хешированный), старые сессии сверх лимита отзываются
+        refreshSessionStore.create(
             user,
             TokenHasher.hash(refreshToken),
             Instant.now().plus(refreshTokenExpiration),
             userAgent,
             ipAddress
         );
-        refreshTokenRepository.save(tokenEntity);
-
-        // Отзываем старые токены если превышен лимит сессий
-        int revokedCount = refreshTokenRepository.revokeOldestTokensExceedingLimit(
-            user.getId(), MAX_ACTIVE_SESSIONS, Instant.now()
-        );
-        if (revokedCount > 0) {
-            log.debug("Отозвано старых сессий: userId={}, count={}", user.getId(), revokedCount);
-        }
 
         // Формируем ответ
         UserDto userDto = userMapper.toDto(user);
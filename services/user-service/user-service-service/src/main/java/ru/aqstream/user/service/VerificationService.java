@@ -18,7 +18,6 @@ import ru.aqstream.user.api.util.EmailUtils;
 import ru.aqstream.user.db.entity.User;
 import ru.aqstream.user.db.entity.VerificationToken;
 import ru.aqstream.user.db.entity.VerificationToken.TokenType;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 import ru.aqstream.user.db.repository.VerificationTokenRepository;
 
@@ -42,7 +41,7 @@ public class VerificationService {
 
     private final UserRepository userRepository;
     private final VerificationTokenRepository verificationTokenRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshSessionStore refreshSessionStore;
     private final PasswordService passwordService;
     private final EventPublisher eventPublisher;
 
@@ -229,7 +228,7 @@ public class VerificationService {
         userRepository.save(user);
 
         // Отзываем все refresh токены (завершаем все сессии)
-        int revokedCount = refreshTokenRepository.revokeAllByUserId(user.getId(), Instant.now());
+        int revokedCount = refreshSessionStore.revokeAll(user.getId());
 
         log.info("Пароль сброшен: userId={}, отозвано сессий={}", user.getId(), revokedCount);
     }
@@ -0,0 +1,81 @@
+package ru.aqstream.user.websocket;
+
+import static ru.aqstream.user.api.util.TelegramUtils.maskToken;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import ru.aqstream.user.db.entity.TelegramAuthToken;
+
+/**
+ * Реестр WebSocket сессий авторизации через Telegram, общий для всех инстансов user-service.
+ *
+ * <p>Ключ {@code user:telegram-auth:session:{token}} существует, пока на каком-либо инстансе
+ * открыт WebSocket для этого токена. TTL равен сроку жизни токена авторизации, поэтому
+ * ключ не остаётся навсегда, если инстанс упал, не успев закрыть сессию.</p>
+ *
+ * <p>Подтверждение публикуется в Redis только при наличии зарегистрированной сессии —
+ * если frontend ещё не подключился, сообщение никому не нужно.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TelegramAuthSessionRegistry {
+
+    private static final String KEY_PREFIX = "user:telegram-auth:session:";
+
+    private static final Duration SESSION_TTL = Duration.ofMinutes(TelegramAuthToken.EXPIRATION_MINUTES);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Регистрирует сессию для токена.
+     *
+     * @param token токен авторизации
+     */
+    public void register(String token) {
+        try {
+            redisTemplate.opsForValue().set(key(token), "1", SESSION_TTL);
+        } catch (DataAccessException e) {
+            log.warn("Не удалось зарегистрировать WebSocket сессию: token={}, error={}",
+                maskToken(token), e.getMessage());
+        }
+    }
+
+    /**
+     * Снимает регистрацию сессии.
+     *
+     * @param token токен авторизации
+     */
+    public void unregister(String token) {
+        try {
+            redisTemplate.delete(key(token));
+        } catch (DataAccessException e) {
+            log.warn("Не удалось снять регистрацию WebSocket сессии: token={}, error={}",
+                maskToken(token), e.getMessage());
+        }
+    }
+
+    /**
+     * Проверяет, открыта ли сессия для токена на каком-либо инстансе.
+     * При недоступности Redis возвращает true: лишняя публикация безопаснее потерянного подтверждения.
+     *
+     * @param token токен авторизации
+     * @return true если сессия зарегистрирована
+     */
+    public boolean isRegistered(String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key(token)));
+        } catch (DataAccessException e) {
+            log.warn("Не удалось проверить WebSocket сессию: token={}, error={}", maskToken(token), e.getMessage());
+            return true;
+        }
+    }
+
+    private static String key(String token) {
+        return KEY_PREFIX + token;
+    }
+}
@@ -8,6 +8,8 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -20,13 +22,26 @@ import ru.aqstream.user.api.dto.AuthResponse;
  *
  * <p>Frontend подключается к /ws/telegram-auth/{token} после инициализации авторизации.
  * После подтверждения в боте, этот handler отправляет JWT токены через WebSocket.</p>
+ *
+ * <p>Подтверждение может обработать любой инстанс user-service, а сессия открыта только
+ * на одном из них. Если сессии нет локально, но она есть в {@link TelegramAuthSessionRegistry},
+ * сообщение публикуется в Redis канал {@code user:telegram-auth:confirmed:{token}}.
+ * Все инстансы подписаны на эти каналы (см. RedisPubSubConfig), сообщение доставляет тот,
+ * у которого открыта сессия.</p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class TelegramAuthWebSocketHandler extends TextWebSocketHandler {
 
+    /**
+     * Префикс Redis канала подтверждений. Полное имя канала — префикс + токен авторизации.
+     */
+    public static final String CHANNEL_PREFIX = "user:telegram-auth:confirmed:";
+
     private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TelegramAuthSessionRegistry sessionRegistry;
 
     /**
      * Map: token -> WebSocket session.
@@ -38,6 +53,7 @@ public class TelegramAuthWebSocketHandler extends TextWebSocketHandler {
         String token = extractToken(session);
         if (token != null) {
             sessions.put(token, session);
+            sessionRegistry.register(token);
             log.info("WebSocket подключён для авторизации: token={}", maskToken(token));
         } else {
             log.warn("WebSocket подключение без токена, закрываем");
@@ -48,8 +64,8 @@ public class TelegramAuthWebSocketHandler extends TextWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         String token = extractToken(session);
-        if (token != null) {
-            sessions.remove(token);
+        if (token != null && sessions.remove(token, session)) {
+            sessionRegistry.unregister(token);
             log.debug("WebSocket закрыт: token={}, status={}", maskToken(token), status);
         }
     }
@@ -66,41 +82,84 @@ public class TelegramAuthWebSocketHandler extends TextWebSocketHandler {
     /**
      * Уведомляет frontend о подтверждении авторизации.
      * Отправляет JWT токены через WebSocket и закрывает соединение.
+     * Если сессия открыта на другом инстансе, сообщение передаётся через Redis.
      *
      * @param token        токен авторизации
      * @param authResponse данные авторизации с JWT
      */
     public void notifyConfirmation(String token, AuthResponse authResponse) {
-        WebSocketSession session = sessions.get(token);
-        if (session != null && session.isOpen()) {
-            try {
-                // Формируем сообщение
-                Map<String, Object> message = Map.of(
-                    "type", "confirmed",
-                    "accessToken", authResponse.accessToken(),
-                    "refreshToken", authResponse.refreshToken() != null ? authResponse.refreshToken() : "",
-                    "expiresIn", authResponse.expiresIn(),
-                    "tokenType", authResponse.tokenType(),
-                    "user", authResponse.user()
-                );
-
-                String json = objectMapper.writeValueAsString(message);
-                session.sendMessage(new TextMessage(json));
-
-                log.info("WebSocket: отправлено подтверждение авторизации: token={}", maskToken(token));
-
-                // Закрываем соединение после успешной отправки
-                session.close(CloseStatus.NORMAL);
-                sessions.remove(token);
-
-            } catch (IOException e) {
-                log.error("Ошибка отправки WebSocket сообщения: token={}, error={}",
-                    maskToken(token), e.getMessage());
-                closeQuietly(session);
-            }
-        } else {
-            log.debug("WebSocket сессия не найдена или закрыта: token={}", maskToken(token));
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(Map.of(
+                "type", "confirmed",
+                "accessToken", authResponse.accessToken(),
+                "refreshToken", authResponse.refreshToken() != null ? authResponse.refreshToken() : "",
+                "expiresIn", authResponse.expiresIn(),
+                "tokenType", authResponse.tokenType(),
+                "user", authResponse.user()
+            ));
+        } catch (IOException e) {
+            log.error("Ошибка сериализации WebSocket сообщения: token={}, error={}",
+                maskToken(token), e.getMessage());
+            return;
+        }
+
+        if (deliver(token, json)) {
+            return;
+        }
+        if (!sessionRegistry.isRegistered(token)) {
+            log.debug("WebSocket сессия не найдена: token={}", maskToken(token));
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + token, json);
+            log.debug("WebSocket: подтверждение передано другим инстансам: token={}", maskToken(token));
+        } catch (DataAccessException e) {
+            log.warn("Не удалось опубликовать подтверждение авторизации: token={}, error={}",
+                maskToken(token), e.getMessage());
+        }
+    }
+
+    /**
+     * Обрабатывает подтверждение, опубликованное другим инстансом.
+     * Если сессии для токена на этом инстансе нет, сообщение игнорируется.
+     *
+     * @param token токен авторизации
+     * @param json  готовое сообщение для frontend
+     */
+    public void onConfirmationPublished(String token, String json) {
+        deliver(token, json);
+    }
+
+    /**
+     * Отправляет сообщение в локальную сессию и закрывает её.
+     *
+     * @return true если сессия для токена открыта на этом инстансе
+     */
+    private boolean deliver(String token, String json) {
+        // remove, а не get: подтверждение доставляется в сессию ровно один раз
+        WebSocketSession session = sessions.remove(token);
+        if (session == null) {
+            return false;
+        }
+        sessionRegistry.unregister(token);
+        if (!session.isOpen()) {
+            log.debug("WebSocket сессия уже закрыта: token={}", maskToken(token));
+            return true;
+        }
+
+        try {
+            session.sendMessage(new TextMessage(json));
+            log.info("WebSocket: отправлено подтверждение авторизации: token={}", maskToken(token));
+
+            // Закрываем соединение после успешной отправки
+            session.close(CloseStatus.NORMAL);
+        } catch (IOException e) {
+            log.error("Ошибка отправки WebSocket сообщения: token={}, error={}",
+                maskToken(token), e.getMessage());
+            closeQuietly(session);
         }
+        return true;
     }
 
     /**
@@ -136,7 +195,7 @@ public class TelegramAuthWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * Возвращает количество активных сессий.
+     * Возвращает количество активных сессий на этом инстансе.
      * Используется для мониторинга.
      */
     public int getActiveSessionCount() {
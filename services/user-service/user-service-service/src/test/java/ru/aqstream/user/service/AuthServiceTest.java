@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +28,7 @@ import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
 import ru.aqstream.common.messaging.EventPublisher;
 import ru.aqstream.common.security.JwtTokenProvider;
+import ru.aqstream.common.security.TokenHasher;
 import ru.aqstream.common.security.UserPrincipal;
 import ru.aqstream.common.test.UnitTest;
 import ru.aqstream.common.test.allure.AllureFeatures;
@@ -40,9 +42,7 @@ import ru.aqstream.user.api.dto.UserDto;
 import ru.aqstream.user.api.exception.AccountLockedException;
 import ru.aqstream.user.api.exception.EmailAlreadyExistsException;
 import ru.aqstream.user.api.exception.InvalidCredentialsException;
-import ru.aqstream.user.db.entity.RefreshToken;
 import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 @UnitTest
@@ -54,11 +54,14 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private PasswordService passwordService;
 
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
@@ -97,8 +100,9 @@ class AuthServiceTest {
         testLastName = FAKER.name().lastName();
         authService = new AuthService(
             userRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             passwordService,
+            loginAttemptService,
             jwtTokenProvider,
             userMapper,
             verificationService,
@@ -158,7 +162,7 @@ class AuthServiceTest {
 
             verify(passwordService).validate(testPassword);
             verify(userRepository).save(any(User.class));
-            verify(refreshTokenRepository).save(any());
+            verify(refreshSessionStore).create(any(), any(), any(), any(), any());
 
             TestLogger.info("Пользователь зарегистрирован: userId={}, email={}", savedUser.getId(), testEmail);
             TestLogger.attachJson("Register Request", request);
@@ -241,7 +245,7 @@ class AuthServiceTest {
             // Assert
             assertThat(response).isNotNull();
             assertThat(response.accessToken()).isEqualTo(TEST_ACCESS_TOKEN);
-            verify(userRepository).save(user); // Обновление lastLoginAt
+            verify(loginAttemptService).recordSuccess(user);
         }
 
         @Test
@@ -273,8 +277,9 @@ class AuthServiceTest {
             assertThatThrownBy(() -> authService.login(request, TEST_USER_AGENT, TEST_IP))
                 .isInstanceOf(InvalidCredentialsException.class);
 
-            // Проверяем, что счётчик неудачных попыток увеличился
-            verify(userRepository).save(user);
+            // Проверяем, что неудачная попытка учтена
+            verify(loginAttemptService).recordFailure(user);
+            verify(loginAttemptService, never()).recordSuccess(any());
         }
 
         @Test
@@ -286,13 +291,13 @@ class AuthServiceTest {
             LoginRequest request = new LoginRequest(testEmail, wrongPassword);
             User user = createTestUser();
 
-            // Симулируем 4 предыдущих неудачных попытки (MAX_FAILED_LOGIN_ATTEMPTS - 1)
-            for (int i = 0; i < User.MAX_FAILED_LOGIN_ATTEMPTS - 1; i++) {
-                user.recordFailedLogin();
-            }
-
             when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(user));
             when(passwordService.matches(anyString(), anyString())).thenReturn(false);
+            // Счётчик достиг MAX_FAILED_LOGIN_ATTEMPTS на этой попытке
+            when(loginAttemptService.recordFailure(user)).thenAnswer(invocation -> {
+                user.lockUntil(Instant.now().plusSeconds(User.LOCK_DURATION_MINUTES * 60L));
+                return true;
+            });
 
             // Act & Assert - 5-я попытка должна заблокировать аккаунт
             assertThatThrownBy(() -> authService.login(request, TEST_USER_AGENT, TEST_IP))
@@ -320,6 +325,7 @@ class AuthServiceTest {
 
             // Пароль не должен проверяться для заблокированного аккаунта
             verify(passwordService, never()).matches(anyString(), anyString());
+            verify(loginAttemptService, never()).recordFailure(any());
         }
     }
 
@@ -337,11 +343,11 @@ class AuthServiceTest {
             RefreshTokenRequest request = new RefreshTokenRequest(refreshTokenValue);
 
             User user = createTestUser();
-            RefreshToken storedToken = createTestRefreshToken(user);
             UserDto userDto = createTestUserDto(user);
 
             when(jwtTokenProvider.validateRefreshToken(refreshTokenValue)).thenReturn(user.getId());
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
+            when(refreshSessionStore.consume(any())).thenReturn(Optional.of(user.getId()));
+            when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
             when(jwtTokenProvider.generateAccessToken(any())).thenReturn(TEST_ACCESS_TOKEN);
             when(jwtTokenProvider.generateRefreshToken(any())).thenReturn(TEST_REFRESH_TOKEN);
             when(userMapper.toDto(user)).thenReturn(userDto);
@@ -355,66 +361,27 @@ class AuthServiceTest {
             assertThat(response.refreshToken()).isEqualTo(TEST_REFRESH_TOKEN);
             assertThat(response.tokenType()).isEqualTo("Bearer");
 
-            // Проверяем что старый токен отозван (one-time use)
-            assertThat(storedToken.isRevoked()).isTrue();
-
-            // save вызывается дважды: для отзыва старого токена и сохранения нового
-            verify(refreshTokenRepository, org.mockito.Mockito.times(2)).save(any());
+            // Старый токен отозван (one-time use), новый сохранён
+            verify(refreshSessionStore).consume(TokenHasher.hash(refreshTokenValue));
+            verify(refreshSessionStore).create(eq(user), eq(TokenHasher.hash(TEST_REFRESH_TOKEN)), any(),
+                eq(TEST_USER_AGENT), eq(TEST_IP));
         }
 
         @Test
         @Severity(CRITICAL)
-        @DisplayName("выбрасывает исключение если токен не найден в БД")
-        void refresh_TokenNotFound_ThrowsException() {
+        @DisplayName("выбрасывает исключение если сессия не найдена, отозвана или истекла")
+        void refresh_InactiveSession_ThrowsException() {
             // Arrange
             String refreshTokenValue = "unknown.refresh.token";
             RefreshTokenRequest request = new RefreshTokenRequest(refreshTokenValue);
 
             when(jwtTokenProvider.validateRefreshToken(refreshTokenValue)).thenReturn(UUID.randomUUID());
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
-
-            // Act & Assert
-            assertThatThrownBy(() -> authService.refresh(request, TEST_USER_AGENT, TEST_IP))
-                .isInstanceOf(InvalidCredentialsException.class);
-        }
-
-        @Test
-        @Severity(CRITICAL)
-        @DisplayName("выбрасывает исключение если токен отозван")
-        void refresh_RevokedToken_ThrowsException() {
-            // Arrange
-            String refreshTokenValue = "revoked.refresh.token";
-            RefreshTokenRequest request = new RefreshTokenRequest(refreshTokenValue);
-
-            User user = createTestUser();
-            RefreshToken storedToken = createTestRefreshToken(user);
-            storedToken.revoke(); // Отзываем токен
-
-            when(jwtTokenProvider.validateRefreshToken(refreshTokenValue)).thenReturn(user.getId());
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
-
-            // Act & Assert
-            assertThatThrownBy(() -> authService.refresh(request, TEST_USER_AGENT, TEST_IP))
-                .isInstanceOf(InvalidCredentialsException.class);
-        }
-
-        @Test
-        @Severity(CRITICAL)
-        @DisplayName("выбрасывает исключение если токен истёк")
-        void refresh_ExpiredToken_ThrowsException() {
-            // Arrange
-            String refreshTokenValue = "expired.refresh.token";
-            RefreshTokenRequest request = new RefreshTokenRequest(refreshTokenValue);
-
-            User user = createTestUser();
-            RefreshToken storedToken = createExpiredRefreshToken(user);
-
-            when(jwtTokenProvider.validateRefreshToken(refreshTokenValue)).thenReturn(user.getId());
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
+            when(refreshSessionStore.consume(any())).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> authService.refresh(request, TEST_USER_AGENT, TEST_IP))
                 .isInstanceOf(InvalidCredentialsException.class);
+            verify(refreshSessionStore, never()).create(any(), any(), any(), any(), any());
         }
 
         @Test
@@ -426,16 +393,16 @@ class AuthServiceTest {
             RefreshTokenRequest request = new RefreshTokenRequest(refreshTokenValue);
 
             User tokenOwner = createTestUser();
-            RefreshToken storedToken = createTestRefreshToken(tokenOwner);
 
             // JWT содержит другой userId
             UUID claimedUserId = UUID.randomUUID();
             when(jwtTokenProvider.validateRefreshToken(refreshTokenValue)).thenReturn(claimedUserId);
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
+            when(refreshSessionStore.consume(any())).thenReturn(Optional.of(tokenOwner.getId()));
 
             // Act & Assert
             assertThatThrownBy(() -> authService.refresh(request, TEST_USER_AGENT, TEST_IP))
                 .isInstanceOf(InvalidCredentialsException.class);
+            verify(refreshSessionStore, never()).create(any(), any(), any(), any(), any());
         }
     }
 
@@ -459,24 +426,4 @@ class AuthServiceTest {
             Instant.now()
         );
     }
-
-    private RefreshToken createTestRefreshToken(User user) {
-        return RefreshToken.create(
-            user,
-            "test-token-hash",
-            Instant.now().plus(java.time.Duration.ofDays(7)),
-            TEST_USER_AGENT,
-            TEST_IP
-        );
-    }
-
-    private RefreshToken createExpiredRefreshToken(User user) {
-        return RefreshToken.create(
-            user,
-            "expired-token-hash",
-            Instant.now().minus(java.time.Duration.ofHours(1)), // Токен истёк час назад
-            TEST_USER_AGENT,
-            TEST_IP
-        );
-    }
 }
@@ -1,10 +1,6 @@
 package ru.aqstream.user.service;
 
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static io.qameta.allure.SeverityLevel.BLOCKER;
@@ -14,8 +10,6 @@ import io.qameta.allure.Feature;
 import io.qameta.allure.Severity;
 import io.qameta.allure.Story;
 
-import java.time.Instant;
-import java.util.Optional;
 import java.util.UUID;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,12 +20,10 @@ import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
 import ru.aqstream.common.messaging.EventPublisher;
 import ru.aqstream.common.security.JwtTokenProvider;
+import ru.aqstream.common.security.TokenHasher;
 import ru.aqstream.common.test.UnitTest;
 import ru.aqstream.common.test.allure.AllureFeatures;
 import ru.aqstream.user.api.exception.InvalidCredentialsException;
-import ru.aqstream.user.db.entity.RefreshToken;
-import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 /**
@@ -46,11 +38,14 @@ class AuthServiceTokenTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private PasswordService passwordService;
 
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
@@ -81,8 +76,9 @@ class AuthServiceTokenTest {
 
         authService = new AuthService(
             userRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             passwordService,
+            loginAttemptService,
             jwtTokenProvider,
             userMapper,
             verificationService,
@@ -95,22 +91,6 @@ class AuthServiceTokenTest {
             java.time.Duration.ofDays(7));
     }
 
-    private User createTestUser() {
-        User user = User.createWithEmail(testEmail, "$2a$12$hash", testFirstName, testLastName);
-        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
-        return user;
-    }
-
-    private RefreshToken createTestRefreshToken(User user) {
-        return RefreshToken.create(
-            user,
-            "test-token-hash",
-            Instant.now().plus(java.time.Duration.ofDays(7)),
-            TEST_USER_AGENT,
-            TEST_IP
-        );
-    }
-
     @Nested
     @Story(AllureFeatures.Stories.AUTHENTICATION)
     @DisplayName("logout")
@@ -121,12 +101,11 @@ class AuthServiceTokenTest {
         @DisplayName("отзывает все токены пользователя")
         void logout_ValidUser_RevokesAllTokens() {
             UUID userId = UUID.randomUUID();
-            when(refreshTokenRepository.revokeAllByUserId(any(UUID.class), any(Instant.class)))
-                .thenReturn(3);
+            when(refreshSessionStore.revokeAll(userId)).thenReturn(3);
 
             authService.logout(userId);
 
-            verify(refreshTokenRepository).revokeAllByUserId(any(UUID.class), any(Instant.class));
+            verify(refreshSessionStore).revokeAll(userId);
         }
     }
 
@@ -137,31 +116,13 @@ class AuthServiceTokenTest {
 
         @Test
         @Severity(CRITICAL)
-        @DisplayName("успешно отзывает токен")
-        void revokeToken_ValidToken_RevokesToken() {
+        @DisplayName("отзывает сессию по хешу токена")
+        void revokeToken_ValidToken_RevokesSessionByHash() {
             String refreshTokenValue = "token.to.revoke";
-            User user = createTestUser();
-            RefreshToken storedToken = createTestRefreshToken(user);
-
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
-
-            authService.revokeToken(refreshTokenValue);
-
-            assertThat(storedToken.isRevoked()).isTrue();
-            verify(refreshTokenRepository).save(storedToken);
-        }
-
-        @Test
-        @Severity(CRITICAL)
-        @DisplayName("игнорирует несуществующий токен")
-        void revokeToken_NonExistentToken_DoesNothing() {
-            String refreshTokenValue = "non.existent.token";
-
-            when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.empty());
 
             authService.revokeToken(refreshTokenValue);
 
-            verify(refreshTokenRepository, never()).save(any());
+            verify(refreshSessionStore).revoke(TokenHasher.hash(refreshTokenValue));
         }
     }
 
@@ -178,13 +139,12 @@ class AuthServiceTokenTest {
             UUID userId = UUID.randomUUID();
 
             when(jwtTokenProvider.validateRefreshToken(refreshTokenValue)).thenReturn(userId);
-            when(refreshTokenRepository.revokeAllByUserId(any(UUID.class), any(Instant.class)))
-                .thenReturn(3);
+            when(refreshSessionStore.revokeAll(userId)).thenReturn(3);
 
             authService.logoutAll(refreshTokenValue);
 
             verify(jwtTokenProvider).validateRefreshToken(refreshTokenValue);
-            verify(refreshTokenRepository).revokeAllByUserId(eq(userId), any(Instant.class));
+            verify(refreshSessionStore).revokeAll(userId);
         }
 
         @Test
@@ -13,6 +13,8 @@ import io.qameta.allure.Severity;
 import io.qameta.allure.Story;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import net.datafaker.Faker;
@@ -209,6 +211,65 @@ class GroupServiceTest {
         }
     }
 
+    // ==================== Списки групп ====================
+
+    @Nested
+    @Story(AllureFeatures.Stories.ORGANIZATION_MEMBERS)
+    @DisplayName("getGroupsByOrganization")
+    class GetGroupsByOrganization {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("Считает участников всех групп одним запросом")
+        void getGroupsByOrganization_ManyGroups_CountsMembersInOneQuery() {
+            // Arrange
+            testOrgMember = createOrgMember(testOrg, testUser, OrganizationRole.OWNER);
+            UUID emptyGroupId = UUID.randomUUID();
+            Group emptyGroup = createTestGroup(emptyGroupId, testOrg, testUser);
+
+            when(orgMemberRepository.findByOrganizationIdAndUserId(testOrgId, testUserId))
+                .thenReturn(Optional.of(testOrgMember));
+            when(groupRepository.findByOrganizationId(testOrgId)).thenReturn(List.of(testGroup, emptyGroup));
+            when(groupRepository.countMembersByGroupIdsAsMap(List.of(testGroupId, emptyGroupId)))
+                .thenReturn(Map.of(testGroupId, 7));
+            when(groupMapper.toDto(testGroup)).thenReturn(createGroupDto(testGroupId, testGroup.getName()));
+            when(groupMapper.toDto(emptyGroup)).thenReturn(createGroupDto(emptyGroupId, emptyGroup.getName()));
+
+            // Act
+            List<GroupDto> result = service.getGroupsByOrganization(testOrgId, testUserId);
+
+            // Assert
+            assertThat(result).extracting(GroupDto::memberCount).containsExactly(7, 0);
+            verify(groupRepository, never()).countMembersByGroupId(any());
+        }
+    }
+
+    @Nested
+    @Story(AllureFeatures.Stories.ORGANIZATION_MEMBERS)
+    @DisplayName("getMyGroups")
+    class GetMyGroups {
+
+        @Test
+        @Severity(NORMAL)
+        @DisplayName("Считает участников всех групп пользователя одним запросом")
+        void getMyGroups_Memberships_CountsMembersInOneQuery() {
+            // Arrange
+            GroupMember membership = createGroupMember(testGroup, testUser, null);
+
+            when(groupMemberRepository.findByUserId(testUserId)).thenReturn(List.of(membership));
+            when(groupRepository.countMembersByGroupIdsAsMap(List.of(testGroupId)))
+                .thenReturn(Map.of(testGroupId, 3));
+            when(groupMapper.toDto(testGroup)).thenReturn(createGroupDto(testGroupId, testGroup.getName()));
+
+            // Act
+            List<GroupDto> result = service.getMyGroups(testUserId);
+
+            // Assert
+            assertThat(result).singleElement().extracting(GroupDto::memberCount).isEqualTo(3);
+            verify(groupRepository, never()).countMembersByGroupId(any());
+        }
+    }
+
     // ==================== Delete ====================
 
     @Nested
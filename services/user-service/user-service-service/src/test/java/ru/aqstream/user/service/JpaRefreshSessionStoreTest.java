@@ -0,0 +1,156 @@
+package ru.aqstream.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.user.db.entity.RefreshToken;
+import ru.aqstream.user.db.entity.User;
+import ru.aqstream.user.db.repository.RefreshTokenRepository;
+
+@UnitTest
+@Feature(AllureFeatures.Features.USER_MANAGEMENT)
+@Story(AllureFeatures.Stories.AUTHENTICATION)
+@DisplayName("JpaRefreshSessionStore")
+class JpaRefreshSessionStoreTest {
+
+    private static final Faker FAKER = new Faker();
+    private static final String TOKEN_HASH = "test-token-hash";
+    private static final String TEST_USER_AGENT = "Mozilla/5.0";
+    private static final String TEST_IP = "127.0.0.1";
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JpaRefreshSessionStore store;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        store = new JpaRefreshSessionStore(refreshTokenRepository);
+        user = User.createWithEmail(
+            FAKER.internet().emailAddress(),
+            "$2a$12$hashedpassword",
+            FAKER.name().firstName(),
+            FAKER.name().lastName()
+        );
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("create сохраняет токен и отзывает сессии сверх лимита")
+    void create_NewSession_SavesAndEnforcesLimit() {
+        // when
+        store.create(user, TOKEN_HASH, Instant.now().plus(Duration.ofDays(7)), TEST_USER_AGENT, TEST_IP);
+
+        // then
+        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        verify(refreshTokenRepository).revokeOldestTokensExceedingLimit(
+            eq(user.getId()), eq(RefreshSessionStore.MAX_ACTIVE_SESSIONS), any(Instant.class));
+    }
+
+    @Nested
+    @DisplayName("consume")
+    class Consume {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("отзывает активный токен условным UPDATE и возвращает владельца")
+        void consume_ActiveToken_RevokesAndReturnsOwner() {
+            // given
+            when(refreshTokenRepository.revokeActiveByTokenHash(eq(TOKEN_HASH), any(Instant.class))).thenReturn(1);
+            when(refreshTokenRepository.findUserIdByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(user.getId()));
+
+            // when
+            Optional<UUID> ownerId = store.consume(TOKEN_HASH);
+
+            // then
+            assertThat(ownerId).contains(user.getId());
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("не принимает отозванный, истёкший или неизвестный токен")
+        void consume_InactiveToken_ReturnsEmpty() {
+            // given: UPDATE не нашёл активной строки
+            when(refreshTokenRepository.revokeActiveByTokenHash(eq(TOKEN_HASH), any(Instant.class))).thenReturn(0);
+
+            // when/then
+            assertThat(store.consume(TOKEN_HASH)).isEmpty();
+            verify(refreshTokenRepository, never()).findUserIdByTokenHash(any());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("из двух одновременных вызовов с одним токеном успешен только один")
+        void consume_ConcurrentCalls_OnlyOneSucceeds() throws Exception {
+            // given: UPDATE ... WHERE revoked = false меняет строку только для первой транзакции
+            AtomicBoolean revoked = new AtomicBoolean();
+            CountDownLatch start = new CountDownLatch(1);
+            when(refreshTokenRepository.revokeActiveByTokenHash(eq(TOKEN_HASH), any(Instant.class)))
+                .thenAnswer(invocation -> {
+                    start.await();
+                    return revoked.compareAndSet(false, true) ? 1 : 0;
+                });
+            when(refreshTokenRepository.findUserIdByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(user.getId()));
+
+            // when
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                Future<Optional<UUID>> first = executor.submit(() -> store.consume(TOKEN_HASH));
+                Future<Optional<UUID>> second = executor.submit(() -> store.consume(TOKEN_HASH));
+                start.countDown();
+
+                // then
+                List<Optional<UUID>> results = List.of(
+                    first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+                assertThat(results).filteredOn(Optional::isPresent).hasSize(1);
+                assertThat(results).filteredOn(Optional::isEmpty).hasSize(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("revoke отзывает токен тем же условным UPDATE")
+    void revoke_Token_RevokesWithConditionalUpdate() {
+        // when
+        store.revoke(TOKEN_HASH);
+
+        // then
+        verify(refreshTokenRepository).revokeActiveByTokenHash(eq(TOKEN_HASH), any(Instant.class));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,158 @@
+package ru.aqstream.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.user.db.entity.User;
+import ru.aqstream.user.db.repository.UserRepository;
+
+@UnitTest
+@Feature(AllureFeatures.Features.USER_MANAGEMENT)
+@Story(AllureFeatures.Stories.AUTHENTICATION)
+@DisplayName("LoginAttemptService")
+class LoginAttemptServiceTest {
+
+    private static final Faker FAKER = new Faker();
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginAttemptService service;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        service = new LoginAttemptService(redisTemplate, userRepository);
+        user = User.createWithEmail(
+            FAKER.internet().emailAddress(),
+            "$2a$12$hashedpassword",
+            FAKER.name().firstName(),
+            FAKER.name().lastName()
+        );
+        ReflectionTestUtils.setField(user, "id", UUID.randomUUID());
+    }
+
+    @Nested
+    @DisplayName("recordFailure")
+    class RecordFailure {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("увеличивает счётчик в Redis без записи в БД")
+        @SuppressWarnings("unchecked")
+        void recordFailure_BelowLimit_DoesNotWriteUser() {
+            // given
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString())).thenReturn(2L);
+
+            // when
+            boolean locked = service.recordFailure(user);
+
+            // then
+            assertThat(locked).isFalse();
+            assertThat(user.getFailedLoginAttempts()).isZero();
+            verify(userRepository, never()).save(any());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("блокирует аккаунт в БД при достижении лимита")
+        @SuppressWarnings("unchecked")
+        void recordFailure_LimitReached_PersistsLock() {
+            // given
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                .thenReturn((long) User.MAX_FAILED_LOGIN_ATTEMPTS);
+
+            // when
+            boolean locked = service.recordFailure(user);
+
+            // then
+            assertThat(locked).isTrue();
+            assertThat(user.isLocked()).isTrue();
+            verify(userRepository).save(user);
+            verify(redisTemplate).delete("user:login:failures:" + user.getId());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("при недоступности Redis считает попытки в БД")
+        @SuppressWarnings("unchecked")
+        void recordFailure_RedisDown_FallsBackToDatabase() {
+            // given
+            when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+            // when
+            boolean locked = service.recordFailure(user);
+
+            // then
+            assertThat(locked).isFalse();
+            assertThat(user.getFailedLoginAttempts()).isEqualTo(1);
+            verify(userRepository).save(user);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordSuccess")
+    class RecordSuccess {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("не пишет в БД при свежем last_login_at и без блокировки")
+        void recordSuccess_RecentLogin_DoesNotWriteUser() {
+            // given
+            ReflectionTestUtils.setField(user, "lastLoginAt", Instant.now().minus(5, ChronoUnit.MINUTES));
+
+            // when
+            service.recordSuccess(user);
+
+            // then
+            verify(redisTemplate).delete("user:login:failures:" + user.getId());
+            verify(userRepository, never()).save(any());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("снимает сохранённую блокировку")
+        void recordSuccess_PersistedLock_ClearsLock() {
+            // given
+            ReflectionTestUtils.setField(user, "lastLoginAt", Instant.now());
+            user.lockUntil(Instant.now().minus(1, ChronoUnit.MINUTES));
+
+            // when
+            service.recordSuccess(user);
+
+            // then
+            assertThat(user.getFailedLoginAttempts()).isZero();
+            assertThat(user.getLockedUntil()).isNull();
+            verify(userRepository).save(user);
+        }
+    }
+}
@@ -25,6 +25,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
+import ru.aqstream.common.messaging.EventPublisher;
 import ru.aqstream.common.test.UnitTest;
 import ru.aqstream.common.test.allure.AllureFeatures;
 import ru.aqstream.user.api.dto.InviteMemberRequest;
@@ -36,6 +37,7 @@ import ru.aqstream.user.api.exception.OrganizationInviteAlreadyUsedException;
 import ru.aqstream.user.api.exception.OrganizationInviteExpiredException;
 import ru.aqstream.user.api.exception.OrganizationInviteNotFoundException;
 import ru.aqstream.user.api.exception.OrganizationMemberNotFoundException;
+import ru.aqstream.user.api.event.OrganizationMemberAddedEvent;
 import ru.aqstream.user.db.entity.Organization;
 import ru.aqstream.user.db.entity.OrganizationInvite;
 import ru.aqstream.user.db.entity.OrganizationMember;
@@ -70,6 +72,9 @@ class OrganizationInviteServiceTest {
     @Mock
     private OrganizationInviteMapper inviteMapper;
 
+    @Mock
+    private EventPublisher eventPublisher;
+
     @InjectMocks
     private OrganizationInviteService inviteService;
 
@@ -241,6 +246,7 @@ class OrganizationInviteServiceTest {
             assertThat(validInvite.isUsed()).isTrue();
             verify(memberRepository).save(memberCaptor.capture());
             assertThat(memberCaptor.getValue().getUser()).isEqualTo(inviteeUser);
+            verify(eventPublisher).publish(any(OrganizationMemberAddedEvent.class));
         }
 
         @Test
@@ -29,6 +29,7 @@ import ru.aqstream.common.test.allure.AllureFeatures;
 import ru.aqstream.user.api.dto.OrganizationDto;
 import ru.aqstream.user.api.dto.OrganizationMemberDto;
 import ru.aqstream.user.api.dto.OrganizationRole;
+import ru.aqstream.user.api.event.OrganizationMemberRemovedEvent;
 import ru.aqstream.user.api.exception.CannotRemoveOwnerException;
 import ru.aqstream.user.db.entity.Organization;
 import ru.aqstream.user.db.entity.OrganizationMember;
@@ -36,7 +37,6 @@ import ru.aqstream.user.db.entity.User;
 import ru.aqstream.user.db.repository.OrganizationMemberRepository;
 import ru.aqstream.user.db.repository.OrganizationRepository;
 import ru.aqstream.user.db.repository.OrganizationRequestRepository;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 /**
@@ -60,7 +60,7 @@ class OrganizationServiceMembersTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private OrganizationMapper organizationMapper;
@@ -96,7 +96,7 @@ class OrganizationServiceMembersTest {
             memberRepository,
             requestRepository,
             userRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             organizationMapper,
             memberMapper,
             jwtTokenProvider,
@@ -168,6 +168,7 @@ class OrganizationServiceMembersTest {
             service.removeMember(testOrgId, testUserId, moderatorId);
 
             verify(memberRepository).delete(moderatorMember);
+            verify(eventPublisher).publish(any(OrganizationMemberRemovedEvent.class));
         }
 
         @Test
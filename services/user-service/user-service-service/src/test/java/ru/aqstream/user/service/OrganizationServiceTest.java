@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static io.qameta.allure.SeverityLevel.CRITICAL;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.springframework.test.util.ReflectionTestUtils;
+import ru.aqstream.common.api.event.DomainEvent;
 import ru.aqstream.common.messaging.EventPublisher;
 import ru.aqstream.common.test.UnitTest;
 import ru.aqstream.common.test.allure.AllureFeatures;
@@ -33,6 +35,7 @@ import ru.aqstream.user.api.dto.OrganizationRequestStatus;
 import ru.aqstream.user.api.dto.OrganizationRole;
 import ru.aqstream.user.api.dto.UpdateOrganizationRequest;
 import ru.aqstream.user.api.event.OrganizationCreatedEvent;
+import ru.aqstream.user.api.event.OrganizationMemberAddedEvent;
 import ru.aqstream.user.api.exception.InsufficientOrganizationPermissionsException;
 import ru.aqstream.user.api.exception.NoApprovedRequestException;
 import ru.aqstream.user.api.exception.OrganizationMemberNotFoundException;
@@ -45,7 +48,6 @@ import ru.aqstream.user.db.entity.User;
 import ru.aqstream.user.db.repository.OrganizationMemberRepository;
 import ru.aqstream.user.db.repository.OrganizationRepository;
 import ru.aqstream.user.db.repository.OrganizationRequestRepository;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 @UnitTest
@@ -66,7 +68,7 @@ class OrganizationServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private OrganizationMapper organizationMapper;
@@ -102,7 +104,7 @@ class OrganizationServiceTest {
             memberRepository,
             requestRepository,
             userRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             organizationMapper,
             memberMapper,
             jwtTokenProvider,
@@ -444,11 +446,15 @@ class OrganizationServiceTest {
             assertThat(savedMember.getRole()).isEqualTo(OrganizationRole.OWNER);
             assertThat(savedMember.getUserId()).isEqualTo(testUserId);
 
-            // Проверяем публикацию OrganizationCreatedEvent
-            ArgumentCaptor<OrganizationCreatedEvent> eventCaptor =
-                ArgumentCaptor.forClass(OrganizationCreatedEvent.class);
-            verify(eventPublisher).publish(eventCaptor.capture());
-            OrganizationCreatedEvent event = eventCaptor.getValue();
+            // Проверяем публикацию OrganizationMemberAddedEvent (OWNER) и OrganizationCreatedEvent
+            ArgumentCaptor<DomainEvent> eventCaptor = ArgumentCaptor.forClass(DomainEvent.class);
+            verify(eventPublisher, times(2)).publish(eventCaptor.capture());
+            assertThat(eventCaptor.getAllValues().get(0))
+                .isInstanceOfSatisfying(OrganizationMemberAddedEvent.class, memberEvent -> {
+                    assertThat(memberEvent.getUserId()).isEqualTo(testUserId);
+                    assertThat(memberEvent.getRole()).isEqualTo(OrganizationRole.OWNER);
+                });
+            OrganizationCreatedEvent event = (OrganizationCreatedEvent) eventCaptor.getAllValues().get(1);
             assertThat(event.getOrganizationId()).isEqualTo(testOrgId);
             assertThat(event.getName()).isEqualTo(testName);
             assertThat(event.getSlug()).isEqualTo(testSlug.toLowerCase());
@@ -0,0 +1,111 @@
+package ru.aqstream.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.aqstream.common.api.exception.ServiceUnavailableException;
+import ru.aqstream.common.api.exception.ValidationException;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+
+@UnitTest
+@Feature(AllureFeatures.Features.USER_MANAGEMENT)
+@Story(AllureFeatures.Stories.AUTHENTICATION)
+@DisplayName("PasswordHashingExecutor")
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(3), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("выполняет операцию в пуле и возвращает результат")
+    void execute_FreePool_ReturnsResult() {
+        // when
+        String threadName = executor.execute(() -> Thread.currentThread().getName());
+
+        // then
+        assertThat(threadName).startsWith("password-hash-");
+        assertThat(meterRegistry.get("user.password.hashing.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("пробрасывает исключение операции без обёртки")
+    void execute_OperationThrows_RethrowsCause() {
+        // when/then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new ValidationException("invalid");
+        }))
+            .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("отклоняет запрос с Retry-After при заполненной очереди")
+    void execute_QueueFull_ThrowsServiceUnavailable() throws Exception {
+        // given: один поток занят, одна задача ждёт в очереди
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            return await(release);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> true));
+        waitForQueue();
+
+        // when/then
+        assertThatThrownBy(() -> executor.execute(() -> true))
+            .isInstanceOfSatisfying(ServiceUnavailableException.class, e ->
+                assertThat(e.getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.get("user.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void waitForQueue() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("user.password.hashing.queue").gauge().value() < 1) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Задача не попала в очередь");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package ru.aqstream.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.user.db.entity.User;
+
+@UnitTest
+@Feature(AllureFeatures.Features.USER_MANAGEMENT)
+@Story(AllureFeatures.Stories.AUTHENTICATION)
+@DisplayName("RedisRefreshSessionStore")
+class RedisRefreshSessionStoreTest {
+
+    private static final Faker FAKER = new Faker();
+    private static final String TOKEN_HASH = "test-token-hash";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisRefreshSessionStore store;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        store = new RedisRefreshSessionStore(redisTemplate);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("create передаёт в скрипт ключи сессии и sorted set пользователя с лимитом")
+    @SuppressWarnings("unchecked")
+    void create_NewSession_ExecutesScriptWithUserKeys() {
+        // given
+        User user = User.createWithEmail(FAKER.internet().emailAddress(), "$2a$12$hash",
+            FAKER.name().firstName(), FAKER.name().lastName());
+        ReflectionTestUtils.setField(user, "id", userId);
+        Instant expiresAt = Instant.now().plus(Duration.ofDays(7));
+
+        // when
+        store.create(user, TOKEN_HASH, expiresAt, null, "127.0.0.1");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class),
+            eq(List.of("user:refresh:session:" + TOKEN_HASH, "user:refresh:sessions:" + userId)),
+            eq(userId.toString()), eq(""), eq("127.0.0.1"), eq(TOKEN_HASH),
+            eq(String.valueOf(expiresAt.toEpochMilli())), anyString(),
+            eq(String.valueOf(RefreshSessionStore.MAX_ACTIVE_SESSIONS)), eq("user:refresh:session:"));
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("consume возвращает владельца удалённой сессии")
+    @SuppressWarnings("unchecked")
+    void consume_ExistingSession_ReturnsOwner() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("user:refresh:session:" + TOKEN_HASH)),
+            eq("user:refresh:sessions:"), eq(TOKEN_HASH))).thenReturn(userId.toString());
+
+        // when/then
+        assertThat(store.consume(TOKEN_HASH)).contains(userId);
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("consume не принимает уже использованный или истёкший токен")
+    @SuppressWarnings("unchecked")
+    void consume_MissingSession_ReturnsEmpty() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), anyString(), anyString()))
+            .thenReturn(null);
+
+        // when/then
+        assertThat(store.consume(TOKEN_HASH)).isEmpty();
+    }
+
+    @Test
+    @Severity(CRITICAL)
+    @DisplayName("revokeAll удаляет все сессии пользователя")
+    @SuppressWarnings("unchecked")
+    void revokeAll_UserSessions_ReturnsCount() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("user:refresh:sessions:" + userId)),
+            eq("user:refresh:session:"))).thenReturn(3L);
+
+        // when/then
+        assertThat(store.revokeAll(userId)).isEqualTo(3);
+    }
+}
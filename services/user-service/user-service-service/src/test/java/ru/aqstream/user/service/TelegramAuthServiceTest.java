@@ -40,7 +40,6 @@ import ru.aqstream.user.api.dto.UserDto;
 import ru.aqstream.user.api.exception.InvalidTelegramAuthException;
 import ru.aqstream.user.api.exception.TelegramIdAlreadyExistsException;
 import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 
 @UnitTest
@@ -52,7 +51,7 @@ class TelegramAuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -92,7 +91,7 @@ class TelegramAuthServiceTest {
 
         telegramAuthService = new TelegramAuthService(
             userRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             jwtTokenProvider,
             userMapper,
             eventPublisher
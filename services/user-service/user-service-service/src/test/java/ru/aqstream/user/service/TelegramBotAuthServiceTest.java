@@ -42,7 +42,6 @@ import ru.aqstream.user.api.exception.TelegramAuthTokenNotFoundException;
 import ru.aqstream.user.db.entity.AuthTokenStatus;
 import ru.aqstream.user.db.entity.TelegramAuthToken;
 import ru.aqstream.user.db.entity.User;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.TelegramAuthTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 import ru.aqstream.user.websocket.TelegramAuthWebSocketHandler;
@@ -59,7 +58,7 @@ class TelegramBotAuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -87,7 +86,7 @@ class TelegramBotAuthServiceTest {
         service = new TelegramBotAuthService(
             authTokenRepository,
             userRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             jwtTokenProvider,
             userMapper,
             eventPublisher,
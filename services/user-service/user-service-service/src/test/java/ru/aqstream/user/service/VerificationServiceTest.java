@@ -33,7 +33,6 @@ import ru.aqstream.user.db.entity.User;
 import ru.aqstream.user.db.entity.VerificationToken;
 import ru.aqstream.user.db.entity.VerificationToken.TokenType;
 import ru.aqstream.common.messaging.EventPublisher;
-import ru.aqstream.user.db.repository.RefreshTokenRepository;
 import ru.aqstream.user.db.repository.UserRepository;
 import ru.aqstream.user.db.repository.VerificationTokenRepository;
 
@@ -49,7 +48,7 @@ class VerificationServiceTest {
     private VerificationTokenRepository verificationTokenRepository;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshSessionStore refreshSessionStore;
 
     @Mock
     private PasswordService passwordService;
@@ -75,7 +74,7 @@ class VerificationServiceTest {
         verificationService = new VerificationService(
             userRepository,
             verificationTokenRepository,
-            refreshTokenRepository,
+            refreshSessionStore,
             passwordService,
             eventPublisher
         );
@@ -356,7 +355,7 @@ class VerificationServiceTest {
             when(verificationTokenRepository.findByToken(token.getToken()))
                 .thenReturn(Optional.of(token));
             when(passwordService.hash(newPassword)).thenReturn("new-password-hash");
-            when(refreshTokenRepository.revokeAllByUserId(any(), any())).thenReturn(3);
+            when(refreshSessionStore.revokeAll(user.getId())).thenReturn(3);
 
             // Act
             verificationService.resetPassword(token.getToken(), newPassword);
@@ -367,7 +366,7 @@ class VerificationServiceTest {
 
             verify(passwordService).validate(newPassword);
             verify(userRepository).save(user);
-            verify(refreshTokenRepository).revokeAllByUserId(eq(user.getId()), any(Instant.class));
+            verify(refreshSessionStore).revokeAll(user.getId());
         }
 
         @Test
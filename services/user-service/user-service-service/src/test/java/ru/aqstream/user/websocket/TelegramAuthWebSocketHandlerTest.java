@@ -0,0 +1,160 @@
+package ru.aqstream.user.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static io.qameta.allure.SeverityLevel.CRITICAL;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Severity;
+import io.qameta.allure.Story;
+import java.net.URI;
+import java.time.Instant;
+import java.util.UUID;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import ru.aqstream.common.test.UnitTest;
+import ru.aqstream.common.test.allure.AllureFeatures;
+import ru.aqstream.user.api.dto.AuthResponse;
+import ru.aqstream.user.api.dto.UserDto;
+
+@UnitTest
+@Feature(AllureFeatures.Features.USER_MANAGEMENT)
+@Story(AllureFeatures.Stories.TELEGRAM_AUTH)
+@DisplayName("TelegramAuthWebSocketHandler")
+class TelegramAuthWebSocketHandlerTest {
+
+    private static final Faker FAKER = new Faker();
+    private static final String MESSAGE = "{\"type\":\"confirmed\"}";
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private TelegramAuthSessionRegistry sessionRegistry;
+
+    @Mock
+    private WebSocketSession session;
+
+    private TelegramAuthWebSocketHandler handler;
+
+    private String token;
+    private AuthResponse authResponse;
+
+    @BeforeEach
+    void setUp() {
+        handler = new TelegramAuthWebSocketHandler(objectMapper, redisTemplate, sessionRegistry);
+        token = FAKER.regexify("[a-zA-Z0-9]{32}");
+        authResponse = AuthResponse.bearer("access", "refresh", 900, new UserDto(
+            UUID.randomUUID(), FAKER.internet().emailAddress(), FAKER.name().firstName(),
+            FAKER.name().lastName(), null, false, false, Instant.now()));
+    }
+
+    @Nested
+    @DisplayName("notifyConfirmation")
+    class NotifyConfirmation {
+
+        @BeforeEach
+        void setUp() throws Exception {
+            when(objectMapper.writeValueAsString(any())).thenReturn(MESSAGE);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("доставляет подтверждение в локальную сессию без Redis")
+        void notifyConfirmation_LocalSession_SendsAndCloses() throws Exception {
+            // given
+            connect();
+
+            // when
+            handler.notifyConfirmation(token, authResponse);
+
+            // then
+            verify(session).sendMessage(new TextMessage(MESSAGE));
+            verify(session).close(CloseStatus.NORMAL);
+            verify(sessionRegistry).unregister(token);
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("публикует подтверждение, если сессия открыта на другом инстансе")
+        void notifyConfirmation_RemoteSession_Publishes() {
+            // given
+            when(sessionRegistry.isRegistered(token)).thenReturn(true);
+
+            // when
+            handler.notifyConfirmation(token, authResponse);
+
+            // then
+            verify(redisTemplate).convertAndSend(TelegramAuthWebSocketHandler.CHANNEL_PREFIX + token, MESSAGE);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("не публикует подтверждение, если frontend не подключён")
+        void notifyConfirmation_NoSession_DoesNotPublish() {
+            // given
+            when(sessionRegistry.isRegistered(token)).thenReturn(false);
+
+            // when
+            handler.notifyConfirmation(token, authResponse);
+
+            // then
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("onConfirmationPublished")
+    class OnConfirmationPublished {
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("доставляет опубликованное подтверждение в локальную сессию")
+        void onConfirmationPublished_LocalSession_Sends() throws Exception {
+            // given
+            connect();
+
+            // when
+            handler.onConfirmationPublished(token, MESSAGE);
+
+            // then
+            verify(session).sendMessage(new TextMessage(MESSAGE));
+            verify(session).close(CloseStatus.NORMAL);
+        }
+
+        @Test
+        @Severity(CRITICAL)
+        @DisplayName("игнорирует подтверждение для чужой сессии")
+        void onConfirmationPublished_NoLocalSession_Ignores() throws Exception {
+            // when
+            handler.onConfirmationPublished(token, MESSAGE);
+
+            // then
+            verify(session, never()).sendMessage(any());
+            verify(sessionRegistry, never()).unregister(anyString());
+        }
+    }
+
+    private void connect() {
+        when(session.getUri()).thenReturn(URI.create("ws://localhost/ws/telegram-auth/" + token));
+        when(session.isOpen()).thenReturn(true);
+        handler.afterConnectionEstablished(session);
+        verify(sessionRegistry).register(token);
+    }
+}
@@ -3,12 +3,14 @@ pluginManagement {
     val springDependencyManagementVersion: String by settings
     val gitPropertiesVersion: String by settings
     val allurePluginVersion: String by settings
+    val jmhPluginVersion: String by settings
 
     plugins {
         id("org.springframework.boot") version springBootVersion
         id("io.spring.dependency-management") version springDependencyManagementVersion
         id("com.gorylenko.gradle-git-properties") version gitPropertiesVersion
         id("io.qameta.allure") version allurePluginVersion
+        id("me.champeau.jmh") version jmhPluginVersion
     }
 }
 